@@ -0,0 +1,28 @@
+package com.madebyzino.Woojik.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 시점 훅.
+ * 메모리 인덱스/집계처럼 DB 밖에 두는 상태는 롤백된 변경이 남지 않도록 커밋 이후에 반영합니다.
+ * 트랜잭션 밖에서 호출하면 되돌릴 변경이 없으므로 바로 실행합니다. (재구성/배치 작업 등)
+ */
+public final class TransactionHooks {
+
+    private TransactionHooks() {
+    }
+
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
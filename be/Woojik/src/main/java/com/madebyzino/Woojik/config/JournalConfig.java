@@ -0,0 +1,10 @@
+package com.madebyzino.Woojik.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 개체 변경 이력 저널 설정 (LivestockJournalService)
+@Configuration
+@EnableConfigurationProperties(JournalProperties.class)
+public class JournalConfig {
+}
@@ -0,0 +1,14 @@
+package com.madebyzino.Woojik.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "journal")
+public class JournalProperties {
+
+    private int queueCapacity = 50_000;     // 저장 대기열 크기 (가득 차면 요청 스레드에서 바로 저장)
+    private int batchSize = 500;            // 한 번에 저장할 이력 수
+}
@@ -0,0 +1,10 @@
+package com.madebyzino.Woojik.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+
+// BaseTimeEntity 의 createdAt/updatedAt 자동 기록 (조건부 GET 의 Last-Modified/ETag 기준값)
+@Configuration
+@EnableJpaAuditing
+public class JpaAuditingConfig {
+}
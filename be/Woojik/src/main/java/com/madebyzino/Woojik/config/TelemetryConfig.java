@@ -0,0 +1,12 @@
+package com.madebyzino.Woojik.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 체온 수집/환경 시계열 설정 + 시뮬레이터, 보관 기간 정리 등 주기 작업(@Scheduled) 활성화
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties({TelemetryProperties.class, TimeSeriesProperties.class})
+public class TelemetryConfig {
+}
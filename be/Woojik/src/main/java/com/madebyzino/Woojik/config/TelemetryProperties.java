@@ -0,0 +1,41 @@
+package com.madebyzino.Woojik.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "telemetry")
+public class TelemetryProperties {
+
+    private int bufferCapacity = 65_536;    // 링 버퍼 크기 (2의 거듭제곱)
+    private int flushBatchSize = 1_000;     // 한 번에 저장할 측정값 수
+    private int maxBatchReadings = 5_000;   // 요청 하나에 담을 수 있는 측정값 수
+
+    private Anomaly anomaly = new Anomaly();
+    private Simulator simulator = new Simulator();
+
+    // 개체별 체온 이상 감지 (TemperatureAnomalyDetector)
+    @Getter
+    @Setter
+    public static class Anomaly {
+        private int window = 32;                     // 기준선(이동 평균/분산)에 쓰는 최근 측정값 수
+        private int minBaseline = 12;                // 이만큼 쌓이기 전에는 절대 기준만 사용
+        private float alpha = 0.3f;                  // EWMA 가중치
+        private float sigmaThreshold = 3.0f;         // 기준선 표준편차의 몇 배를 벗어나면 경보
+        private float minDeviation = 0.8f;           // 기준선에서 최소 이만큼(℃)은 벗어나야 경보
+        private float feverTemperature = 39.8f;      // 기준선과 무관하게 발열로 보는 체온
+        private float hypothermiaTemperature = 37.2f;
+        private boolean treatDraft = true;           // 경보에 치료 기록 초안 첨부
+    }
+
+    @Getter
+    @Setter
+    public static class Simulator {
+        private boolean enabled = false;
+        private long intervalMs = 1_000;     // 목걸이 전송 주기
+        private int readingsPerAnimal = 1;   // 주기마다 개체당 측정값 수
+        private double feverRatio = 0.01;    // 발열 상태로 시작하는 개체 비율
+    }
+}
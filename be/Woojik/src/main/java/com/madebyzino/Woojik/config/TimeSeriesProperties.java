@@ -0,0 +1,25 @@
+package com.madebyzino.Woojik.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "timeseries")
+public class TimeSeriesProperties {
+
+    private String dataDir = "./data/timeseries";   // 축사별 세그먼트 파일 위치
+
+    private Retention retention = new Retention();
+
+    // 저장 단위별 보관 기간 (일, 0 이하 = 무기한)
+    @Getter
+    @Setter
+    public static class Retention {
+        private int rawDays = 35;
+        private int tenMinuteDays = 400;
+        private int hourlyDays = 1_830;
+        private int dailyDays = 0;
+    }
+}
@@ -0,0 +1,102 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.dto.admin.CacheStatsResponse;
+import com.madebyzino.Woojik.dto.journal.JournalReplayResponse;
+import com.madebyzino.Woojik.dto.journal.JournalStatsResponse;
+import com.madebyzino.Woojik.service.BreedingKpiService;
+import com.madebyzino.Woojik.service.CacheStatsService;
+import com.madebyzino.Woojik.service.DashboardService;
+import com.madebyzino.Woojik.service.LivestockJournalReplayService;
+import com.madebyzino.Woojik.service.LivestockJournalService;
+import com.madebyzino.Woojik.service.PenOccupancyService;
+import com.madebyzino.Woojik.service.PenResidencyService;
+import com.madebyzino.Woojik.service.SaleAnalyticsService;
+import com.madebyzino.Woojik.service.SireAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/admin")
+@RequiredArgsConstructor
+public class AdminController {
+
+    private final PenOccupancyService penOccupancyService;
+    private final PenResidencyService penResidencyService;
+    private final CacheStatsService cacheStatsService;
+    private final DashboardService dashboardService;
+    private final SaleAnalyticsService saleAnalyticsService;
+    private final BreedingKpiService breedingKpiService;
+    private final SireAnalyticsService sireAnalyticsService;
+    private final LivestockJournalService livestockJournalService;
+    private final LivestockJournalReplayService livestockJournalReplayService;
+
+    // POST /api/admin/occupancy/reconcile : 방별 두수 카운터 전체 재계산
+    @PostMapping("/occupancy/reconcile")
+    public ResponseEntity<Map<String, Integer>> reconcileOccupancy() {
+        int corrected = penOccupancyService.reconcile();
+        return ResponseEntity.ok(Map.of("corrected", corrected));
+    }
+
+    // POST /api/admin/residency/rebuild : 방 거주 구간 인덱스를 DB 에서 다시 구성 (열린 구간이 없는 개체 보충)
+    @PostMapping("/residency/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildResidency() {
+        return ResponseEntity.ok(Map.of("residencies", penResidencyService.rebuild()));
+    }
+
+    // POST /api/admin/dashboard/rebuild : 대시보드 요약 카운터 전체 재구성
+    @PostMapping("/dashboard/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildDashboard() {
+        return ResponseEntity.ok(Map.of("tracked", dashboardService.rebuild()));
+    }
+
+    // POST /api/admin/sales/rollup/rebuild : 판매 일별 집계를 판매 원본에서 다시 구성
+    @PostMapping("/sales/rollup/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildSaleRollup() {
+        return ResponseEntity.ok(Map.of("rows", saleAnalyticsService.rebuild()));
+    }
+
+    // POST /api/admin/breeding-kpi/rebuild : 번식 KPI 를 번식 이력 전체에서 다시 구성
+    @PostMapping("/breeding-kpi/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildBreedingKpi() {
+        return ResponseEntity.ok(Map.of("cows", breedingKpiService.rebuild()));
+    }
+
+    // POST /api/admin/sires/rebuild : KPN 씨수소 성적을 번식/판매 이력 전체에서 다시 구성
+    @PostMapping("/sires/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildSireStats() {
+        return ResponseEntity.ok(Map.of("sires", sireAnalyticsService.rebuild()));
+    }
+
+    // GET /api/admin/journal/stats : 변경 이력 저장 대기열 상태 (queued = 비정상 종료 시 잃는 건수)
+    @GetMapping("/journal/stats")
+    public ResponseEntity<JournalStatsResponse> getJournalStats() {
+        return ResponseEntity.ok(livestockJournalService.getStats());
+    }
+
+    // POST /api/admin/journal/replay?apply=false : 변경 이력과 개체 현재 값 비교, apply=true 면 요약 필드를 이력 값으로 되돌림
+    @PostMapping("/journal/replay")
+    public ResponseEntity<JournalReplayResponse> replayJournal(@RequestParam(defaultValue = "false") boolean apply) {
+        return ResponseEntity.ok(livestockJournalReplayService.replay(apply));
+    }
+
+    // GET /api/admin/cache/stats : 2차 캐시(축사/방/배치) 및 쿼리 캐시 적중/실패 횟수
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(cacheStatsService.getStats());
+    }
+
+    // DELETE /api/admin/cache/stats : 집계 초기화
+    @DeleteMapping("/cache/stats")
+    public ResponseEntity<Void> resetCacheStats() {
+        cacheStatsService.reset();
+        return ResponseEntity.ok().build();
+    }
+}
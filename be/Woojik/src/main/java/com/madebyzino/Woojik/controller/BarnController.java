@@ -1,15 +1,25 @@
 package com.madebyzino.Woojik.controller;
 
+import com.madebyzino.Woojik.dto.barn.BarnEnvironmentIngestResponse;
+import com.madebyzino.Woojik.dto.barn.BarnEnvironmentRequest;
+import com.madebyzino.Woojik.dto.barn.BarnEnvironmentResponse;
 import com.madebyzino.Woojik.dto.barn.BarnResponse;
 import com.madebyzino.Woojik.dto.pen.PenResponse;
+import com.madebyzino.Woojik.service.BarnEnvironmentService;
 import com.madebyzino.Woojik.service.BarnService;
+import com.madebyzino.Woojik.service.timeseries.Resolution;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -18,6 +28,7 @@ import java.util.List;
 public class BarnController {
 
     private final BarnService barnService;
+    private final BarnEnvironmentService barnEnvironmentService;
 
     // GET /api/barns : 전체 축사 목록 조회
     @GetMapping
@@ -30,4 +41,22 @@ public class BarnController {
     public ResponseEntity<List<PenResponse>> getPensByBarn(@PathVariable Long barnId) {
         return ResponseEntity.ok(barnService.getPensByBarn(barnId));
     }
-}
\ No newline at end of file
+
+    // POST /api/barns/{barnId}/environment : 축사 온도/습도 센서 측정값 기록
+    @PostMapping("/{barnId}/environment")
+    public ResponseEntity<BarnEnvironmentIngestResponse> recordEnvironment(
+            @PathVariable Long barnId,
+            @RequestBody BarnEnvironmentRequest request) {
+        return ResponseEntity.ok(barnEnvironmentService.record(barnId, request));
+    }
+
+    // GET /api/barns/{barnId}/environment?from=&to=&resolution= : 온도/습도 그래프 (기본 최근 24시간, 10분 단위)
+    @GetMapping("/{barnId}/environment")
+    public ResponseEntity<BarnEnvironmentResponse> getEnvironment(
+            @PathVariable Long barnId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(value = "resolution", required = false) Resolution resolution) {
+        return ResponseEntity.ok(barnEnvironmentService.getEnvironment(barnId, from, to, resolution));
+    }
+}
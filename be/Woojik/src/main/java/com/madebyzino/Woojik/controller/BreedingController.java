@@ -1,9 +1,14 @@
 package com.madebyzino.Woojik.controller;
 
 import com.madebyzino.Woojik.dto.breeding.BreedingAiRequest;
+import com.madebyzino.Woojik.dto.breeding.BreedingKpiResponse;
+import com.madebyzino.Woojik.dto.breeding.BulkBreedingRequest;
+import com.madebyzino.Woojik.dto.breeding.BulkBreedingResponse;
 import com.madebyzino.Woojik.dto.breeding.CalvingRequest;
 import com.madebyzino.Woojik.dto.breeding.EstrusRequest;
+import com.madebyzino.Woojik.dto.breeding.HerdBreedingKpiResponse;
 import com.madebyzino.Woojik.dto.breeding.PregnancyCheckRequest;
+import com.madebyzino.Woojik.service.BreedingKpiService;
 import com.madebyzino.Woojik.service.BreedingService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
@@ -15,6 +20,7 @@ import org.springframework.web.bind.annotation.*;
 public class BreedingController {
 
     private final BreedingService breedingService;
+    private final BreedingKpiService breedingKpiService;
 
     // 발정 등록
     @PostMapping("/{id}/estrus")
@@ -45,6 +51,13 @@ public class BreedingController {
         return ResponseEntity.ok().build();
     }
 
+    // 발정/수정/임신감정 일괄 등록
+    // POST /api/livestocks/breedings/bulk
+    @PostMapping("/breedings/bulk")
+    public ResponseEntity<BulkBreedingResponse> registerBulk(@RequestBody BulkBreedingRequest request) {
+        return ResponseEntity.ok(breedingService.registerBulk(request));
+    }
+
     // 분만 등록
     @PostMapping("/{id}/births")
     public ResponseEntity<Void> registerBirth(
@@ -55,5 +68,17 @@ public class BreedingController {
         return ResponseEntity.ok().build();
     }
 
+    // 농장 번식 KPI (분만 간격, 공태일, 수태율)
+    // GET /api/livestocks/breedings/kpi
+    @GetMapping("/breedings/kpi")
+    public ResponseEntity<HerdBreedingKpiResponse> getHerdKpi() {
+        return ResponseEntity.ok(breedingKpiService.getHerdKpi());
+    }
+
+    // 개체 번식 KPI
+    @GetMapping("/{id}/breeding-kpi")
+    public ResponseEntity<BreedingKpiResponse> getCowKpi(@PathVariable Long id) {
+        return ResponseEntity.ok(breedingKpiService.getCowKpi(id));
+    }
 
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.dto.healthy.ContactIsolationResponse;
+import com.madebyzino.Woojik.dto.healthy.ContactTraceRequest;
+import com.madebyzino.Woojik.dto.healthy.ContactTraceResponse;
+import com.madebyzino.Woojik.service.ContactTracingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/contact-traces")
+@RequiredArgsConstructor
+public class ContactTraceController {
+
+    private final ContactTracingService contactTracingService;
+
+    // POST /api/contact-traces : 전염병 치료 기록을 감염원으로 같은 방에 머문 개체를 단계별로 추적
+    // { "diseaseName": "구제역", "incubationDays": 14, "maxDepth": 3 }
+    @PostMapping
+    public ResponseEntity<ContactTraceResponse> trace(@RequestBody ContactTraceRequest request) {
+        return ResponseEntity.ok(contactTracingService.trace(request));
+    }
+
+    // POST /api/contact-traces/isolate : 추적 결과를 격리 방 정원 안에서 한 번에 이동
+    @PostMapping("/isolate")
+    public ResponseEntity<ContactIsolationResponse> isolate(@RequestBody ContactTraceRequest request) {
+        return ResponseEntity.ok(contactTracingService.isolate(request));
+    }
+}
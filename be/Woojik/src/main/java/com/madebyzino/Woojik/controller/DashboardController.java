@@ -0,0 +1,26 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.dto.dashboard.DashboardSummaryResponse;
+import com.madebyzino.Woojik.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    // GET /api/dashboard/summary?calvingDays=30&listLimit=20
+    // 상태별 두수 + 휴약기간 중인 개체 + calvingDays 이내 분만 예정 임신우 (목록은 날짜 빠른 순 listLimit 건)
+    @GetMapping("/summary")
+    public ResponseEntity<DashboardSummaryResponse> getSummary(@RequestParam(required = false) Integer calvingDays,
+                                                               @RequestParam(required = false) Integer listLimit) {
+        return ResponseEntity.ok(dashboardService.getSummary(calvingDays, listLimit));
+    }
+}
@@ -0,0 +1,47 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.entity.enums.ExportFormat;
+import com.madebyzino.Woojik.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    // GET /api/export/sales?format=CSV|XLSX : 전체 판매 내역 파일 다운로드
+    @GetMapping("/sales")
+    public ResponseEntity<StreamingResponseBody> exportSales(@RequestParam(defaultValue = "CSV") ExportFormat format) {
+        return download("sales", format, exportService.exportSales(format));
+    }
+
+    // GET /api/export/herd?format=CSV|XLSX : 현재 사육 중인 개체 파일 다운로드
+    @GetMapping("/herd")
+    public ResponseEntity<StreamingResponseBody> exportHerd(@RequestParam(defaultValue = "CSV") ExportFormat format) {
+        return download("herd", format, exportService.exportHerd(format));
+    }
+
+    private ResponseEntity<StreamingResponseBody> download(String name, ExportFormat format, StreamingResponseBody body) {
+        String filename = name + "-" + LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE) + "." + format.getExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString())
+                .body(body);
+    }
+}
@@ -1,5 +1,7 @@
 package com.madebyzino.Woojik.controller;
 
+import com.madebyzino.Woojik.dto.healthy.BulkHealthRequest;
+import com.madebyzino.Woojik.dto.healthy.BulkHealthResponse;
 import com.madebyzino.Woojik.dto.healthy.HealthRequest;
 import com.madebyzino.Woojik.service.HealthService;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,13 @@ public class HealthController {
         return ResponseEntity.ok().build();
     }
 
+    // 1-1. 일괄 등록 (방/축사/개체 목록 단위 백신 접종, 집단 치료)
+    // POST /api/livestocks/healths/bulk
+    @PostMapping("/healths/bulk")
+    public ResponseEntity<BulkHealthResponse> registerBulkHealth(@RequestBody BulkHealthRequest request) {
+        return ResponseEntity.ok(healthService.registerBulkHealth(request));
+    }
+
     // 2. 회복 처리 (완치)
     // PATCH /api/livestocks/{id}/recover
     @PatchMapping("/{id}/recover")
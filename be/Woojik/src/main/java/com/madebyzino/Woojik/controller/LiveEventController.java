@@ -0,0 +1,26 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.service.LiveEventService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/live")
+@RequiredArgsConstructor
+public class LiveEventController {
+
+    private final LiveEventService liveEventService;
+
+    // GET /api/live/stream?barnId=1 : 실시간 변경 이벤트 (SSE)
+    // 이벤트 종류: connected, occupancy(방 두수 증감), status(개체 상태), move(방 이동), alert(체온 경보), due(휴약 종료/분만 예정일), resync(밀린 이벤트 폐기 -> 다시 조회)
+    // barnId 를 빼면 농장 전체 이벤트를 받습니다.
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) Long barnId) {
+        return liveEventService.subscribe(barnId);
+    }
+}
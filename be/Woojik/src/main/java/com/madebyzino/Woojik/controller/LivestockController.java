@@ -1,13 +1,21 @@
 package com.madebyzino.Woojik.controller;
 
+import com.madebyzino.Woojik.dto.common.CacheValidator;
 import com.madebyzino.Woojik.dto.livestock.*;
 import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.service.LivestockImportService;
+import com.madebyzino.Woojik.service.LivestockSearchService;
 import com.madebyzino.Woojik.service.LivestockService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/livestocks")
@@ -15,6 +23,8 @@ import java.util.List;
 public class LivestockController {
 
     private final LivestockService livestockService;
+    private final LivestockSearchService livestockSearchService;
+    private final LivestockImportService livestockImportService;
 
     // 등록
     @PostMapping
@@ -22,16 +32,53 @@ public class LivestockController {
         return ResponseEntity.ok(livestockService.register(request));
     }
 
+    // 일괄 등록 (업로드를 스트리밍으로 읽어 청크 단위 저장)
+    // POST /api/livestocks/import  Content-Type: text/csv 또는 application/x-ndjson
+    // CSV 헤더: earTag,name,birthDate,gender,breed,penId
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson", "application/jsonl"})
+    public ResponseEntity<LivestockImportResponse> importLivestock(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body
+    ) {
+        LivestockImportService.Format format = contentType.toLowerCase(Locale.ROOT).contains("csv")
+                ? LivestockImportService.Format.CSV
+                : LivestockImportService.Format.JSONL;
+        return ResponseEntity.ok(livestockImportService.importLivestock(body, format));
+    }
+
     // 판매제외 조회
     @GetMapping
     public ResponseEntity<List<LivestockResponse>> getManageableLivestockList() {
         return ResponseEntity.ok(livestockService.getManageableLivestockList());
     }
 
-    // 상세 조회
+    // 페이지 조회 (커서 기반)
+    // GET /api/livestocks/page?status=&gender=&penId=&barnId=&cursor=&size=
+    @GetMapping("/page")
+    public ResponseEntity<LivestockPageResponse> getLivestockPage(@ModelAttribute LivestockSearchCondition condition) {
+        return ResponseEntity.ok(livestockService.getLivestockPage(condition));
+    }
+
+    // 빠른 검색 (귀표번호 뒷자리 / 별명 / 별명 초성)
+    // GET /api/livestocks/quick-find?q=1234&limit=10
+    @GetMapping("/quick-find")
+    public ResponseEntity<List<LivestockSearchResponse>> quickFind(
+            @RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(livestockSearchService.quickFind(query, limit));
+    }
+
+    // 상세 조회 (변경이 없으면 304: If-None-Match / If-Modified-Since)
     @GetMapping("/{id}")
-    public ResponseEntity<LivestockDetailResponse> getDetail(@PathVariable Long id) {
-        return ResponseEntity.ok(livestockService.getDetail(id));
+    public ResponseEntity<LivestockDetailResponse> getDetail(@PathVariable Long id, WebRequest webRequest) {
+        CacheValidator validator = livestockService.getDetailValidator(id);
+        if (webRequest.checkNotModified(validator.getEtag(), validator.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(livestockService.getDetail(id));
     }
 
     // 이동
@@ -0,0 +1,29 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.dto.journal.LivestockEventResponse;
+import com.madebyzino.Woojik.service.LivestockJournalService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/livestocks")
+@RequiredArgsConstructor
+public class LivestockJournalController {
+
+    private final LivestockJournalService livestockJournalService;
+
+    // GET /api/livestocks/{id}/journal?limit=100 : 개체 변경 이력 (최근 순, 누가/언제/이전 값 -> 새 값)
+    // 변경 요청에 X-Actor 헤더를 보내면 작업자로 남음
+    @GetMapping("/{id}/journal")
+    public ResponseEntity<List<LivestockEventResponse>> getJournal(@PathVariable Long id,
+                                                                   @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(livestockJournalService.getHistory(id, limit));
+    }
+}
@@ -1,11 +1,14 @@
 package com.madebyzino.Woojik.controller;
 
+import com.madebyzino.Woojik.dto.common.CacheValidator;
 import com.madebyzino.Woojik.dto.layout.BarnLayoutResponse;
 import com.madebyzino.Woojik.dto.layout.LayoutSaveRequest;
 import com.madebyzino.Woojik.service.MapLayoutService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -17,11 +20,19 @@ public class MapLayoutController {
     /**
      * GET /api/map/barns/{barnId}/layout
      * 특정 축사의 현재 배치 상태를 조회합니다.
+     * 배치와 방별 두수가 그대로면 304 (If-None-Match)
      */
     @GetMapping
-    public ResponseEntity<BarnLayoutResponse> getBarnLayout(@PathVariable("barnId") Long barnId) {
+    public ResponseEntity<BarnLayoutResponse> getBarnLayout(@PathVariable("barnId") Long barnId, WebRequest webRequest) {
+        CacheValidator validator = mapLayoutService.getLayoutValidator(barnId);
+        if (validator != null && webRequest.checkNotModified(validator.getEtag())) {
+            return null;
+        }
+
         BarnLayoutResponse response = mapLayoutService.getLayoutData(barnId);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .body(response);
     }
 
     /**
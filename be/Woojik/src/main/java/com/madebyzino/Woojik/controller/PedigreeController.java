@@ -0,0 +1,46 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.dto.pedigree.InbreedingResponse;
+import com.madebyzino.Woojik.dto.pedigree.KinshipResponse;
+import com.madebyzino.Woojik.dto.pedigree.SireCandidateResponse;
+import com.madebyzino.Woojik.service.PedigreeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/pedigree")
+@RequiredArgsConstructor
+public class PedigreeController {
+
+    private final PedigreeService pedigreeService;
+
+    // GET /api/pedigree/inbreeding?minCoefficient=0.0625&limit=50 : 근교계수 높은 개체
+    @GetMapping("/inbreeding")
+    public ResponseEntity<List<InbreedingResponse>> getInbreeding(@RequestParam(required = false) Double minCoefficient,
+                                                                  @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(pedigreeService.getInbreeding(minCoefficient, limit));
+    }
+
+    // GET /api/pedigree/kinship?livestockId=1&otherLivestockId=2 : 두 개체 혈연계수
+    @GetMapping("/kinship")
+    public ResponseEntity<KinshipResponse> getKinship(@RequestParam Long livestockId,
+                                                      @RequestParam Long otherLivestockId) {
+        return ResponseEntity.ok(pedigreeService.getKinship(livestockId, otherLivestockId));
+    }
+
+    // GET /api/pedigree/{livestockId}/sire-candidates?sireCodes=KPN1,KPN2&limit=20
+    // 암소에 붙일 KPN 씨수소를 송아지 근교계수 낮은 순으로 (sireCodes 없으면 농장에서 쓴 적 있는 전체)
+    @GetMapping("/{livestockId}/sire-candidates")
+    public ResponseEntity<List<SireCandidateResponse>> getSireCandidates(@PathVariable Long livestockId,
+                                                                         @RequestParam(required = false) List<String> sireCodes,
+                                                                         @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(pedigreeService.getSireCandidates(livestockId, sireCodes, limit));
+    }
+}
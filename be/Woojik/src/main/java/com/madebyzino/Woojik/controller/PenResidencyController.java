@@ -0,0 +1,42 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.dto.pen.PenResidencyResponse;
+import com.madebyzino.Woojik.service.PenResidencyService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class PenResidencyController {
+
+    private final PenResidencyService penResidencyService;
+
+    // GET /api/pens/{penId}/residents?from=2025-03-03T00:00&to=2025-03-04T00:00 : 그 기간 방에 있었던 개체
+    // to 가 없으면 from 시점, 둘 다 없으면 현재 거주 개체
+    @GetMapping("/pens/{penId}/residents")
+    public ResponseEntity<List<PenResidencyResponse>> getPenResidents(
+            @PathVariable Long penId,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(penResidencyService.getPenResidents(penId, from, to));
+    }
+
+    // GET /api/livestocks/{id}/residencies?from=&to= : 개체 방 이동 이력 (기간 생략 시 전체)
+    @GetMapping("/livestocks/{id}/residencies")
+    public ResponseEntity<List<PenResidencyResponse>> getLivestockResidencies(
+            @PathVariable Long id,
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(penResidencyService.getLivestockHistory(id, from, to));
+    }
+}
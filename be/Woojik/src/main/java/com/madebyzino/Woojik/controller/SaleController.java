@@ -2,12 +2,17 @@ package com.madebyzino.Woojik.controller;
 
 import com.madebyzino.Woojik.dto.sale.SaleRequest;
 import com.madebyzino.Woojik.dto.sale.SaleResponse;
+import com.madebyzino.Woojik.dto.sale.SaleStatsResponse;
+import com.madebyzino.Woojik.entity.enums.SalePeriod;
+import com.madebyzino.Woojik.service.SaleAnalyticsService;
 import com.madebyzino.Woojik.service.SaleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -16,6 +21,7 @@ import java.util.List;
 public class SaleController {
 
     private final SaleService saleService;
+    private final SaleAnalyticsService saleAnalyticsService;
 
     @PostMapping("/{livestockId}")
     public ResponseEntity<Long> registerSale(
@@ -38,4 +44,33 @@ public class SaleController {
         return ResponseEntity.ok(response);
     }
 
-}
\ No newline at end of file
+    // GET /api/sales/stats/revenue?from=&to=&period=MONTH : 기간별 매출 (기본 최근 12개 구간)
+    @GetMapping("/stats/revenue")
+    public ResponseEntity<List<SaleStatsResponse>> getRevenueStats(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "period", required = false) SalePeriod period
+    ) {
+        return ResponseEntity.ok(saleAnalyticsService.getPeriodStats(from, to, period));
+    }
+
+    // GET /api/sales/stats/by-grade?from=&to= : 등급별 매출
+    @GetMapping("/stats/by-grade")
+    public ResponseEntity<List<SaleStatsResponse>> getGradeStats(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to
+    ) {
+        return ResponseEntity.ok(saleAnalyticsService.getGradeStats(from, to));
+    }
+
+    // GET /api/sales/stats/by-customer?from=&to=&limit= : 거래처별 매출 (상위 limit 곳)
+    @GetMapping("/stats/by-customer")
+    public ResponseEntity<List<SaleStatsResponse>> getCustomerStats(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(value = "to", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(value = "limit", required = false) Integer limit
+    ) {
+        return ResponseEntity.ok(saleAnalyticsService.getCustomerStats(from, to, limit));
+    }
+
+}
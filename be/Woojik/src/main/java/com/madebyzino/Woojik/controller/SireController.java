@@ -0,0 +1,34 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.dto.sire.SireStatsResponse;
+import com.madebyzino.Woojik.service.SireAnalyticsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/sires")
+@RequiredArgsConstructor
+public class SireController {
+
+    private final SireAnalyticsService sireAnalyticsService;
+
+    // GET /api/sires/ranking?minServices=5&limit=20 : 농장에서 잘 붙는 KPN 씨수소 순위 (수태율, 자손 판매가)
+    @GetMapping("/ranking")
+    public ResponseEntity<List<SireStatsResponse>> getRanking(@RequestParam(required = false) Integer minServices,
+                                                              @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(sireAnalyticsService.getRanking(minServices, limit));
+    }
+
+    // GET /api/sires/{sireCode} : 씨수소 한 마리 성적
+    @GetMapping("/{sireCode}")
+    public ResponseEntity<SireStatsResponse> getSire(@PathVariable String sireCode) {
+        return ResponseEntity.ok(sireAnalyticsService.getSire(sireCode));
+    }
+}
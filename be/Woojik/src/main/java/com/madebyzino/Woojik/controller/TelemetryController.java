@@ -0,0 +1,70 @@
+package com.madebyzino.Woojik.controller;
+
+import com.madebyzino.Woojik.dto.healthy.HealthRequest;
+import com.madebyzino.Woojik.dto.telemetry.TelemetryBatchRequest;
+import com.madebyzino.Woojik.dto.telemetry.TelemetryIngestResponse;
+import com.madebyzino.Woojik.dto.telemetry.TelemetryStatsResponse;
+import com.madebyzino.Woojik.dto.telemetry.TemperatureAlertResponse;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertStatus;
+import com.madebyzino.Woojik.service.TelemetryService;
+import com.madebyzino.Woojik.service.TemperatureAlertService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/telemetry")
+@RequiredArgsConstructor
+public class TelemetryController {
+
+    private final TelemetryService telemetryService;
+    private final TemperatureAlertService temperatureAlertService;
+
+    // POST /api/telemetry/readings : 체온 목걸이 측정값 묶음 수신 (저장은 비동기, 버퍼가 가득 차면 429)
+    @PostMapping("/readings")
+    public ResponseEntity<TelemetryIngestResponse> ingest(@RequestBody TelemetryBatchRequest request) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(telemetryService.ingest(request));
+    }
+
+    // GET /api/telemetry/stats : 버퍼 사용량 및 누적 수신/저장 건수
+    @GetMapping("/stats")
+    public ResponseEntity<TelemetryStatsResponse> getStats() {
+        return ResponseEntity.ok(telemetryService.getStats());
+    }
+
+    // GET /api/telemetry/alerts?from=&status=&livestockId=&limit= : 체온 이상 경보 목록 (기본 최근 7일)
+    @GetMapping("/alerts")
+    public ResponseEntity<List<TemperatureAlertResponse>> getAlerts(
+            @RequestParam(value = "from", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(value = "status", required = false) TemperatureAlertStatus status,
+            @RequestParam(value = "livestockId", required = false) Long livestockId,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        return ResponseEntity.ok(temperatureAlertService.getAlerts(from, status, livestockId, limit));
+    }
+
+    // POST /api/telemetry/alerts/{alertId}/treat : 경보의 치료 기록 초안으로 치료 등록 (본문으로 항목 수정 가능)
+    @PostMapping("/alerts/{alertId}/treat")
+    public ResponseEntity<Void> treat(@PathVariable Long alertId,
+                                      @RequestBody(required = false) HealthRequest request) {
+        temperatureAlertService.treat(alertId, request);
+        return ResponseEntity.ok().build();
+    }
+
+    // POST /api/telemetry/alerts/{alertId}/dismiss : 오경보 처리
+    @PostMapping("/alerts/{alertId}/dismiss")
+    public ResponseEntity<Void> dismiss(@PathVariable Long alertId) {
+        temperatureAlertService.dismiss(alertId);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.madebyzino.Woojik.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class CacheStatsResponse {
+    private boolean statisticsEnabled;       // false 면 집계가 꺼져 있어 아래 값은 모두 0 (HIBERNATE_STATISTICS=true 로 기동)
+    private List<RegionStats> entityRegions; // 엔티티 캐시 (barn, pen, penLayout)
+    private RegionStats queryCache;          // 축사별 방/배치 목록 쿼리 캐시
+
+    @Data
+    @AllArgsConstructor
+    public static class RegionStats {
+        private String region;
+        private long hitCount;
+        private long missCount;
+        private long putCount;
+        private double hitRatio;    // hit / (hit + miss), 조회가 없으면 0
+    }
+}
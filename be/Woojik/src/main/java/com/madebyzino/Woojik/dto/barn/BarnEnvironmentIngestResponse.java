@@ -0,0 +1,11 @@
+package com.madebyzino.Woojik.dto.barn;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class BarnEnvironmentIngestResponse {
+    private int accepted;   // 저장한 측정값 수
+    private int rejected;   // 범위 밖 값, 이미 저장된 시각 이전/같은 값
+}
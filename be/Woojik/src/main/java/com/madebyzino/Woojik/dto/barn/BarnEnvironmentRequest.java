@@ -0,0 +1,18 @@
+package com.madebyzino.Woojik.dto.barn;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class BarnEnvironmentRequest {
+    private List<Reading> readings;
+
+    @Data
+    public static class Reading {
+        private LocalDateTime measuredAt;   // 측정 시각 (없으면 수신 시각, 초 단위로 저장)
+        private Float temperature;          // 온도(℃)
+        private Float humidity;             // 상대습도(%)
+    }
+}
@@ -0,0 +1,30 @@
+package com.madebyzino.Woojik.dto.barn;
+
+import com.madebyzino.Woojik.service.timeseries.Resolution;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class BarnEnvironmentResponse {
+    private Long barnId;
+    private Resolution resolution;
+    private List<Point> points;
+
+    // RAW 는 평균 자리에 측정값, 최저/최고는 null. 집계 단위의 time 은 구간 시작 시각
+    @Data
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime time;
+        private Float temperature;
+        private Float temperatureMin;
+        private Float temperatureMax;
+        private Float humidity;
+        private Float humidityMin;
+        private Float humidityMax;
+    }
+}
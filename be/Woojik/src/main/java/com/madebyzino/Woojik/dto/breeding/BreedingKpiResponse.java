@@ -0,0 +1,22 @@
+package com.madebyzino.Woojik.dto.breeding;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 개체별 번식 KPI (평균값은 해당 구간이 없으면 null)
+@Data
+@Builder
+public class BreedingKpiResponse {
+    private Long livestockId;
+    private int calvings;                       // 분만 횟수
+    private LocalDate lastCalvingDate;
+    private Double averageCalvingInterval;      // 평균 분만 간격 (일)
+    private Double averageDaysOpen;             // 평균 공태일 (분만 -> 수태 수정일)
+    private Integer currentDaysOpen;            // 마지막 분만 후 아직 수태 전이면 오늘까지 일수
+    private int services;                       // 수정 횟수
+    private int conceptions;                    // 수태 횟수
+    private Double servicesPerConception;       // 수태당 수정 횟수
+    private Double conceptionRate;              // 수태율 (수태 / 수정)
+}
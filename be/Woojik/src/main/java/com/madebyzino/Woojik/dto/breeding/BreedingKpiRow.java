@@ -0,0 +1,19 @@
+package com.madebyzino.Woojik.dto.breeding;
+
+import com.madebyzino.Woojik.entity.enums.BreedingType;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 번식 KPI 계산용 이력 한 줄 (개체 -> 날짜 순으로 조회)
+@Data
+@AllArgsConstructor
+public class BreedingKpiRow {
+    private Long livestockId;
+    private LivestockStatus status;     // 판매된 개체는 현재 공태우 집계에서 제외
+    private BreedingType type;
+    private LocalDate eventDate;
+    private Boolean isPregnant;         // 임신감정 결과
+}
@@ -0,0 +1,22 @@
+package com.madebyzino.Woojik.dto.breeding;
+
+import com.madebyzino.Woojik.entity.enums.BreedingType;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class BulkBreedingRequest {
+    private BreedingType type;   // ESTRUS, AI, PREG_CHECK (분만은 단건만)
+    private LocalDate date;      // 발정/수정/감정일 (공통)
+    private List<Item> items;
+
+    @Data
+    public static class Item {
+        private Long livestockId;
+        private Boolean pregnant;    // PREG_CHECK 결과
+        private String sireCode;     // AI 정액번호 (KPN)
+        private String notes;
+    }
+}
@@ -0,0 +1,24 @@
+package com.madebyzino.Woojik.dto.breeding;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkBreedingResponse {
+    private int successCount;
+    private int failedCount;
+    private List<Result> results;   // 요청 순서대로 개체별 결과
+
+    @Data
+    @AllArgsConstructor
+    public static class Result {
+        private Long livestockId;
+        private boolean success;
+        private Long breedingId;    // 저장된 이력 ID (실패 시 null)
+        private String message;     // 실패 사유
+    }
+}
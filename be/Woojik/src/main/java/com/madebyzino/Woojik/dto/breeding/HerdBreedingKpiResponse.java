@@ -0,0 +1,24 @@
+package com.madebyzino.Woojik.dto.breeding;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 농장 전체 번식 KPI (평균값은 해당 구간이 없으면 null)
+@Data
+@Builder
+public class HerdBreedingKpiResponse {
+    private LocalDate baseDate;
+    private int cowCount;                       // 번식 이력이 있는 개체 수
+    private long calvings;
+    private Double averageCalvingInterval;      // 평균 분만 간격 (일)
+    private Double averageDaysOpen;             // 평균 공태일
+    private long services;
+    private long conceptions;
+    private Double servicesPerConception;       // 수태당 수정 횟수
+    private Double conceptionRate;              // 수태율
+    private Double firstServiceConceptionRate;  // 첫 수정 수태율
+    private int openCowCount;                   // 분만 후 아직 수태 전인 개체 (판매 제외)
+    private Double averageCurrentDaysOpen;      // 그 개체들의 현재 공태일 평균
+}
@@ -0,0 +1,12 @@
+package com.madebyzino.Woojik.dto.common;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 조건부 GET(If-None-Match / If-Modified-Since) 비교용 검증자
+@Getter
+@AllArgsConstructor
+public class CacheValidator {
+    private String etag;
+    private long lastModified;  // epoch millis, 없으면 -1
+}
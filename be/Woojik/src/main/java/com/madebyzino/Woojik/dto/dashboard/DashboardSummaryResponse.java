@@ -0,0 +1,22 @@
+package com.madebyzino.Woojik.dto.dashboard;
+
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class DashboardSummaryResponse {
+    private LocalDate baseDate;                         // 기준일 (휴약/분만 D-day 계산용)
+    private long totalCount;                            // 사육 두수 (판매 제외)
+    private Map<LivestockStatus, Long> statusCounts;    // 상태별 두수 (SOLD = 누적 판매)
+    private int withdrawalCount;                        // 휴약기간 중인 개체 수
+    private List<HerdEntry> withdrawal;                 // 휴약 만료일 빠른 순 (최대 listLimit 건)
+    private int calvingDays;
+    private int calvingDueCount;                        // 분만 예정일이 calvingDays 이내(지난 것 포함)인 임신우 수
+    private List<HerdEntry> calvingDue;                 // 분만 예정일 빠른 순 (최대 listLimit 건)
+}
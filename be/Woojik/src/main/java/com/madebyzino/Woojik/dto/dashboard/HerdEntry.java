@@ -0,0 +1,19 @@
+package com.madebyzino.Woojik.dto.dashboard;
+
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 대시보드 집계용 개체 요약 (메모리 색인 항목 겸 목록 응답)
+@Data
+@AllArgsConstructor
+public class HerdEntry {
+    private Long id;
+    private String earTag;              // 귀표번호
+    private String name;                // 별명
+    private LivestockStatus status;
+    private LocalDate withdrawalDate;   // 휴약 만료일
+    private LocalDate expectedDate;     // 분만 예정일
+}
@@ -0,0 +1,29 @@
+package com.madebyzino.Woojik.dto.export;
+
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 사육 현황 내보내기 한 행 (엔티티 대신 생성자 조회 -> 영속성 컨텍스트에 쌓이지 않음)
+@Data
+@AllArgsConstructor
+public class HerdExportRow {
+    private Long id;
+    private String earTag;              // 귀표번호
+    private String name;                // 별명
+    private String breed;               // 품종
+    private Gender gender;
+    private LocalDate birthDate;
+    private LivestockStatus status;
+    private String barnName;            // 축사
+    private String penName;             // 방
+    private Integer breedingCount;      // 산차
+    private LocalDate expectedDate;     // 분만 예정일
+    private LocalDate withdrawalDate;   // 휴약 만료일
+    private String lastDiseaseName;     // 최근 병명
+    private LocalDate lastTreatmentDate;
+    private String notes;
+}
@@ -0,0 +1,24 @@
+package com.madebyzino.Woojik.dto.export;
+
+import com.madebyzino.Woojik.entity.enums.Gender;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 판매 내역 내보내기 한 행 (엔티티 대신 생성자 조회 -> 영속성 컨텍스트에 쌓이지 않음)
+@Data
+@AllArgsConstructor
+public class SaleExportRow {
+    private Long saleId;
+    private LocalDate saleDate;
+    private String earTag;          // 귀표번호
+    private String livestockName;   // 별명
+    private String breed;           // 품종
+    private Gender gender;
+    private String grade;           // 등급
+    private Double weight;          // 중량 (kg)
+    private Long price;
+    private String customerName;    // 거래처
+    private String notes;
+}
@@ -0,0 +1,22 @@
+package com.madebyzino.Woojik.dto.healthy;
+
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+public class BulkHealthRequest {
+    // 대상 (셋 중 하나만 지정)
+    private Long penId;               // 방 단위
+    private Long barnId;              // 축사 단위
+    private List<Long> livestockIds;  // 개체 직접 지정
+
+    private HealthType type;          // VACCINE(백신) 또는 TREAT(치료)
+    private LocalDate date;           // 접종/진료일
+    private String diseaseName;       // 병명 (예: 구제역)
+    private String medicine;          // 약품명
+    private String description;       // 처치 내용
+    private Integer withdrawalPeriod; // 휴약기간
+}
@@ -0,0 +1,14 @@
+package com.madebyzino.Woojik.dto.healthy;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class BulkHealthResponse {
+    private int recordedCount;           // 기록이 저장된 개체 수
+    private int sickCount;               // 치료로 SICK 전환된 개체 수
+    private List<Long> skippedIds;       // ID 지정 시 없거나 판매된 개체
+}
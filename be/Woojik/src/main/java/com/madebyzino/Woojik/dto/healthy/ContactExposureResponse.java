@@ -0,0 +1,19 @@
+package com.madebyzino.Woojik.dto.healthy;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class ContactExposureResponse {
+    private Long livestockId;
+    private String earTag;
+    private String name;
+    private int depth;                 // 0 = 감염원, 1 = 감염원과 직접 접촉, 2 = 그 접촉 개체와 접촉 ...
+    private LocalDateTime exposedAt;   // 처음 노출된 시각 (감염원은 전파 가능 시작 시각)
+    private Long sourceLivestockId;    // 처음 노출시킨 개체
+    private Long penId;                // 처음 노출된 방
+    private long exposureMinutes;      // 앞 단계의 전파 가능 개체와 같은 방에 머문 시간 합계 (분)
+}
@@ -0,0 +1,24 @@
+package com.madebyzino.Woojik.dto.healthy;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class ContactIsolationResponse {
+    private int targetCount;                 // 격리 대상 수 (판매 개체 제외)
+    private List<Move> moved;                // 격리 방으로 옮긴 개체
+    private List<Long> alreadyIsolatedIds;   // 이미 격리 방에 있던 개체
+    private List<Long> unplacedIds;          // 격리 방 정원이 모자라 옮기지 못한 개체
+
+    @Data
+    @AllArgsConstructor
+    public static class Move {
+        private Long livestockId;
+        private Long fromPenId;
+        private Long toPenId;
+    }
+}
@@ -0,0 +1,23 @@
+package com.madebyzino.Woojik.dto.healthy;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class ContactTraceRequest {
+    // 감염원: 기간 안에 이 병명으로 치료(TREAT) 기록이 있는 개체
+    private String diseaseName;       // 병명 (예: 구제역)
+    private LocalDate from;           // 치료일 시작 (없으면 to - 잠복기)
+    private LocalDate to;             // 치료일 끝 (없으면 오늘)
+
+    private Integer incubationDays;   // 잠복기(일): 감염원은 치료일 - 잠복기부터 전파 가능 (기본 14)
+    private Integer maxDepth;         // 전파 단계 수 (기본 3, 최대 10)
+    private LocalDateTime until;      // 추적 끝 시각 (없으면 현재)
+
+    // 격리 이동 전용
+    private List<Long> isolationPenIds;  // 격리 방 (없으면 이름에 '격리'가 들어간 방)
+    private Boolean includeSeeds;        // 감염원도 격리 (기본 false)
+}
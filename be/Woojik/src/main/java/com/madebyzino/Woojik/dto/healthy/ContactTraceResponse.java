@@ -0,0 +1,18 @@
+package com.madebyzino.Woojik.dto.healthy;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+public class ContactTraceResponse {
+    private String diseaseName;
+    private LocalDateTime windowFrom;              // 가장 이른 감염원의 전파 가능 시작 시각
+    private LocalDateTime windowTo;                // 추적 끝 시각
+    private int seedCount;                         // 감염원 수
+    private int exposedCount;                      // 노출 개체 수 (감염원 제외)
+    private List<ContactExposureResponse> exposures;  // 감염원 포함, 단계 -> 노출 시각 순
+}
@@ -0,0 +1,9 @@
+package com.madebyzino.Woojik.dto.healthy;
+
+import java.time.LocalDate;
+
+// 접촉 추적 감염원 (개체별 첫 치료일 프로젝션)
+public interface ContactTraceSeed {
+    Long getLivestockId();
+    LocalDate getEventDate();
+}
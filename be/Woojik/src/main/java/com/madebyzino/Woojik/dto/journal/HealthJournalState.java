@@ -0,0 +1,15 @@
+package com.madebyzino.Woojik.dto.journal;
+
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+
+import java.time.LocalDate;
+
+// 일괄 건강 기록(집합 UPDATE) 전 값 (프로젝션, 이력의 이전 값 + 상태 변경 이벤트용 방 ID)
+public interface HealthJournalState {
+    Long getId();
+    Long getPenId();
+    LivestockStatus getStatus();
+    LocalDate getWithdrawalDate();
+    String getLastDiseaseName();
+    LocalDate getLastTreatmentDate();
+}
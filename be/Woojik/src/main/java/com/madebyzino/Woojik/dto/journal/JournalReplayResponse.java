@@ -0,0 +1,21 @@
+package com.madebyzino.Woojik.dto.journal;
+
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.Map;
+
+// 이력 다시 구성 결과 (apply = false 면 비교만)
+@Data
+@Builder
+public class JournalReplayResponse {
+    private boolean applied;
+    private boolean drained;                                // 시작 전에 대기열을 모두 저장했는지
+    private int livestockCount;
+    private int journaledCount;                             // 이력이 있는 개체 수 (저널 도입 전 개체는 없음)
+    private int mismatchedCount;                            // 이력과 현재 값이 다른 개체 수
+    private Map<LivestockField, Integer> mismatchesByField;
+    private int appliedCount;                               // 이력 값으로 되돌린 요약 필드 수
+    private int staleCount;                                 // 마지막 이력 이후에 개체가 바뀌어 되돌리지 않은 요약 필드 수
+}
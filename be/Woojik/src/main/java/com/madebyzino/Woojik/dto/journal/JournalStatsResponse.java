@@ -0,0 +1,16 @@
+package com.madebyzino.Woojik.dto.journal;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class JournalStatsResponse {
+    private int capacity;           // 대기열 크기
+    private long queued;            // 저장 대기 중 (서버가 비정상 종료되면 잃는 최대 건수)
+    private long enqueuedTotal;     // 누적 대기열 투입
+    private long writtenTotal;      // 누적 저장 (대기열 + 직접 저장)
+    private long directWrites;      // 대기열이 가득 차 요청 스레드에서 바로 저장한 건수
+    private long failedWrites;      // 배치 저장 실패(재시도) 횟수
+    private long dropped;           // 저장하지 못하고 로그로만 남긴 건수
+}
@@ -0,0 +1,25 @@
+package com.madebyzino.Woojik.dto.journal;
+
+import com.madebyzino.Woojik.entity.LivestockEvent;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 개체 변경 이력 한 건
+@Data
+@AllArgsConstructor
+public class LivestockEventResponse {
+    private Long id;
+    private LivestockField field;
+    private String previousValue;
+    private String value;
+    private LocalDateTime occurredAt;
+    private String actor;
+
+    public static LivestockEventResponse from(LivestockEvent event) {
+        return new LivestockEventResponse(event.getId(), event.getField(), event.getPreviousValue(),
+                event.getNewValue(), event.getOccurredAt(), event.getActor());
+    }
+}
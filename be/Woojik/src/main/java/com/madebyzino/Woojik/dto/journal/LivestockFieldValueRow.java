@@ -0,0 +1,17 @@
+package com.madebyzino.Woojik.dto.journal;
+
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 이력 다시 구성용 (개체 -> 발생 순으로 조회, 필드별 마지막 값만 사용)
+@Data
+@AllArgsConstructor
+public class LivestockFieldValueRow {
+    private Long livestockId;
+    private LivestockField field;
+    private String value;
+    private LocalDateTime occurredAt;
+}
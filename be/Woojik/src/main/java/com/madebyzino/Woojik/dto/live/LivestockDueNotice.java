@@ -0,0 +1,18 @@
+package com.madebyzino.Woojik.dto.live;
+
+import com.madebyzino.Woojik.entity.enums.LivestockDueType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 실시간 이벤트 "due": 휴약 종료 / 분만 예정일 도래
+@Data
+@AllArgsConstructor
+public class LivestockDueNotice {
+    private LivestockDueType type;
+    private LocalDate date;
+    private Long livestockId;
+    private Long penId;
+    private Long barnId;
+}
@@ -0,0 +1,15 @@
+package com.madebyzino.Woojik.dto.live;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 실시간 이벤트 "move": 개체 방 이동 (출발/도착 축사 어느 쪽을 보고 있어도 수신)
+@Data
+@AllArgsConstructor
+public class LivestockMove {
+    private Long livestockId;
+    private Long fromPenId;
+    private Long fromBarnId;
+    private Long toPenId;
+    private Long toBarnId;
+}
@@ -0,0 +1,16 @@
+package com.madebyzino.Woojik.dto.live;
+
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 실시간 이벤트 "status": 개체 상태 변경 (신규 개체는 previousStatus = null)
+@Data
+@AllArgsConstructor
+public class LivestockStatusChange {
+    private Long livestockId;
+    private Long penId;
+    private Long barnId;
+    private LivestockStatus previousStatus;
+    private LivestockStatus status;
+}
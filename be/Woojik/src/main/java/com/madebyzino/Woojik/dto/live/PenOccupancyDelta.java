@@ -0,0 +1,13 @@
+package com.madebyzino.Woojik.dto.live;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 실시간 이벤트 "occupancy": 방 두수 증감 (화면은 가지고 있는 두수에 delta 를 더함)
+@Data
+@AllArgsConstructor
+public class PenOccupancyDelta {
+    private Long penId;
+    private Long barnId;
+    private int delta;
+}
@@ -0,0 +1,20 @@
+package com.madebyzino.Woojik.dto.live;
+
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 실시간 이벤트 "alert": 새 체온 경보 (상세는 GET /api/telemetry/alerts)
+@Data
+@AllArgsConstructor
+public class TemperatureAlertNotice {
+    private Long alertId;
+    private Long livestockId;
+    private Long penId;
+    private Long barnId;
+    private TemperatureAlertType type;
+    private Float temperature;
+    private LocalDateTime measuredAt;
+}
@@ -2,6 +2,7 @@ package com.madebyzino.Woojik.dto.livestock;
 
 import com.madebyzino.Woojik.dto.breeding.BreedingResponse;
 import com.madebyzino.Woojik.dto.healthy.HealthResponse;
+import com.madebyzino.Woojik.dto.sale.SaleResponse;
 import com.madebyzino.Woojik.entity.Livestock;
 import lombok.Data;
 
@@ -10,7 +11,6 @@ import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 @Data
-
 public class LivestockDetailResponse {
     private Long id;
     private String earTag;
@@ -27,6 +27,7 @@ public class LivestockDetailResponse {
     private String motherEarTag;
     private Long fatherId;
     private String fatherEarTag;
+    private String sireCode;                // 부(父) KPN 정액번호
 
     private LocalDate withdrawalDate;       // 휴약기간 만료일
     private String lastTreatment;           // 최근 치료/백신 내역
@@ -38,6 +39,7 @@ public class LivestockDetailResponse {
 
     private List<HealthResponse> healthHistory;
     private List<BreedingResponse> breedingHistory;
+    private SaleResponse saleInfo;          // 판매 정보 (판매된 개체만)
 
     private Long penId;
     private Long barnId;
@@ -45,7 +47,8 @@ public class LivestockDetailResponse {
     public LivestockDetailResponse(
             Livestock entity,
             List<HealthResponse> healthHistory,
-            List<BreedingResponse> breedingHistory)
+            List<BreedingResponse> breedingHistory,
+            SaleResponse saleInfo)
     {
         this.id = entity.getId();
         this.earTag = entity.getEarTag();
@@ -80,6 +83,7 @@ public class LivestockDetailResponse {
             this.fatherId = entity.getFather().getId();
             this.fatherEarTag = entity.getFather().getEarTag();
         }
+        this.sireCode = entity.getSireCode();
 
         // 건강/번식 요약 필드
         this.withdrawalDate = entity.getWithdrawalDate();
@@ -93,8 +97,12 @@ public class LivestockDetailResponse {
         // 이력 리스트
         this.healthHistory = healthHistory;
         this.breedingHistory = breedingHistory;
+        this.saleInfo = saleInfo;
 
-        this.penId = entity.getPen().getId();
-        this.barnId = entity.getPen().getBarn().getId();
+        // 방 미지정 개체는 null
+        if (entity.getPen() != null) {
+            this.penId = entity.getPen().getId();
+            this.barnId = entity.getPen().getBarn().getId();
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.madebyzino.Woojik.dto.livestock;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class LivestockImportResponse {
+    private int totalRows;          // 처리한 데이터 행 수 (헤더 제외)
+    private int importedCount;      // 등록 성공
+    private int failedCount;        // 등록 실패
+    private List<RowError> errors;  // 행별 실패 사유 (최대 MAX_REPORTED_ERRORS 건)
+    private boolean errorsTruncated;
+
+    @Data
+    @AllArgsConstructor
+    public static class RowError {
+        private long line;          // 파일 기준 줄 번호 (1부터)
+        private String earTag;
+        private String message;
+    }
+}
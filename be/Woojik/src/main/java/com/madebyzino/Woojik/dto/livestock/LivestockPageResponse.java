@@ -0,0 +1,19 @@
+package com.madebyzino.Woojik.dto.livestock;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@Builder
+public class LivestockPageResponse {
+    private List<LivestockResponse> content;
+    private Long nextCursor;               // 다음 페이지 요청 시 cursor 로 전달 (마지막 페이지면 null)
+    private boolean hasNext;
+
+    // 필터 칩 표시용 상태별 두수 (첫 페이지 요청 시에만 채워짐)
+    private Map<String, Long> statusCounts;
+    private Long totalCount;               // 판매(SOLD) 제외 전체 두수
+}
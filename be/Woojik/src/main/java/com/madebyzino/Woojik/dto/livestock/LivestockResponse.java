@@ -1,6 +1,8 @@
 package com.madebyzino.Woojik.dto.livestock;
 
 import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
 import lombok.Data;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
@@ -38,4 +40,27 @@ public class LivestockResponse {
             this.months = (int) ChronoUnit.MONTHS.between(entity.getBirthDate(), LocalDate.now());
         }
     }
+
+    // JPQL 생성자 프로젝션용 (축사/방 이름을 조인으로 함께 조회하여 지연 로딩 없이 생성)
+    public LivestockResponse(Long id, String earTag, String name, Gender gender, LivestockStatus status,
+                             LocalDate birthDate, String penName, String barnName) {
+        this.id = id;
+        this.earTag = earTag;
+        this.name = name;
+
+        this.status = status != null ? status.name() : null;
+        this.gender = gender != null ? gender.name() : null;
+
+        this.birthDate = birthDate;
+
+        if (penName != null) {
+            this.location = String.format("%s %s", barnName, penName);
+        } else {
+            this.location = "미지정";
+        }
+
+        if (birthDate != null) {
+            this.months = (int) ChronoUnit.MONTHS.between(birthDate, LocalDate.now());
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.madebyzino.Woojik.dto.livestock;
+
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+
+import java.time.LocalDate;
+
+// 날짜 예약 구성용 (프로젝션)
+public interface LivestockScheduleRow {
+    Long getId();
+    LivestockStatus getStatus();
+    LocalDate getBirthDate();
+    LocalDate getWithdrawalDate();
+    LocalDate getExpectedDate();
+}
@@ -0,0 +1,15 @@
+package com.madebyzino.Woojik.dto.livestock;
+
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import lombok.Data;
+
+@Data
+public class LivestockSearchCondition {
+    private LivestockStatus status; // 상태 필터 (없으면 판매(SOLD) 제외 전체)
+    private Gender gender;          // 성별 필터
+    private Long penId;             // 방 필터
+    private Long barnId;            // 축사 필터
+    private Long cursor;            // 이전 페이지의 마지막 개체 ID (첫 페이지는 null)
+    private Integer size;           // 페이지 크기
+}
@@ -0,0 +1,12 @@
+package com.madebyzino.Woojik.dto.livestock;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class LivestockSearchResponse {
+    private Long id;
+    private String earTag;  // 귀표번호
+    private String name;    // 별명
+}
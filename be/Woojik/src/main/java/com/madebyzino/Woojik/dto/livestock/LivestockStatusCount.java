@@ -0,0 +1,9 @@
+package com.madebyzino.Woojik.dto.livestock;
+
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+
+// 상태별 두수 집계 결과 (GROUP BY 프로젝션)
+public interface LivestockStatusCount {
+    LivestockStatus getStatus();
+    Long getCount();
+}
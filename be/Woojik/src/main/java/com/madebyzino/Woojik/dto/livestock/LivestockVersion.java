@@ -0,0 +1,15 @@
+package com.madebyzino.Woojik.dto.livestock;
+
+import java.time.LocalDateTime;
+
+// 상세 조회 검증자 계산용 (이력 목록을 읽지 않고 최종 수정 시각/건수만 조회)
+public interface LivestockVersion {
+    LocalDateTime getLivestockUpdatedAt();
+    LocalDateTime getPenUpdatedAt();    // 상세의 위치(축사/방 이름)용
+    LocalDateTime getBarnUpdatedAt();
+    LocalDateTime getHealthUpdatedAt();
+    Long getHealthCount();
+    LocalDateTime getBreedingUpdatedAt();
+    Long getBreedingCount();
+    LocalDateTime getSaleUpdatedAt();
+}
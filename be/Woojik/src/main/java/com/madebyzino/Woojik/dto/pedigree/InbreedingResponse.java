@@ -0,0 +1,13 @@
+package com.madebyzino.Woojik.dto.pedigree;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 개체 근교계수
+@Data
+@AllArgsConstructor
+public class InbreedingResponse {
+    private Long livestockId;
+    private String earTag;
+    private double coefficient;     // 0 ~ 1
+}
@@ -0,0 +1,13 @@
+package com.madebyzino.Woojik.dto.pedigree;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 두 개체의 혈연계수 (= 둘 사이 자손의 근교계수)
+@Data
+@AllArgsConstructor
+public class KinshipResponse {
+    private Long livestockId;
+    private Long otherLivestockId;
+    private double kinship;
+}
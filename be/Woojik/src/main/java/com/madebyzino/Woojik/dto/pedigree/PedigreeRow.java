@@ -0,0 +1,11 @@
+package com.madebyzino.Woojik.dto.pedigree;
+
+// 족보 그래프 구성용 (프로젝션, 판매된 개체 포함)
+public interface PedigreeRow {
+    Long getId();
+    String getEarTag();
+    Long getMotherId();
+    Long getFatherId();
+    String getSireCode();
+    String getNotes();      // sireCode 가 없는 송아지만 (예전 "부(父): KPN-..." 메모)
+}
@@ -0,0 +1,13 @@
+package com.madebyzino.Woojik.dto.pedigree;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 교배 후보 KPN 씨수소 (자손 근교계수 낮은 순)
+@Data
+@AllArgsConstructor
+public class SireCandidateResponse {
+    private String sireCode;
+    private double calfInbreeding;  // 이 암소와 교배 시 송아지 근교계수
+    private int offspringCount;     // 농장 내 이 씨수소 자손 수
+}
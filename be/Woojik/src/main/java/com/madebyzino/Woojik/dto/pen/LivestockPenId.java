@@ -0,0 +1,7 @@
+package com.madebyzino.Woojik.dto.pen;
+
+// 개체별 현재 방 ID (프로젝션)
+public interface LivestockPenId {
+    Long getLivestockId();
+    Long getPenId();
+}
@@ -0,0 +1,7 @@
+package com.madebyzino.Woojik.dto.pen;
+
+// 방별 두수 집계 결과 (GROUP BY 프로젝션)
+public interface PenCount {
+    Long getPenId();
+    Long getCount();
+}
@@ -0,0 +1,19 @@
+package com.madebyzino.Woojik.dto.pen;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 방 거주 구간 응답 (endedAt = null 이면 현재 머무는 중)
+@Data
+@AllArgsConstructor
+public class PenResidencyResponse {
+    private Long livestockId;
+    private String earTag;
+    private String name;
+    private Long penId;
+    private String penName;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+}
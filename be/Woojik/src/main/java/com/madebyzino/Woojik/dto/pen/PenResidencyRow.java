@@ -0,0 +1,20 @@
+package com.madebyzino.Woojik.dto.pen;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+// 방 거주 구간 (인덱스 구성용 프로젝션, endedAt = null 이면 현재 머무는 중)
+@Data
+@AllArgsConstructor
+public class PenResidencyRow {
+    private Long livestockId;
+    private Long penId;
+    private LocalDateTime startedAt;
+    private LocalDateTime endedAt;
+
+    public PenResidencyRow(Long livestockId, Long penId, LocalDateTime startedAt) {
+        this(livestockId, penId, startedAt, null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.madebyzino.Woojik.dto.sale;
+
+import java.time.LocalDate;
+
+// 판매일별 합계
+public interface SaleDailySum extends SaleRollupSum {
+    LocalDate getSaleDate();
+}
@@ -0,0 +1,6 @@
+package com.madebyzino.Woojik.dto.sale;
+
+// 등급/거래처별 합계 (groupKey = 빈 문자열이면 미입력)
+public interface SaleGroupSum extends SaleRollupSum {
+    String getGroupKey();
+}
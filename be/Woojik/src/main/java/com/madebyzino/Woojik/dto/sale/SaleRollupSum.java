@@ -0,0 +1,11 @@
+package com.madebyzino.Woojik.dto.sale;
+
+// 판매 집계 합계 (GROUP BY 프로젝션 공통 항목)
+public interface SaleRollupSum {
+    Long getSaleCount();
+    Long getTotalPrice();
+    Long getPricedCount();
+    Double getTotalWeight();
+    Long getWeighedPrice();
+    Double getWeighedWeight();
+}
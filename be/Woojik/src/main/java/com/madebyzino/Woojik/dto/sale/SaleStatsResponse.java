@@ -0,0 +1,18 @@
+package com.madebyzino.Woojik.dto.sale;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+public class SaleStatsResponse {
+    private LocalDate periodStart;      // 기간별 통계: 구간 시작일 (그룹별 통계에서는 null)
+    private String group;               // 그룹별 통계: 등급 또는 거래처 (미입력은 null)
+    private long saleCount;             // 판매 두수
+    private long totalPrice;            // 매출 합계 (원)
+    private double totalWeight;         // 출하 중량 합계 (kg)
+    private Long averagePrice;          // 두당 평균 가격 (가격이 있는 판매 기준)
+    private Long averagePricePerKg;     // kg 당 평균 단가 (가격과 중량이 모두 있는 판매 기준)
+}
@@ -0,0 +1,17 @@
+package com.madebyzino.Woojik.dto.sire;
+
+import com.madebyzino.Woojik.entity.enums.Gender;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// 씨수소 자손 한 마리 (판매되지 않았으면 판매 정보 null)
+@Data
+@AllArgsConstructor
+public class SireCalfRow {
+    private Long livestockId;
+    private String sireCode;
+    private String notes;           // sireCode 가 없는 송아지만 (예전 "부(父): KPN-..." 메모)
+    private Gender gender;
+    private Long salePrice;
+    private Double saleWeight;
+}
@@ -0,0 +1,18 @@
+package com.madebyzino.Woojik.dto.sire;
+
+import com.madebyzino.Woojik.entity.enums.BreedingType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+// 씨수소 성적 계산용 번식 이력 한 줄 (수정/임신감정/분만만, 개체 -> 날짜 순으로 조회)
+@Data
+@AllArgsConstructor
+public class SireEventRow {
+    private Long livestockId;
+    private BreedingType type;
+    private LocalDate eventDate;
+    private String sireCode;        // 인공수정 정액번호
+    private Boolean isPregnant;     // 임신감정 결과
+}
@@ -0,0 +1,23 @@
+package com.madebyzino.Woojik.dto.sire;
+
+import lombok.Builder;
+import lombok.Data;
+
+// KPN 씨수소 농장 내 성적 (평균/비율은 해당 건수가 없으면 null)
+@Data
+@Builder
+public class SireStatsResponse {
+    private String sireCode;
+    private long services;              // 인공수정 횟수
+    private long conceptions;           // 수태 (임신감정 양성 또는 분만)
+    private long failures;              // 불수태 (임신감정 음성 또는 재수정)
+    private long pending;               // 결과 대기 중인 수정
+    private Double conceptionRate;      // 수태 / (수태 + 불수태)
+    private long calvings;              // 이 씨수소 수정으로 분만한 횟수
+    private long calves;                // 농장 내 자손 수
+    private long maleCalves;            // 수송아지 (거세 포함)
+    private long femaleCalves;
+    private long soldCalves;
+    private Double averageCalfPrice;    // 판매 자손 평균 판매가
+    private Double averageCalfWeight;   // 판매 자손 평균 출하 체중
+}
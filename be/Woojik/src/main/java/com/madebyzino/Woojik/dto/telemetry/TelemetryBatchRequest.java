@@ -0,0 +1,18 @@
+package com.madebyzino.Woojik.dto.telemetry;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class TelemetryBatchRequest {
+    private List<Reading> readings;
+
+    @Data
+    public static class Reading {
+        private String earTag;              // 귀표번호
+        private LocalDateTime measuredAt;   // 측정 시각 (없으면 수신 시각)
+        private Float temperature;          // 체온(℃)
+    }
+}
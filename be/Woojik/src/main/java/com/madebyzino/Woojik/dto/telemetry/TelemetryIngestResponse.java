@@ -0,0 +1,14 @@
+package com.madebyzino.Woojik.dto.telemetry;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+public class TelemetryIngestResponse {
+    private int accepted;                  // 버퍼에 들어간 측정값 수
+    private int rejected;                  // 미등록 귀표/범위 밖 체온 등으로 거부된 수
+    private List<String> unknownEarTags;   // 등록되지 않은(또는 판매된) 귀표 (최대 100건)
+}
@@ -0,0 +1,17 @@
+package com.madebyzino.Woojik.dto.telemetry;
+
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+public class TelemetryStatsResponse {
+    private int capacity;                // 버퍼 크기
+    private long buffered;               // 저장 대기 중
+    private long acceptedTotal;          // 누적 수신
+    private long persistedTotal;         // 누적 저장
+    private long invalidTotal;           // 누적 거부 (미등록 귀표, 범위 밖 값)
+    private long overloadRejectedTotal;  // 버퍼가 가득 차 429 로 돌려보낸 측정값 수
+    private long failedWrites;           // 저장 실패(재시도) 횟수
+    private long alertsRaised;           // 누적 체온 경보 수
+}
@@ -0,0 +1,47 @@
+package com.madebyzino.Woojik.dto.telemetry;
+
+import com.madebyzino.Woojik.dto.healthy.HealthRequest;
+import com.madebyzino.Woojik.entity.TemperatureAlert;
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertStatus;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class TemperatureAlertResponse {
+    private Long id;
+    private Long livestockId;
+    private String earTag;
+    private String name;
+    private TemperatureAlertType type;
+    private TemperatureAlertStatus status;
+    private LocalDateTime measuredAt;
+    private Float temperature;
+    private Float baselineMean;
+    private Float baselineStd;
+    private HealthRequest suggestedTreat;  // 치료 기록 초안 (없으면 null)
+
+    public TemperatureAlertResponse(TemperatureAlert alert) {
+        this.id = alert.getId();
+        this.livestockId = alert.getLivestock().getId();
+        this.earTag = alert.getLivestock().getEarTag();
+        this.name = alert.getLivestock().getName();
+        this.type = alert.getType();
+        this.status = alert.getStatus();
+        this.measuredAt = alert.getMeasuredAt();
+        this.temperature = alert.getTemperature();
+        this.baselineMean = alert.getBaselineMean();
+        this.baselineStd = alert.getBaselineStd();
+
+        if (alert.getDraftDiseaseName() != null) {
+            HealthRequest draft = new HealthRequest();
+            draft.setType(HealthType.TREAT);
+            draft.setDate(alert.getMeasuredAt().toLocalDate());
+            draft.setDiseaseName(alert.getDraftDiseaseName());
+            draft.setDescription(alert.getDraftDescription());
+            this.suggestedTreat = draft;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,18 +14,29 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "barns")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "barn")
 public class Barn extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "barn_seq")
+    @SequenceGenerator(name = "barn_seq", sequenceName = "barns_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
     private String name; // 예: 제1축사
 
+    // 배치 저장 시마다 +1 (축사 지도 ETag 계산용)
+    @Column(nullable = false)
+    private long layoutVersion;
+
     @OneToMany(mappedBy = "barn", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Pen> pens = new ArrayList<>();
 
     public Barn(String name) {
         this.name = name;
     }
+
+    public void increaseLayoutVersion() {
+        this.layoutVersion++;
+    }
 }
\ No newline at end of file
@@ -12,9 +12,12 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "breedings", indexes = @Index(name = "idx_breeding_livestock_date", columnList = "livestock_id, eventDate"))
 public class Breeding extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "breeding_seq")
+    @SequenceGenerator(name = "breeding_seq", sequenceName = "breedings_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -10,10 +10,15 @@ import java.time.LocalDate;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "livestocks", indexes = @Index(name = "idx_eartag", columnList = "earTag"))
+@Table(name = "livestocks", indexes = {
+        @Index(name = "idx_eartag", columnList = "earTag"),
+        @Index(name = "idx_status", columnList = "status")
+})
 public class Livestock extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "livestock_seq")
+    @SequenceGenerator(name = "livestock_seq", sequenceName = "livestocks_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -42,6 +47,8 @@ public class Livestock extends BaseTimeEntity {
     @JoinColumn(name = "father_id")
     private Livestock father; // 부
 
+    private String sireCode; // 부(父) KPN 정액번호 (인공수정 씨수소는 개체로 없으므로 번호로 보관)
+
     @Column(columnDefinition = "TEXT")
     private String notes; // 특이사항
 
@@ -64,7 +71,7 @@ public class Livestock extends BaseTimeEntity {
 
 
     @Builder
-    public Livestock(String earTag, String name, LocalDate birthDate, Gender gender, LivestockStatus status, String breed, Pen pen, Livestock mother, Livestock father, String notes) {
+    public Livestock(String earTag, String name, LocalDate birthDate, Gender gender, LivestockStatus status, String breed, Pen pen, Livestock mother, Livestock father, String sireCode, String notes) {
         this.earTag = earTag;
         this.name = name;
         this.birthDate = birthDate;
@@ -74,6 +81,7 @@ public class Livestock extends BaseTimeEntity {
         this.pen = pen;
         this.mother = mother;
         this.father = father;
+        this.sireCode = sireCode;
         this.notes = notes;
     }
 
@@ -0,0 +1,54 @@
+package com.madebyzino.Woojik.entity;
+
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개체 필드 변경 이력 (추가만 하는 저널, 수정/삭제 없음).
+ * 변경 한 건 = 필드 하나의 이전 값 -> 새 값이며, 값은 문자열(날짜는 ISO, 방은 방 ID)로 저장합니다.
+ * TemperatureReading 과 같은 로그성 데이터라 Livestock 연관관계 없이 개체 ID 만 둡니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "livestock_events", indexes = {
+        @Index(name = "idx_livestock_event_livestock_time", columnList = "livestockId, occurredAt")
+})
+public class LivestockEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "livestock_event_seq")
+    @SequenceGenerator(name = "livestock_event_seq", sequenceName = "livestock_events_seq", allocationSize = 1000)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long livestockId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private LivestockField field;
+
+    private String previousValue;   // 신규 등록이면 null
+    private String newValue;        // value 는 H2 예약어라 newValue
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+
+    @Column(nullable = false, length = 50)
+    private String actor;
+
+    public LivestockEvent(Long livestockId, LivestockField field, String previousValue, String newValue,
+                          LocalDateTime occurredAt, String actor) {
+        this.livestockId = livestockId;
+        this.field = field;
+        this.previousValue = previousValue;
+        this.newValue = newValue;
+        this.occurredAt = occurredAt;
+        this.actor = actor;
+    }
+}
@@ -2,6 +2,8 @@ package com.madebyzino.Woojik.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
@@ -9,9 +11,12 @@ import lombok.*;
 @Builder
 @AllArgsConstructor
 @Table(name = "pens")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pen")
 public class Pen extends BaseTimeEntity {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pen_seq")
+    @SequenceGenerator(name = "pen_seq", sequenceName = "pens_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
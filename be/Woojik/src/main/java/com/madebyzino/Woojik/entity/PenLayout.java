@@ -5,15 +5,19 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Table(name = "pen_layouts")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "penLayout")
 public class PenLayout extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pen_layout_seq")
+    @SequenceGenerator(name = "pen_layout_seq", sequenceName = "pen_layouts_seq", allocationSize = 50)
     private Long id;
 
     // 축사 ID (전체 축사 지도를 조회하는 기준)
@@ -0,0 +1,59 @@
+package com.madebyzino.Woojik.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 방별 현재 두수 카운터.
+ * 지도 조회 시 livestocks 를 세지 않도록 이동/입식/분만/판매 시점에 증감합니다.
+ * (판매(SOLD)되지 않았고 방이 지정된 개체 수)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pen_occupancies")
+public class PenOccupancy implements Persistable<Long> {
+
+    @Id
+    private Long penId;
+
+    @Column(nullable = false)
+    private Integer livestockCount;
+
+    // 두수가 바뀔 때마다 +1 (축사 지도 ETag 계산용)
+    @Column(nullable = false)
+    private long revision;
+
+    // ID 를 직접 지정하므로 save() 시 merge(SELECT) 대신 persist 로 바로 INSERT 하기 위한 플래그
+    @Transient
+    private boolean isNew = true;
+
+    public PenOccupancy(Long penId, Integer livestockCount) {
+        this.penId = penId;
+        this.livestockCount = livestockCount;
+    }
+
+    public void resetCount(Integer livestockCount) {
+        this.livestockCount = livestockCount;
+        this.revision++;
+    }
+
+    @Override
+    public Long getId() {
+        return penId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,45 @@
+package com.madebyzino.Woojik.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 개체가 방에 머문 구간 [startedAt, endedAt).
+ * 입식/분만 때 열고, 이동 때 이전 구간을 닫고 새 구간을 열며, 판매 때 닫습니다. (현재 머무는 중이면 endedAt = null)
+ * LivestockEvent 와 같은 로그성 데이터라 연관관계 없이 개체/방 ID 만 둡니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "pen_residencies", indexes = {
+        @Index(name = "idx_pen_residency_pen_time", columnList = "penId, startedAt"),
+        @Index(name = "idx_pen_residency_livestock_time", columnList = "livestockId, startedAt")
+})
+public class PenResidency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pen_residency_seq")
+    @SequenceGenerator(name = "pen_residency_seq", sequenceName = "pen_residencies_seq", allocationSize = 1000)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long livestockId;
+
+    @Column(nullable = false)
+    private Long penId;
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime endedAt;
+
+    public PenResidency(Long livestockId, Long penId, LocalDateTime startedAt) {
+        this.livestockId = livestockId;
+        this.penId = penId;
+        this.startedAt = startedAt;
+    }
+}
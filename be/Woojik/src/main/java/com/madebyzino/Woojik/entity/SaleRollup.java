@@ -0,0 +1,71 @@
+package com.madebyzino.Woojik.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 판매 일별 집계 (판매일 x 등급 x 거래처 한 행).
+ * 판매 등록 시 같은 트랜잭션에서 누적하고, 매출 통계는 판매 원본 대신 이 테이블만 읽습니다.
+ * 등급/거래처가 없는 판매는 빈 문자열로 묶습니다. (UPDATE 조건에서 NULL 비교를 피하기 위해)
+ * 단가(원/kg)는 가격과 중량이 모두 있는 판매만으로 계산하므로 weighedPrice / weighedWeight 를 따로 둡니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "sale_rollups", uniqueConstraints = @UniqueConstraint(
+        name = "uk_sale_rollups_key", columnNames = {"sale_date", "grade", "customer_name"}))
+public class SaleRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "sale_rollup_seq")
+    @SequenceGenerator(name = "sale_rollup_seq", sequenceName = "sale_rollups_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "sale_date", nullable = false)
+    private LocalDate saleDate;
+
+    @Column(nullable = false)
+    private String grade;
+
+    @Column(name = "customer_name", nullable = false)
+    private String customerName;
+
+    @Column(nullable = false)
+    private long saleCount;
+
+    @Column(nullable = false)
+    private long totalPrice;        // 가격이 있는 판매의 합계
+
+    @Column(nullable = false)
+    private long pricedCount;       // 가격이 있는 판매 수
+
+    @Column(nullable = false)
+    private double totalWeight;     // 중량이 있는 판매의 합계 (kg)
+
+    @Column(nullable = false)
+    private long weighedPrice;      // 가격 + 중량이 모두 있는 판매의 가격 합계
+
+    @Column(nullable = false)
+    private double weighedWeight;   // 가격 + 중량이 모두 있는 판매의 중량 합계
+
+    public SaleRollup(LocalDate saleDate, String grade, String customerName) {
+        this.saleDate = saleDate;
+        this.grade = grade;
+        this.customerName = customerName;
+    }
+
+    public SaleRollup(LocalDate saleDate, String grade, String customerName, long saleCount, long totalPrice,
+                      long pricedCount, double totalWeight, long weighedPrice, double weighedWeight) {
+        this(saleDate, grade, customerName);
+        this.saleCount = saleCount;
+        this.totalPrice = totalPrice;
+        this.pricedCount = pricedCount;
+        this.totalWeight = totalWeight;
+        this.weighedPrice = weighedPrice;
+        this.weighedWeight = weighedWeight;
+    }
+}
@@ -0,0 +1,69 @@
+package com.madebyzino.Woojik.entity;
+
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertStatus;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 체온 이상 경보.
+ * draftDiseaseName/draftDescription 은 치료 기록(Health TREAT) 초안이며, 확인(treat) 시에만 실제 기록이 됩니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "temperature_alerts", indexes = {
+        @Index(name = "idx_alert_measured_at", columnList = "measuredAt")
+})
+public class TemperatureAlert extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "temperature_alert_seq")
+    @SequenceGenerator(name = "temperature_alert_seq", sequenceName = "temperature_alerts_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "livestock_id")
+    private Livestock livestock;
+
+    @Enumerated(EnumType.STRING)
+    private TemperatureAlertType type;
+
+    @Enumerated(EnumType.STRING)
+    private TemperatureAlertStatus status;
+
+    private LocalDateTime measuredAt;
+    private Float temperature;    // 경보 시점 측정값(℃)
+    private Float baselineMean;   // 개체 평소 체온 (기준선이 쌓이기 전이면 null)
+    private Float baselineStd;
+
+    private String draftDiseaseName;
+    private String draftDescription;
+
+    @Builder
+    public TemperatureAlert(Livestock livestock, TemperatureAlertType type, LocalDateTime measuredAt, Float temperature,
+                            Float baselineMean, Float baselineStd, String draftDiseaseName, String draftDescription) {
+        this.livestock = livestock;
+        this.type = type;
+        this.status = TemperatureAlertStatus.OPEN;
+        this.measuredAt = measuredAt;
+        this.temperature = temperature;
+        this.baselineMean = baselineMean;
+        this.baselineStd = baselineStd;
+        this.draftDiseaseName = draftDiseaseName;
+        this.draftDescription = draftDescription;
+    }
+
+    public void markTreated() {
+        this.status = TemperatureAlertStatus.TREATED;
+    }
+
+    public void dismiss() {
+        this.status = TemperatureAlertStatus.DISMISSED;
+    }
+}
@@ -0,0 +1,42 @@
+package com.madebyzino.Woojik.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 체온 목걸이 측정값.
+ * 분당 수만 건이 쌓이는 로그성 데이터라 BaseTimeEntity(생성/수정 시각)와 Livestock 연관관계 없이
+ * 개체 ID 만 저장합니다. (INSERT 시 프록시/감사 처리 없이 배치로 저장)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "temperature_readings", indexes = {
+        @Index(name = "idx_reading_livestock_time", columnList = "livestockId, measuredAt")
+})
+public class TemperatureReading {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "temperature_reading_seq")
+    @SequenceGenerator(name = "temperature_reading_seq", sequenceName = "temperature_readings_seq", allocationSize = 1000)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long livestockId;
+
+    @Column(nullable = false)
+    private LocalDateTime measuredAt;
+
+    @Column(nullable = false)
+    private Float temperature; // 체온(℃)
+
+    public TemperatureReading(Long livestockId, LocalDateTime measuredAt, Float temperature) {
+        this.livestockId = livestockId;
+        this.measuredAt = measuredAt;
+        this.temperature = temperature;
+    }
+}
@@ -0,0 +1,15 @@
+package com.madebyzino.Woojik.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 내보내기 파일 형식
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+    CSV("csv", "text/csv; charset=UTF-8"),
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final String extension;
+    private final String contentType;
+}
@@ -0,0 +1,8 @@
+package com.madebyzino.Woojik.entity.enums;
+
+// 날짜 기반 예약 작업 종류
+public enum LivestockDueType {
+    WITHDRAWAL_END,  // 휴약기간 종료 (출하 가능 알림)
+    CALVING_DUE,     // 분만 예정일 도래 알림
+    WEANING          // 송아지 -> 비육우 전환 (생후 개월 수 도달)
+}
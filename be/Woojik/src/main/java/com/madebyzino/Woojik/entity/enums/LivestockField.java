@@ -0,0 +1,28 @@
+package com.madebyzino.Woojik.entity.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 이력(저널)에 남기는 개체 필드 (property = Livestock 필드명, summary = 이력으로 다시 구성할 수 있는 요약 필드)
+@Getter
+@RequiredArgsConstructor
+public enum LivestockField {
+    EAR_TAG("earTag", false),
+    NAME("name", false),
+    BIRTH_DATE("birthDate", false),
+    GENDER("gender", false),
+    BREED("breed", false),
+    SIRE_CODE("sireCode", false),
+    STATUS("status", false),
+    PEN("pen", false),
+    BREEDING_COUNT("breedingCount", true),
+    LAST_ESTRUS_DATE("lastEstrusDate", true),
+    LAST_AI_DATE("lastAiDate", true),
+    EXPECTED_DATE("expectedDate", true),
+    WITHDRAWAL_DATE("withdrawalDate", true),
+    LAST_DISEASE_NAME("lastDiseaseName", true),
+    LAST_TREATMENT_DATE("lastTreatmentDate", true);
+
+    private final String property;
+    private final boolean summary;
+}
@@ -0,0 +1,6 @@
+package com.madebyzino.Woojik.entity.enums;
+
+// 매출 통계 기간 단위 (주는 월요일 시작)
+public enum SalePeriod {
+    DAY, WEEK, MONTH, YEAR
+}
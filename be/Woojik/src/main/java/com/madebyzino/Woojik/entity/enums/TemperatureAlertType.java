@@ -0,0 +1,5 @@
+package com.madebyzino.Woojik.entity.enums;
+
+public enum TemperatureAlertType {
+    FEVER, HYPOTHERMIA
+}
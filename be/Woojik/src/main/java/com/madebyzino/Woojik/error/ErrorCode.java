@@ -17,11 +17,24 @@ public enum ErrorCode {
     BARN_NOT_FOUND(HttpStatus.NOT_FOUND, "축사 정보를 찾을 수 없습니다."),
     PEN_NOT_FOUND(HttpStatus.NOT_FOUND, "방 정보를 찾을 수 없습니다."),
     SALES_NOT_FOUND(HttpStatus.NOT_FOUND, "판매 정보를 찾을 수 없습니다."),
+    TEMPERATURE_ALERT_NOT_FOUND(HttpStatus.NOT_FOUND, "체온 경보를 찾을 수 없습니다."),
+    SIRE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 씨수소의 수정 기록을 찾을 수 없습니다."),
+    ISOLATION_PEN_NOT_FOUND(HttpStatus.NOT_FOUND, "격리 방을 찾을 수 없습니다."),
 
     // 409 CONFLICT
     DUPLICATE_EARTAG(HttpStatus.CONFLICT, "이미 등록된 귀표번호입니다."),
     PEN_CAPACITY_EXCEEDED(HttpStatus.CONFLICT, "해당 칸의 수용 가능 두수가 초과되었습니다."),
-    ALREADY_SOLD_LIVESTOCK(HttpStatus.CONFLICT, "이미 판매 완료된 가축입니다.");
+    ALREADY_SOLD_LIVESTOCK(HttpStatus.CONFLICT, "이미 판매 완료된 가축입니다."),
+    TEMPERATURE_ALERT_CLOSED(HttpStatus.CONFLICT, "이미 처리된 체온 경보입니다."),
+
+    // 429 TOO_MANY_REQUESTS
+    TELEMETRY_BUFFER_FULL(HttpStatus.TOO_MANY_REQUESTS, "측정값 처리 대기열이 가득 찼습니다. 잠시 후 다시 전송해 주세요."),
+
+    // 500 INTERNAL_SERVER_ERROR
+    ENVIRONMENT_STORAGE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "환경 데이터 저장소를 읽거나 쓰지 못했습니다."),
+
+    // 503 SERVICE_UNAVAILABLE
+    LIVE_STREAM_LIMIT_EXCEEDED(HttpStatus.SERVICE_UNAVAILABLE, "실시간 연결 수가 한도를 넘었습니다. 잠시 후 다시 연결해 주세요.");
 
     private final HttpStatus status;
     private final String message;
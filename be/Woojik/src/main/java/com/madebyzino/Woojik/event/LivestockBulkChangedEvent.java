@@ -0,0 +1,38 @@
+package com.madebyzino.Woojik.event;
+
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 집합 UPDATE 로 여러 개체를 한 번에 바꾼 경우 (일괄 건강 기록, 예약된 이유 전환).
+ * 엔티티를 읽지 않으므로 변경 후 값 대신 UPDATE 와 같은 규칙을 담습니다:
+ * withdrawalDate 가 있으면 더 늦은 날짜로만 연장, status 가 있으면 현재 상태가 fromStatuses 에 드는 개체만 전환.
+ * LivestockChangedEvent 와 마찬가지로 구독 쪽은 커밋 후 처리합니다.
+ */
+public record LivestockBulkChangedEvent(List<Long> livestockIds, LocalDate withdrawalDate,
+                                        Set<LivestockStatus> fromStatuses, LivestockStatus status) {
+
+    // 일괄 건강 기록 (치료면 markSick 과 같이 임신우/이미 SICK 인 개체를 뺀 나머지를 SICK 으로)
+    public static LivestockBulkChangedEvent healthRecorded(List<Long> livestockIds, LocalDate withdrawalDate, boolean markSick) {
+        return new LivestockBulkChangedEvent(List.copyOf(livestockIds), withdrawalDate,
+                markSick ? EnumSet.complementOf(EnumSet.of(LivestockStatus.PREGNANT, LivestockStatus.SICK)) : Set.of(),
+                markSick ? LivestockStatus.SICK : null);
+    }
+
+    // 상태 전환 (현재 상태가 from 인 개체만)
+    public static LivestockBulkChangedEvent statusChanged(List<Long> livestockIds, LivestockStatus from, LivestockStatus to) {
+        return new LivestockBulkChangedEvent(List.copyOf(livestockIds), null, EnumSet.of(from), to);
+    }
+
+    public LocalDate extendWithdrawal(LocalDate current) {
+        return withdrawalDate != null && (current == null || current.isBefore(withdrawalDate)) ? withdrawalDate : current;
+    }
+
+    public LivestockStatus changeStatus(LivestockStatus current) {
+        return status != null && fromStatuses.contains(current) ? status : current;
+    }
+}
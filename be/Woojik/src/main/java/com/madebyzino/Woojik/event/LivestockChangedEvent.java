@@ -0,0 +1,33 @@
+package com.madebyzino.Woojik.event;
+
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 개체 변경 (등록/수정/건강/번식/판매, 일괄 등록은 여러 개체를 한 번에).
+ * 발행 시점의 값을 복사해 두므로 쓰기 트랜잭션 안에서 변경을 마친 뒤 발행하고,
+ * 메모리 요약(대시보드)과 날짜 예약은 커밋 후(@TransactionalEventListener) 이 이벤트로만 갱신합니다.
+ */
+public record LivestockChangedEvent(List<Snapshot> livestocks) {
+
+    public static LivestockChangedEvent of(Livestock livestock) {
+        return new LivestockChangedEvent(List.of(Snapshot.of(livestock)));
+    }
+
+    // 일괄 등록: 저장(ID 발급) 후 발행
+    public static LivestockChangedEvent ofAll(List<Livestock> livestocks) {
+        return new LivestockChangedEvent(livestocks.stream().map(Snapshot::of).toList());
+    }
+
+    public record Snapshot(Long id, String earTag, String name, LivestockStatus status,
+                           LocalDate birthDate, LocalDate withdrawalDate, LocalDate expectedDate) {
+
+        static Snapshot of(Livestock livestock) {
+            return new Snapshot(livestock.getId(), livestock.getEarTag(), livestock.getName(), livestock.getStatus(),
+                    livestock.getBirthDate(), livestock.getWithdrawalDate(), livestock.getExpectedDate());
+        }
+    }
+}
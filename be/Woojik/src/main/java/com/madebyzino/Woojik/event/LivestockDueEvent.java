@@ -0,0 +1,9 @@
+package com.madebyzino.Woojik.event;
+
+import com.madebyzino.Woojik.entity.enums.LivestockDueType;
+
+import java.time.LocalDate;
+
+// 날짜 도래 알림 (휴약 종료, 분만 예정일)
+public record LivestockDueEvent(LivestockDueType type, LocalDate date, Long livestockId, Long penId) {
+}
@@ -0,0 +1,5 @@
+package com.madebyzino.Woojik.event;
+
+// 개체 방 이동 (fromPenId 는 미배정이었으면 null)
+public record LivestockMovedEvent(Long livestockId, Long fromPenId, Long toPenId) {
+}
@@ -0,0 +1,17 @@
+package com.madebyzino.Woojik.event;
+
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+
+/**
+ * 개체 상태 변경 (신규 개체는 previousStatus = null).
+ * 쓰기 트랜잭션 안에서 발행하고, 구독 쪽은 커밋 후(@TransactionalEventListener) 처리합니다.
+ */
+public record LivestockStatusChangedEvent(Long livestockId, Long penId,
+                                          LivestockStatus previousStatus, LivestockStatus status) {
+
+    public static LivestockStatusChangedEvent of(Livestock livestock, LivestockStatus previousStatus) {
+        Long penId = livestock.getPen() == null ? null : livestock.getPen().getId();
+        return new LivestockStatusChangedEvent(livestock.getId(), penId, previousStatus, livestock.getStatus());
+    }
+}
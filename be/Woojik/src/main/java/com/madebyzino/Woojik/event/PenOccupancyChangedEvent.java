@@ -0,0 +1,5 @@
+package com.madebyzino.Woojik.event;
+
+// 방 두수 카운터 증감 (PenOccupancyService 에서만 발행)
+public record PenOccupancyChangedEvent(Long penId, int delta) {
+}
@@ -0,0 +1,10 @@
+package com.madebyzino.Woojik.event;
+
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertType;
+
+import java.time.LocalDateTime;
+
+// 체온 이상 경보 발생
+public record TemperatureAlertRaisedEvent(Long alertId, Long livestockId, Long penId, TemperatureAlertType type,
+                                          Float temperature, LocalDateTime measuredAt) {
+}
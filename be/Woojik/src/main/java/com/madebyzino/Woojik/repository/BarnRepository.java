@@ -2,7 +2,13 @@ package com.madebyzino.Woojik.repository;
 
 import com.madebyzino.Woojik.entity.Barn;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface BarnRepository extends JpaRepository<Barn, Long> {
 
+    @Query("SELECT b.layoutVersion FROM Barn b WHERE b.id = :barnId")
+    Optional<Long> findLayoutVersionById(@Param("barnId") Long barnId);
 }
\ No newline at end of file
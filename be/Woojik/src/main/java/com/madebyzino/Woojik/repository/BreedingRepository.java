@@ -1,17 +1,58 @@
 package com.madebyzino.Woojik.repository;
 
+import com.madebyzino.Woojik.dto.breeding.BreedingKpiRow;
+import com.madebyzino.Woojik.dto.sire.SireEventRow;
 import com.madebyzino.Woojik.entity.Breeding;
 import com.madebyzino.Woojik.entity.Livestock;
 import com.madebyzino.Woojik.entity.enums.BreedingType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BreedingRepository extends JpaRepository<Breeding, Long> {
 
     List<Breeding> findByLivestock(Livestock livestock);
 
+    // 상세 조회용 (개체 엔티티 없이 FK 로 조회)
+    List<Breeding> findByLivestockIdOrderById(Long livestockId);
+
     // 특정 소의 가장 최근 인공수정 기록 찾기 (아빠 찾기용)
     Optional<Breeding> findTopByLivestockAndTypeOrderByEventDateDesc(Livestock livestock, BreedingType type);
-}
\ No newline at end of file
+
+    // 인공수정에 쓰인 적 있는 KPN 정액번호 (교배 후보)
+    @Query("SELECT DISTINCT b.sireCode FROM Breeding b WHERE b.type = :type AND b.sireCode IS NOT NULL")
+    List<String> findDistinctSireCodesByType(@Param("type") BreedingType type);
+
+    // 번식 KPI 전체 구성용 (개체 -> 날짜 순, 트랜잭션 안에서 소비, 커서로 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.madebyzino.Woojik.dto.breeding.BreedingKpiRow(l.id, l.status, b.type, b.eventDate, b.isPregnant) " +
+            "FROM Breeding b JOIN b.livestock l WHERE b.eventDate IS NOT NULL ORDER BY l.id, b.eventDate, b.id")
+    Stream<BreedingKpiRow> streamKpiRows();
+
+    // 번식 KPI 개체 단위 갱신용
+    @Query("SELECT new com.madebyzino.Woojik.dto.breeding.BreedingKpiRow(l.id, l.status, b.type, b.eventDate, b.isPregnant) " +
+            "FROM Breeding b JOIN b.livestock l WHERE l.id IN :ids AND b.eventDate IS NOT NULL ORDER BY l.id, b.eventDate, b.id")
+    List<BreedingKpiRow> findKpiRowsByLivestockIdIn(@Param("ids") Collection<Long> ids);
+
+    // 씨수소 성적 전체 구성용 (발정 제외, 개체 -> 날짜 순, 트랜잭션 안에서 소비)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.madebyzino.Woojik.dto.sire.SireEventRow(b.livestock.id, b.type, b.eventDate, b.sireCode, b.isPregnant) " +
+            "FROM Breeding b WHERE b.type <> com.madebyzino.Woojik.entity.enums.BreedingType.ESTRUS AND b.eventDate IS NOT NULL " +
+            "ORDER BY b.livestock.id, b.eventDate, b.id")
+    Stream<SireEventRow> streamSireEventRows();
+
+    // 씨수소 성적 개체 단위 갱신용
+    @Query("SELECT new com.madebyzino.Woojik.dto.sire.SireEventRow(b.livestock.id, b.type, b.eventDate, b.sireCode, b.isPregnant) " +
+            "FROM Breeding b WHERE b.livestock.id IN :ids " +
+            "AND b.type <> com.madebyzino.Woojik.entity.enums.BreedingType.ESTRUS AND b.eventDate IS NOT NULL " +
+            "ORDER BY b.livestock.id, b.eventDate, b.id")
+    List<SireEventRow> findSireEventRowsByLivestockIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,11 +1,28 @@
 package com.madebyzino.Woojik.repository;
 
+import com.madebyzino.Woojik.dto.healthy.ContactTraceSeed;
 import com.madebyzino.Woojik.entity.Health;
 import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.HealthType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface HealthRepository extends JpaRepository<Health, Long> {
     List<Health> findByLivestock(Livestock livestock);
+
+    // 상세 조회용 (개체 엔티티 없이 FK 로 조회)
+    List<Health> findByLivestockIdOrderById(Long livestockId);
+
+    // 접촉 추적 감염원: 기간 안에 해당 병명 기록이 있는 개체별 첫 기록일
+    @Query("SELECT h.livestock.id AS livestockId, MIN(h.eventDate) AS eventDate FROM Health h " +
+            "WHERE h.type = :type AND h.diseaseName = :diseaseName AND h.eventDate BETWEEN :from AND :to " +
+            "GROUP BY h.livestock.id")
+    List<ContactTraceSeed> findTraceSeeds(@Param("type") HealthType type,
+                                          @Param("diseaseName") String diseaseName,
+                                          @Param("from") LocalDate from,
+                                          @Param("to") LocalDate to);
 }
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.madebyzino.Woojik.repository;
+
+import com.madebyzino.Woojik.dto.journal.LivestockFieldValueRow;
+import com.madebyzino.Woojik.entity.LivestockEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface LivestockEventRepository extends JpaRepository<LivestockEvent, Long> {
+
+    // 개체 변경 이력 (최근 순)
+    List<LivestockEvent> findByLivestockIdOrderByOccurredAtDescIdDesc(Long livestockId, Pageable pageable);
+
+    // 이력 다시 구성용 (개체 -> 발생 순)
+    @Query("SELECT new com.madebyzino.Woojik.dto.journal.LivestockFieldValueRow(e.livestockId, e.field, e.newValue, e.occurredAt) " +
+            "FROM LivestockEvent e WHERE e.livestockId IN :ids ORDER BY e.livestockId, e.occurredAt, e.id")
+    List<LivestockFieldValueRow> findFieldValuesByLivestockIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -1,29 +1,137 @@
 package com.madebyzino.Woojik.repository;
 
+import com.madebyzino.Woojik.dto.dashboard.HerdEntry;
+import com.madebyzino.Woojik.dto.export.HerdExportRow;
+import com.madebyzino.Woojik.dto.journal.HealthJournalState;
+import com.madebyzino.Woojik.dto.pedigree.PedigreeRow;
+import com.madebyzino.Woojik.dto.livestock.LivestockResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockScheduleRow;
+import com.madebyzino.Woojik.dto.livestock.LivestockSearchResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockStatusCount;
+import com.madebyzino.Woojik.dto.livestock.LivestockVersion;
+import com.madebyzino.Woojik.dto.pen.LivestockPenId;
+import com.madebyzino.Woojik.dto.pen.PenCount;
+import com.madebyzino.Woojik.dto.sire.SireCalfRow;
 import com.madebyzino.Woojik.entity.Barn;
 import com.madebyzino.Woojik.entity.Livestock;
 import com.madebyzino.Woojik.entity.Sale;
+import com.madebyzino.Woojik.entity.enums.Gender;
 import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
 public interface LivestockRepository extends JpaRepository<Livestock, Long> {
+    // 이동 처리용: 같은 개체를 동시에 옮기는 요청이 서로 다른 방 카운터를 건드리지 않도록 개체 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Livestock l WHERE l.id = :id")
+    Optional<Livestock> findByIdForUpdate(@Param("id") Long id);
+
+    // 상세 조회용: 방/축사/부모를 한 번의 조인으로 함께 로딩
+    @EntityGraph(attributePaths = {"pen", "pen.barn", "mother", "father"})
+    @Query("SELECT l FROM Livestock l WHERE l.id = :id")
+    Optional<Livestock> findDetailById(@Param("id") Long id);
+
+    // 상세 조회 조건부 GET 용: 개체/이력/방/축사의 최종 수정 시각과 이력 건수만 한 번에 조회
+    @Query("SELECT l.updatedAt AS livestockUpdatedAt, " +
+            "p.updatedAt AS penUpdatedAt, b.updatedAt AS barnUpdatedAt, " +
+            "(SELECT MAX(h.updatedAt) FROM Health h WHERE h.livestock.id = l.id) AS healthUpdatedAt, " +
+            "(SELECT COUNT(h) FROM Health h WHERE h.livestock.id = l.id) AS healthCount, " +
+            "(SELECT MAX(br.updatedAt) FROM Breeding br WHERE br.livestock.id = l.id) AS breedingUpdatedAt, " +
+            "(SELECT COUNT(br) FROM Breeding br WHERE br.livestock.id = l.id) AS breedingCount, " +
+            "(SELECT MAX(s.updatedAt) FROM Sale s WHERE s.livestock.id = l.id) AS saleUpdatedAt " +
+            "FROM Livestock l LEFT JOIN l.pen p LEFT JOIN p.barn b WHERE l.id = :id")
+    Optional<LivestockVersion> findVersionById(@Param("id") Long id);
+
     // 귀표번호 중복 검사
     boolean existsByEarTag(String earTag);
 
-    // 검색: 귀표번호 뒷자리로 찾기
+    // 일괄 등록용: 이미 등록된 귀표번호만 골라서 조회
+    @Query("SELECT l.earTag FROM Livestock l WHERE l.earTag IN :earTags")
+    Set<String> findEarTagsIn(@Param("earTags") Collection<String> earTags);
+
+    // 검색: 귀표번호 뒷자리로 찾기 (LIKE '%1234' 라 인덱스를 타지 못함 -> LivestockSearchService 사용)
     List<Livestock> findByEarTagEndingWith(String earTagBackNumber);
 
+    // 빠른 검색 인덱스 구성용
+    @Query("SELECT new com.madebyzino.Woojik.dto.livestock.LivestockSearchResponse(l.id, l.earTag, l.name) " +
+            "FROM Livestock l WHERE l.status <> :excluded")
+    List<LivestockSearchResponse> findSearchEntriesByStatusNot(@Param("excluded") LivestockStatus excluded);
+
+    // 방 거주 이력 응답용 귀표번호/별명
+    @Query("SELECT new com.madebyzino.Woojik.dto.livestock.LivestockSearchResponse(l.id, l.earTag, l.name) " +
+            "FROM Livestock l WHERE l.id IN :ids")
+    List<LivestockSearchResponse> findSearchEntriesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 대시보드 요약 구성용
+    @Query("SELECT new com.madebyzino.Woojik.dto.dashboard.HerdEntry(l.id, l.earTag, l.name, l.status, l.withdrawalDate, l.expectedDate) " +
+            "FROM Livestock l WHERE l.status <> :excluded")
+    List<HerdEntry> findHerdEntriesByStatusNot(@Param("excluded") LivestockStatus excluded);
+
+    long countByStatus(LivestockStatus status);
+
+    // 족보 그래프 구성용 (메모는 씨수소 번호가 따로 저장되기 전의 송아지만)
+    @Query("SELECT l.id AS id, l.earTag AS earTag, l.mother.id AS motherId, l.father.id AS fatherId, " +
+            "l.sireCode AS sireCode, " +
+            "CASE WHEN l.sireCode IS NULL AND l.father IS NULL AND l.mother IS NOT NULL THEN l.notes END AS notes " +
+            "FROM Livestock l")
+    List<PedigreeRow> findPedigreeRows();
+
+    // 이력 다시 구성 대상 (ID 순)
+    @Query("SELECT l.id FROM Livestock l ORDER BY l.id")
+    List<Long> findAllIds();
+
+    // 씨수소 성적 자손 집계용 (KPN 정액 자손 후보 + 판매 정보, 트랜잭션 안에서 소비)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.madebyzino.Woojik.dto.sire.SireCalfRow(l.id, l.sireCode, " +
+            "CASE WHEN l.sireCode IS NULL THEN l.notes END, l.gender, s.price, s.weight) " +
+            "FROM Livestock l LEFT JOIN Sale s ON s.livestock = l " +
+            "WHERE l.father IS NULL AND (l.sireCode IS NOT NULL OR l.mother IS NOT NULL)")
+    Stream<SireCalfRow> streamSireCalfRows();
+
+    // 내보내기용 사육 현황 (트랜잭션 안에서 소비, 커서로 fetch size 만큼씩 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.madebyzino.Woojik.dto.export.HerdExportRow(l.id, l.earTag, l.name, l.breed, l.gender, l.birthDate, " +
+            "l.status, b.name, p.name, l.breedingCount, l.expectedDate, l.withdrawalDate, l.lastDiseaseName, " +
+            "l.lastTreatmentDate, l.notes) " +
+            "FROM Livestock l LEFT JOIN l.pen p LEFT JOIN p.barn b WHERE l.status <> :excluded ORDER BY l.id")
+    Stream<HerdExportRow> streamHerdExportRows(@Param("excluded") LivestockStatus excluded);
+
     @Query("SELECT s FROM Sale s JOIN FETCH s.livestock l WHERE l.status = :status")
     List<Sale> findByLivestockStatusWithFetchJoin(LivestockStatus status);
     // 특정 방의 소 마리 수 조회
     long countByPenId(Long penId);
 
+    // 개체별 현재 방 ID만 조회 (방 미배정 개체는 penId = null)
+    @Query("SELECT l.id AS livestockId, p.id AS penId FROM Livestock l LEFT JOIN l.pen p WHERE l.id IN :ids")
+    List<LivestockPenId> findPenIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 방별 두수 집계 (판매 개체 제외, 한 번의 GROUP BY)
+    @Query("SELECT l.pen.id AS penId, COUNT(l) AS count FROM Livestock l " +
+            "WHERE l.pen IS NOT NULL AND l.status <> :excluded GROUP BY l.pen.id")
+    List<PenCount> countGroupByPen(@Param("excluded") LivestockStatus excluded);
+
+    @Query("SELECT l.pen.id AS penId, COUNT(l) AS count FROM Livestock l " +
+            "WHERE l.pen.id IN :penIds AND l.status <> :excluded GROUP BY l.pen.id")
+    List<PenCount> countGroupByPenIn(@Param("penIds") Collection<Long> penIds,
+                                     @Param("excluded") LivestockStatus excluded);
+
     // 특정 방에 있는 소들 조회
     @Query("SELECT l FROM Livestock l WHERE l.pen.id = :penId")
     List<Livestock> findByPenId(@Param("penId") Long penId);
@@ -32,4 +140,113 @@ public interface LivestockRepository extends JpaRepository<Livestock, Long> {
     Set<Long> findPenIdsWithLivestockIn(@Param("penIds") Collection<Long> penIds);
 
     List<Livestock> findByStatusNot(LivestockStatus status);
+
+    // 일괄 건강 기록 대상 ID (판매 개체 제외)
+    @Query("SELECT l.id FROM Livestock l WHERE l.pen.id = :penId AND l.status <> :excluded")
+    List<Long> findIdsByPenIdAndStatusNot(@Param("penId") Long penId, @Param("excluded") LivestockStatus excluded);
+
+    @Query("SELECT l.id FROM Livestock l WHERE l.pen.barn.id = :barnId AND l.status <> :excluded")
+    List<Long> findIdsByBarnIdAndStatusNot(@Param("barnId") Long barnId, @Param("excluded") LivestockStatus excluded);
+
+    @Query("SELECT l.id FROM Livestock l WHERE l.id IN :ids AND l.status <> :excluded")
+    List<Long> findIdsByIdInAndStatusNot(@Param("ids") Collection<Long> ids, @Param("excluded") LivestockStatus excluded);
+
+    // 일괄 건강 기록 전 이력용 이전 값
+    @Query("SELECT l.id AS id, p.id AS penId, l.status AS status, l.withdrawalDate AS withdrawalDate, " +
+            "l.lastDiseaseName AS lastDiseaseName, l.lastTreatmentDate AS lastTreatmentDate " +
+            "FROM Livestock l LEFT JOIN l.pen p WHERE l.id IN :ids")
+    List<HealthJournalState> findHealthJournalStates(@Param("ids") Collection<Long> ids);
+
+    // 일괄 건강 기록: 최근 병명/치료일 갱신
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Livestock l SET l.lastDiseaseName = :diseaseName, l.lastTreatmentDate = :date, l.updatedAt = :now " +
+            "WHERE l.id IN :ids")
+    int updateHealthInfo(@Param("ids") Collection<Long> ids,
+                         @Param("diseaseName") String diseaseName,
+                         @Param("date") LocalDate date,
+                         @Param("now") LocalDateTime now);
+
+    // 일괄 건강 기록: 휴약 만료일은 더 늦은 날짜로만 연장 (단건 등록과 같은 규칙)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Livestock l SET l.withdrawalDate = :withdrawalDate, l.updatedAt = :now " +
+            "WHERE l.id IN :ids AND (l.withdrawalDate IS NULL OR l.withdrawalDate < :withdrawalDate)")
+    int extendWithdrawalDate(@Param("ids") Collection<Long> ids,
+                             @Param("withdrawalDate") LocalDate withdrawalDate,
+                             @Param("now") LocalDateTime now);
+
+    // 일괄 치료: 임신우를 제외하고 SICK 전환
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Livestock l SET l.status = com.madebyzino.Woojik.entity.enums.LivestockStatus.SICK, l.updatedAt = :now " +
+            "WHERE l.id IN :ids AND l.status <> com.madebyzino.Woojik.entity.enums.LivestockStatus.PREGNANT " +
+            "AND l.status <> com.madebyzino.Woojik.entity.enums.LivestockStatus.SICK")
+    int markSick(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    // 날짜 예약 구성용: 송아지(이유 예정) + 앞으로 휴약 종료/분만 예정이 있는 개체
+    @Query("SELECT l.id AS id, l.status AS status, l.birthDate AS birthDate, " +
+            "l.withdrawalDate AS withdrawalDate, l.expectedDate AS expectedDate FROM Livestock l " +
+            "WHERE l.status <> com.madebyzino.Woojik.entity.enums.LivestockStatus.SOLD " +
+            "AND ((l.status = com.madebyzino.Woojik.entity.enums.LivestockStatus.CALF AND l.birthDate IS NOT NULL) " +
+            "OR l.withdrawalDate > :today OR l.expectedDate > :today)")
+    List<LivestockScheduleRow> findScheduleRows(@Param("today") LocalDate today);
+
+    // 예약 실행 시 재확인: 예약 이후 날짜/상태가 바뀐 개체는 제외
+    @Query("SELECT l.id AS livestockId, p.id AS penId FROM Livestock l LEFT JOIN l.pen p " +
+            "WHERE l.id IN :ids AND l.status = :status AND l.birthDate <= :bornOnOrBefore")
+    List<LivestockPenId> findWeaningTargets(@Param("ids") Collection<Long> ids,
+                                            @Param("status") LivestockStatus status,
+                                            @Param("bornOnOrBefore") LocalDate bornOnOrBefore);
+
+    @Query("SELECT l.id AS livestockId, p.id AS penId FROM Livestock l LEFT JOIN l.pen p " +
+            "WHERE l.id IN :ids AND l.withdrawalDate = :date " +
+            "AND l.status <> com.madebyzino.Woojik.entity.enums.LivestockStatus.SOLD")
+    List<LivestockPenId> findWithdrawalEndingOn(@Param("ids") Collection<Long> ids, @Param("date") LocalDate date);
+
+    @Query("SELECT l.id AS livestockId, p.id AS penId FROM Livestock l LEFT JOIN l.pen p " +
+            "WHERE l.id IN :ids AND l.expectedDate = :date " +
+            "AND l.status = com.madebyzino.Woojik.entity.enums.LivestockStatus.PREGNANT")
+    List<LivestockPenId> findCalvingDueOn(@Param("ids") Collection<Long> ids, @Param("date") LocalDate date);
+
+    // 예약 상태 전환 (현재 상태가 from 인 개체만)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Livestock l SET l.status = :to, l.updatedAt = :now WHERE l.id IN :ids AND l.status = :from")
+    int changeStatus(@Param("ids") Collection<Long> ids,
+                     @Param("from") LivestockStatus from,
+                     @Param("to") LivestockStatus to,
+                     @Param("now") LocalDateTime now);
+
+    // 판매 제외 목록 (축사/방 이름까지 한 번의 조인으로 DTO 프로젝션)
+    @Query("SELECT new com.madebyzino.Woojik.dto.livestock.LivestockResponse(" +
+            "l.id, l.earTag, l.name, l.gender, l.status, l.birthDate, p.name, b.name) " +
+            "FROM Livestock l LEFT JOIN l.pen p LEFT JOIN p.barn b " +
+            "WHERE l.status <> :excluded " +
+            "ORDER BY l.id")
+    List<LivestockResponse> findResponsesByStatusNot(@Param("excluded") LivestockStatus excluded);
+
+    // 커서(마지막 ID) 기반 페이지 조회. status 가 null 이면 판매(SOLD) 개체는 제외
+    @Query("SELECT new com.madebyzino.Woojik.dto.livestock.LivestockResponse(" +
+            "l.id, l.earTag, l.name, l.gender, l.status, l.birthDate, p.name, b.name) " +
+            "FROM Livestock l LEFT JOIN l.pen p LEFT JOIN p.barn b " +
+            "WHERE ((:status IS NULL AND l.status <> com.madebyzino.Woojik.entity.enums.LivestockStatus.SOLD) OR l.status = :status) " +
+            "AND (:gender IS NULL OR l.gender = :gender) " +
+            "AND (:penId IS NULL OR p.id = :penId) " +
+            "AND (:barnId IS NULL OR b.id = :barnId) " +
+            "AND (:cursor IS NULL OR l.id > :cursor) " +
+            "ORDER BY l.id")
+    List<LivestockResponse> findPageAfter(@Param("status") LivestockStatus status,
+                                          @Param("gender") Gender gender,
+                                          @Param("penId") Long penId,
+                                          @Param("barnId") Long barnId,
+                                          @Param("cursor") Long cursor,
+                                          Limit limit);
+
+    // 필터 칩용 상태별 두수 (상태 필터를 제외한 나머지 조건 적용)
+    @Query("SELECT l.status AS status, COUNT(l) AS count " +
+            "FROM Livestock l LEFT JOIN l.pen p " +
+            "WHERE (:gender IS NULL OR l.gender = :gender) " +
+            "AND (:penId IS NULL OR p.id = :penId) " +
+            "AND (:barnId IS NULL OR p.barn.id = :barnId) " +
+            "GROUP BY l.status")
+    List<LivestockStatusCount> countGroupByStatus(@Param("gender") Gender gender,
+                                                  @Param("penId") Long penId,
+                                                  @Param("barnId") Long barnId);
 }
\ No newline at end of file
@@ -2,10 +2,15 @@ package com.madebyzino.Woojik.repository;
 
 import com.madebyzino.Woojik.entity.Barn;
 import com.madebyzino.Woojik.entity.PenLayout;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface PenLayoutRepository extends JpaRepository<PenLayout, Long> {
+    // 축사별 배치 목록 (쿼리 캐시)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<PenLayout> findByBarnId(Long barnId);
 }
\ No newline at end of file
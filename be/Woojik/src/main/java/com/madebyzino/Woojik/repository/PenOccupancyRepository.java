@@ -0,0 +1,54 @@
+package com.madebyzino.Woojik.repository;
+
+import com.madebyzino.Woojik.entity.PenOccupancy;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PenOccupancyRepository extends JpaRepository<PenOccupancy, Long> {
+
+    List<PenOccupancy> findByPenIdIn(Collection<Long> penIds);
+
+    // 카운터가 없을 때만 생성 (이미 있으면 그대로 둠). 동시에 처음 만드는 트랜잭션끼리 중복 키 오류 없이 한 행으로 합쳐짐
+    // 네이티브 쓰기는 대상 테이블을 알려주지 않으면 2차 캐시 전체를 비우므로 pen_occupancies 만 지정
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "pen_occupancies"))
+    @Query(value = "INSERT INTO pen_occupancies (pen_id, livestock_count, revision) VALUES (:penId, :count, 0) " +
+            "ON DUPLICATE KEY UPDATE pen_id = pen_id", nativeQuery = true)
+    void insertIfAbsent(@Param("penId") Long penId, @Param("count") int count);
+
+    // 두수 증감 (행 단위 원자적 갱신)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PenOccupancy o SET o.livestockCount = o.livestockCount + :delta, o.revision = o.revision + 1 " +
+            "WHERE o.penId = :penId")
+    int addCount(@Param("penId") Long penId, @Param("delta") int delta);
+
+    // 수용 두수 예약: 정원 미만일 때만 +1 (0 이면 정원 초과 또는 카운터 없음)
+    // 해당 방 행에만 잠금이 걸리므로 서로 다른 방으로의 이동은 서로 기다리지 않습니다.
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PenOccupancy o SET o.livestockCount = o.livestockCount + 1, o.revision = o.revision + 1 " +
+            "WHERE o.penId = :penId AND o.livestockCount < :capacity")
+    int reserve(@Param("penId") Long penId, @Param("capacity") int capacity);
+
+    // 일괄 등록용 예약: 정원 안에 count 자리가 모두 남아 있을 때만 한 번에 +count
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PenOccupancy o SET o.livestockCount = o.livestockCount + :count, o.revision = o.revision + 1 " +
+            "WHERE o.penId = :penId AND o.livestockCount + :count <= :capacity")
+    int reserveBy(@Param("penId") Long penId, @Param("count") int count, @Param("capacity") int capacity);
+
+    // 현재 두수 (영속성 컨텍스트를 거치지 않는 스칼라 조회, 카운터가 없으면 null)
+    @Query("SELECT o.livestockCount FROM PenOccupancy o WHERE o.penId = :penId")
+    Integer findCountByPenId(@Param("penId") Long penId);
+
+    // 축사 지도 조건부 GET 용: 축사에 속한 방 카운터들의 변경 횟수 합 (두수가 바뀔 때마다 증가)
+    @Query("SELECT COALESCE(SUM(o.revision), 0) FROM PenOccupancy o " +
+            "WHERE o.penId IN (SELECT p.id FROM Pen p WHERE p.barn.id = :barnId)")
+    long sumRevisionByBarnId(@Param("barnId") Long barnId);
+}
@@ -2,13 +2,22 @@ package com.madebyzino.Woojik.repository;
 
 import com.madebyzino.Woojik.entity.Barn;
 import com.madebyzino.Woojik.entity.Pen;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface PenRepository extends JpaRepository<Pen, Long> {
     Optional<Pen> findByName(String name);
+    List<Pen> findByNameIn(Collection<String> names);
     List<Pen> findByBarn(Barn barn);
+    List<Pen> findByNameContaining(String keyword);
+
+    // 축사별 방 목록 (쿼리 캐시: 결과 ID 목록만 저장, 엔티티는 2차 캐시에서 조립)
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Pen> findByBarnId(Long barnId);
 }
\ No newline at end of file
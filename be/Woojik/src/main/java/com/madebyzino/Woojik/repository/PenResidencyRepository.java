@@ -0,0 +1,36 @@
+package com.madebyzino.Woojik.repository;
+
+import com.madebyzino.Woojik.dto.pen.PenResidencyRow;
+import com.madebyzino.Woojik.entity.PenResidency;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface PenResidencyRepository extends JpaRepository<PenResidency, Long> {
+
+    // 거주 구간 인덱스 구성용 (개체 -> 시작 시각 순)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.madebyzino.Woojik.dto.pen.PenResidencyRow(r.livestockId, r.penId, r.startedAt, r.endedAt) " +
+            "FROM PenResidency r ORDER BY r.livestockId, r.startedAt, r.id")
+    Stream<PenResidencyRow> streamRows();
+
+    // 이동/판매: 개체의 열린 구간 닫기
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE PenResidency r SET r.endedAt = :at WHERE r.livestockId = :livestockId AND r.endedAt IS NULL")
+    int closeOpen(@Param("livestockId") Long livestockId, @Param("at") LocalDateTime at);
+
+    // 기록 도입 전 개체 보충: 방에 있는데 (판매 제외) 열린 구간이 없는 개체, 등록 시각부터 머문 것으로 봄
+    @Query("SELECT new com.madebyzino.Woojik.dto.pen.PenResidencyRow(l.id, p.id, l.createdAt) " +
+            "FROM Livestock l JOIN l.pen p " +
+            "WHERE l.status <> com.madebyzino.Woojik.entity.enums.LivestockStatus.SOLD " +
+            "AND NOT EXISTS (SELECT r.id FROM PenResidency r WHERE r.livestockId = l.id AND r.endedAt IS NULL)")
+    List<PenResidencyRow> findMissingOpenRows();
+}
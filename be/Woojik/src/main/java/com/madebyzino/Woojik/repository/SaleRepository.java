@@ -1,17 +1,31 @@
 package com.madebyzino.Woojik.repository;
 
+import com.madebyzino.Woojik.dto.export.SaleExportRow;
 import com.madebyzino.Woojik.entity.Livestock;
 import com.madebyzino.Woojik.entity.Sale;
 import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface SaleRepository extends JpaRepository<Sale, Long> {
     Optional<Sale> findByLivestock(Livestock livestock);
 
+    Optional<Sale> findByLivestockId(Long livestockId);
+
     @Query("SELECT s FROM Sale s JOIN FETCH s.livestock l WHERE l.status = :status")
     List<Sale> findByLivestockStatusWithFetchJoin(LivestockStatus status);
-}
\ No newline at end of file
+
+    // 내보내기용 전체 판매 내역 (트랜잭션 안에서 소비, 커서로 fetch size 만큼씩 읽음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.madebyzino.Woojik.dto.export.SaleExportRow(s.id, s.saleDate, l.earTag, l.name, l.breed, l.gender, " +
+            "s.grade, s.weight, s.price, s.customerName, s.notes) " +
+            "FROM Sale s JOIN s.livestock l ORDER BY s.saleDate, s.id")
+    Stream<SaleExportRow> streamExportRows();
+}
@@ -0,0 +1,51 @@
+package com.madebyzino.Woojik.repository;
+
+import com.madebyzino.Woojik.dto.sale.SaleDailySum;
+import com.madebyzino.Woojik.dto.sale.SaleGroupSum;
+import com.madebyzino.Woojik.entity.SaleRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface SaleRollupRepository extends JpaRepository<SaleRollup, Long> {
+
+    boolean existsBySaleDateAndGradeAndCustomerName(LocalDate saleDate, String grade, String customerName);
+
+    // 판매 한 건 누적 (0 이면 해당 일/등급/거래처 행 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE SaleRollup r SET r.saleCount = r.saleCount + 1, " +
+            "r.totalPrice = r.totalPrice + :price, r.pricedCount = r.pricedCount + :priced, " +
+            "r.totalWeight = r.totalWeight + :weight, " +
+            "r.weighedPrice = r.weighedPrice + :weighedPrice, r.weighedWeight = r.weighedWeight + :weighedWeight " +
+            "WHERE r.saleDate = :saleDate AND r.grade = :grade AND r.customerName = :customerName")
+    int add(@Param("saleDate") LocalDate saleDate,
+            @Param("grade") String grade,
+            @Param("customerName") String customerName,
+            @Param("price") long price,
+            @Param("priced") long priced,
+            @Param("weight") double weight,
+            @Param("weighedPrice") long weighedPrice,
+            @Param("weighedWeight") double weighedWeight);
+
+    @Query("SELECT r.saleDate AS saleDate, SUM(r.saleCount) AS saleCount, SUM(r.totalPrice) AS totalPrice, " +
+            "SUM(r.pricedCount) AS pricedCount, SUM(r.totalWeight) AS totalWeight, " +
+            "SUM(r.weighedPrice) AS weighedPrice, SUM(r.weighedWeight) AS weighedWeight " +
+            "FROM SaleRollup r WHERE r.saleDate BETWEEN :from AND :to GROUP BY r.saleDate ORDER BY r.saleDate")
+    List<SaleDailySum> sumByDate(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT r.grade AS groupKey, SUM(r.saleCount) AS saleCount, SUM(r.totalPrice) AS totalPrice, " +
+            "SUM(r.pricedCount) AS pricedCount, SUM(r.totalWeight) AS totalWeight, " +
+            "SUM(r.weighedPrice) AS weighedPrice, SUM(r.weighedWeight) AS weighedWeight " +
+            "FROM SaleRollup r WHERE r.saleDate BETWEEN :from AND :to GROUP BY r.grade HAVING SUM(r.saleCount) > 0")
+    List<SaleGroupSum> sumByGrade(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT r.customerName AS groupKey, SUM(r.saleCount) AS saleCount, SUM(r.totalPrice) AS totalPrice, " +
+            "SUM(r.pricedCount) AS pricedCount, SUM(r.totalWeight) AS totalWeight, " +
+            "SUM(r.weighedPrice) AS weighedPrice, SUM(r.weighedWeight) AS weighedWeight " +
+            "FROM SaleRollup r WHERE r.saleDate BETWEEN :from AND :to GROUP BY r.customerName HAVING SUM(r.saleCount) > 0")
+    List<SaleGroupSum> sumByCustomer(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
@@ -0,0 +1,29 @@
+package com.madebyzino.Woojik.repository;
+
+import com.madebyzino.Woojik.entity.TemperatureAlert;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TemperatureAlertRepository extends JpaRepository<TemperatureAlert, Long> {
+
+    // 경보 목록 (최근순, 개체 정보 함께 조회)
+    @Query("select a from TemperatureAlert a join fetch a.livestock l " +
+            "where a.measuredAt >= :from " +
+            "and (:status is null or a.status = :status) " +
+            "and (:livestockId is null or l.id = :livestockId) " +
+            "order by a.measuredAt desc, a.id desc")
+    List<TemperatureAlert> findRecent(@Param("from") LocalDateTime from,
+                                      @Param("status") TemperatureAlertStatus status,
+                                      @Param("livestockId") Long livestockId,
+                                      Pageable pageable);
+
+    // 경보 저장 전 중복 확인용: 개체들의 처리 대기(OPEN) 경보
+    List<TemperatureAlert> findByStatusAndLivestockIdIn(TemperatureAlertStatus status, Collection<Long> livestockIds);
+}
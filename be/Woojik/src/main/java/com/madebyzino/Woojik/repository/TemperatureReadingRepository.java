@@ -0,0 +1,12 @@
+package com.madebyzino.Woojik.repository;
+
+import com.madebyzino.Woojik.entity.TemperatureReading;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface TemperatureReadingRepository extends JpaRepository<TemperatureReading, Long> {
+
+    List<TemperatureReading> findByLivestockIdAndMeasuredAtBetweenOrderByMeasuredAt(Long livestockId, LocalDateTime from, LocalDateTime to);
+}
@@ -0,0 +1,142 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.barn.BarnEnvironmentIngestResponse;
+import com.madebyzino.Woojik.dto.barn.BarnEnvironmentRequest;
+import com.madebyzino.Woojik.dto.barn.BarnEnvironmentResponse;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.service.timeseries.Resolution;
+import com.madebyzino.Woojik.service.timeseries.SeriesPoints;
+import com.madebyzino.Woojik.service.timeseries.TimeSeriesStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 축사 온도/습도 기록 및 그래프 조회 (저장은 내장 시계열 저장소, DB 미사용).
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class BarnEnvironmentService {
+
+    private static final int MAX_BATCH_READINGS = 10_000;
+    private static final float MIN_TEMPERATURE = -40f;
+    private static final float MAX_TEMPERATURE = 60f;
+    private static final long DEFAULT_RANGE_SECONDS = 24 * 60 * 60;
+
+    private final BarnRepository barnRepository;
+    private final TimeSeriesStore timeSeriesStore;
+
+    // 측정값 기록 (온도/습도 중 하나만 있어도 저장, 범위 밖 값은 빈 값 처리)
+    public BarnEnvironmentIngestResponse record(Long barnId, BarnEnvironmentRequest request) {
+        verifyBarn(barnId);
+        List<BarnEnvironmentRequest.Reading> readings = request.getReadings();
+        if (readings == null || readings.isEmpty() || readings.size() > MAX_BATCH_READINGS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        long now = Instant.now().getEpochSecond();
+        List<Sample> samples = new ArrayList<>(readings.size());
+        for (BarnEnvironmentRequest.Reading reading : readings) {
+            float temperature = valueOrNaN(reading.getTemperature(), MIN_TEMPERATURE, MAX_TEMPERATURE);
+            float humidity = valueOrNaN(reading.getHumidity(), 0f, 100f);
+            if (Float.isNaN(temperature) && Float.isNaN(humidity)) {
+                continue;
+            }
+            long time = reading.getMeasuredAt() == null ? now : reading.getMeasuredAt().atZone(zone).toEpochSecond();
+            samples.add(new Sample(time, temperature, humidity));
+        }
+        samples.sort(Comparator.comparingLong(Sample::time));
+
+        int size = samples.size();
+        long[] times = new long[size];
+        float[] temperatures = new float[size];
+        float[] humidities = new float[size];
+        for (int i = 0; i < size; i++) {
+            Sample sample = samples.get(i);
+            times[i] = sample.time();
+            temperatures[i] = sample.temperature();
+            humidities[i] = sample.humidity();
+        }
+
+        int accepted;
+        try {
+            accepted = timeSeriesStore.append(barnId, times, temperatures, humidities, size);
+        } catch (UncheckedIOException e) {
+            log.error("축사 {} 환경 데이터 저장 실패", barnId, e);
+            throw new CustomException(ErrorCode.ENVIRONMENT_STORAGE_FAILED);
+        }
+        return new BarnEnvironmentIngestResponse(accepted, readings.size() - accepted);
+    }
+
+    // 그래프 조회 (기본: 최근 24시간, 10분 단위)
+    public BarnEnvironmentResponse getEnvironment(Long barnId, LocalDateTime from, LocalDateTime to, Resolution resolution) {
+        verifyBarn(barnId);
+        ZoneId zone = ZoneId.systemDefault();
+        Resolution unit = resolution == null ? Resolution.TEN_MINUTES : resolution;
+        long end = to == null ? Instant.now().getEpochSecond() : to.atZone(zone).toEpochSecond();
+        long start = from == null ? end - DEFAULT_RANGE_SECONDS : from.atZone(zone).toEpochSecond();
+        if (start > end) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        SeriesPoints points;
+        try {
+            points = timeSeriesStore.query(barnId, unit, start, end);
+        } catch (UncheckedIOException e) {
+            log.error("축사 {} 환경 데이터 조회 실패", barnId, e);
+            throw new CustomException(ErrorCode.ENVIRONMENT_STORAGE_FAILED);
+        }
+
+        List<BarnEnvironmentResponse.Point> result = new ArrayList<>(points.size());
+        for (int i = 0; i < points.size(); i++) {
+            LocalDateTime time = LocalDateTime.ofInstant(Instant.ofEpochSecond(points.time(i)), zone);
+            if (unit == Resolution.RAW) {
+                result.add(new BarnEnvironmentResponse.Point(time,
+                        boxed(points.value(0, i)), null, null,
+                        boxed(points.value(1, i)), null, null));
+            } else {
+                result.add(new BarnEnvironmentResponse.Point(time,
+                        boxed(points.value(0, i)), boxed(points.value(1, i)), boxed(points.value(2, i)),
+                        boxed(points.value(3, i)), boxed(points.value(4, i)), boxed(points.value(5, i))));
+            }
+        }
+
+        return BarnEnvironmentResponse.builder()
+                .barnId(barnId)
+                .resolution(unit)
+                .points(result)
+                .build();
+    }
+
+    private void verifyBarn(Long barnId) {
+        // 축사는 2차 캐시 대상이라 DB 를 거의 타지 않음
+        if (barnRepository.findById(barnId).isEmpty()) {
+            throw new CustomException(ErrorCode.BARN_NOT_FOUND);
+        }
+    }
+
+    private static float valueOrNaN(Float value, float min, float max) {
+        return value != null && value >= min && value <= max ? value : Float.NaN;
+    }
+
+    private static Float boxed(float value) {
+        return Float.isNaN(value) ? null : value;
+    }
+
+    private record Sample(long time, float temperature, float humidity) {
+    }
+}
@@ -2,7 +2,6 @@ package com.madebyzino.Woojik.service;
 
 import com.madebyzino.Woojik.dto.barn.BarnResponse;
 import com.madebyzino.Woojik.dto.pen.PenResponse;
-import com.madebyzino.Woojik.entity.Barn;
 import com.madebyzino.Woojik.entity.Pen;
 import com.madebyzino.Woojik.error.CustomException;
 import com.madebyzino.Woojik.error.ErrorCode;
@@ -33,10 +32,13 @@ public class BarnService {
 
      // 특정 축사 ID에 소속된 방 목록 조회
     public List<PenResponse> getPensByBarn(Long barnId) {
-        Barn barn = barnRepository.findById(barnId)
-                .orElseThrow(() -> new CustomException(ErrorCode.BARN_NOT_FOUND));
+        // 축사 존재 확인 (findById 는 2차 캐시를 거침)
+        if (barnRepository.findById(barnId).isEmpty()) {
+            throw new CustomException(ErrorCode.BARN_NOT_FOUND);
+        }
 
-        List<Pen> pens = penRepository.findByBarn(barn);
+        // 2차 캐시/쿼리 캐시 대상 (축사별 방 목록)
+        List<Pen> pens = penRepository.findByBarnId(barnId);
 
         return pens.stream()
                 .map(PenResponse::new)
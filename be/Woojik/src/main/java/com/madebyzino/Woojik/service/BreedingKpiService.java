@@ -0,0 +1,188 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.common.TransactionHooks;
+import com.madebyzino.Woojik.dto.breeding.BreedingKpiResponse;
+import com.madebyzino.Woojik.dto.breeding.BreedingKpiRow;
+import com.madebyzino.Woojik.dto.breeding.HerdBreedingKpiResponse;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.BreedingRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.service.kpi.CowBreedingKpi;
+import com.madebyzino.Woojik.service.kpi.HerdBreedingKpiTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * 번식 KPI (분만 간격, 공태일, 수태당 수정 횟수, 수태율).
+ * 기동 시 번식 이력 전체를 개체 -> 날짜 순으로 한 번 스트리밍하며 개체 단위로 묶고,
+ * BATCH_COWS 마리씩 공용 ForkJoinPool 에서 병렬로 계산한 뒤 개체별 KPI 와 농장 합계를 메모리에 둡니다.
+ * 번식 기록이 생기면 해당 개체 이력만 다시 읽어 계산하고(같은 트랜잭션), 커밋 후 이전 값을 빼고 새 값을 더합니다.
+ * 조회는 농장 합계 / 개체 한 건만 읽으므로 개체 수, 이력 기간과 무관합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BreedingKpiService {
+
+    private static final int BATCH_COWS = 2_000;
+    private static final int IN_CHUNK_SIZE = 1_000;
+
+    private final BreedingRepository breedingRepository;
+    private final LivestockRepository livestockRepository;
+
+    // 아래 상태는 this 로 동기화
+    private final Map<Long, CowBreedingKpi> cows = new HashMap<>();
+    private HerdBreedingKpiTotals totals = new HerdBreedingKpiTotals();
+
+    // 기동 시 전체 구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        long started = System.nanoTime();
+        List<CompletableFuture<List<CowBreedingKpi>>> batches = new ArrayList<>();
+
+        try (Stream<BreedingKpiRow> rows = breedingRepository.streamKpiRows()) {
+            List<List<BreedingKpiRow>> batch = new ArrayList<>(BATCH_COWS);
+            List<BreedingKpiRow> events = null;
+            for (Iterator<BreedingKpiRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+                BreedingKpiRow row = iterator.next();
+                if (events == null || !events.get(0).getLivestockId().equals(row.getLivestockId())) {
+                    if (batch.size() == BATCH_COWS) {
+                        batches.add(submit(batch));
+                        batch = new ArrayList<>(BATCH_COWS);
+                    }
+                    events = new ArrayList<>();
+                    batch.add(events);
+                }
+                events.add(row);
+            }
+            if (!batch.isEmpty()) {
+                batches.add(submit(batch));
+            }
+        }
+
+        Map<Long, CowBreedingKpi> built = new HashMap<>();
+        HerdBreedingKpiTotals builtTotals = new HerdBreedingKpiTotals();
+        for (CompletableFuture<List<CowBreedingKpi>> future : batches) {
+            for (CowBreedingKpi kpi : future.join()) {
+                built.put(kpi.livestockId(), kpi);
+                builtTotals.add(kpi);
+            }
+        }
+
+        synchronized (this) {
+            cows.clear();
+            cows.putAll(built);
+            totals = builtTotals;
+        }
+        log.info("번식 KPI 구성 완료: {}두 ({}ms)", built.size(), (System.nanoTime() - started) / 1_000_000);
+        return built.size();
+    }
+
+    public HerdBreedingKpiResponse getHerdKpi() {
+        synchronized (this) {
+            return totals.toResponse(LocalDate.now());
+        }
+    }
+
+    public BreedingKpiResponse getCowKpi(Long livestockId) {
+        CowBreedingKpi kpi;
+        synchronized (this) {
+            kpi = cows.get(livestockId);
+        }
+        if (kpi == null) {
+            if (!livestockRepository.existsById(livestockId)) {
+                throw new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND);
+            }
+            kpi = CowBreedingKpi.of(livestockId, List.of());
+        }
+
+        return BreedingKpiResponse.builder()
+                .livestockId(livestockId)
+                .calvings(kpi.calvings())
+                .lastCalvingDate(kpi.lastCalvingDate())
+                .averageCalvingInterval(HerdBreedingKpiTotals.average(kpi.calvingIntervalSum(), kpi.calvingIntervalCount()))
+                .averageDaysOpen(HerdBreedingKpiTotals.average(kpi.daysOpenSum(), kpi.daysOpenCount()))
+                .currentDaysOpen(kpi.open() && kpi.active()
+                        ? (int) ChronoUnit.DAYS.between(kpi.lastCalvingDate(), LocalDate.now()) : null)
+                .services(kpi.services())
+                .conceptions(kpi.conceptions())
+                .servicesPerConception(HerdBreedingKpiTotals.average(kpi.servicesToConception(), kpi.conceptions()))
+                .conceptionRate(HerdBreedingKpiTotals.average(kpi.conceptions(), kpi.services()))
+                .build();
+    }
+
+    public void track(Long livestockId) {
+        trackAll(List.of(livestockId));
+    }
+
+    // 번식/판매 기록 반영: 쓰기 트랜잭션 안에서 이력을 다시 읽어(자동 flush) 계산하고 커밋 후 교체
+    public void trackAll(Collection<Long> livestockIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(livestockIds));
+        Map<Long, CowBreedingKpi> updated = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            compute(group(breedingRepository.findKpiRowsByLivestockIdIn(chunk)))
+                    .forEach(kpi -> updated.put(kpi.livestockId(), kpi));
+        }
+
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                for (Long id : ids) {
+                    CowBreedingKpi previous = cows.remove(id);
+                    if (previous != null) {
+                        totals.subtract(previous);
+                    }
+                    CowBreedingKpi kpi = updated.get(id);
+                    if (kpi != null) {
+                        cows.put(id, kpi);
+                        totals.add(kpi);
+                    }
+                }
+            }
+        });
+    }
+
+    private static CompletableFuture<List<CowBreedingKpi>> submit(List<List<BreedingKpiRow>> batch) {
+        return CompletableFuture.supplyAsync(() -> compute(batch));
+    }
+
+    private static List<CowBreedingKpi> compute(List<List<BreedingKpiRow>> batch) {
+        List<CowBreedingKpi> result = new ArrayList<>(batch.size());
+        for (List<BreedingKpiRow> events : batch) {
+            result.add(CowBreedingKpi.of(events.get(0).getLivestockId(), events));
+        }
+        return result;
+    }
+
+    // 개체 순으로 정렬된 이력을 개체 단위로 묶음
+    private static List<List<BreedingKpiRow>> group(List<BreedingKpiRow> rows) {
+        List<List<BreedingKpiRow>> grouped = new ArrayList<>();
+        List<BreedingKpiRow> events = null;
+        for (BreedingKpiRow row : rows) {
+            if (events == null || !events.get(0).getLivestockId().equals(row.getLivestockId())) {
+                events = new ArrayList<>();
+                grouped.add(events);
+            }
+            events.add(row);
+        }
+        return grouped;
+    }
+}
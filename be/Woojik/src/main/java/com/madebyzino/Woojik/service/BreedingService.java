@@ -1,6 +1,8 @@
 package com.madebyzino.Woojik.service;
 
 import com.madebyzino.Woojik.dto.breeding.BreedingAiRequest;
+import com.madebyzino.Woojik.dto.breeding.BulkBreedingRequest;
+import com.madebyzino.Woojik.dto.breeding.BulkBreedingResponse;
 import com.madebyzino.Woojik.dto.breeding.CalvingRequest;
 import com.madebyzino.Woojik.dto.breeding.EstrusRequest;
 import com.madebyzino.Woojik.dto.breeding.PregnancyCheckRequest;
@@ -10,12 +12,25 @@ import com.madebyzino.Woojik.entity.enums.BreedingType;
 import com.madebyzino.Woojik.entity.enums.LivestockStatus;
 import com.madebyzino.Woojik.error.CustomException;
 import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.LivestockChangedEvent;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
 import com.madebyzino.Woojik.repository.BreedingRepository;
 import com.madebyzino.Woojik.repository.LivestockRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,22 +38,18 @@ public class BreedingService {
 
     private final BreedingRepository breedingRepository;
     private final LivestockRepository livestockRepository;
+    private final LivestockSearchService livestockSearchService;
+    private final PenOccupancyService penOccupancyService;
+    private final PedigreeService pedigreeService;
+    private final BreedingKpiService breedingKpiService;
+    private final SireAnalyticsService sireAnalyticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public void registerEstrus(Long livestockId, EstrusRequest request) {
-        Livestock cow = livestockRepository.findById(livestockId)
-                .orElseThrow(() -> new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND));
-
-        Breeding estrus = Breeding.builder()
-                .livestock(cow)
-                .type(BreedingType.ESTRUS)
-                .eventDate(request.getDate())
-                .notes(request.getNotes())
-                .build();
+        Livestock cow = findActiveCow(livestockId);
 
-        breedingRepository.save(estrus);
-
-        cow.setLastEstrusDate(request.getDate());
+        breedingRepository.save(recordEstrus(cow, request.getDate(), request.getNotes()));
     }
 
     //  (날짜 자동 계산)
@@ -49,41 +60,141 @@ public class BreedingService {
      */
     @Transactional
     public Long registerAi(Long livestockId, BreedingAiRequest request) {
-        Livestock cow = livestockRepository.findById(livestockId)
-                .orElseThrow(() -> new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND));
-
-        Breeding breeding = Breeding.builder()
-                .livestock(cow)
-                .type(BreedingType.AI)
-                .eventDate(request.getDate())
-                .sireCode(request.getSireCode())
-                .expectedDate(request.getDate().plusDays(285))
-                .notes(request.getNotes())
-                .build();
-
-        cow.setLastAiDate(request.getDate());
+        Livestock cow = findActiveCow(livestockId);
 
-        return breedingRepository.save(breeding).getId();
+        Breeding breeding = breedingRepository.save(recordAi(cow, request.getDate(), request.getSireCode(), request.getNotes()));
+        breedingKpiService.track(livestockId);
+        sireAnalyticsService.track(livestockId);
+        return breeding.getId();
     }
 
     @Transactional
     public void registerPregnancyCheck(Long livestockId, PregnancyCheckRequest request) {
         // 1. 소 조회
+        Livestock cow = findActiveCow(livestockId);
+
+        // 2. 이력 기록 저장 + 상태 변경
+        breedingRepository.save(recordPregnancyCheck(cow, request.getDate(), request.isPregnant(), request.getNotes()));
+        breedingKpiService.track(livestockId);
+        sireAnalyticsService.track(livestockId);
+    }
+
+    /**
+     * 번식 이벤트 일괄 등록 (동기화 수정 프로그램, 수의사 임신감정일)
+     * 대상 개체는 한 번의 IN 조회로 읽고, 이력은 saveAll 로 배치 INSERT,
+     * 상태/예정일 변경은 단건 등록과 같은 record* 메서드를 거쳐 더티 체킹으로 한 트랜잭션에서 반영합니다.
+     * 없는 개체/판매 개체/결과 누락 등은 해당 개체만 실패로 응답합니다.
+     */
+    @Transactional
+    public BulkBreedingResponse registerBulk(BulkBreedingRequest request) {
+        BreedingType type = request.getType();
+        if (type == null || type == BreedingType.CALVING || request.getDate() == null || request.getItems() == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Set<Long> ids = request.getItems().stream()
+                .map(BulkBreedingRequest.Item::getLivestockId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, Livestock> cows = livestockRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Livestock::getId, Function.identity()));
+
+        List<BulkBreedingResponse.Result> results = new ArrayList<>(request.getItems().size());
+        List<Breeding> breedings = new ArrayList<>(request.getItems().size());
+        List<BulkBreedingResponse.Result> saved = new ArrayList<>(request.getItems().size());
+        Set<Long> seen = new HashSet<>();
+
+        for (BulkBreedingRequest.Item item : request.getItems()) {
+            Long id = item.getLivestockId();
+            Livestock cow = id == null ? null : cows.get(id);
+
+            String error = null;
+            if (cow == null) {
+                error = ErrorCode.LIVESTOCK_NOT_FOUND.getMessage();
+            } else if (!seen.add(id)) {
+                error = "같은 개체가 요청에 중복되었습니다.";
+            } else if (isSold(cow)) {
+                error = ErrorCode.ALREADY_SOLD_LIVESTOCK.getMessage();
+            } else if (type == BreedingType.PREG_CHECK && item.getPregnant() == null) {
+                error = "임신감정 결과가 없습니다.";
+            }
+            if (error != null) {
+                results.add(new BulkBreedingResponse.Result(id, false, null, error));
+                continue;
+            }
+
+            breedings.add(switch (type) {
+                case ESTRUS -> recordEstrus(cow, request.getDate(), item.getNotes());
+                case AI -> recordAi(cow, request.getDate(), item.getSireCode(), item.getNotes());
+                default -> recordPregnancyCheck(cow, request.getDate(), item.getPregnant(), item.getNotes());
+            });
+            BulkBreedingResponse.Result result = new BulkBreedingResponse.Result(id, true, null, null);
+            results.add(result);
+            saved.add(result);
+        }
+
+        breedingRepository.saveAll(breedings);
+        for (int i = 0; i < breedings.size(); i++) {
+            saved.get(i).setBreedingId(breedings.get(i).getId());
+        }
+        // 발정은 KPI/씨수소 성적에 쓰이지 않음
+        if (type != BreedingType.ESTRUS) {
+            List<Long> savedIds = saved.stream().map(BulkBreedingResponse.Result::getLivestockId).toList();
+            breedingKpiService.trackAll(savedIds);
+            sireAnalyticsService.trackAll(savedIds);
+        }
+
+        return BulkBreedingResponse.builder()
+                .successCount(saved.size())
+                .failedCount(results.size() - saved.size())
+                .results(results)
+                .build();
+    }
+
+    // 단건 번식 기록 대상 조회 (판매된 개체는 일괄 등록과 같이 거절)
+    private Livestock findActiveCow(Long livestockId) {
         Livestock cow = livestockRepository.findById(livestockId)
                 .orElseThrow(() -> new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND));
+        if (isSold(cow)) {
+            throw new CustomException(ErrorCode.ALREADY_SOLD_LIVESTOCK);
+        }
+        return cow;
+    }
 
-        // 2. 이력 기록 저장
-        Breeding pregCheck = Breeding.builder()
+    private static boolean isSold(Livestock cow) {
+        return cow.getStatus() == LivestockStatus.SOLD;
+    }
+
+    // 발정: 이력 생성 + 마지막 발정일 갱신
+    private Breeding recordEstrus(Livestock cow, LocalDate date, String notes) {
+        cow.setLastEstrusDate(date);
+
+        return Breeding.builder()
                 .livestock(cow)
-                .type(BreedingType.PREG_CHECK)
-                .eventDate(request.getDate())
-                .isPregnant(request.isPregnant())
-                .notes(request.getNotes())
+                .type(BreedingType.ESTRUS)
+                .eventDate(date)
+                .notes(notes)
                 .build();
+    }
+
+    // 인공수정: 분만 예정일 = 수정일 + 285일
+    private Breeding recordAi(Livestock cow, LocalDate date, String sireCode, String notes) {
+        cow.setLastAiDate(date);
 
-        breedingRepository.save(pregCheck);
+        return Breeding.builder()
+                .livestock(cow)
+                .type(BreedingType.AI)
+                .eventDate(date)
+                .sireCode(sireCode)
+                .expectedDate(date.plusDays(285))
+                .notes(notes)
+                .build();
+    }
 
-        if (request.isPregnant()) {
+    // 임신감정: 결과에 따라 상태/분만 예정일 변경
+    private Breeding recordPregnancyCheck(Livestock cow, LocalDate date, boolean pregnant, String notes) {
+        LivestockStatus previousStatus = cow.getStatus();
+        if (pregnant) {
             cow.changeStatus(LivestockStatus.PREGNANT);
 
             if (cow.getLastAiDate() != null) {
@@ -94,6 +205,16 @@ public class BreedingService {
             // [추가] 임신 꽝이면 예정일 삭제
             cow.setExpectedDate(null);
         }
+        publishStatusChange(cow, previousStatus);
+        eventPublisher.publishEvent(LivestockChangedEvent.of(cow));
+
+        return Breeding.builder()
+                .livestock(cow)
+                .type(BreedingType.PREG_CHECK)
+                .eventDate(date)
+                .isPregnant(pregnant)
+                .notes(notes)
+                .build();
     }
 
     // 분만 처리
@@ -105,9 +226,10 @@ public class BreedingService {
 
         // 2. 아빠 정보 추적 (엄마의 마지막 AI 기록에서 KPN 가져오기)
         // 실제 아빠 개체(Livestock)가 있는 게 아니라 '정액번호(String)'로 관리
-        String fatherKpn = breedingRepository.findTopByLivestockAndTypeOrderByEventDateDesc(mother, BreedingType.AI)
+        String sireCode = breedingRepository.findTopByLivestockAndTypeOrderByEventDateDesc(mother, BreedingType.AI)
                 .map(Breeding::getSireCode)
-                .orElse("Unknown"); // 기록 없으면 미상
+                .orElse(null);
+        String fatherKpn = sireCode != null ? sireCode : "Unknown"; // 기록 없으면 미상
 
         // 3. 송아지 생성 (엄마 스펙 상속)
         Livestock calf = Livestock.builder()
@@ -119,17 +241,27 @@ public class BreedingService {
                 .status(LivestockStatus.CALF)
                 .pen(mother.getPen())
                 .mother(mother)
+                .sireCode(sireCode)
                 .notes("부(父): " + fatherKpn)
                 .build();
 
+        penOccupancyService.increment(calf.getPen());
         livestockRepository.save(calf);
+        livestockSearchService.index(calf);
+        pedigreeService.invalidate();
+        sireAnalyticsService.recordCalf(calf);
+        eventPublisher.publishEvent(LivestockChangedEvent.of(calf));
+        eventPublisher.publishEvent(LivestockStatusChangedEvent.of(calf, null));
 
         // 4. 엄마 소 상태 변경 (출산했으니 다시 비육/포유 상태로)
+        LivestockStatus previousStatus = mother.getStatus();
         mother.changeStatus(LivestockStatus.FATTENING);
+        publishStatusChange(mother, previousStatus);
         mother.setExpectedDate(null);
 
         int currentCount = mother.getBreedingCount() == null ? 0 : mother.getBreedingCount();
         mother.setBreedingCount(currentCount + 1);
+        eventPublisher.publishEvent(LivestockChangedEvent.of(mother));
 
         // 5. 분만 이력 저장
         Breeding calvingLog = Breeding.builder()
@@ -139,6 +271,13 @@ public class BreedingService {
                 .build();
 
         breedingRepository.save(calvingLog);
+        breedingKpiService.track(livestockId);
+        sireAnalyticsService.track(livestockId);
     }
 
-}
\ No newline at end of file
+    private void publishStatusChange(Livestock cow, LivestockStatus previousStatus) {
+        if (cow.getStatus() != previousStatus) {
+            eventPublisher.publishEvent(LivestockStatusChangedEvent.of(cow, previousStatus));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.admin.CacheStatsResponse;
+import com.madebyzino.Woojik.dto.admin.CacheStatsResponse.RegionStats;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 2차 캐시 적중률 조회 (Hibernate Statistics 기반, 기동 이후 누적값)
+ * 통계 집계는 기본으로 꺼져 있으며 (hibernate.generate_statistics), 꺼져 있으면 statisticsEnabled = false 로 알립니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CacheStatsService {
+
+    private static final String QUERY_RESULTS_REGION = "default-query-results-region";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public CacheStatsResponse getStats() {
+        Statistics statistics = statistics();
+
+        List<RegionStats> entityRegions = Arrays.stream(statistics.getSecondLevelCacheRegionNames())
+                .filter(region -> !region.startsWith("default-"))
+                .sorted()
+                .map(region -> toRegionStats(region, statistics.getDomainDataRegionStatistics(region)))
+                .toList();
+
+        return CacheStatsResponse.builder()
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .entityRegions(entityRegions)
+                .queryCache(toRegionStats(QUERY_RESULTS_REGION,
+                        statistics.getQueryCacheHitCount(),
+                        statistics.getQueryCacheMissCount(),
+                        statistics.getQueryCachePutCount()))
+                .build();
+    }
+
+    public void reset() {
+        statistics().clear();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static RegionStats toRegionStats(String region, CacheRegionStatistics stats) {
+        return toRegionStats(region, stats.getHitCount(), stats.getMissCount(), stats.getPutCount());
+    }
+
+    private static RegionStats toRegionStats(String region, long hit, long miss, long put) {
+        double hitRatio = hit + miss == 0 ? 0 : (double) hit / (hit + miss);
+        return new RegionStats(region, hit, miss, put, hitRatio);
+    }
+}
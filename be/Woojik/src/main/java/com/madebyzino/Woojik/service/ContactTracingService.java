@@ -0,0 +1,229 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.healthy.ContactExposureResponse;
+import com.madebyzino.Woojik.dto.healthy.ContactIsolationResponse;
+import com.madebyzino.Woojik.dto.healthy.ContactTraceRequest;
+import com.madebyzino.Woojik.dto.healthy.ContactTraceResponse;
+import com.madebyzino.Woojik.dto.healthy.ContactTraceSeed;
+import com.madebyzino.Woojik.dto.livestock.LivestockSearchResponse;
+import com.madebyzino.Woojik.dto.pen.LivestockPenId;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.HealthRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.service.tracing.ContactTracer;
+import com.madebyzino.Woojik.service.tracing.Exposure;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 전염병 접촉 추적.
+ * 기간 안에 해당 병명으로 치료(TREAT) 기록이 있는 개체를 감염원으로, 치료일 - 잠복기부터 전파 가능하다고 보고
+ * 방 거주 이력(PenResidencyService 스냅샷) 위에서 ContactTracer 로 노출 개체를 단계별로 찾습니다. (DB 는 감염원/귀표번호 조회만)
+ * isolate() 는 같은 결과를 가까운 단계부터 격리 방 정원 안에서 옮깁니다. 이동은 개체마다 LivestockService.movePen 트랜잭션을 따로 씁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ContactTracingService {
+
+    private static final int DEFAULT_INCUBATION_DAYS = 14;
+    private static final int DEFAULT_MAX_DEPTH = 3;
+    private static final int MAX_DEPTH = 10;
+    private static final int IN_CHUNK_SIZE = 1_000;
+    private static final String ISOLATION_PEN_KEYWORD = "격리";
+
+    private final HealthRepository healthRepository;
+    private final LivestockRepository livestockRepository;
+    private final PenRepository penRepository;
+    private final PenResidencyService penResidencyService;
+    private final PenOccupancyService penOccupancyService;
+    private final LivestockService livestockService;
+
+    public ContactTraceResponse trace(ContactTraceRequest request) {
+        long started = System.nanoTime();
+        if (request.getDiseaseName() == null || request.getDiseaseName().isBlank()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        int incubationDays = request.getIncubationDays() == null ? DEFAULT_INCUBATION_DAYS : request.getIncubationDays();
+        int maxDepth = request.getMaxDepth() == null ? DEFAULT_MAX_DEPTH : Math.min(request.getMaxDepth(), MAX_DEPTH);
+        LocalDate to = request.getTo() == null ? LocalDate.now() : request.getTo();
+        LocalDate from = request.getFrom() == null ? to.minusDays(incubationDays) : request.getFrom();
+        LocalDateTime until = request.getUntil() == null ? LocalDateTime.now() : request.getUntil();
+        if (incubationDays < 0 || maxDepth < 1 || from.isAfter(to)) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 감염원 -> 전파 가능 시작 시각
+        Map<Long, LocalDateTime> seeds = new LinkedHashMap<>();
+        for (ContactTraceSeed seed : healthRepository.findTraceSeeds(HealthType.TREAT, request.getDiseaseName(), from, to)) {
+            seeds.put(seed.getLivestockId(), seed.getEventDate().minusDays(incubationDays).atStartOfDay());
+        }
+
+        List<Exposure> exposures = new ContactTracer(penResidencyService.snapshot(), until).trace(seeds, maxDepth);
+        Map<Long, LivestockSearchResponse> livestocks = findSearchEntries(exposures.stream().map(Exposure::livestockId).toList());
+
+        List<ContactExposureResponse> responses = new ArrayList<>(exposures.size());
+        for (Exposure exposure : exposures) {
+            LivestockSearchResponse livestock = livestocks.get(exposure.livestockId());
+            responses.add(new ContactExposureResponse(exposure.livestockId(),
+                    livestock == null ? null : livestock.getEarTag(),
+                    livestock == null ? null : livestock.getName(),
+                    exposure.depth(), exposure.exposedAt(), exposure.sourceLivestockId(), exposure.penId(),
+                    exposure.exposureMillis() / 60_000));
+        }
+
+        int exposedCount = exposures.size() - seeds.size();
+        log.info("접촉 추적 ({}): 감염원 {}두, 노출 {}두, {}단계 ({}ms)", request.getDiseaseName(), seeds.size(), exposedCount,
+                maxDepth, (System.nanoTime() - started) / 1_000_000);
+        return ContactTraceResponse.builder()
+                .diseaseName(request.getDiseaseName())
+                .windowFrom(seeds.values().stream().min(LocalDateTime::compareTo).orElse(null))
+                .windowTo(until)
+                .seedCount(seeds.size())
+                .exposedCount(exposedCount)
+                .exposures(responses)
+                .build();
+    }
+
+    // 접촉 추적 결과를 격리 방으로 이동 (가까운 단계 -> 이른 노출 순, 정원이 남은 방부터 채움)
+    public ContactIsolationResponse isolate(ContactTraceRequest request) {
+        List<Pen> isolationPens = findIsolationPens(request.getIsolationPenIds());
+        Set<Long> isolationPenIds = new HashSet<>();
+        isolationPens.forEach(pen -> isolationPenIds.add(pen.getId()));
+
+        boolean includeSeeds = Boolean.TRUE.equals(request.getIncludeSeeds());
+        List<Long> candidates = trace(request).getExposures().stream()
+                .filter(exposure -> includeSeeds || exposure.getDepth() > 0)
+                .map(ContactExposureResponse::getLivestockId)
+                .toList();
+        Map<Long, Long> currentPens = findUnsoldPenIds(candidates);
+
+        // 방별 남은 자리 (정원 미지정이면 제한 없음)
+        Map<Long, Integer> counts = penOccupancyService.getCounts(isolationPenIds);
+        Map<Long, Integer> freeSlots = new LinkedHashMap<>();
+        for (Pen pen : isolationPens) {
+            freeSlots.put(pen.getId(), pen.getCapacity() == null
+                    ? Integer.MAX_VALUE
+                    : Math.max(0, pen.getCapacity() - counts.getOrDefault(pen.getId(), 0)));
+        }
+
+        List<ContactIsolationResponse.Move> moved = new ArrayList<>();
+        List<Long> alreadyIsolatedIds = new ArrayList<>();
+        List<Long> unplacedIds = new ArrayList<>();
+        int targetCount = 0;
+        for (Long livestockId : candidates) {
+            if (!currentPens.containsKey(livestockId)) {
+                continue;   // 판매 개체
+            }
+            targetCount++;
+            Long fromPenId = currentPens.get(livestockId);
+            if (fromPenId != null && isolationPenIds.contains(fromPenId)) {
+                alreadyIsolatedIds.add(livestockId);
+                continue;
+            }
+
+            Long toPenId = moveToFreePen(livestockId, freeSlots);
+            if (toPenId == null) {
+                unplacedIds.add(livestockId);
+            } else {
+                moved.add(new ContactIsolationResponse.Move(livestockId, fromPenId, toPenId));
+            }
+        }
+
+        log.info("접촉 개체 격리: 대상 {}두 중 이동 {}두, 이미 격리 {}두, 자리 부족 {}두",
+                targetCount, moved.size(), alreadyIsolatedIds.size(), unplacedIds.size());
+        return ContactIsolationResponse.builder()
+                .targetCount(targetCount)
+                .moved(moved)
+                .alreadyIsolatedIds(alreadyIsolatedIds)
+                .unplacedIds(unplacedIds)
+                .build();
+    }
+
+    // 남은 자리가 있는 첫 방으로 이동. 그사이 다른 요청이 자리를 채웠으면(PEN_CAPACITY_EXCEEDED) 그 방을 빼고 다음 방 시도
+    private Long moveToFreePen(Long livestockId, Map<Long, Integer> freeSlots) {
+        for (Map.Entry<Long, Integer> slot : freeSlots.entrySet()) {
+            if (slot.getValue() <= 0) {
+                continue;
+            }
+            try {
+                livestockService.movePen(livestockId, slot.getKey());
+                if (slot.getValue() != Integer.MAX_VALUE) {
+                    slot.setValue(slot.getValue() - 1);
+                }
+                return slot.getKey();
+            } catch (CustomException e) {
+                if (e.getErrorCode() != ErrorCode.PEN_CAPACITY_EXCEEDED) {
+                    log.warn("접촉 개체 격리 이동 실패: livestockId={}, {}", livestockId, e.getErrorCode());
+                    return null;
+                }
+                slot.setValue(0);
+            }
+        }
+        return null;
+    }
+
+    private List<Pen> findIsolationPens(List<Long> penIds) {
+        if (penIds == null || penIds.isEmpty()) {
+            List<Pen> pens = penRepository.findByNameContaining(ISOLATION_PEN_KEYWORD);
+            if (pens.isEmpty()) {
+                throw new CustomException(ErrorCode.ISOLATION_PEN_NOT_FOUND);
+            }
+            return pens;
+        }
+
+        Map<Long, Pen> found = new HashMap<>();
+        penRepository.findAllById(penIds).forEach(pen -> found.put(pen.getId(), pen));
+        List<Pen> pens = new ArrayList<>(penIds.size());
+        for (Long penId : new LinkedHashSet<>(penIds)) {
+            Pen pen = found.get(penId);
+            if (pen == null) {
+                throw new CustomException(ErrorCode.PEN_NOT_FOUND);
+            }
+            pens.add(pen);
+        }
+        return pens;
+    }
+
+    // 판매되지 않은 개체의 현재 방 (방 미배정이면 값 null)
+    private Map<Long, Long> findUnsoldPenIds(List<Long> ids) {
+        Map<Long, Long> penIds = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            Set<Long> unsold = new HashSet<>(livestockRepository.findIdsByIdInAndStatusNot(chunk, LivestockStatus.SOLD));
+            if (unsold.isEmpty()) {
+                continue;
+            }
+            for (LivestockPenId row : livestockRepository.findPenIdsByIdIn(unsold)) {
+                penIds.put(row.getLivestockId(), row.getPenId());
+            }
+        }
+        return penIds;
+    }
+
+    private Map<Long, LivestockSearchResponse> findSearchEntries(List<Long> ids) {
+        Map<Long, LivestockSearchResponse> entries = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            livestockRepository.findSearchEntriesByIdIn(chunk).forEach(entry -> entries.put(entry.getId(), entry));
+        }
+        return entries;
+    }
+}
@@ -0,0 +1,169 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.dashboard.DashboardSummaryResponse;
+import com.madebyzino.Woojik.dto.dashboard.HerdEntry;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.event.LivestockBulkChangedEvent;
+import com.madebyzino.Woojik.event.LivestockChangedEvent;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+
+/**
+ * 대시보드 요약 (상태별 두수, 휴약기간 중인 개체, 분만 임박 개체).
+ * 판매되지 않은 개체의 요약을 메모리에 두고 상태별 카운터와 날짜순 색인을 함께 유지합니다.
+ * 쓰기 경로가 발행하는 개체 변경 이벤트(LivestockChangedEvent / LivestockBulkChangedEvent)로 커밋 이후에 갱신하므로 조회는 두수와 무관하게 카운터 + 목록 상위 몇 건만 읽습니다.
+ * 기동 시 DB 에서 한 번 구성하고, 어긋났을 때는 rebuild() 로 다시 구성합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardService {
+
+    private static final int DEFAULT_CALVING_DAYS = 30;
+    private static final int MAX_CALVING_DAYS = 365;
+    private static final int DEFAULT_LIST_LIMIT = 20;
+    private static final int MAX_LIST_LIMIT = 200;
+
+    // 같은 날짜끼리는 ID 순
+    private static final Comparator<HerdEntry> BY_WITHDRAWAL =
+            Comparator.comparing(HerdEntry::getWithdrawalDate).thenComparing(HerdEntry::getId);
+    private static final Comparator<HerdEntry> BY_EXPECTED =
+            Comparator.comparing(HerdEntry::getExpectedDate).thenComparing(HerdEntry::getId);
+
+    private final LivestockRepository livestockRepository;
+
+    // 아래 상태는 모두 this 로 동기화
+    private final Map<Long, HerdEntry> entries = new HashMap<>();
+    private final long[] statusCounts = new long[LivestockStatus.values().length];
+    private final NavigableSet<HerdEntry> withdrawal = new TreeSet<>(BY_WITHDRAWAL);
+    private final NavigableSet<HerdEntry> calving = new TreeSet<>(BY_EXPECTED);
+
+    // 기동 시 전체 구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        List<HerdEntry> rows = livestockRepository.findHerdEntriesByStatusNot(LivestockStatus.SOLD);
+        long soldCount = livestockRepository.countByStatus(LivestockStatus.SOLD);
+
+        synchronized (this) {
+            entries.clear();
+            withdrawal.clear();
+            calving.clear();
+            Arrays.fill(statusCounts, 0);
+            rows.forEach(this::put);
+            statusCounts[LivestockStatus.SOLD.ordinal()] = soldCount;
+        }
+
+        log.info("대시보드 요약 구성 완료: {}두 (판매 {}두)", rows.size(), soldCount);
+        return rows.size();
+    }
+
+    public DashboardSummaryResponse getSummary(Integer calvingDays, Integer listLimit) {
+        int days = calvingDays == null ? DEFAULT_CALVING_DAYS : Math.max(0, Math.min(calvingDays, MAX_CALVING_DAYS));
+        int limit = listLimit == null ? DEFAULT_LIST_LIMIT : Math.max(0, Math.min(listLimit, MAX_LIST_LIMIT));
+        LocalDate today = LocalDate.now();
+
+        synchronized (this) {
+            // 휴약 만료일이 지난 개체는 색인에서 제거 (날짜는 앞으로만 가므로 한 번 빠지면 끝)
+            withdrawal.headSet(probe(today, null), true).clear();
+            NavigableSet<HerdEntry> due = calving.headSet(probe(null, today.plusDays(days)), true);
+
+            Map<LivestockStatus, Long> counts = new EnumMap<>(LivestockStatus.class);
+            for (LivestockStatus status : LivestockStatus.values()) {
+                counts.put(status, statusCounts[status.ordinal()]);
+            }
+
+            return DashboardSummaryResponse.builder()
+                    .baseDate(today)
+                    .totalCount(entries.size())
+                    .statusCounts(counts)
+                    .withdrawalCount(withdrawal.size())
+                    .withdrawal(first(withdrawal, limit))
+                    .calvingDays(days)
+                    .calvingDueCount(due.size())
+                    .calvingDue(first(due, limit))
+                    .build();
+        }
+    }
+
+    // 개체 변경 반영 (커밋 후, 판매된 개체는 목록에서 빠지고 판매 두수에만 집계)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onChanged(LivestockChangedEvent event) {
+        for (LivestockChangedEvent.Snapshot livestock : event.livestocks()) {
+            put(new HerdEntry(livestock.id(), livestock.earTag(), livestock.name(), livestock.status(),
+                    livestock.withdrawalDate(), livestock.expectedDate()));
+        }
+    }
+
+    // 집합 UPDATE 반영 (커밋 후): 휴약 연장/상태 전환을 같은 규칙으로 메모리에도 적용
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBulkChanged(LivestockBulkChangedEvent event) {
+        for (Long id : event.livestockIds()) {
+            HerdEntry current = entries.get(id);
+            if (current == null) {
+                continue;
+            }
+            put(new HerdEntry(current.getId(), current.getEarTag(), current.getName(),
+                    event.changeStatus(current.getStatus()), event.extendWithdrawal(current.getWithdrawalDate()),
+                    current.getExpectedDate()));
+        }
+    }
+
+    private void put(HerdEntry entry) {
+        boolean sold = entry.getStatus() == LivestockStatus.SOLD;
+        HerdEntry previous = sold ? entries.remove(entry.getId()) : entries.put(entry.getId(), entry);
+        if (previous != null) {
+            statusCounts[previous.getStatus().ordinal()]--;
+            if (previous.getWithdrawalDate() != null) {
+                withdrawal.remove(previous);
+            }
+            if (previous.getExpectedDate() != null) {
+                calving.remove(previous);
+            }
+        }
+
+        statusCounts[entry.getStatus().ordinal()]++;
+        if (sold) {
+            return;
+        }
+        if (entry.getWithdrawalDate() != null && entry.getWithdrawalDate().isAfter(LocalDate.now())) {
+            withdrawal.add(entry);
+        }
+        if (entry.getExpectedDate() != null && entry.getStatus() == LivestockStatus.PREGNANT) {
+            calving.add(entry);
+        }
+    }
+
+    private static List<HerdEntry> first(NavigableSet<HerdEntry> set, int limit) {
+        List<HerdEntry> result = new ArrayList<>(Math.min(limit, set.size()));
+        for (HerdEntry entry : set) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(entry);
+        }
+        return result;
+    }
+
+    // 범위 검색용 경계 항목 (같은 날짜의 모든 개체보다 뒤)
+    private static HerdEntry probe(LocalDate withdrawalDate, LocalDate expectedDate) {
+        return new HerdEntry(Long.MAX_VALUE, null, null, null, withdrawalDate, expectedDate);
+    }
+}
@@ -0,0 +1,91 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.entity.enums.ExportFormat;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.SaleRepository;
+import com.madebyzino.Woojik.service.export.RowWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 판매 내역 / 사육 현황 파일 내보내기 (CSV, XLSX).
+ * DB 커서로 한 행씩 읽어 바로 응답 스트림에 쓰므로 행 수와 무관하게 메모리 사용량이 일정합니다.
+ * 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 쓰이므로 조회 트랜잭션도 그 안에서 직접 엽니다.
+ * 쓰는 도중 오류가 나면 이미 응답이 나간 뒤라 오류 응답 대신 연결이 끊깁니다. (잘린 파일)
+ */
+@Slf4j
+@Service
+public class ExportService {
+
+    private static final String[] SALE_HEADER = {
+            "판매ID", "판매일", "귀표번호", "별명", "품종", "성별", "등급", "중량(kg)", "판매가", "거래처", "비고"};
+    private static final String[] HERD_HEADER = {
+            "개체ID", "귀표번호", "별명", "품종", "성별", "생년월일", "상태", "축사", "방", "산차",
+            "분만예정일", "휴약만료일", "최근병명", "최근치료일", "특이사항"};
+
+    private final SaleRepository saleRepository;
+    private final LivestockRepository livestockRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportService(SaleRepository saleRepository,
+                         LivestockRepository livestockRepository,
+                         PlatformTransactionManager transactionManager) {
+        this.saleRepository = saleRepository;
+        this.livestockRepository = livestockRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    // 전체 판매 내역 (판매일 순)
+    public StreamingResponseBody exportSales(ExportFormat format) {
+        return out -> write(out, format, "판매내역", SALE_HEADER, saleRepository::streamExportRows,
+                row -> new Object[]{row.getSaleId(), row.getSaleDate(), row.getEarTag(), row.getLivestockName(),
+                        row.getBreed(), row.getGender(), row.getGrade(), row.getWeight(), row.getPrice(),
+                        row.getCustomerName(), row.getNotes()});
+    }
+
+    // 현재 사육 중인 개체 (판매 제외, ID 순)
+    public StreamingResponseBody exportHerd(ExportFormat format) {
+        return out -> write(out, format, "사육현황", HERD_HEADER,
+                () -> livestockRepository.streamHerdExportRows(LivestockStatus.SOLD),
+                row -> new Object[]{row.getId(), row.getEarTag(), row.getName(), row.getBreed(), row.getGender(),
+                        row.getBirthDate(), row.getStatus(), row.getBarnName(), row.getPenName(),
+                        row.getBreedingCount(), row.getExpectedDate(), row.getWithdrawalDate(),
+                        row.getLastDiseaseName(), row.getLastTreatmentDate(), row.getNotes()});
+    }
+
+    private <T> void write(OutputStream out, ExportFormat format, String sheetName, String[] header,
+                           Supplier<Stream<T>> source, Function<T, Object[]> toValues) throws IOException {
+        try {
+            Integer count = readOnlyTransaction.execute(status -> {
+                int rows = 0;
+                try (Stream<T> stream = source.get(); RowWriter writer = RowWriter.open(format, out, sheetName)) {
+                    writer.writeRow((Object[]) header);
+                    for (Iterator<T> iterator = stream.iterator(); iterator.hasNext(); rows++) {
+                        writer.writeRow(toValues.apply(iterator.next()));
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return rows;
+            });
+            log.info("{} 내보내기 완료: {}행 ({})", sheetName, count, format);
+        } catch (UncheckedIOException e) {
+            // 대부분 다운로드 도중 클라이언트가 연결을 끊은 경우
+            log.warn("{} 내보내기 중단: {}", sheetName, e.getMessage());
+            throw e.getCause();
+        }
+    }
+}
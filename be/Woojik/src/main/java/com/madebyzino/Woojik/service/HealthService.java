@@ -1,19 +1,37 @@
 package com.madebyzino.Woojik.service;
 
+import com.madebyzino.Woojik.dto.healthy.BulkHealthRequest;
+import com.madebyzino.Woojik.dto.healthy.BulkHealthResponse;
 import com.madebyzino.Woojik.dto.healthy.HealthRequest;
+import com.madebyzino.Woojik.dto.journal.HealthJournalState;
 import com.madebyzino.Woojik.entity.Health;
 import com.madebyzino.Woojik.entity.Livestock;
 import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
 import com.madebyzino.Woojik.entity.enums.LivestockStatus;
 import com.madebyzino.Woojik.error.CustomException;
 import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.LivestockBulkChangedEvent;
+import com.madebyzino.Woojik.event.LivestockChangedEvent;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
 import com.madebyzino.Woojik.repository.HealthRepository;
+import com.madebyzino.Woojik.repository.BarnRepository;
 import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.service.journal.JournalEntry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -22,6 +40,13 @@ public class HealthService {
 
     private final HealthRepository healthRepository;
     private final LivestockRepository livestockRepository;
+    private final PenRepository penRepository;
+    private final BarnRepository barnRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LivestockJournalService livestockJournalService;
+
+    // IN 절 하나에 넣는 ID 수 (DB 파라미터 개수 제한 대비)
+    private static final int IN_CHUNK_SIZE = 1_000;
 
     // 건강 기록 등록 (백신/치료)
     public void registerHealth(Long livestockId, HealthRequest request) {
@@ -54,10 +79,144 @@ public class HealthService {
 
         // 4. 상태 변경 로직
         if (request.getType() == HealthType.TREAT) {
-            if (livestock.getStatus() != LivestockStatus.PREGNANT) {
+            LivestockStatus previousStatus = livestock.getStatus();
+            if (previousStatus != LivestockStatus.PREGNANT && previousStatus != LivestockStatus.SICK) {
                 livestock.changeStatus(LivestockStatus.SICK);
+                eventPublisher.publishEvent(LivestockStatusChangedEvent.of(livestock, previousStatus));
+            }
+        }
+        eventPublisher.publishEvent(LivestockChangedEvent.of(livestock));
+    }
+
+    // 일괄 건강 기록 (방/축사 단위 백신 접종, 집단 치료)
+    // 개체를 엔티티로 읽지 않고 ID 만 조회 -> 기록은 배치 INSERT, 요약 필드/상태는 집합 UPDATE
+    public BulkHealthResponse registerBulkHealth(BulkHealthRequest request) {
+        if (request.getType() == null || request.getDate() == null) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        List<Long> skippedIds = new ArrayList<>();
+        List<Long> targetIds = findTargetIds(request, skippedIds);
+
+        // 1. 기록 저장 (개체는 프록시 참조만 사용, SELECT 없음)
+        List<Health> healths = new ArrayList<>(targetIds.size());
+        for (Long id : targetIds) {
+            healths.add(Health.builder()
+                    .livestock(livestockRepository.getReferenceById(id))
+                    .type(request.getType())
+                    .eventDate(request.getDate())
+                    .diseaseName(request.getDiseaseName())
+                    .medicine(request.getMedicine())
+                    .description(request.getDescription())
+                    .withdrawalPeriod(request.getWithdrawalPeriod())
+                    .build());
+        }
+        healthRepository.saveAll(healths);
+
+        // 2~4. 단건 등록과 같은 규칙을 집합 UPDATE 로 적용
+        LocalDate newWithdrawalDate = request.getWithdrawalPeriod() != null && request.getWithdrawalPeriod() > 0
+                ? request.getDate().plusDays(request.getWithdrawalPeriod())
+                : null;
+        LocalDateTime now = LocalDateTime.now();
+        int sickCount = 0;
+
+        for (int from = 0; from < targetIds.size(); from += IN_CHUNK_SIZE) {
+            List<Long> ids = targetIds.subList(from, Math.min(from + IN_CHUNK_SIZE, targetIds.size()));
+
+            List<HealthJournalState> states = livestockRepository.findHealthJournalStates(ids);
+            journalBulkHealth(states, request, newWithdrawalDate);
+            livestockRepository.updateHealthInfo(ids, request.getDiseaseName(), request.getDate(), now);
+            if (newWithdrawalDate != null) {
+                livestockRepository.extendWithdrawalDate(ids, newWithdrawalDate, now);
+            }
+            if (request.getType() == HealthType.TREAT) {
+                sickCount += livestockRepository.markSick(ids, now);
+                // 집합 UPDATE 는 엔티티를 거치지 않으므로 UPDATE 전에 읽은 상태로 실제 전환된 개체만 골라 발행 (wean 과 같은 방식)
+                for (HealthJournalState state : states) {
+                    if (turnsSick(state.getStatus())) {
+                        eventPublisher.publishEvent(new LivestockStatusChangedEvent(
+                                state.getId(), state.getPenId(), state.getStatus(), LivestockStatus.SICK));
+                    }
+                }
+            }
+        }
+        eventPublisher.publishEvent(LivestockBulkChangedEvent.healthRecorded(
+                targetIds, newWithdrawalDate, request.getType() == HealthType.TREAT));
+
+        return BulkHealthResponse.builder()
+                .recordedCount(targetIds.size())
+                .sickCount(sickCount)
+                .skippedIds(skippedIds)
+                .build();
+    }
+
+    // 집합 UPDATE 는 변경 이력 리스너를 거치지 않으므로 같은 규칙으로 이전 값 -> 새 값을 직접 기록
+    private void journalBulkHealth(List<HealthJournalState> states, BulkHealthRequest request, LocalDate newWithdrawalDate) {
+        List<JournalEntry> entries = new ArrayList<>();
+        for (HealthJournalState state : states) {
+            long id = state.getId();
+            if (!Objects.equals(state.getLastDiseaseName(), request.getDiseaseName())) {
+                entries.add(livestockJournalService.entry(id, LivestockField.LAST_DISEASE_NAME,
+                        state.getLastDiseaseName(), request.getDiseaseName()));
+            }
+            if (!Objects.equals(state.getLastTreatmentDate(), request.getDate())) {
+                entries.add(livestockJournalService.entry(id, LivestockField.LAST_TREATMENT_DATE,
+                        state.getLastTreatmentDate(), request.getDate()));
+            }
+            if (newWithdrawalDate != null
+                    && (state.getWithdrawalDate() == null || state.getWithdrawalDate().isBefore(newWithdrawalDate))) {
+                entries.add(livestockJournalService.entry(id, LivestockField.WITHDRAWAL_DATE,
+                        state.getWithdrawalDate(), newWithdrawalDate));
+            }
+            if (request.getType() == HealthType.TREAT && turnsSick(state.getStatus())) {
+                entries.add(livestockJournalService.entry(id, LivestockField.STATUS, state.getStatus(), LivestockStatus.SICK));
+            }
+        }
+        livestockJournalService.appendAll(entries);
+    }
+
+    // 치료 시 SICK 으로 바뀌는 상태 (markSick 조건과 동일: 임신우, 이미 SICK 인 개체 제외)
+    private static boolean turnsSick(LivestockStatus status) {
+        return status != LivestockStatus.PREGNANT && status != LivestockStatus.SICK;
+    }
+
+    private List<Long> findTargetIds(BulkHealthRequest request, List<Long> skippedIds) {
+        boolean hasIds = request.getLivestockIds() != null && !request.getLivestockIds().isEmpty();
+        int targetKinds = (request.getPenId() != null ? 1 : 0) + (request.getBarnId() != null ? 1 : 0) + (hasIds ? 1 : 0);
+        if (targetKinds != 1) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        if (request.getPenId() != null) {
+            if (!penRepository.existsById(request.getPenId())) {
+                throw new CustomException(ErrorCode.PEN_NOT_FOUND);
+            }
+            return livestockRepository.findIdsByPenIdAndStatusNot(request.getPenId(), LivestockStatus.SOLD);
+        }
+        if (request.getBarnId() != null) {
+            if (!barnRepository.existsById(request.getBarnId())) {
+                throw new CustomException(ErrorCode.BARN_NOT_FOUND);
+            }
+            return livestockRepository.findIdsByBarnIdAndStatusNot(request.getBarnId(), LivestockStatus.SOLD);
+        }
+
+        // ID 지정: 없는 개체와 판매된 개체는 건너뛰고 응답에 알려줌
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(request.getLivestockIds()));
+        Set<Long> found = new HashSet<>(requested.size());
+        for (int from = 0; from < requested.size(); from += IN_CHUNK_SIZE) {
+            found.addAll(livestockRepository.findIdsByIdInAndStatusNot(
+                    requested.subList(from, Math.min(from + IN_CHUNK_SIZE, requested.size())), LivestockStatus.SOLD));
+        }
+
+        List<Long> targetIds = new ArrayList<>(found.size());
+        for (Long id : requested) {
+            if (found.contains(id)) {
+                targetIds.add(id);
+            } else {
+                skippedIds.add(id);
             }
         }
+        return targetIds;
     }
 
     public void recover(Long livestockId) {
@@ -66,6 +225,8 @@ public class HealthService {
 
         if (livestock.getStatus() == LivestockStatus.SICK) {
             livestock.changeStatus(LivestockStatus.FATTENING);
+            eventPublisher.publishEvent(LivestockStatusChangedEvent.of(livestock, LivestockStatus.SICK));
+            eventPublisher.publishEvent(LivestockChangedEvent.of(livestock));
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,124 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.live.LivestockDueNotice;
+import com.madebyzino.Woojik.dto.live.LivestockMove;
+import com.madebyzino.Woojik.dto.live.LivestockStatusChange;
+import com.madebyzino.Woojik.dto.live.PenOccupancyDelta;
+import com.madebyzino.Woojik.dto.live.TemperatureAlertNotice;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.LivestockDueEvent;
+import com.madebyzino.Woojik.event.LivestockMovedEvent;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
+import com.madebyzino.Woojik.event.PenOccupancyChangedEvent;
+import com.madebyzino.Woojik.event.TemperatureAlertRaisedEvent;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.service.live.LiveEventBroadcaster;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 계층 변경 이벤트 -> 실시간 스트림(SSE) 전달.
+ * 커밋된 변경만 내보내도록 커밋 후에 처리하고(롤백된 이동/판매는 전송 안 됨), 여기서 난 예외는 호출한 요청에 영향을 주지 않습니다.
+ * 축사 필터링에 필요한 방 -> 축사 매핑은 한 번 읽은 뒤 메모리에 둡니다. (방의 소속 축사는 바뀌지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveEventService {
+
+    private final LiveEventBroadcaster broadcaster;
+    private final BarnRepository barnRepository;
+    private final PenRepository penRepository;
+
+    private final Map<Long, Long> barnIdByPenId = new ConcurrentHashMap<>();
+
+    // 구독 (barnId 가 없으면 농장 전체)
+    public SseEmitter subscribe(Long barnId) {
+        if (barnId != null && !barnRepository.existsById(barnId)) {
+            throw new CustomException(ErrorCode.BARN_NOT_FOUND);
+        }
+        return broadcaster.subscribe(barnId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOccupancyChanged(PenOccupancyChangedEvent event) {
+        try {
+            Long barnId = findBarnId(event.penId());
+            broadcaster.publish("occupancy", new PenOccupancyDelta(event.penId(), barnId, event.delta()), barnId);
+        } catch (RuntimeException e) {
+            log.warn("실시간 이벤트 전달 실패: {}", event, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatusChanged(LivestockStatusChangedEvent event) {
+        try {
+            Long barnId = findBarnId(event.penId());
+            broadcaster.publish("status", new LivestockStatusChange(event.livestockId(), event.penId(), barnId,
+                    event.previousStatus(), event.status()), barnId);
+        } catch (RuntimeException e) {
+            log.warn("실시간 이벤트 전달 실패: {}", event, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMoved(LivestockMovedEvent event) {
+        try {
+            Long fromBarnId = findBarnId(event.fromPenId());
+            Long toBarnId = findBarnId(event.toPenId());
+            broadcaster.publish("move", new LivestockMove(event.livestockId(), event.fromPenId(), fromBarnId,
+                    event.toPenId(), toBarnId), fromBarnId, toBarnId);
+        } catch (RuntimeException e) {
+            log.warn("실시간 이벤트 전달 실패: {}", event, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAlertRaised(TemperatureAlertRaisedEvent event) {
+        try {
+            Long barnId = findBarnId(event.penId());
+            broadcaster.publish("alert", new TemperatureAlertNotice(event.alertId(), event.livestockId(), event.penId(),
+                    barnId, event.type(), event.temperature(), event.measuredAt()), barnId);
+        } catch (RuntimeException e) {
+            log.warn("실시간 이벤트 전달 실패: {}", event, e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDue(LivestockDueEvent event) {
+        try {
+            Long barnId = findBarnId(event.penId());
+            broadcaster.publish("due", new LivestockDueNotice(event.type(), event.date(), event.livestockId(),
+                    event.penId(), barnId), barnId);
+        } catch (RuntimeException e) {
+            log.warn("실시간 이벤트 전달 실패: {}", event, e);
+        }
+    }
+
+    // 방 -> 축사 ID (방 미배정/축사 미지정이면 null: 농장 전체 구독자만 수신)
+    private Long findBarnId(Long penId) {
+        if (penId == null) {
+            return null;
+        }
+        Long barnId = barnIdByPenId.get(penId);
+        if (barnId != null) {
+            return barnId;
+        }
+
+        barnId = penRepository.findById(penId)
+                .map(pen -> pen.getBarn() == null ? null : pen.getBarn().getId())
+                .orElse(null);
+        if (barnId != null) {
+            barnIdByPenId.put(penId, barnId);
+        }
+        return barnId;
+    }
+}
@@ -0,0 +1,302 @@
+package com.madebyzino.Woojik.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madebyzino.Woojik.dto.livestock.LivestockImportResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.LivestockChangedEvent;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 개체 일괄 등록 (CSV / JSON Lines).
+ * 업로드를 한 줄씩 읽어 CHUNK_SIZE 단위로 처리하므로 파일 전체를 메모리에 올리지 않습니다.
+ * 청크마다: 귀표번호 중복은 IN 쿼리 한 번, 방은 미리 읽어둔 맵에서 조회, 정원은 방마다 한 번에 예약, INSERT 는 JDBC 배치, 커밋 후 영속성 컨텍스트 비움.
+ * 한 청크는 한 트랜잭션이라 저장 중 DB 오류가 나면 그 청크의 저장 대상 행만 모두 실패로 보고되고, 앞서 커밋된 청크는 그대로 남습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LivestockImportService {
+
+    public enum Format { CSV, JSONL }
+
+    private static final int CHUNK_SIZE = 1_000;
+    private static final int MAX_REPORTED_ERRORS = 1_000;
+    private static final List<String> CSV_COLUMNS = List.of("earTag", "name", "birthDate", "gender", "breed", "penId");
+
+    private final LivestockRepository livestockRepository;
+    private final PenRepository penRepository;
+    private final PenOccupancyService penOccupancyService;
+    private final LivestockSearchService livestockSearchService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public LivestockImportResponse importLivestock(InputStream inputStream, Format format) {
+        Map<Long, Pen> pens = penRepository.findAll().stream()
+                .collect(Collectors.toMap(Pen::getId, Function.identity()));
+
+        ImportResult result = new ImportResult();
+        List<ParsedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+            Map<String, Integer> header = null;
+            String line;
+            long lineNumber = 0;
+
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1); // BOM 제거 (엑셀에서 저장한 CSV)
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                if (format == Format.CSV && header == null) {
+                    header = parseHeader(line);
+                    continue;
+                }
+
+                result.totalRows++;
+                try {
+                    LivestockRequest request = format == Format.CSV
+                            ? parseCsvRow(line, header)
+                            : objectMapper.readValue(line, LivestockRequest.class);
+                    chunk.add(new ParsedRow(lineNumber, request));
+                } catch (IOException | IllegalArgumentException | DateTimeParseException e) {
+                    result.fail(lineNumber, null, "형식 오류: " + e.getMessage());
+                }
+
+                if (chunk.size() >= CHUNK_SIZE) {
+                    writeChunk(chunk, pens, result);
+                    chunk.clear();
+                }
+            }
+        } catch (IOException e) {
+            log.warn("일괄 등록 업로드 읽기 실패", e);
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        if (!chunk.isEmpty()) {
+            writeChunk(chunk, pens, result);
+        }
+
+        log.info("개체 일괄 등록 완료: 전체 {}행, 성공 {}, 실패 {}", result.totalRows, result.imported, result.failed);
+        return LivestockImportResponse.builder()
+                .totalRows(result.totalRows)
+                .importedCount(result.imported)
+                .failedCount(result.failed)
+                .errors(result.errors)
+                .errorsTruncated(result.failed > result.errors.size())
+                .build();
+    }
+
+    // 청크 단위 저장 (청크마다 별도 트랜잭션)
+    private void writeChunk(List<ParsedRow> rows, Map<Long, Pen> pens, ImportResult result) {
+        Set<String> earTags = rows.stream()
+                .map(row -> row.request().getEarTag())
+                .filter(earTag -> earTag != null && !earTag.isBlank())
+                .collect(Collectors.toSet());
+
+        List<ParsedRow> candidates = new ArrayList<>(rows.size());
+        try {
+            Integer saved = transactionTemplate.execute(status -> {
+                Set<String> existing = earTags.isEmpty() ? Set.of() : livestockRepository.findEarTagsIn(earTags);
+                Set<String> seen = new HashSet<>();
+                List<ParsedRow> accepted = new ArrayList<>(rows.size());
+                Map<Long, Integer> requestedPerPen = new HashMap<>();
+
+                for (ParsedRow row : rows) {
+                    LivestockRequest request = row.request();
+                    String earTag = request.getEarTag();
+
+                    if (earTag == null || earTag.isBlank()) {
+                        result.fail(row.line(), earTag, "귀표번호가 없습니다.");
+                        continue;
+                    }
+                    if (existing.contains(earTag) || !seen.add(earTag)) {
+                        result.fail(row.line(), earTag, ErrorCode.DUPLICATE_EARTAG.getMessage());
+                        continue;
+                    }
+                    if (request.getPenId() != null) {
+                        if (!pens.containsKey(request.getPenId())) {
+                            result.fail(row.line(), earTag, ErrorCode.PEN_NOT_FOUND.getMessage());
+                            continue;
+                        }
+                        requestedPerPen.merge(request.getPenId(), 1, Integer::sum);
+                    }
+                    accepted.add(row);
+                }
+
+                // 방마다 정원 안에서 한 번에 예약. 남은 자리보다 많으면 파일 뒤쪽 행부터 정원 초과로 실패
+                Map<Long, Integer> grantedPerPen = new HashMap<>();
+                requestedPerPen.forEach((penId, requested) ->
+                        grantedPerPen.put(penId, penOccupancyService.reserveUpTo(pens.get(penId), requested)));
+
+                List<Livestock> livestocks = new ArrayList<>(accepted.size());
+                for (ParsedRow row : accepted) {
+                    LivestockRequest request = row.request();
+                    Pen pen = request.getPenId() == null ? null : pens.get(request.getPenId());
+                    if (pen != null && grantedPerPen.merge(pen.getId(), -1, Integer::sum) < 0) {
+                        result.fail(row.line(), request.getEarTag(), ErrorCode.PEN_CAPACITY_EXCEEDED.getMessage());
+                        continue;
+                    }
+
+                    candidates.add(row);
+                    livestocks.add(Livestock.builder()
+                            .earTag(request.getEarTag())
+                            .name(request.getName())
+                            .birthDate(request.getBirthDate())
+                            .gender(request.getGender())
+                            .breed(request.getBreed())
+                            .status(LivestockStatus.CALF) // 단건 등록과 동일한 기본값
+                            .pen(pen)
+                            .build());
+                }
+
+                livestockRepository.saveAll(livestocks);
+                livestockSearchService.indexAll(livestocks);
+                eventPublisher.publishEvent(LivestockChangedEvent.ofAll(livestocks));
+                // 단건 등록과 같이 신규 개체 이벤트 발행 (구독 쪽은 커밋 후 처리하므로 롤백된 청크는 전달되지 않음)
+                for (Livestock livestock : livestocks) {
+                    eventPublisher.publishEvent(LivestockStatusChangedEvent.of(livestock, null));
+                }
+
+                // 저장소를 거쳐 flush 해야 제약 위반이 DataAccessException 으로 변환되어 아래에서 청크 실패로 처리됨
+                livestockRepository.flush();
+                entityManager.clear();
+                return livestocks.size();
+            });
+            result.imported += saved == null ? 0 : saved;
+        } catch (DataAccessException e) {
+            // 동시에 같은 귀표번호가 등록된 경우 등: 청크 전체가 롤백되므로 저장 대상 행을 모두 실패로 보고
+            log.warn("개체 일괄 등록 청크 저장 실패", e);
+            candidates.forEach(row -> result.fail(row.line(), row.request().getEarTag(), "저장 실패: " + e.getMostSpecificCause().getMessage()));
+        }
+    }
+
+    private Map<String, Integer> parseHeader(String line) {
+        List<String> columns = splitCsv(line);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            String column = columns.get(i).trim();
+            for (String name : CSV_COLUMNS) {
+                if (name.equalsIgnoreCase(column)) {
+                    header.put(name, i);
+                }
+            }
+        }
+        if (!header.containsKey("earTag")) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+        return header;
+    }
+
+    private LivestockRequest parseCsvRow(String line, Map<String, Integer> header) {
+        List<String> values = splitCsv(line);
+
+        LivestockRequest request = new LivestockRequest();
+        request.setEarTag(value(values, header, "earTag"));
+        request.setName(value(values, header, "name"));
+        request.setBreed(value(values, header, "breed"));
+
+        String birthDate = value(values, header, "birthDate");
+        request.setBirthDate(birthDate == null ? null : LocalDate.parse(birthDate));
+
+        String gender = value(values, header, "gender");
+        request.setGender(gender == null ? null : Gender.valueOf(gender.toUpperCase(Locale.ROOT)));
+
+        String penId = value(values, header, "penId");
+        request.setPenId(penId == null ? null : Long.valueOf(penId));
+        return request;
+    }
+
+    private static String value(List<String> values, Map<String, Integer> header, String column) {
+        Integer index = header.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // 쉼표 구분 + 큰따옴표 감싸기("a,b", "say ""hi""") 지원
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private record ParsedRow(long line, LivestockRequest request) {
+    }
+
+    private static class ImportResult {
+        private int totalRows;
+        private int imported;
+        private int failed;
+        private final List<LivestockImportResponse.RowError> errors = new ArrayList<>();
+
+        private void fail(long line, String earTag, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new LivestockImportResponse.RowError(line, earTag, message));
+            }
+        }
+    }
+}
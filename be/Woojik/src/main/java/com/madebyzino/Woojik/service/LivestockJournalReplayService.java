@@ -0,0 +1,141 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.journal.JournalReplayResponse;
+import com.madebyzino.Woojik.dto.journal.LivestockFieldValueRow;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import com.madebyzino.Woojik.repository.LivestockEventRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.service.journal.LivestockFieldValues;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 개체 변경 이력으로 Livestock 요약 필드 다시 구성.
+ * 대기열을 먼저 비운 뒤 개체를 CHUNK_SIZE 씩 나눠 (개체 + 그 개체 이력) 만 읽고, 필드별 마지막 이력 값과 현재 값을 비교합니다.
+ * apply = true 면 다른 요약 필드(산차, 발정/수정/분만 예정일, 휴약, 최근 병명/치료일)를 이력 값으로 되돌리고
+ * 대시보드/날짜 예약을 다시 구성합니다. 되돌린 변경도 작업자 journal-replay 로 이력에 남습니다.
+ * 이력은 유실될 수 있으므로 (종료 전 미저장, dropped) 필드의 마지막 이력이 개체 수정 시각(updatedAt)보다 이전이면
+ * 그 뒤의 이력이 빠졌을 수 있다고 보고 되돌리지 않습니다. (staleCount 로 보고)
+ * 상태/방 등 나머지 필드는 차이만 보고합니다. (LivestockFieldValues 참고)
+ */
+@Slf4j
+@Service
+public class LivestockJournalReplayService {
+
+    public static final String REPLAY_ACTOR = "journal-replay";
+    private static final int CHUNK_SIZE = 1_000;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final LivestockJournalService livestockJournalService;
+    private final LivestockEventRepository livestockEventRepository;
+    private final LivestockRepository livestockRepository;
+    private final DashboardService dashboardService;
+    private final LivestockScheduleService livestockScheduleService;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public LivestockJournalReplayService(LivestockJournalService livestockJournalService,
+                                         LivestockEventRepository livestockEventRepository,
+                                         LivestockRepository livestockRepository,
+                                         DashboardService dashboardService,
+                                         LivestockScheduleService livestockScheduleService,
+                                         PlatformTransactionManager transactionManager) {
+        this.livestockJournalService = livestockJournalService;
+        this.livestockEventRepository = livestockEventRepository;
+        this.livestockRepository = livestockRepository;
+        this.dashboardService = dashboardService;
+        this.livestockScheduleService = livestockScheduleService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public JournalReplayResponse replay(boolean apply) {
+        long started = System.nanoTime();
+        boolean drained = livestockJournalService.awaitDrained(DRAIN_TIMEOUT);
+        if (!drained) {
+            log.warn("이력 대기열을 {}초 안에 비우지 못해 저장 대기 중인 이력 없이 비교합니다.", DRAIN_TIMEOUT.toSeconds());
+        }
+
+        List<Long> ids = readOnlyTransaction.execute(status -> livestockRepository.findAllIds());
+        Map<LivestockField, Integer> mismatchesByField = new EnumMap<>(LivestockField.class);
+        int[] counts = new int[4];      // 이력 있는 개체, 차이 있는 개체, 되돌린 필드, 이력이 오래돼 되돌리지 않은 필드
+
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            TransactionTemplate template = apply ? transactionTemplate : readOnlyTransaction;
+            livestockJournalService.runAs(REPLAY_ACTOR, () -> template.execute(status -> {
+                replayChunk(chunk, apply, mismatchesByField, counts);
+                return null;
+            }));
+        }
+
+        if (counts[2] > 0) {
+            dashboardService.rebuild();
+            livestockScheduleService.rebuild();
+        }
+        log.info("이력 다시 구성 {}: 개체 {}두 중 이력 {}두, 차이 {}두, 되돌린 필드 {}개, 건너뛴 필드 {}개 ({}ms)",
+                apply ? "적용" : "비교", ids.size(), counts[0], counts[1], counts[2], counts[3],
+                (System.nanoTime() - started) / 1_000_000);
+
+        return JournalReplayResponse.builder()
+                .applied(apply)
+                .drained(drained)
+                .livestockCount(ids.size())
+                .journaledCount(counts[0])
+                .mismatchedCount(counts[1])
+                .mismatchesByField(mismatchesByField)
+                .appliedCount(counts[2])
+                .staleCount(counts[3])
+                .build();
+    }
+
+    private void replayChunk(List<Long> chunk, boolean apply, Map<LivestockField, Integer> mismatchesByField, int[] counts) {
+        // 개체별 필드 마지막 이력 (발생 순으로 덮어씀)
+        Map<Long, Map<LivestockField, LivestockFieldValueRow>> latest = new HashMap<>();
+        for (LivestockFieldValueRow row : livestockEventRepository.findFieldValuesByLivestockIdIn(chunk)) {
+            latest.computeIfAbsent(row.getLivestockId(), id -> new EnumMap<>(LivestockField.class))
+                    .put(row.getField(), row);
+        }
+        if (latest.isEmpty()) {
+            return;
+        }
+
+        for (Livestock livestock : livestockRepository.findAllById(latest.keySet())) {
+            counts[0]++;
+            boolean mismatched = false;
+            for (Map.Entry<LivestockField, LivestockFieldValueRow> entry : latest.get(livestock.getId()).entrySet()) {
+                LivestockField field = entry.getKey();
+                LivestockFieldValueRow last = entry.getValue();
+                if (Objects.equals(LivestockFieldValues.read(livestock, field), last.getValue())) {
+                    continue;
+                }
+                mismatched = true;
+                mismatchesByField.merge(field, 1, Integer::sum);
+                if (!apply || !field.isSummary()) {
+                    continue;
+                }
+                // 이력은 변경 후(PostUpdate)에 기록되므로 정상이면 마지막 이력 시각 >= updatedAt
+                if (livestock.getUpdatedAt() != null && last.getOccurredAt().isBefore(livestock.getUpdatedAt())) {
+                    counts[3]++;
+                    continue;
+                }
+                LivestockFieldValues.apply(livestock, field, last.getValue());
+                counts[2]++;
+            }
+            if (mismatched) {
+                counts[1]++;
+            }
+        }
+    }
+}
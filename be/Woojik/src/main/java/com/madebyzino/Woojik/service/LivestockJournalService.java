@@ -0,0 +1,306 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.config.JournalProperties;
+import com.madebyzino.Woojik.dto.journal.JournalStatsResponse;
+import com.madebyzino.Woojik.dto.journal.LivestockEventResponse;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.LivestockEventRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.service.journal.JournalEntry;
+import com.madebyzino.Woojik.service.journal.LivestockFieldValues;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * 개체 변경 이력 저널 (추가만 함).
+ * 변경은 쓰기 트랜잭션 안에서 모아 두었다가 커밋 후 제한된 대기열에 넣고 바로 돌아가며,
+ * 전용 스레드 하나가 대기열에서 batchSize 단위로 꺼내 배치 INSERT 합니다. (롤백된 변경은 남지 않음)
+ * 대기열이 가득 차면 버리지 않고 커밋한 요청 스레드에서 바로 저장합니다. (과부하 때만 응답이 느려짐)
+ *
+ * 내구성: 도메인 변경과 이력은 같은 트랜잭션이 아닙니다.
+ * 커밋 후 저장 전에 서버가 비정상 종료되면 대기열에 있던 이력(최대 queueCapacity + 저장 중인 배치)을 잃고,
+ * 정상 종료(@PreDestroy)는 대기열을 모두 저장한 뒤 멈춥니다. DB 장애 중에는 배치를 재시도하며,
+ * 직접 저장까지 실패한 이력은 ERROR 로그로만 남기고 dropped 로 셉니다.
+ * 잃은 이력은 다시 구성(LivestockJournalReplayService) 비교 모드에서 현재 값과의 차이로 드러납니다.
+ */
+@Slf4j
+@Service
+public class LivestockJournalService {
+
+    // 요청 헤더로 받는 작업자 (인증이 없으므로 클라이언트가 보냄)
+    public static final String ACTOR_HEADER = "X-Actor";
+    public static final String SYSTEM_ACTOR = "system";
+    private static final String ANONYMOUS_ACTOR = "anonymous";
+    private static final int MAX_ACTOR_LENGTH = 50;
+    private static final int MAX_VALUE_LENGTH = 255;
+    private static final int DEFAULT_HISTORY_LIMIT = 100;
+    private static final int MAX_HISTORY_LIMIT = 1_000;
+    private static final long IDLE_POLL_MILLIS = 200;
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    // 트랜잭션마다 커밋 전까지 모아 두는 이력 목록의 리소스 키
+    private static final Object PENDING_KEY = new Object();
+
+    private final LivestockEventRepository livestockEventRepository;
+    private final LivestockRepository livestockRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate writeTransaction;
+    private final int batchSize;
+
+    private final BlockingQueue<JournalEntry> queue;
+    private final ThreadLocal<String> actorOverride = new ThreadLocal<>();
+
+    private final AtomicLong pending = new AtomicLong();    // 대기열 + 저장 중인 배치
+    private final AtomicLong enqueuedTotal = new AtomicLong();
+    private final AtomicLong writtenTotal = new AtomicLong();
+    private final AtomicLong directWrites = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public LivestockJournalService(LivestockEventRepository livestockEventRepository,
+                                   LivestockRepository livestockRepository,
+                                   EntityManager entityManager,
+                                   PlatformTransactionManager transactionManager,
+                                   JournalProperties properties) {
+        this.livestockEventRepository = livestockEventRepository;
+        this.livestockRepository = livestockRepository;
+        this.entityManager = entityManager;
+        // 커밋 후(afterCommit) 직접 저장할 때도 새 트랜잭션이 필요
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = properties.getBatchSize();
+        this.queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        writer = new Thread(this::runWriter, "journal-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    // 종료 시 대기열에 남은 이력까지 저장하고 멈춤
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    // 변경 한 건 (발생 시각/작업자는 지금 이 스레드 기준)
+    public JournalEntry entry(long livestockId, LivestockField field, Object previousValue, Object value) {
+        return new JournalEntry(livestockId, field, truncate(LivestockFieldValues.encode(previousValue)),
+                truncate(LivestockFieldValues.encode(value)), LocalDateTime.now(), currentActor());
+    }
+
+    // 현재 트랜잭션의 변경으로 기록 (커밋 후 대기열로, 트랜잭션 밖이면 바로 대기열로)
+    @SuppressWarnings("unchecked")
+    public void appendAll(Collection<JournalEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(new ArrayList<>(entries));
+            return;
+        }
+
+        List<JournalEntry> buffered = (List<JournalEntry>) TransactionSynchronizationManager.getResource(PENDING_KEY);
+        if (buffered == null) {
+            List<JournalEntry> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(PENDING_KEY, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_KEY);
+                }
+            });
+            buffered = created;
+        }
+        buffered.addAll(entries);
+    }
+
+    // 요청 헤더의 작업자, 없으면 anonymous, 요청 밖(예약 작업 등)은 system
+    public String currentActor() {
+        String override = actorOverride.get();
+        if (override != null) {
+            return override;
+        }
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) {
+            return SYSTEM_ACTOR;
+        }
+        HttpServletRequest request = attributes.getRequest();
+        String actor = request.getHeader(ACTOR_HEADER);
+        if (actor == null || actor.isBlank()) {
+            return ANONYMOUS_ACTOR;
+        }
+        actor = actor.trim();
+        return actor.length() > MAX_ACTOR_LENGTH ? actor.substring(0, MAX_ACTOR_LENGTH) : actor;
+    }
+
+    // 이 스레드에서 생기는 변경의 작업자를 지정 (다시 구성 등 관리 작업)
+    public <T> T runAs(String actor, Supplier<T> action) {
+        String previous = actorOverride.get();
+        actorOverride.set(actor);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                actorOverride.remove();
+            } else {
+                actorOverride.set(previous);
+            }
+        }
+    }
+
+    // 대기열이 빌 때까지 대기 (다시 구성 전, 테스트)
+    public boolean awaitDrained(Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (pending.get() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+        return true;
+    }
+
+    // 개체 변경 이력 (최근 순, 저장이 끝난 것만)
+    public List<LivestockEventResponse> getHistory(Long livestockId, Integer limit) {
+        if (!livestockRepository.existsById(livestockId)) {
+            throw new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND);
+        }
+        int size = limit == null || limit <= 0 ? DEFAULT_HISTORY_LIMIT : Math.min(limit, MAX_HISTORY_LIMIT);
+        return livestockEventRepository.findByLivestockIdOrderByOccurredAtDescIdDesc(livestockId, PageRequest.of(0, size))
+                .stream()
+                .map(LivestockEventResponse::from)
+                .toList();
+    }
+
+    public JournalStatsResponse getStats() {
+        return JournalStatsResponse.builder()
+                .capacity(queue.size() + queue.remainingCapacity())
+                .queued(pending.get())
+                .enqueuedTotal(enqueuedTotal.get())
+                .writtenTotal(writtenTotal.get())
+                .directWrites(directWrites.get())
+                .failedWrites(failedWrites.get())
+                .dropped(dropped.get())
+                .build();
+    }
+
+    private void enqueue(List<JournalEntry> entries) {
+        List<JournalEntry> overflow = null;
+        for (JournalEntry entry : entries) {
+            pending.incrementAndGet();
+            if (queue.offer(entry)) {
+                enqueuedTotal.incrementAndGet();
+                continue;
+            }
+            pending.decrementAndGet();
+            if (overflow == null) {
+                overflow = new ArrayList<>();
+            }
+            overflow.add(entry);
+        }
+        if (overflow == null) {
+            return;
+        }
+
+        // 대기열이 가득 참: 버리지 않고 이 스레드에서 저장
+        try {
+            for (int from = 0; from < overflow.size(); from += batchSize) {
+                write(overflow.subList(from, Math.min(from + batchSize, overflow.size())));
+            }
+            directWrites.addAndGet(overflow.size());
+            writtenTotal.addAndGet(overflow.size());
+        } catch (RuntimeException e) {
+            // 도메인 변경은 이미 커밋됐으므로 요청은 실패시키지 않음
+            dropped.addAndGet(overflow.size());
+            log.error("개체 변경 이력 {}건 저장 실패: {}", overflow.size(), overflow, e);
+        }
+    }
+
+    // 저장 스레드: 대기열에서 꺼내 배치 저장, 실패하면 같은 배치를 재시도
+    private void runWriter() {
+        List<JournalEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty() || !batch.isEmpty()) {
+            if (batch.isEmpty()) {
+                JournalEntry first;
+                try {
+                    first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+            }
+
+            try {
+                write(batch);
+                writtenTotal.addAndGet(batch.size());
+                pending.addAndGet(-batch.size());
+                batch.clear();
+            } catch (RuntimeException e) {
+                failedWrites.incrementAndGet();
+                if (!running) {
+                    dropped.addAndGet(batch.size() + queue.size());
+                    log.error("종료 중 개체 변경 이력 저장 실패: {}건을 저장하지 못했습니다.", batch.size() + queue.size(), e);
+                    return;
+                }
+                log.warn("개체 변경 이력 저장 실패, 재시도합니다. (대기 {}건)", pending.get(), e);
+                LockSupport.parkNanos(RETRY_BACKOFF_NANOS);
+            }
+        }
+    }
+
+    private void write(List<JournalEntry> entries) {
+        writeTransaction.executeWithoutResult(status -> {
+            for (JournalEntry entry : entries) {
+                entityManager.persist(entry.toEntity());
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    private static String truncate(String value) {
+        return value == null || value.length() <= MAX_VALUE_LENGTH ? value : value.substring(0, MAX_VALUE_LENGTH);
+    }
+}
@@ -0,0 +1,230 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.livestock.LivestockScheduleRow;
+import com.madebyzino.Woojik.dto.pen.LivestockPenId;
+import com.madebyzino.Woojik.entity.enums.LivestockDueType;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.event.LivestockBulkChangedEvent;
+import com.madebyzino.Woojik.event.LivestockChangedEvent;
+import com.madebyzino.Woojik.event.LivestockDueEvent;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.service.schedule.DateEventQueue;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 날짜 기반 예약 작업 (휴약 종료 알림, 분만 예정일 알림, 송아지 -> 비육우 전환).
+ * 예정 날짜를 날짜별 대기열에 두고, 가장 이른 날짜 0시에 한 번 깨어나 그날 도래한 것만 처리합니다. (전체 테이블 주기 스캔 없음)
+ * 대기열은 기동 시 DB 에서 구성하고, 개체 변경 이벤트(LivestockChangedEvent / LivestockBulkChangedEvent)로 커밋 후 다시 예약합니다.
+ * 실행 시에는 대상 ID 를 DB 에서 재확인(예약 이후 바뀐 개체 제외)한 뒤 IN_CHUNK_SIZE 단위 집합 UPDATE 로 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LivestockScheduleService {
+
+    // 생후 이 개월 수가 지나면 송아지 -> 비육우
+    private static final int WEANING_MONTHS = 6;
+    private static final int IN_CHUNK_SIZE = 1_000;
+    private static final long RETRY_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+
+    private final LivestockRepository livestockRepository;
+    private final LivestockJournalService livestockJournalService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    // 아래 상태는 this 로 동기화
+    private final DateEventQueue queue = new DateEventQueue();
+    private ScheduledFuture<?> nextRun;
+    private LocalDateTime nextRunAt;
+
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "livestock-schedule");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // 기동 시 대기열 구성 (기동 전에 지난 이유 예정은 바로 처리됨)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        List<LivestockScheduleRow> rows = transactionTemplate.execute(status -> livestockRepository.findScheduleRows(today));
+
+        synchronized (this) {
+            queue.clear();
+            for (LivestockScheduleRow row : rows) {
+                schedule(row.getId(), row.getStatus(), row.getBirthDate(), row.getWithdrawalDate(), row.getExpectedDate(), today);
+            }
+            arm();
+        }
+        log.info("날짜 예약 대기열 구성 완료: {}건", queue.size());
+    }
+
+    // 개체 날짜/상태 변경 반영 (커밋 후)
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onChanged(LivestockChangedEvent event) {
+        LocalDate today = LocalDate.now();
+        for (LivestockChangedEvent.Snapshot livestock : event.livestocks()) {
+            schedule(livestock.id(), livestock.status(), livestock.birthDate(),
+                    livestock.withdrawalDate(), livestock.expectedDate(), today);
+        }
+        arm();
+    }
+
+    // 집합 UPDATE 반영 (커밋 후): 휴약 만료일은 더 늦은 날짜로만 연장 (extendWithdrawalDate 와 같은 규칙)
+    // 상태 전환(일괄 치료 SICK, 이유)은 예약할 날짜가 바뀌지 않음
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onBulkChanged(LivestockBulkChangedEvent event) {
+        if (event.withdrawalDate() == null || !event.withdrawalDate().isAfter(LocalDate.now())) {
+            return;
+        }
+        for (Long id : event.livestockIds()) {
+            LocalDate current = queue.scheduledDate(LivestockDueType.WITHDRAWAL_END, id);
+            if (current == null || current.isBefore(event.withdrawalDate())) {
+                queue.schedule(LivestockDueType.WITHDRAWAL_END, id, event.withdrawalDate());
+            }
+        }
+        arm();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void schedule(Long id, LivestockStatus status, LocalDate birthDate,
+                          LocalDate withdrawalDate, LocalDate expectedDate, LocalDate today) {
+        boolean active = status != LivestockStatus.SOLD;
+
+        queue.schedule(LivestockDueType.WEANING, id,
+                active && status == LivestockStatus.CALF && birthDate != null ? birthDate.plusMonths(WEANING_MONTHS) : null);
+        queue.schedule(LivestockDueType.WITHDRAWAL_END, id,
+                active && withdrawalDate != null && withdrawalDate.isAfter(today) ? withdrawalDate : null);
+        queue.schedule(LivestockDueType.CALVING_DUE, id,
+                status == LivestockStatus.PREGNANT && expectedDate != null && expectedDate.isAfter(today) ? expectedDate : null);
+    }
+
+    // 가장 이른 예약 날짜 0시에 실행되도록 타이머 설정 (이미 더 이르게 잡혀 있으면 유지)
+    private void arm() {
+        LocalDate first = queue.firstDate();
+        if (first == null) {
+            return;
+        }
+        LocalDateTime runAt = first.atStartOfDay();
+        if (nextRun != null && !nextRun.isDone() && !nextRunAt.isAfter(runAt)) {
+            return;
+        }
+        if (nextRun != null) {
+            nextRun.cancel(false);
+        }
+
+        long delay = Math.max(0, Duration.between(LocalDateTime.now(), runAt).toMillis());
+        nextRunAt = runAt;
+        nextRun = executor.schedule(this::run, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void run() {
+        List<DateEventQueue.Due> due;
+        synchronized (this) {
+            nextRun = null;
+            due = queue.pollUntil(LocalDate.now());
+        }
+
+        for (int i = 0; i < due.size(); i++) {
+            DateEventQueue.Due item = due.get(i);
+            try {
+                process(item);
+            } catch (RuntimeException e) {
+                // 처리하지 못한 묶음은 다시 넣고 잠시 뒤 재시도 (그 사이 다시 예약된 개체는 새 예약 유지)
+                log.error("날짜 예약 처리 실패, {}ms 뒤 재시도합니다. ({} {} {}건)",
+                        RETRY_DELAY_MILLIS, item.date(), item.type(), item.livestockIds().size(), e);
+                retry(due.subList(i, due.size()));
+                return;
+            }
+        }
+
+        synchronized (this) {
+            arm();
+        }
+    }
+
+    private void retry(List<DateEventQueue.Due> remaining) {
+        synchronized (this) {
+            for (DateEventQueue.Due item : remaining) {
+                for (Long id : item.livestockIds()) {
+                    if (queue.scheduledDate(item.type(), id) == null) {
+                        queue.schedule(item.type(), id, item.date());
+                    }
+                }
+            }
+            if (nextRun != null) {
+                nextRun.cancel(false);
+            }
+            nextRunAt = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(RETRY_DELAY_MILLIS));
+            nextRun = executor.schedule(this::run, RETRY_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 도래한 묶음 처리 (청크마다 별도 트랜잭션)
+    private void process(DateEventQueue.Due due) {
+        List<Long> ids = due.livestockIds();
+        int processed = 0;
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            Integer count = transactionTemplate.execute(status -> switch (due.type()) {
+                case WEANING -> wean(chunk, due.date());
+                case WITHDRAWAL_END -> notifyDue(due, livestockRepository.findWithdrawalEndingOn(chunk, due.date()));
+                case CALVING_DUE -> notifyDue(due, livestockRepository.findCalvingDueOn(chunk, due.date()));
+            });
+            processed += count == null ? 0 : count;
+        }
+        log.info("날짜 예약 처리: {} {} (예약 {}건, 반영 {}건)", due.date(), due.type(), ids.size(), processed);
+    }
+
+    // 송아지 -> 비육우: 생년월일/상태를 재확인한 개체만 집합 UPDATE
+    private int wean(List<Long> ids, LocalDate date) {
+        List<LivestockPenId> targets = livestockRepository.findWeaningTargets(
+                ids, LivestockStatus.CALF, date.minusMonths(WEANING_MONTHS));
+        if (targets.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> targetIds = targets.stream().map(LivestockPenId::getLivestockId).toList();
+        int updated = livestockRepository.changeStatus(targetIds, LivestockStatus.CALF, LivestockStatus.FATTENING, LocalDateTime.now());
+        eventPublisher.publishEvent(LivestockBulkChangedEvent.statusChanged(targetIds, LivestockStatus.CALF, LivestockStatus.FATTENING));
+        // 집합 UPDATE 라 변경 이력 리스너를 거치지 않음 (대상은 위에서 상태를 재확인한 개체)
+        livestockJournalService.appendAll(targetIds.stream()
+                .map(id -> livestockJournalService.entry(id, LivestockField.STATUS, LivestockStatus.CALF, LivestockStatus.FATTENING))
+                .toList());
+        for (LivestockPenId target : targets) {
+            eventPublisher.publishEvent(new LivestockStatusChangedEvent(
+                    target.getLivestockId(), target.getPenId(), LivestockStatus.CALF, LivestockStatus.FATTENING));
+        }
+        return updated;
+    }
+
+    private int notifyDue(DateEventQueue.Due due, List<LivestockPenId> targets) {
+        for (LivestockPenId target : targets) {
+            eventPublisher.publishEvent(new LivestockDueEvent(due.type(), due.date(), target.getLivestockId(), target.getPenId()));
+        }
+        return targets.size();
+    }
+}
@@ -0,0 +1,122 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.common.TransactionHooks;
+import com.madebyzino.Woojik.dto.livestock.LivestockSearchResponse;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.service.search.EarTagSuffixIndex;
+import com.madebyzino.Woojik.service.search.NicknameIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 귀표번호 뒷자리 / 별명(초성 포함) 빠른 검색.
+ * 판매되지 않은 개체를 메모리 인덱스로 유지하며, 등록/수정/분만/판매 시 커밋 이후에 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LivestockSearchService {
+
+    private static final int DEFAULT_LIMIT = 10;
+    private static final int MAX_LIMIT = 50;
+
+    private final LivestockRepository livestockRepository;
+
+    private final EarTagSuffixIndex earTagIndex = new EarTagSuffixIndex();
+    private final NicknameIndex nicknameIndex = new NicknameIndex();
+    private final Map<Long, LivestockSearchResponse> entries = new ConcurrentHashMap<>();
+
+    // 기동 시 전체 인덱스 구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<LivestockSearchResponse> rows = livestockRepository.findSearchEntriesByStatusNot(LivestockStatus.SOLD);
+
+        earTagIndex.clear();
+        nicknameIndex.clear();
+        entries.clear();
+        rows.forEach(this::put);
+
+        log.info("개체 검색 인덱스 구성 완료: {}두", entries.size());
+    }
+
+    // 빠른 검색: 숫자만 입력하면 귀표번호 뒷자리, 그 외에는 별명(초성) 검색
+    public List<LivestockSearchResponse> quickFind(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            return Collections.emptyList();
+        }
+        int size = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        String keyword = query.trim();
+
+        List<Long> ids = new ArrayList<>();
+        if (keyword.chars().allMatch(Character::isDigit)) {
+            ids.addAll(earTagIndex.findBySuffix(keyword, size));
+        }
+        if (ids.size() < size) {
+            for (Long id : nicknameIndex.search(keyword, size)) {
+                if (!ids.contains(id)) {
+                    ids.add(id);
+                }
+                if (ids.size() >= size) {
+                    break;
+                }
+            }
+        }
+
+        List<LivestockSearchResponse> result = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            LivestockSearchResponse entry = entries.get(id);
+            if (entry != null) {
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    // 귀표번호 -> 개체 ID (판매 제외)
+    public Long findIdByEarTag(String earTag) {
+        return earTagIndex.findExact(earTag);
+    }
+
+    // 등록/수정된 개체 반영 (트랜잭션 커밋 후)
+    public void index(Livestock livestock) {
+        LivestockSearchResponse entry = new LivestockSearchResponse(
+                livestock.getId(), livestock.getEarTag(), livestock.getName());
+        TransactionHooks.afterCommit(() -> put(entry));
+    }
+
+    // 일괄 등록된 개체 반영 (트랜잭션 커밋 후)
+    public void indexAll(List<Livestock> livestocks) {
+        List<LivestockSearchResponse> rows = livestocks.stream()
+                .map(livestock -> new LivestockSearchResponse(livestock.getId(), livestock.getEarTag(), livestock.getName()))
+                .toList();
+        TransactionHooks.afterCommit(() -> rows.forEach(this::put));
+    }
+
+    // 판매 등으로 관리 대상에서 빠진 개체 제거 (트랜잭션 커밋 후)
+    public void remove(Long livestockId) {
+        TransactionHooks.afterCommit(() -> {
+            earTagIndex.remove(livestockId);
+            nicknameIndex.remove(livestockId);
+            entries.remove(livestockId);
+        });
+    }
+
+    private void put(LivestockSearchResponse entry) {
+        entries.put(entry.getId(), entry);
+        earTagIndex.put(entry.getId(), entry.getEarTag());
+        nicknameIndex.put(entry.getId(), entry.getName());
+    }
+}
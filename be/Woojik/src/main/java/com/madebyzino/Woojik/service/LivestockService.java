@@ -1,36 +1,65 @@
 package com.madebyzino.Woojik.service;
 
 import com.madebyzino.Woojik.dto.breeding.BreedingResponse;
+import com.madebyzino.Woojik.dto.common.CacheValidator;
 import com.madebyzino.Woojik.dto.healthy.HealthResponse;
 import com.madebyzino.Woojik.dto.livestock.LivestockDetailResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockPageResponse;
 import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
 import com.madebyzino.Woojik.dto.livestock.LivestockResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockSearchCondition;
+import com.madebyzino.Woojik.dto.livestock.LivestockStatusCount;
 import com.madebyzino.Woojik.dto.livestock.LivestockUpdateRequest;
+import com.madebyzino.Woojik.dto.livestock.LivestockVersion;
+import com.madebyzino.Woojik.dto.sale.SaleResponse;
 import com.madebyzino.Woojik.entity.Livestock;
 import com.madebyzino.Woojik.entity.Pen;
 import com.madebyzino.Woojik.entity.enums.LivestockStatus;
 import com.madebyzino.Woojik.error.CustomException;
 import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.LivestockChangedEvent;
+import com.madebyzino.Woojik.event.LivestockMovedEvent;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
 import com.madebyzino.Woojik.repository.BreedingRepository;
 import com.madebyzino.Woojik.repository.HealthRepository;
 import com.madebyzino.Woojik.repository.LivestockRepository;
 import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.repository.SaleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class LivestockService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    private static final int MAX_PAGE_SIZE = 200;
+
     private final LivestockRepository livestockRepository;
     private final PenRepository penRepository;
     private final HealthRepository healthRepository;
     private final BreedingRepository breedingRepository;
+    private final SaleRepository saleRepository;
+    private final LivestockSearchService livestockSearchService;
+    private final PenOccupancyService penOccupancyService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 개체 등록
     @Transactional
@@ -58,45 +87,138 @@ public class LivestockService {
                 .pen(pen)
                 .build();
 
-        return livestockRepository.save(livestock).getId();
+        penOccupancyService.increment(pen);
+        livestockRepository.save(livestock);
+        livestockSearchService.index(livestock);
+        eventPublisher.publishEvent(LivestockChangedEvent.of(livestock));
+        eventPublisher.publishEvent(LivestockStatusChangedEvent.of(livestock, null));
+
+        return livestock.getId();
     }
 
     // 상세 조회
     @Transactional(readOnly = true)
     public List<LivestockResponse> getManageableLivestockList() {
-        // SOLD 상태가 아닌 모든 가축을 조회
-        List<Livestock> livestockList = livestockRepository.findByStatusNot(LivestockStatus.SOLD);
+        // SOLD 상태가 아닌 모든 가축을 축사/방 이름과 함께 한 번에 조회 (DTO 프로젝션)
+        return livestockRepository.findResponsesByStatusNot(LivestockStatus.SOLD);
+    }
 
-        // DTO 매핑
-        return livestockList.stream()
-                .map(LivestockResponse::new) // 기존 DTO 생성자 사용 가정
-                .collect(Collectors.toList());
+    // 커서 기반 페이지 조회 (필터는 서버에서 적용)
+    @Transactional(readOnly = true)
+    public LivestockPageResponse getLivestockPage(LivestockSearchCondition condition) {
+        int size = condition.getSize() == null ? DEFAULT_PAGE_SIZE
+                : Math.max(1, Math.min(condition.getSize(), MAX_PAGE_SIZE));
+
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<LivestockResponse> rows = livestockRepository.findPageAfter(
+                condition.getStatus(),
+                condition.getGender(),
+                condition.getPenId(),
+                condition.getBarnId(),
+                condition.getCursor(),
+                Limit.of(size + 1));
+
+        boolean hasNext = rows.size() > size;
+        List<LivestockResponse> content = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? content.get(content.size() - 1).getId() : null;
+
+        LivestockPageResponse.LivestockPageResponseBuilder builder = LivestockPageResponse.builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext);
+
+        // 상태별 두수는 첫 페이지에서만 집계 (스크롤 중에는 재집계하지 않음)
+        if (condition.getCursor() == null) {
+            Map<String, Long> statusCounts = new LinkedHashMap<>();
+            for (LivestockStatus status : LivestockStatus.values()) {
+                statusCounts.put(status.name(), 0L);
+            }
+
+            List<LivestockStatusCount> counts = livestockRepository.countGroupByStatus(
+                    condition.getGender(), condition.getPenId(), condition.getBarnId());
+            for (LivestockStatusCount count : counts) {
+                if (count.getStatus() != null) {
+                    statusCounts.put(count.getStatus().name(), count.getCount());
+                }
+            }
+
+            long totalCount = statusCounts.entrySet().stream()
+                    .filter(entry -> !entry.getKey().equals(LivestockStatus.SOLD.name()))
+                    .mapToLong(Map.Entry::getValue)
+                    .sum();
+
+            builder.statusCounts(statusCounts).totalCount(totalCount);
+        }
+
+        return builder.build();
     }
 
     @Transactional(readOnly = true)
     public LivestockDetailResponse getDetail(Long id) {
-        Livestock livestock = livestockRepository.findById(id)
+        // 총 4번의 쿼리: 개체(+방/축사/부모 조인), 건강 이력, 번식 이력, 판매 정보
+        Livestock livestock = livestockRepository.findDetailById(id)
                 .orElseThrow(() -> new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND));
 
-        // 1. 건강 이력 조회 및 DTO 변환 (findByLivestock 호출)
-        List<HealthResponse> healthHistory = healthRepository.findByLivestock(livestock).stream()
+        // 1. 건강 이력 조회 및 DTO 변환
+        List<HealthResponse> healthHistory = healthRepository.findByLivestockIdOrderById(id).stream()
                 .map(HealthResponse::new)
                 .collect(Collectors.toList());
 
-        // 2. 번식 이력 조회 및 DTO 변환 (findByLivestock 호출)
-        List<BreedingResponse> breedingHistory = breedingRepository.findByLivestock(livestock).stream()
+        // 2. 번식 이력 조회 및 DTO 변환
+        List<BreedingResponse> breedingHistory = breedingRepository.findByLivestockIdOrderById(id).stream()
                 .map(BreedingResponse::new)
                 .collect(Collectors.toList());
 
-        // 3. 통합 DTO 반환
-        return new LivestockDetailResponse(livestock, healthHistory, breedingHistory);
+        // 3. 판매 정보 (개체는 이미 영속성 컨텍스트에 있으므로 추가 조회 없음)
+        SaleResponse saleInfo = saleRepository.findByLivestockId(id)
+                .map(SaleResponse::new)
+                .orElse(null);
+
+        // 4. 통합 DTO 반환
+        return new LivestockDetailResponse(livestock, healthHistory, breedingHistory, saleInfo);
+    }
+
+    // 상세 조회 검증자 (ETag / Last-Modified). 이력 목록은 읽지 않고 수정 시각과 건수만 조회
+    // 상세에 조인해 보여주는 방/축사 이름이 바뀌어도 달라지도록 방/축사 수정 시각도 포함
+    public CacheValidator getDetailValidator(Long id) {
+        LivestockVersion version = livestockRepository.findVersionById(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND));
+
+        // 월령(months)은 날짜가 바뀌면 달라지므로 오늘 날짜도 검증자에 포함
+        LocalDate today = LocalDate.now();
+        LocalDateTime lastModified = Stream.of(
+                        version.getLivestockUpdatedAt(),
+                        version.getPenUpdatedAt(),
+                        version.getBarnUpdatedAt(),
+                        version.getHealthUpdatedAt(),
+                        version.getBreedingUpdatedAt(),
+                        version.getSaleUpdatedAt(),
+                        today.atStartOfDay())
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElseThrow();
+
+        String key = String.join("|",
+                String.valueOf(id),
+                String.valueOf(today),
+                String.valueOf(version.getLivestockUpdatedAt()),
+                String.valueOf(version.getPenUpdatedAt()),
+                String.valueOf(version.getBarnUpdatedAt()),
+                String.valueOf(version.getHealthUpdatedAt()),
+                String.valueOf(version.getHealthCount()),
+                String.valueOf(version.getBreedingUpdatedAt()),
+                String.valueOf(version.getBreedingCount()),
+                String.valueOf(version.getSaleUpdatedAt()));
+        String etag = "\"" + DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)) + "\"";
+
+        return new CacheValidator(etag, lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
     }
 
     // 개체 이동 (방 옮기기)
     @Transactional
     public void movePen(Long livestockId, Long newPenId) {
-        // 1. 소 조회
-        Livestock livestock = livestockRepository.findById(livestockId)
+        // 1. 소 조회 (동시 이동 방지를 위해 행 잠금)
+        Livestock livestock = livestockRepository.findByIdForUpdate(livestockId)
                 .orElseThrow(() -> new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND));
 
         // 2. 이동할 방 조회
@@ -106,15 +228,15 @@ public class LivestockService {
         if (newPen.equals(livestock.getPen())) {
             return;
         }
-
-        // 현재 그 방에 있는 소 마릿수 조회
-        long currentCount = livestockRepository.countByPenId(newPenId);
-        if (currentCount >= newPen.getCapacity()) {
-            throw new CustomException(ErrorCode.PEN_CAPACITY_EXCEEDED);
+        if (livestock.getStatus() == LivestockStatus.SOLD) {
+            throw new CustomException(ErrorCode.ALREADY_SOLD_LIVESTOCK);
         }
 
-        // 3. 이동 처리
+        // 3. 새 방 정원 예약 (초과 시 PEN_CAPACITY_EXCEEDED) 후 이동 처리
+        Long fromPenId = livestock.getPen() == null ? null : livestock.getPen().getId();
+        penOccupancyService.move(livestock.getPen(), newPen);
         livestock.changePen(newPen);
+        eventPublisher.publishEvent(new LivestockMovedEvent(livestockId, fromPenId, newPen.getId()));
     }
 
     // 소의 정보 업데이트
@@ -130,6 +252,9 @@ public class LivestockService {
                 request.getBreed(),
                 request.getNotes()
         );
+
+        livestockSearchService.index(livestock);
+        eventPublisher.publishEvent(LivestockChangedEvent.of(livestock));
     }
 
     @Transactional(readOnly = true)
@@ -144,7 +269,7 @@ public class LivestockService {
 
     @Transactional
     public void moveLivestock(Long livestockId, Long destinationPenId) {
-        Livestock livestock = livestockRepository.findById(livestockId)
+        Livestock livestock = livestockRepository.findByIdForUpdate(livestockId)
                 .orElseThrow(() -> new IllegalArgumentException("가축 ID를 찾을 수 없습니다: " + livestockId));
 
         Pen destinationPen = penRepository.findById(destinationPenId)
@@ -153,8 +278,16 @@ public class LivestockService {
         if (livestock.getPen() != null && livestock.getPen().getId().equals(destinationPenId)) {
             return;
         }
+        if (livestock.getStatus() == LivestockStatus.SOLD) {
+            throw new CustomException(ErrorCode.ALREADY_SOLD_LIVESTOCK);
+        }
+
+        // 새 방 정원 예약 (초과 시 PEN_CAPACITY_EXCEEDED)
+        Long fromPenId = livestock.getPen() == null ? null : livestock.getPen().getId();
+        penOccupancyService.move(livestock.getPen(), destinationPen);
 
         livestock.movePen(destinationPen);
         livestockRepository.save(livestock);
+        eventPublisher.publishEvent(new LivestockMovedEvent(livestockId, fromPenId, destinationPenId));
     }
 }
\ No newline at end of file
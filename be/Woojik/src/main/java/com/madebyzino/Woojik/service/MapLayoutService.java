@@ -1,5 +1,6 @@
 package com.madebyzino.Woojik.service;
 
+import com.madebyzino.Woojik.dto.common.CacheValidator;
 import com.madebyzino.Woojik.dto.layout.BarnLayoutResponse;
 import com.madebyzino.Woojik.dto.layout.LayoutSaveRequest;
 import com.madebyzino.Woojik.dto.layout.PenLayoutDto;
@@ -8,13 +9,15 @@ import com.madebyzino.Woojik.entity.Pen;
 import com.madebyzino.Woojik.entity.PenLayout;
 import com.madebyzino.Woojik.repository.BarnRepository;
 import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenOccupancyRepository;
 import com.madebyzino.Woojik.repository.PenLayoutRepository;
 import com.madebyzino.Woojik.repository.PenRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -28,6 +31,8 @@ public class MapLayoutService {
     private final PenRepository penRepository;
     private final PenLayoutRepository penLayoutRepository;
     private final LivestockRepository livestockRepository;
+    private final PenOccupancyService penOccupancyService;
+    private final PenOccupancyRepository penOccupancyRepository;
     // 특정 축사의 현재 배치 상태와 미배치 방 목록을 조회합니다.
 
     // MapLayoutService.java
@@ -73,11 +78,9 @@ public class MapLayoutService {
                         .build())
                 .collect(Collectors.toList());
 
-        Map<Long, Integer> livestockCounts = new HashMap<>();
-        for (Pen pen : allPens) {
-            Integer count = (int) livestockRepository.countByPenId(pen.getId());
-            livestockCounts.put(pen.getId(), count);
-        }
+        // 7. 방별 두수 (카운터 일괄 조회, 방마다 COUNT 하지 않음)
+        Map<Long, Integer> livestockCounts = penOccupancyService.getCounts(
+                allPens.stream().map(Pen::getId).collect(Collectors.toList()));
 
         return BarnLayoutResponse.builder()
                 .barnId(barnId)
@@ -88,6 +91,20 @@ public class MapLayoutService {
                 .build();
     }
 
+    /**
+     * 축사 지도 검증자 (ETag).
+     * 배치 버전(배치 저장 시 증가) + 방 카운터 변경 횟수 합(입식/이동/판매 시 증가)이 같으면 응답도 같습니다.
+     * 축사가 없으면 null (조건부 처리 없이 기존 조회 경로로 넘김)
+     */
+    @Transactional(readOnly = true)
+    public CacheValidator getLayoutValidator(Long barnId) {
+        return barnRepository.findLayoutVersionById(barnId)
+                .map(layoutVersion -> new CacheValidator(
+                        "\"layout-" + barnId + "-" + layoutVersion + "-" + penOccupancyRepository.sumRevisionByBarnId(barnId) + "\"",
+                        -1))
+                .orElse(null);
+    }
+
     /**
      * 축사 배치 정보를 저장/업데이트합니다. (강제 덮어쓰기/삭제 로직 포함)
      */
@@ -140,60 +157,81 @@ public class MapLayoutService {
         // 4-2. 삭제 실행
         penLayoutRepository.deleteAll(deletedLayouts);
 
-        // 5. 🚨 저장/업데이트 처리 (생성, 업데이트 로직 분리)
+        // 5. 비교용 데이터 일괄 조회 (루프 안에서 조회하면 매번 flush 가 일어나 INSERT 배치가 끊김)
+        Map<Long, Pen> existingPens = penRepository.findAllById(requestedPenIds).stream()
+                .collect(Collectors.toMap(Pen::getId, pen -> pen));
+
+        Set<String> newPenNames = request.getLayouts().stream()
+                .filter(data -> data.getPenId() < 0)
+                .map(PenLayoutDto::getPenName)
+                .collect(Collectors.toSet());
+        Set<String> takenNames = newPenNames.isEmpty() ? new HashSet<>()
+                : penRepository.findByNameIn(newPenNames).stream()
+                        .map(Pen::getName)
+                        .collect(Collectors.toCollection(HashSet::new));
+
+        // 6. 🚨 저장/업데이트 처리 (생성, 업데이트 로직 분리)
+        List<Pen> newPens = new ArrayList<>();
+        List<PenLayout> newLayouts = new ArrayList<>();
+
         for (PenLayoutDto data : request.getLayouts()) {
 
             if (data.getPenId() < 0) {
                 // 신규 Pen 생성 로직 (ID가 음수인 경우)
-                if (penRepository.findByName(data.getPenName()).isPresent()) {
+                if (!takenNames.add(data.getPenName())) {
                     throw new IllegalArgumentException("방 이름 '" + data.getPenName() + "'은 이미 존재합니다.");
                 }
 
-                // 1. Pen 엔티티 생성 및 저장 (DB ID 할당)
+                // 1. Pen 엔티티 생성 (ID 는 시퀀스에서 미리 할당되므로 INSERT 는 커밋 시 배치로 실행)
                 Pen newPen = Pen.builder()
                         .barn(barn)
                         .name(data.getPenName())
                         .capacity(data.getCapacity())
                         .build();
-                newPen = penRepository.save(newPen);
+                newPens.add(newPen);
 
                 // 2. PenLayout 엔티티 생성 (새로운 배치 정보)
-                PenLayout layout = PenLayout.builder()
+                newLayouts.add(PenLayout.builder()
                         .barn(barn)
                         .pen(newPen) // 새로 생성된 Pen 사용
                         .gridRow(data.getGridRow())
                         .gridCol(data.getGridCol())
                         .rowSpan(data.getRowSpan())
                         .colSpan(data.getColSpan())
-                        .build();
-                penLayoutRepository.save(layout);
+                        .build());
 
             } else {
                 //  기존 Pen 업데이트 로직 (ID가 양수인 경우)
 
-                Pen pen = penRepository.findById(data.getPenId())
-                        .orElseThrow(() -> new IllegalArgumentException("방 ID를 찾을 수 없습니다: " + data.getPenId()));
-
-                PenLayout layout;
+                Pen pen = existingPens.get(data.getPenId());
+                if (pen == null) {
+                    throw new IllegalArgumentException("방 ID를 찾을 수 없습니다: " + data.getPenId());
+                }
 
-                // 기존에 존재하는 배치 정보 -> 업데이트
+                // 기존에 존재하는 배치 정보 -> 업데이트 (변경 감지)
                 if (existingLayoutMap.containsKey(data.getPenId())) {
-                    layout = existingLayoutMap.get(data.getPenId());
-                    layout.updateLayout(data.getGridRow(), data.getGridCol(), data.getRowSpan(), data.getColSpan());
+                    existingLayoutMap.get(data.getPenId())
+                            .updateLayout(data.getGridRow(), data.getGridCol(), data.getRowSpan(), data.getColSpan());
 
                 } else {
                     // DB에 Pen은 있으나, PenLayout은 없는 경우 (미배치였다가 배치됨) -> 새로 생성
-                    layout = PenLayout.builder()
+                    newLayouts.add(PenLayout.builder()
                             .barn(barn)
                             .pen(pen)
                             .gridRow(data.getGridRow())
                             .gridCol(data.getGridCol())
                             .rowSpan(data.getRowSpan())
                             .colSpan(data.getColSpan())
-                            .build();
+                            .build());
                 }
-                penLayoutRepository.save(layout);
             }
         }
+
+        penRepository.saveAll(newPens);
+        newPens.forEach(pen -> penOccupancyService.initialize(pen.getId()));
+        penLayoutRepository.saveAll(newLayouts);
+
+        // 지도 캐시 검증자 갱신
+        barn.increaseLayoutVersion();
     }
 }
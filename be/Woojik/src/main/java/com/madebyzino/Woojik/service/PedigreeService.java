@@ -0,0 +1,173 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.common.TransactionHooks;
+import com.madebyzino.Woojik.dto.pedigree.InbreedingResponse;
+import com.madebyzino.Woojik.dto.pedigree.KinshipResponse;
+import com.madebyzino.Woojik.dto.pedigree.PedigreeRow;
+import com.madebyzino.Woojik.dto.pedigree.SireCandidateResponse;
+import com.madebyzino.Woojik.entity.enums.BreedingType;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.BreedingRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.service.pedigree.PedigreeGraph;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 족보 조회 (근교계수, 혈연계수, 교배 후보 씨수소 순위).
+ * 개체별 부/모 FK 와 KPN 정액번호를 한 번에 읽어 PedigreeGraph 로 만들고, 족보가 바뀌기 전까지 재사용합니다.
+ * 족보는 분만 등록 때만 바뀌므로 그때 커밋 후 무효화하고 다음 조회에서 다시 만듭니다.
+ * (부모 없이 새로 등록된 개체는 그래프에 없어도 기초 개체와 같으므로 무효화하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PedigreeService {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 1_000;
+    // BreedingService.registerCalving 이 예전에 메모로만 남긴 씨수소 번호
+    private static final Pattern LEGACY_SIRE_NOTE = Pattern.compile("부\\(父\\):\\s*(\\S+)");
+    private static final String UNKNOWN_SIRE = "Unknown";
+
+    private final LivestockRepository livestockRepository;
+    private final BreedingRepository breedingRepository;
+
+    private volatile PedigreeGraph graph;
+    private volatile boolean stale = true;
+
+    // 근교계수 높은 순 (minCoefficient 초과만)
+    public List<InbreedingResponse> getInbreeding(Double minCoefficient, Integer limit) {
+        PedigreeGraph current = graph();
+        double min = minCoefficient == null ? 0 : minCoefficient;
+
+        List<InbreedingResponse> result = new ArrayList<>();
+        for (int i = 0; i < current.size(); i++) {
+            if (current.livestockId(i) != 0 && current.inbreeding(i) > min) {
+                result.add(new InbreedingResponse(current.livestockId(i), current.label(i), current.inbreeding(i)));
+            }
+        }
+        result.sort(Comparator.comparingDouble(InbreedingResponse::getCoefficient).reversed()
+                .thenComparing(InbreedingResponse::getLivestockId));
+        return result.subList(0, Math.min(result.size(), limitOf(limit)));
+    }
+
+    public KinshipResponse getKinship(Long livestockId, Long otherLivestockId) {
+        PedigreeGraph current = graph();
+        int a = indexOf(current, livestockId);
+        int b = indexOf(current, otherLivestockId);
+
+        double kinship;
+        if (a != PedigreeGraph.UNKNOWN && b != PedigreeGraph.UNKNOWN) {
+            kinship = current.kinship(a, b);
+        } else {
+            // 그래프 이후에 등록된 개체 = 부모 미상 기초 개체
+            kinship = livestockId.equals(otherLivestockId) ? 0.5 : 0;
+        }
+        return new KinshipResponse(livestockId, otherLivestockId, kinship);
+    }
+
+    // 암소에 붙일 KPN 씨수소 후보를 송아지 근교계수 낮은 순으로 (sireCodes 없으면 농장에서 쓴 적 있는 전체)
+    public List<SireCandidateResponse> getSireCandidates(Long livestockId, List<String> sireCodes, Integer limit) {
+        PedigreeGraph current = graph();
+        int dam = indexOf(current, livestockId);
+
+        Set<String> codes = new LinkedHashSet<>();
+        if (sireCodes == null || sireCodes.isEmpty()) {
+            codes.addAll(current.sireCodes());
+            codes.addAll(breedingRepository.findDistinctSireCodesByType(BreedingType.AI));
+        } else {
+            sireCodes.stream().filter(code -> code != null && !code.isBlank()).map(String::trim).forEach(codes::add);
+        }
+        codes.remove(UNKNOWN_SIRE);
+
+        List<String> candidates = new ArrayList<>(codes);
+        int[] sires = candidates.stream().mapToInt(current::indexOfSire).toArray();
+        double[] calfInbreeding = dam == PedigreeGraph.UNKNOWN
+                ? new double[sires.length]
+                : current.offspringInbreeding(dam, sires);
+
+        List<SireCandidateResponse> result = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            int offspring = sires[i] == PedigreeGraph.UNKNOWN ? 0 : current.offspringCount(sires[i]);
+            result.add(new SireCandidateResponse(candidates.get(i), calfInbreeding[i], offspring));
+        }
+        result.sort(Comparator.comparingDouble(SireCandidateResponse::getCalfInbreeding)
+                .thenComparing(SireCandidateResponse::getSireCode));
+        return result.subList(0, Math.min(result.size(), limitOf(limit)));
+    }
+
+    // 족보 변경 (분만 등록) 반영: 커밋 후 다음 조회에서 다시 구성
+    public void invalidate() {
+        TransactionHooks.afterCommit(() -> stale = true);
+    }
+
+    private PedigreeGraph graph() {
+        PedigreeGraph current = graph;
+        if (current != null && !stale) {
+            return current;
+        }
+        synchronized (this) {
+            if (graph == null || stale) {
+                // 구성 중에 들어온 무효화는 다시 stale 로 남도록 먼저 내림
+                stale = false;
+                graph = build();
+            }
+            return graph;
+        }
+    }
+
+    private PedigreeGraph build() {
+        long started = System.nanoTime();
+        List<PedigreeRow> rows = livestockRepository.findPedigreeRows();
+        List<PedigreeGraph.Node> nodes = new ArrayList<>(rows.size());
+        for (PedigreeRow row : rows) {
+            String sireCode = row.getSireCode() != null ? row.getSireCode() : legacySireCode(row.getNotes());
+            nodes.add(new PedigreeGraph.Node(row.getId(), row.getEarTag(), row.getMotherId(), row.getFatherId(), sireCode));
+        }
+
+        PedigreeGraph built = PedigreeGraph.of(nodes);
+        if (built.brokenLinks() > 0) {
+            log.warn("족보 순환 {}건을 부모 미상으로 처리했습니다.", built.brokenLinks());
+        }
+        log.info("족보 그래프 구성 완료: 개체 {}두, 씨수소 {}개 ({}ms)", rows.size(), built.size() - rows.size(),
+                (System.nanoTime() - started) / 1_000_000);
+        return built;
+    }
+
+    private int indexOf(PedigreeGraph current, Long livestockId) {
+        int index = current.indexOf(livestockId);
+        if (index == PedigreeGraph.UNKNOWN && !livestockRepository.existsById(livestockId)) {
+            throw new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND);
+        }
+        return index;
+    }
+
+    // SireAnalyticsService 도 같은 규칙으로 읽음
+    static String legacySireCode(String notes) {
+        if (notes == null) {
+            return null;
+        }
+        Matcher matcher = LEGACY_SIRE_NOTE.matcher(notes);
+        if (!matcher.find() || UNKNOWN_SIRE.equals(matcher.group(1))) {
+            return null;
+        }
+        return matcher.group(1);
+    }
+
+    private static int limitOf(Integer limit) {
+        return limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+    }
+}
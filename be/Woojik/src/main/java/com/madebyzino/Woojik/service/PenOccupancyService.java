@@ -0,0 +1,221 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.pen.PenCount;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.PenOccupancy;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.PenOccupancyChangedEvent;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenOccupancyRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 방별 두수 카운터 관리.
+ * 쓰기 경로(입식/이동/분만/판매)에서 같은 트랜잭션 안에서 증감하고,
+ * 지도 조회는 카운터만 읽습니다. 카운터가 어긋났을 때는 reconcile() 로 전체를 다시 계산합니다.
+ * 호출부는 개체 엔티티를 변경하기 전에 호출해야 합니다. (카운터가 없는 방은 현재 DB 상태로 생성 후 반영)
+ * 카운터가 바뀔 때마다 PenOccupancyChangedEvent 를 발행합니다. (실시간 스트림용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PenOccupancyService {
+
+    private final PenOccupancyRepository penOccupancyRepository;
+    private final LivestockRepository livestockRepository;
+    private final PenRepository penRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 입식/분만: 방에 한 마리 추가
+    @Transactional
+    public void increment(Pen pen) {
+        if (pen != null) {
+            apply(pen.getId(), 1);
+        }
+    }
+
+    // 일괄 등록: 방에 여러 마리 추가
+    @Transactional
+    public void incrementBy(Long penId, int count) {
+        if (penId != null && count != 0) {
+            apply(penId, count);
+        }
+    }
+
+    // 판매 등: 방에서 한 마리 제외
+    @Transactional
+    public void decrement(Pen pen) {
+        if (pen != null) {
+            apply(pen.getId(), -1);
+        }
+    }
+
+    // 이동: 새 방 정원 예약(+1) 후 기존 방 -1. 정원이 차 있으면 PEN_CAPACITY_EXCEEDED
+    // 두 방의 카운터 행은 항상 방 ID 오름차순으로 잠가서 반대 방향 이동끼리 교착되지 않게 합니다.
+    @Transactional
+    public void move(Pen from, Pen to) {
+        if (to == null) {
+            decrement(from);
+            return;
+        }
+        if (from != null && Objects.equals(from.getId(), to.getId())) {
+            return;
+        }
+
+        if (from != null && from.getId() < to.getId()) {
+            decrement(from);
+            reserve(to);
+        } else {
+            reserve(to);
+            decrement(from);
+        }
+    }
+
+    // 정원 안에서 한 자리 예약 (조건부 UPDATE 한 번으로 확인과 증가를 동시에 처리)
+    @Transactional
+    public void reserve(Pen pen) {
+        if (pen.getCapacity() == null) {
+            apply(pen.getId(), 1);
+            return;
+        }
+
+        int updated = penOccupancyRepository.reserve(pen.getId(), pen.getCapacity());
+        if (updated == 0 && !penOccupancyRepository.existsById(pen.getId())) {
+            createFromCurrentCount(pen.getId());
+            updated = penOccupancyRepository.reserve(pen.getId(), pen.getCapacity());
+        }
+        if (updated == 0) {
+            throw new CustomException(ErrorCode.PEN_CAPACITY_EXCEEDED);
+        }
+        eventPublisher.publishEvent(new PenOccupancyChangedEvent(pen.getId(), 1));
+    }
+
+    // 일괄 등록: 정원 안에서 최대 count 자리를 예약하고 예약한 수를 반환 (정원 미지정이면 전부)
+    // 한 번에 안 되면 남은 자리만큼 줄여 다시 시도하므로, 동시에 다른 요청이 자리를 채워도 정원을 넘지 않습니다.
+    @Transactional
+    public int reserveUpTo(Pen pen, int count) {
+        if (count <= 0) {
+            return 0;
+        }
+        if (pen.getCapacity() == null) {
+            apply(pen.getId(), count);
+            return count;
+        }
+
+        int requested = count;
+        while (requested > 0) {
+            if (penOccupancyRepository.reserveBy(pen.getId(), requested, pen.getCapacity()) > 0) {
+                eventPublisher.publishEvent(new PenOccupancyChangedEvent(pen.getId(), requested));
+                return requested;
+            }
+            Integer current = penOccupancyRepository.findCountByPenId(pen.getId());
+            if (current == null) {
+                createFromCurrentCount(pen.getId());
+                continue;
+            }
+            requested = Math.min(requested - 1, pen.getCapacity() - current);
+        }
+        return 0;
+    }
+
+    // 신규 방 카운터 생성 (INSERT 는 배치로 묶임)
+    @Transactional
+    public void initialize(Long penId) {
+        penOccupancyRepository.save(new PenOccupancy(penId, 0));
+    }
+
+    // 방별 현재 두수 조회 (카운터가 없는 방만 한 번의 GROUP BY 로 보충)
+    public Map<Long, Integer> getCounts(Collection<Long> penIds) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (penIds.isEmpty()) {
+            return counts;
+        }
+
+        for (PenOccupancy occupancy : penOccupancyRepository.findByPenIdIn(penIds)) {
+            counts.put(occupancy.getPenId(), occupancy.getLivestockCount());
+        }
+
+        Set<Long> missing = penIds.stream()
+                .filter(penId -> !counts.containsKey(penId))
+                .collect(Collectors.toSet());
+        if (!missing.isEmpty()) {
+            missing.forEach(penId -> counts.put(penId, 0));
+            for (PenCount row : livestockRepository.countGroupByPenIn(missing, LivestockStatus.SOLD)) {
+                counts.put(row.getPenId(), row.getCount().intValue());
+            }
+        }
+        return counts;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // 전체 카운터 재계산 (기동 시 + 관리자 요청 시)
+    @Transactional
+    public int reconcile() {
+        Map<Long, Integer> actual = new HashMap<>();
+        for (PenCount row : livestockRepository.countGroupByPen(LivestockStatus.SOLD)) {
+            actual.put(row.getPenId(), row.getCount().intValue());
+        }
+
+        Map<Long, PenOccupancy> stored = penOccupancyRepository.findAll().stream()
+                .collect(Collectors.toMap(PenOccupancy::getPenId, occupancy -> occupancy));
+
+        int corrected = 0;
+        List<Long> penIds = penRepository.findAll().stream().map(Pen::getId).toList();
+        for (Long penId : penIds) {
+            int count = actual.getOrDefault(penId, 0);
+            PenOccupancy occupancy = stored.get(penId);
+            if (occupancy == null) {
+                penOccupancyRepository.save(new PenOccupancy(penId, count));
+                corrected++;
+            } else if (occupancy.getLivestockCount() != count) {
+                eventPublisher.publishEvent(new PenOccupancyChangedEvent(penId, count - occupancy.getLivestockCount()));
+                occupancy.resetCount(count);
+                corrected++;
+            }
+        }
+
+        log.info("방 두수 카운터 재계산 완료: 방 {}개 중 {}개 보정", penIds.size(), corrected);
+        return corrected;
+    }
+
+    private void apply(Long penId, int delta) {
+        if (penOccupancyRepository.addCount(penId, delta) == 0) {
+            createFromCurrentCount(penId);
+            penOccupancyRepository.addCount(penId, delta);
+        }
+        eventPublisher.publishEvent(new PenOccupancyChangedEvent(penId, delta));
+    }
+
+    // 카운터가 없는 방: 변경 전 DB 상태로 카운터 생성
+    // 기동 시 reconcile() 과 방 생성 시 initialize() 로 미리 만들어 두므로 그 밖에서 생긴 방만 여기로 옵니다.
+    // 같은 방을 동시에 처음 쓰는 요청이 있어도 먼저 만든 쪽 행을 그대로 쓰고 이어서 reserve/addCount 합니다.
+    private void createFromCurrentCount(Long penId) {
+        long count = livestockRepository.countGroupByPenIn(List.of(penId), LivestockStatus.SOLD).stream()
+                .mapToLong(PenCount::getCount)
+                .sum();
+        penOccupancyRepository.insertIfAbsent(penId, (int) count);
+    }
+}
@@ -0,0 +1,245 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.common.TransactionHooks;
+import com.madebyzino.Woojik.dto.livestock.LivestockSearchResponse;
+import com.madebyzino.Woojik.dto.pen.PenResidencyResponse;
+import com.madebyzino.Woojik.dto.pen.PenResidencyRow;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.PenResidency;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.LivestockMovedEvent;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.repository.PenResidencyRepository;
+import com.madebyzino.Woojik.service.residency.ResidencyIntervals;
+import com.madebyzino.Woojik.service.residency.ResidencySnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 방 거주 이력 (어느 개체가 언제부터 언제까지 어느 방에 있었는지).
+ * 입식/분만/이동/판매 이벤트(LivestockStatusChangedEvent / LivestockMovedEvent)를 받아 pen_residencies 에 구간을 열고 닫고, 같은 구간을 메모리에도 둡니다.
+ * 방별로는 ResidencyIntervals(구간 트리)로 특정 시점/기간의 거주 개체를, 개체별로는 시작 순 목록으로 이동 이력을 바로 찾습니다.
+ * 기동 시 전체를 한 번 읽어 구성하고 (기록 도입 전 개체는 등록 시각부터 현재 방에 있던 것으로 보충), 변경은 커밋 후 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PenResidencyService {
+
+    private final PenResidencyRepository penResidencyRepository;
+    private final LivestockRepository livestockRepository;
+    private final PenRepository penRepository;
+
+    // 아래 상태는 this 로 동기화
+    private final Map<Long, List<PenResidencyRow>> byLivestock = new HashMap<>();
+    private final Map<Long, ResidencyIntervals> byPen = new HashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public int rebuild() {
+        long started = System.nanoTime();
+        LocalDateTime now = now();
+        List<PenResidency> missing = penResidencyRepository.findMissingOpenRows().stream()
+                .map(row -> new PenResidency(row.getLivestockId(), row.getPenId(),
+                        row.getStartedAt() == null ? now : row.getStartedAt()))
+                .toList();
+        penResidencyRepository.saveAll(missing);
+
+        Map<Long, List<PenResidencyRow>> builtLivestock = new HashMap<>();
+        Map<Long, List<PenResidencyRow>> rowsByPen = new HashMap<>();
+        int[] count = new int[1];
+        try (Stream<PenResidencyRow> rows = penResidencyRepository.streamRows()) {
+            rows.forEach(row -> {
+                builtLivestock.computeIfAbsent(row.getLivestockId(), id -> new ArrayList<>()).add(row);
+                rowsByPen.computeIfAbsent(row.getPenId(), id -> new ArrayList<>()).add(row);
+                count[0]++;
+            });
+        }
+        Map<Long, ResidencyIntervals> builtPen = new HashMap<>();
+        rowsByPen.forEach((penId, rows) -> builtPen.put(penId, ResidencyIntervals.of(rows)));
+
+        synchronized (this) {
+            byLivestock.clear();
+            byLivestock.putAll(builtLivestock);
+            byPen.clear();
+            byPen.putAll(builtPen);
+        }
+        log.info("방 거주 이력 구성 완료: 구간 {}개, 개체 {}두, 방 {}개 (보충 {}개, {}ms)", count[0], builtLivestock.size(),
+                builtPen.size(), missing.size(), (System.nanoTime() - started) / 1_000_000);
+        return count[0];
+    }
+
+    // 입식/분만/일괄 등록(신규 개체, previousStatus = null): 방이 지정된 개체의 구간 열기, 판매: 현재 구간 닫기
+    // 구간 행은 쓰기 트랜잭션 안에서 함께 저장/롤백되도록 동기 리스너로 처리 (메모리는 커밋 후 반영)
+    @EventListener
+    @Transactional
+    public void onStatusChanged(LivestockStatusChangedEvent event) {
+        if (event.previousStatus() == null) {
+            if (event.penId() != null) {
+                open(event.livestockId(), event.penId());
+            }
+        } else if (event.status() == LivestockStatus.SOLD) {
+            move(event.livestockId(), null);
+        }
+    }
+
+    // 이동
+    @EventListener
+    @Transactional
+    public void onMoved(LivestockMovedEvent event) {
+        move(event.livestockId(), event.toPenId());
+    }
+
+    private void open(Long livestockId, Long penId) {
+        LocalDateTime now = now();
+        penResidencyRepository.save(new PenResidency(livestockId, penId, now));
+        List<PenResidencyRow> opened = List.of(new PenResidencyRow(livestockId, penId, now));
+        TransactionHooks.afterCommit(() -> apply(now, List.of(), opened));
+    }
+
+    // 기존 구간을 닫고 새 방 구간 열기 (toPenId = null 이면 닫기만)
+    private void move(Long livestockId, Long toPenId) {
+        LocalDateTime now = now();
+        penResidencyRepository.closeOpen(livestockId, now);
+
+        List<PenResidencyRow> opened = toPenId == null
+                ? List.of()
+                : List.of(new PenResidencyRow(livestockId, toPenId, now));
+        if (toPenId != null) {
+            penResidencyRepository.save(new PenResidency(livestockId, toPenId, now));
+        }
+        TransactionHooks.afterCommit(() -> apply(now, List.of(livestockId), opened));
+    }
+
+    // 방에 [from, to) 동안 한 번이라도 있었던 개체 (to 가 없으면 from 시점, from 도 없으면 현재)
+    public List<PenResidencyResponse> getPenResidents(Long penId, LocalDateTime from, LocalDateTime to) {
+        if (!penRepository.existsById(penId)) {
+            throw new CustomException(ErrorCode.PEN_NOT_FOUND);
+        }
+        LocalDateTime start = from == null ? LocalDateTime.now() : from;
+        long fromKey = ResidencyIntervals.key(start);
+        long toKey = to == null ? fromKey + 1 : ResidencyIntervals.key(to);
+        if (toKey <= fromKey) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        ResidencyIntervals intervals;
+        synchronized (this) {
+            intervals = byPen.getOrDefault(penId, ResidencyIntervals.EMPTY);
+        }
+        return toResponses(intervals.overlapping(fromKey, toKey));
+    }
+
+    // 개체 이동 이력 (from/to 가 있으면 그 기간과 겹치는 구간만)
+    public List<PenResidencyResponse> getLivestockHistory(Long livestockId, LocalDateTime from, LocalDateTime to) {
+        long fromKey = from == null ? Long.MIN_VALUE : ResidencyIntervals.key(from);
+        long toKey = to == null ? ResidencyIntervals.OPEN : ResidencyIntervals.key(to);
+        if (toKey <= fromKey) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        List<PenResidencyRow> rows = new ArrayList<>();
+        synchronized (this) {
+            for (PenResidencyRow row : byLivestock.getOrDefault(livestockId, List.of())) {
+                if (ResidencyIntervals.key(row.getStartedAt()) < toKey && ResidencyIntervals.endKey(row) > fromKey) {
+                    rows.add(row);
+                }
+            }
+        }
+        if (rows.isEmpty() && !livestockRepository.existsById(livestockId)) {
+            throw new CustomException(ErrorCode.LIVESTOCK_NOT_FOUND);
+        }
+        return toResponses(rows);
+    }
+
+    // 접촉 추적 등 긴 계산용 현재 상태 (개체별 목록/방별 인덱스는 바뀔 때 새로 만들므로 맵만 복사)
+    public synchronized ResidencySnapshot snapshot() {
+        return new ResidencySnapshot(new HashMap<>(byLivestock), new HashMap<>(byPen));
+    }
+
+    // 메모리 반영: closedLivestockIds 의 열린 구간을 at 으로 닫고 opened 추가 (바뀐 개체 목록/방 인덱스만 새로 만듦)
+    private synchronized void apply(LocalDateTime at, Collection<Long> closedLivestockIds, List<PenResidencyRow> opened) {
+        Map<Long, List<PenResidencyRow>> removedByPen = new HashMap<>();
+        Map<Long, List<PenResidencyRow>> addedByPen = new HashMap<>();
+
+        for (Long livestockId : closedLivestockIds) {
+            List<PenResidencyRow> history = byLivestock.get(livestockId);
+            if (history == null || history.isEmpty()) {
+                continue;
+            }
+            PenResidencyRow last = history.get(history.size() - 1);
+            if (last.getEndedAt() != null) {
+                continue;
+            }
+            PenResidencyRow closed = new PenResidencyRow(livestockId, last.getPenId(), last.getStartedAt(), at);
+            List<PenResidencyRow> next = new ArrayList<>(history);
+            next.set(next.size() - 1, closed);
+            byLivestock.put(livestockId, next);
+            removedByPen.computeIfAbsent(last.getPenId(), id -> new ArrayList<>()).add(last);
+            addedByPen.computeIfAbsent(last.getPenId(), id -> new ArrayList<>()).add(closed);
+        }
+        for (PenResidencyRow row : opened) {
+            List<PenResidencyRow> next = new ArrayList<>(byLivestock.getOrDefault(row.getLivestockId(), List.of()));
+            next.add(row);
+            byLivestock.put(row.getLivestockId(), next);
+            addedByPen.computeIfAbsent(row.getPenId(), id -> new ArrayList<>()).add(row);
+        }
+
+        addedByPen.forEach((penId, added) -> byPen.put(penId, byPen.getOrDefault(penId, ResidencyIntervals.EMPTY)
+                .with(removedByPen.getOrDefault(penId, List.of()), added)));
+    }
+
+    // 귀표번호/방 이름을 붙여 시작 시각 순으로 반환 (IN 조회 두 번)
+    private List<PenResidencyResponse> toResponses(List<PenResidencyRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        Set<Long> livestockIds = rows.stream().map(PenResidencyRow::getLivestockId).collect(Collectors.toSet());
+        Set<Long> penIds = rows.stream().map(PenResidencyRow::getPenId).collect(Collectors.toSet());
+        Map<Long, LivestockSearchResponse> livestocks = livestockRepository.findSearchEntriesByIdIn(livestockIds).stream()
+                .collect(Collectors.toMap(LivestockSearchResponse::getId, Function.identity()));
+        Map<Long, String> penNames = new HashMap<>();
+        for (Pen pen : penRepository.findAllById(penIds)) {
+            penNames.put(pen.getId(), pen.getName());
+        }
+
+        return rows.stream()
+                .sorted(Comparator.comparing(PenResidencyRow::getStartedAt))
+                .map(row -> {
+                    LivestockSearchResponse livestock = livestocks.get(row.getLivestockId());
+                    return new PenResidencyResponse(row.getLivestockId(),
+                            livestock == null ? null : livestock.getEarTag(),
+                            livestock == null ? null : livestock.getName(),
+                            row.getPenId(), penNames.get(row.getPenId()),
+                            row.getStartedAt(), row.getEndedAt());
+                })
+                .toList();
+    }
+
+    // DB 에 저장되는 정밀도(마이크로초)에 맞춰 메모리 구간과 재구성 결과가 같게 함
+    private static LocalDateTime now() {
+        return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+    }
+}
@@ -0,0 +1,275 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.sale.SaleDailySum;
+import com.madebyzino.Woojik.dto.sale.SaleGroupSum;
+import com.madebyzino.Woojik.dto.sale.SaleRollupSum;
+import com.madebyzino.Woojik.dto.sale.SaleStatsResponse;
+import com.madebyzino.Woojik.entity.Sale;
+import com.madebyzino.Woojik.entity.SaleRollup;
+import com.madebyzino.Woojik.entity.enums.SalePeriod;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.SaleRepository;
+import com.madebyzino.Woojik.repository.SaleRollupRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매출 통계 (기간별 / 등급별 / 거래처별).
+ * 판매 등록 시 SaleRollup(판매일 x 등급 x 거래처)에 누적하고, 통계는 판매 원본 대신 집계 행만 읽습니다.
+ * 집계가 어긋났을 때는 rebuild() 로 판매 원본에서 다시 만듭니다. (집계 테이블이 비어 있으면 기동 시 자동 구성)
+ * 처음 나오는 집계 키의 행은 별도 트랜잭션에서 만들어, 같은 키로 동시에 판매해도 유니크 제약 위반으로 판매가 롤백되지 않습니다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class SaleAnalyticsService {
+
+    private static final int MAX_BUCKETS = 1_000;
+    private static final int DEFAULT_GROUP_LIMIT = 20;
+    private static final String NONE = "";
+
+    private final SaleRollupRepository saleRollupRepository;
+    private final SaleRepository saleRepository;
+    private final TransactionTemplate createTransaction;
+
+    public SaleAnalyticsService(SaleRollupRepository saleRollupRepository,
+                                SaleRepository saleRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.saleRollupRepository = saleRollupRepository;
+        this.saleRepository = saleRepository;
+        this.createTransaction = new TransactionTemplate(transactionManager);
+        this.createTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    // 판매 한 건 누적 (판매 등록과 같은 트랜잭션, 판매일이 없으면 집계 제외)
+    @Transactional
+    public void record(Sale sale) {
+        if (sale.getSaleDate() == null) {
+            return;
+        }
+        String grade = key(sale.getGrade());
+        String customerName = key(sale.getCustomerName());
+        Long price = sale.getPrice();
+        boolean weighed = price != null && sale.getWeight() != null && sale.getWeight() > 0;
+
+        long priceValue = price == null ? 0 : price;
+        long priced = price == null ? 0 : 1;
+        double weight = sale.getWeight() == null || sale.getWeight() <= 0 ? 0 : sale.getWeight();
+        long weighedPrice = weighed ? price : 0;
+        double weighedWeight = weighed ? weight : 0;
+
+        // 행이 없을 때 UPDATE 부터 하면 MySQL 은 빈 키 범위에 갭 락을 걸어 아래 별도 트랜잭션 INSERT 가 자기 자신을 기다리므로
+        // 잠금 없는 조회로 먼저 확인
+        if (!saleRollupRepository.existsBySaleDateAndGradeAndCustomerName(sale.getSaleDate(), grade, customerName)) {
+            create(sale.getSaleDate(), grade, customerName);
+        }
+        if (saleRollupRepository.add(sale.getSaleDate(), grade, customerName,
+                priceValue, priced, weight, weighedPrice, weighedWeight) == 0) {
+            // 그사이 rebuild() 가 집계를 지운 경우 (재구성 결과에 이 판매가 포함되지 않았으면 다음 rebuild 로 맞춤)
+            log.warn("판매 집계 누락: saleId={}, {}/{}/{}", sale.getId(), sale.getSaleDate(), grade, customerName);
+        }
+    }
+
+    // 빈 집계 행 생성 (별도 트랜잭션으로 바로 커밋, 다른 판매가 먼저 만들었으면 그 행을 씀)
+    // 판매가 롤백되면 0건 행이 남을 수 있으나 합계에는 영향이 없고 rebuild() 때 정리됩니다.
+    private void create(LocalDate saleDate, String grade, String customerName) {
+        try {
+            createTransaction.executeWithoutResult(status ->
+                    saleRollupRepository.saveAndFlush(new SaleRollup(saleDate, grade, customerName)));
+        } catch (DataIntegrityViolationException e) {
+            log.debug("판매 집계 행 동시 생성: {}/{}/{}", saleDate, grade, customerName);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void rebuildIfEmpty() {
+        if (saleRollupRepository.count() == 0 && saleRepository.count() > 0) {
+            rebuild();
+        }
+    }
+
+    // 판매 원본에서 집계 전체 재구성
+    @Transactional
+    public int rebuild() {
+        Map<String, SaleRollupBuilder> rollups = new HashMap<>();
+        for (Sale sale : saleRepository.findAll()) {
+            if (sale.getSaleDate() == null) {
+                continue;
+            }
+            String grade = key(sale.getGrade());
+            String customerName = key(sale.getCustomerName());
+            rollups.computeIfAbsent(sale.getSaleDate() + "|" + grade + "|" + customerName,
+                            k -> new SaleRollupBuilder(sale.getSaleDate(), grade, customerName))
+                    .add(sale);
+        }
+
+        saleRollupRepository.deleteAllInBatch();
+        saleRollupRepository.saveAll(rollups.values().stream().map(SaleRollupBuilder::build).toList());
+        log.info("판매 집계 재구성 완료: {}행", rollups.size());
+        return rollups.size();
+    }
+
+    // 기간별 매출 (판매가 없는 구간도 0 으로 채움)
+    public List<SaleStatsResponse> getPeriodStats(LocalDate from, LocalDate to, SalePeriod period) {
+        SalePeriod unit = period == null ? SalePeriod.MONTH : period;
+        LocalDate end = to == null ? LocalDate.now() : to;
+        LocalDate start = from == null ? bucketStart(end, unit).minus(11, unitOf(unit)) : from;
+        if (start.isAfter(end) || unitOf(unit).between(bucketStart(start, unit), end) >= MAX_BUCKETS) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        Map<LocalDate, Totals> buckets = new LinkedHashMap<>();
+        for (LocalDate bucket = bucketStart(start, unit); !bucket.isAfter(end); bucket = bucket.plus(1, unitOf(unit))) {
+            buckets.put(bucket, new Totals());
+        }
+        for (SaleDailySum sum : saleRollupRepository.sumByDate(start, end)) {
+            buckets.get(bucketStart(sum.getSaleDate(), unit)).add(sum);
+        }
+
+        List<SaleStatsResponse> result = new ArrayList<>(buckets.size());
+        buckets.forEach((bucket, totals) -> result.add(totals.toResponse(bucket, null)));
+        return result;
+    }
+
+    // 등급별 매출 (매출 많은 순)
+    public List<SaleStatsResponse> getGradeStats(LocalDate from, LocalDate to) {
+        return groupStats(saleRollupRepository.sumByGrade(rangeStart(from), rangeEnd(to)), Integer.MAX_VALUE);
+    }
+
+    // 거래처별 매출 (매출 많은 순, 상위 limit 곳)
+    public List<SaleStatsResponse> getCustomerStats(LocalDate from, LocalDate to, Integer limit) {
+        int size = limit == null || limit <= 0 ? DEFAULT_GROUP_LIMIT : limit;
+        return groupStats(saleRollupRepository.sumByCustomer(rangeStart(from), rangeEnd(to)), size);
+    }
+
+    private List<SaleStatsResponse> groupStats(List<SaleGroupSum> sums, int limit) {
+        return sums.stream()
+                .map(sum -> {
+                    Totals totals = new Totals();
+                    totals.add(sum);
+                    return totals.toResponse(null, NONE.equals(sum.getGroupKey()) ? null : sum.getGroupKey());
+                })
+                .sorted(Comparator.comparingLong(SaleStatsResponse::getTotalPrice).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    private static LocalDate rangeStart(LocalDate from) {
+        return from == null ? LocalDate.of(1900, 1, 1) : from;
+    }
+
+    private static LocalDate rangeEnd(LocalDate to) {
+        return to == null ? LocalDate.now() : to;
+    }
+
+    private static String key(String value) {
+        return value == null ? NONE : value.trim();
+    }
+
+    private static LocalDate bucketStart(LocalDate date, SalePeriod period) {
+        return switch (period) {
+            case DAY -> date;
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+
+    private static ChronoUnit unitOf(SalePeriod period) {
+        return switch (period) {
+            case DAY -> ChronoUnit.DAYS;
+            case WEEK -> ChronoUnit.WEEKS;
+            case MONTH -> ChronoUnit.MONTHS;
+            case YEAR -> ChronoUnit.YEARS;
+        };
+    }
+
+    // 집계 합산 -> 평균 계산
+    private static class Totals {
+        private long saleCount;
+        private long totalPrice;
+        private long pricedCount;
+        private double totalWeight;
+        private long weighedPrice;
+        private double weighedWeight;
+
+        private void add(SaleRollupSum sum) {
+            saleCount += sum.getSaleCount();
+            totalPrice += sum.getTotalPrice();
+            pricedCount += sum.getPricedCount();
+            totalWeight += sum.getTotalWeight();
+            weighedPrice += sum.getWeighedPrice();
+            weighedWeight += sum.getWeighedWeight();
+        }
+
+        private SaleStatsResponse toResponse(LocalDate periodStart, String group) {
+            return SaleStatsResponse.builder()
+                    .periodStart(periodStart)
+                    .group(group)
+                    .saleCount(saleCount)
+                    .totalPrice(totalPrice)
+                    .totalWeight(totalWeight)
+                    .averagePrice(pricedCount == 0 ? null : Math.round((double) totalPrice / pricedCount))
+                    .averagePricePerKg(weighedWeight == 0 ? null : Math.round(weighedPrice / weighedWeight))
+                    .build();
+        }
+    }
+
+    // 재구성용: 판매일 x 등급 x 거래처 한 행 누적
+    private static class SaleRollupBuilder {
+        private final LocalDate saleDate;
+        private final String grade;
+        private final String customerName;
+        private long saleCount;
+        private long totalPrice;
+        private long pricedCount;
+        private double totalWeight;
+        private long weighedPrice;
+        private double weighedWeight;
+
+        private SaleRollupBuilder(LocalDate saleDate, String grade, String customerName) {
+            this.saleDate = saleDate;
+            this.grade = grade;
+            this.customerName = customerName;
+        }
+
+        private void add(Sale sale) {
+            saleCount++;
+            if (sale.getPrice() != null) {
+                totalPrice += sale.getPrice();
+                pricedCount++;
+            }
+            if (sale.getWeight() != null && sale.getWeight() > 0) {
+                totalWeight += sale.getWeight();
+                if (sale.getPrice() != null) {
+                    weighedPrice += sale.getPrice();
+                    weighedWeight += sale.getWeight();
+                }
+            }
+        }
+
+        private SaleRollup build() {
+            return new SaleRollup(saleDate, grade, customerName, saleCount, totalPrice,
+                    pricedCount, totalWeight, weighedPrice, weighedWeight);
+        }
+    }
+}
@@ -7,9 +7,12 @@ import com.madebyzino.Woojik.entity.Sale;
 import com.madebyzino.Woojik.entity.enums.LivestockStatus;
 import com.madebyzino.Woojik.error.CustomException;
 import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.LivestockChangedEvent;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
 import com.madebyzino.Woojik.repository.LivestockRepository;
 import com.madebyzino.Woojik.repository.SaleRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -23,6 +26,12 @@ public class SaleService {
 
     private final SaleRepository saleRepository;
     private final LivestockRepository livestockRepository;
+    private final LivestockSearchService livestockSearchService;
+    private final PenOccupancyService penOccupancyService;
+    private final SaleAnalyticsService saleAnalyticsService;
+    private final BreedingKpiService breedingKpiService;
+    private final SireAnalyticsService sireAnalyticsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 판매 등록
     @Transactional
@@ -52,9 +61,17 @@ public class SaleService {
                 .build();
 
         saleRepository.save(sale);
+        saleAnalyticsService.record(sale);
+        sireAnalyticsService.recordSale(sale);
 
         // 4. 소 상태 변경
+        LivestockStatus previousStatus = livestock.getStatus();
+        penOccupancyService.decrement(livestock.getPen());
         livestock.changeStatus(LivestockStatus.SOLD);
+        livestockSearchService.remove(livestockId);
+        breedingKpiService.track(livestockId);
+        eventPublisher.publishEvent(LivestockChangedEvent.of(livestock));
+        eventPublisher.publishEvent(LivestockStatusChangedEvent.of(livestock, previousStatus));
 
         return sale.getId();
     }
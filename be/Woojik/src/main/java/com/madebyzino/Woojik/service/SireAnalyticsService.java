@@ -0,0 +1,213 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.common.TransactionHooks;
+import com.madebyzino.Woojik.dto.sire.SireCalfRow;
+import com.madebyzino.Woojik.dto.sire.SireEventRow;
+import com.madebyzino.Woojik.dto.sire.SireStatsResponse;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Sale;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.BreedingRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.service.sire.SireOutcome;
+import com.madebyzino.Woojik.service.sire.SireTotals;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * KPN 씨수소 농장 내 성적 (수태율, 분만, 자손 판매가).
+ * 기동 시 번식 이력을 암소 -> 날짜 순으로 한 번 스트리밍해 임신감정/분만 결과를 직전 인공수정의 씨수소에 붙이고,
+ * 자손(송아지의 sireCode)과 판매 정보를 한 번 읽어 씨수소별 누적값을 메모리에 둡니다.
+ * 번식 기록이 생기면 해당 암소 이력만 다시 읽어 이전 결과를 빼고 새 결과를 더하고, 송아지 등록/판매는 그대로 더합니다. (모두 커밋 후)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SireAnalyticsService {
+
+    private static final int DEFAULT_LIMIT = 50;
+    private static final int MAX_LIMIT = 1_000;
+    private static final int IN_CHUNK_SIZE = 1_000;
+
+    private final BreedingRepository breedingRepository;
+    private final LivestockRepository livestockRepository;
+
+    // 아래 상태는 this 로 동기화
+    private final Map<Long, List<SireOutcome>> outcomesByCow = new HashMap<>();
+    private final Map<String, SireTotals> sires = new HashMap<>();
+
+    // 기동 시 전체 구성
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public int rebuild() {
+        long started = System.nanoTime();
+        Map<Long, List<SireOutcome>> builtOutcomes = new HashMap<>();
+        Map<String, SireTotals> builtSires = new HashMap<>();
+
+        try (Stream<SireEventRow> rows = breedingRepository.streamSireEventRows()) {
+            List<SireEventRow> events = new ArrayList<>();
+            for (Iterator<SireEventRow> iterator = rows.iterator(); iterator.hasNext(); ) {
+                SireEventRow row = iterator.next();
+                if (!events.isEmpty() && !events.get(0).getLivestockId().equals(row.getLivestockId())) {
+                    putOutcomes(builtOutcomes, builtSires, events);
+                    events = new ArrayList<>();
+                }
+                events.add(row);
+            }
+            if (!events.isEmpty()) {
+                putOutcomes(builtOutcomes, builtSires, events);
+            }
+        }
+
+        try (Stream<SireCalfRow> calves = livestockRepository.streamSireCalfRows()) {
+            calves.forEach(calf -> {
+                String sireCode = calf.getSireCode() != null
+                        ? calf.getSireCode()
+                        : PedigreeService.legacySireCode(calf.getNotes());
+                if (sireCode == null) {
+                    return;
+                }
+                SireTotals totals = builtSires.computeIfAbsent(sireCode, code -> new SireTotals());
+                totals.addCalf(calf.getGender());
+                if (calf.getSalePrice() != null || calf.getSaleWeight() != null) {
+                    totals.addSale(calf.getSalePrice(), calf.getSaleWeight());
+                }
+            });
+        }
+
+        synchronized (this) {
+            outcomesByCow.clear();
+            outcomesByCow.putAll(builtOutcomes);
+            sires.clear();
+            sires.putAll(builtSires);
+        }
+        log.info("씨수소 성적 구성 완료: 씨수소 {}두 ({}ms)", builtSires.size(), (System.nanoTime() - started) / 1_000_000);
+        return builtSires.size();
+    }
+
+    // 수태율 높은 순 (결과가 나온 수정이 minServices 건 이상인 씨수소만), 같으면 자손 평균 판매가 높은 순
+    public List<SireStatsResponse> getRanking(Integer minServices, Integer limit) {
+        int min = minServices == null ? 1 : minServices;
+        int size = limit == null || limit <= 0 ? DEFAULT_LIMIT : Math.min(limit, MAX_LIMIT);
+
+        List<SireStatsResponse> result = new ArrayList<>();
+        synchronized (this) {
+            sires.forEach((code, totals) -> {
+                SireStatsResponse stats = totals.toResponse(code);
+                if (stats.getConceptions() + stats.getFailures() >= min) {
+                    result.add(stats);
+                }
+            });
+        }
+        result.sort(Comparator.comparing(SireStatsResponse::getConceptionRate,
+                        Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(SireStatsResponse::getAverageCalfPrice, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(SireStatsResponse::getSireCode));
+        return result.subList(0, Math.min(result.size(), size));
+    }
+
+    public SireStatsResponse getSire(String sireCode) {
+        synchronized (this) {
+            SireTotals totals = sires.get(sireCode);
+            if (totals == null) {
+                throw new CustomException(ErrorCode.SIRE_NOT_FOUND);
+            }
+            return totals.toResponse(sireCode);
+        }
+    }
+
+    public void track(Long livestockId) {
+        trackAll(List.of(livestockId));
+    }
+
+    // 번식 기록 반영: 쓰기 트랜잭션 안에서 해당 암소 이력을 다시 읽어(자동 flush) 계산하고 커밋 후 교체
+    public void trackAll(Collection<Long> livestockIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(livestockIds));
+        Map<Long, List<SireOutcome>> updated = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CHUNK_SIZE, ids.size()));
+            Map<Long, List<SireEventRow>> events = new HashMap<>();
+            for (SireEventRow row : breedingRepository.findSireEventRowsByLivestockIdIn(chunk)) {
+                events.computeIfAbsent(row.getLivestockId(), id -> new ArrayList<>()).add(row);
+            }
+            events.forEach((id, rows) -> updated.put(id, SireOutcome.of(rows)));
+        }
+
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                for (Long id : ids) {
+                    List<SireOutcome> previous = outcomesByCow.remove(id);
+                    if (previous != null) {
+                        previous.forEach(outcome -> sires.get(outcome.sireCode()).subtract(outcome));
+                    }
+                    List<SireOutcome> outcomes = updated.get(id);
+                    if (outcomes != null && !outcomes.isEmpty()) {
+                        outcomesByCow.put(id, outcomes);
+                        outcomes.forEach(outcome -> sires.computeIfAbsent(outcome.sireCode(), code -> new SireTotals()).add(outcome));
+                    }
+                    if (previous != null) {
+                        previous.forEach(outcome -> sires.computeIfPresent(outcome.sireCode(),
+                                (code, totals) -> totals.isEmpty() ? null : totals));
+                    }
+                }
+            }
+        });
+    }
+
+    // 분만으로 등록된 송아지
+    public void recordCalf(Livestock calf) {
+        String sireCode = calf.getFather() == null ? calf.getSireCode() : null;
+        if (sireCode == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                sires.computeIfAbsent(sireCode, code -> new SireTotals()).addCalf(calf.getGender());
+            }
+        });
+    }
+
+    // KPN 자손 판매
+    public void recordSale(Sale sale) {
+        Livestock livestock = sale.getLivestock();
+        if (livestock.getFather() != null || (livestock.getSireCode() == null && livestock.getMother() == null)) {
+            return;
+        }
+        String sireCode = livestock.getSireCode() != null
+                ? livestock.getSireCode()
+                : PedigreeService.legacySireCode(livestock.getNotes());
+        if (sireCode == null) {
+            return;
+        }
+        TransactionHooks.afterCommit(() -> {
+            synchronized (this) {
+                sires.computeIfAbsent(sireCode, code -> new SireTotals()).addSale(sale.getPrice(), sale.getWeight());
+            }
+        });
+    }
+
+    private static void putOutcomes(Map<Long, List<SireOutcome>> outcomesByCow, Map<String, SireTotals> sires,
+                                    List<SireEventRow> events) {
+        List<SireOutcome> outcomes = SireOutcome.of(events);
+        if (outcomes.isEmpty()) {
+            return;
+        }
+        outcomesByCow.put(events.get(0).getLivestockId(), outcomes);
+        outcomes.forEach(outcome -> sires.computeIfAbsent(outcome.sireCode(), code -> new SireTotals()).add(outcome));
+    }
+}
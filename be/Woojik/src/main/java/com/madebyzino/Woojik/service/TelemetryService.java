@@ -0,0 +1,258 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.config.TelemetryProperties;
+import com.madebyzino.Woojik.dto.telemetry.TelemetryBatchRequest;
+import com.madebyzino.Woojik.dto.telemetry.TelemetryIngestResponse;
+import com.madebyzino.Woojik.dto.telemetry.TelemetryStatsResponse;
+import com.madebyzino.Woojik.entity.TemperatureReading;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertType;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.service.telemetry.ReadingRingBuffer;
+import com.madebyzino.Woojik.service.telemetry.TemperatureAnomalyDetector;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 체온 목걸이 측정값 수집.
+ * 수집 API 는 귀표 -> 개체 ID 변환(메모리 색인)과 값 검증만 하고 링 버퍼에 넣은 뒤 바로 응답합니다.
+ * 저장은 전용 스레드 하나가 버퍼에서 flushBatchSize 단위로 꺼내 배치 INSERT 합니다.
+ * 버퍼가 가득 차면 요청 전체를 429 로 돌려보내며(부분 수락 없음), 저장에 실패한 값은 버리지 않고 재시도합니다.
+ * 저장이 끝난 값은 같은 스레드에서 개체별 체온 이상 감지기로 넘깁니다. (감지기 상태는 이 스레드만 건드림)
+ */
+@Slf4j
+@Service
+public class TelemetryService {
+
+    // 목걸이 센서 측정 가능 범위 밖의 값은 고장/오착용으로 보고 거부
+    private static final float MIN_TEMPERATURE = 30.0f;
+    private static final float MAX_TEMPERATURE = 45.0f;
+    private static final int MAX_REPORTED_UNKNOWN = 100;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long RETRY_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final LivestockSearchService livestockSearchService;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final TelemetryProperties properties;
+    private final TemperatureAlertService temperatureAlertService;
+
+    private final ReadingRingBuffer buffer;
+    private final TemperatureAnomalyDetector detector;
+    private final List<TemperatureAlertService.DetectedAlert> detectedAlerts = new ArrayList<>();
+
+    // 저장 스레드 전용 작업 배열 (배치마다 재사용)
+    private final long[] stagedIds;
+    private final long[] stagedTimes;
+    private final float[] stagedTemperatures;
+    private int staged;
+    private final ReadingRingBuffer.ReadingConsumer stager = this::stage;
+
+    private final AtomicLong acceptedTotal = new AtomicLong();
+    private final AtomicLong persistedTotal = new AtomicLong();
+    private final AtomicLong invalidTotal = new AtomicLong();
+    private final AtomicLong overloadRejectedTotal = new AtomicLong();
+    private final AtomicLong failedWrites = new AtomicLong();
+    private final AtomicLong alertsRaised = new AtomicLong();
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public TelemetryService(LivestockSearchService livestockSearchService,
+                            TransactionTemplate transactionTemplate,
+                            EntityManager entityManager,
+                            TelemetryProperties properties,
+                            TemperatureAlertService temperatureAlertService) {
+        this.livestockSearchService = livestockSearchService;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.properties = properties;
+        this.temperatureAlertService = temperatureAlertService;
+        this.buffer = new ReadingRingBuffer(properties.getBufferCapacity());
+
+        TelemetryProperties.Anomaly anomaly = properties.getAnomaly();
+        this.detector = new TemperatureAnomalyDetector(1_024, anomaly.getWindow(), anomaly.getAlpha(),
+                anomaly.getSigmaThreshold(), anomaly.getMinDeviation(), anomaly.getMinBaseline(),
+                anomaly.getFeverTemperature(), anomaly.getHypothermiaTemperature(), this::onAlert);
+        this.stagedIds = new long[properties.getFlushBatchSize()];
+        this.stagedTimes = new long[properties.getFlushBatchSize()];
+        this.stagedTemperatures = new float[properties.getFlushBatchSize()];
+    }
+
+    @PostConstruct
+    void start() {
+        running = true;
+        flusher = new Thread(this::runFlusher, "telemetry-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    // 종료 시 버퍼에 남은 값까지 저장하고 멈춤
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        flusher.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    // 측정값 수신
+    public TelemetryIngestResponse ingest(TelemetryBatchRequest request) {
+        List<TelemetryBatchRequest.Reading> readings = request.getReadings();
+        if (readings == null || readings.isEmpty() || readings.size() > properties.getMaxBatchReadings()) {
+            throw new CustomException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        // 1. 검증 + 귀표 -> 개체 ID (버퍼에 넣기 전에 끝내서 예약한 칸은 반드시 채워지도록)
+        int size = readings.size();
+        long[] ids = new long[size];
+        long[] times = new long[size];
+        float[] temperatures = new float[size];
+        int valid = 0;
+        List<String> unknownEarTags = new ArrayList<>();
+        long now = System.currentTimeMillis();
+
+        for (TelemetryBatchRequest.Reading reading : readings) {
+            Float temperature = reading.getTemperature();
+            if (temperature == null || !(temperature >= MIN_TEMPERATURE && temperature <= MAX_TEMPERATURE)) {
+                continue;
+            }
+            Long livestockId = reading.getEarTag() == null ? null : livestockSearchService.findIdByEarTag(reading.getEarTag());
+            if (livestockId == null) {
+                if (unknownEarTags.size() < MAX_REPORTED_UNKNOWN) {
+                    unknownEarTags.add(reading.getEarTag());
+                }
+                continue;
+            }
+
+            ids[valid] = livestockId;
+            times[valid] = reading.getMeasuredAt() == null
+                    ? now
+                    : reading.getMeasuredAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            temperatures[valid] = temperature;
+            valid++;
+        }
+
+        // 2. 버퍼 예약 (자리가 없으면 전부 거절 -> 목걸이/게이트웨이가 재전송)
+        if (valid > 0) {
+            long sequence = buffer.tryClaim(valid);
+            if (sequence < 0) {
+                overloadRejectedTotal.addAndGet(valid);
+                throw new CustomException(ErrorCode.TELEMETRY_BUFFER_FULL);
+            }
+            for (int i = 0; i < valid; i++) {
+                buffer.publish(sequence + i, ids[i], times[i], temperatures[i]);
+            }
+        }
+
+        acceptedTotal.addAndGet(valid);
+        invalidTotal.addAndGet(size - valid);
+
+        return TelemetryIngestResponse.builder()
+                .accepted(valid)
+                .rejected(size - valid)
+                .unknownEarTags(unknownEarTags)
+                .build();
+    }
+
+    public TelemetryStatsResponse getStats() {
+        return TelemetryStatsResponse.builder()
+                .capacity(buffer.capacity())
+                .buffered(buffer.size())
+                .acceptedTotal(acceptedTotal.get())
+                .persistedTotal(persistedTotal.get())
+                .invalidTotal(invalidTotal.get())
+                .overloadRejectedTotal(overloadRejectedTotal.get())
+                .failedWrites(failedWrites.get())
+                .alertsRaised(alertsRaised.get())
+                .build();
+    }
+
+    // 저장 스레드: 버퍼에서 꺼내 배치 저장, 저장이 끝난 만큼만 버퍼 자리 반환
+    private void runFlusher() {
+        while (running || buffer.size() > 0) {
+            staged = 0;
+            int count = buffer.drain(stager, stagedIds.length);
+            if (count == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+
+            try {
+                write(count);
+                buffer.release(count);
+                persistedTotal.addAndGet(count);
+            } catch (RuntimeException e) {
+                failedWrites.incrementAndGet();
+                if (!running) {
+                    log.error("종료 중 체온 측정값 저장 실패: {}건을 저장하지 못했습니다.", buffer.size(), e);
+                    return;
+                }
+                // release 하지 않았으므로 다음 루프에서 같은 값을 다시 저장 시도 (그동안 버퍼가 차면 수집 API 가 429)
+                log.warn("체온 측정값 저장 실패, 재시도합니다. (대기 {}건)", buffer.size(), e);
+                LockSupport.parkNanos(RETRY_BACKOFF_NANOS);
+                continue;
+            }
+
+            detect(count);
+        }
+    }
+
+    // 저장된 값만 감지기에 넘김 (재시도로 같은 값을 두 번 보지 않도록)
+    private void detect(int count) {
+        for (int i = 0; i < count; i++) {
+            detector.accept(stagedIds[i], stagedTimes[i], stagedTemperatures[i]);
+        }
+        if (detectedAlerts.isEmpty()) {
+            return;
+        }
+
+        try {
+            alertsRaised.addAndGet(temperatureAlertService.saveDetected(detectedAlerts));
+        } catch (RuntimeException e) {
+            // 감지 상태는 이미 이상으로 바뀌었으므로 같은 경보가 다시 나지 않음 -> 로그로 남김
+            log.error("체온 경보 {}건 저장 실패: {}", detectedAlerts.size(), detectedAlerts, e);
+        } finally {
+            detectedAlerts.clear();
+        }
+    }
+
+    private void onAlert(long livestockId, byte type, long measuredAt, float temperature, float baselineMean, float baselineStd) {
+        detectedAlerts.add(new TemperatureAlertService.DetectedAlert(
+                livestockId,
+                type == TemperatureAnomalyDetector.FEVER ? TemperatureAlertType.FEVER : TemperatureAlertType.HYPOTHERMIA,
+                LocalDateTime.ofInstant(Instant.ofEpochMilli(measuredAt), ZoneId.systemDefault()),
+                temperature,
+                Float.isNaN(baselineMean) ? null : baselineMean,
+                Float.isNaN(baselineMean) ? null : baselineStd));
+    }
+
+    private void stage(long livestockId, long measuredAt, float temperature) {
+        stagedIds[staged] = livestockId;
+        stagedTimes[staged] = measuredAt;
+        stagedTemperatures[staged] = temperature;
+        staged++;
+    }
+
+    private void write(int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                LocalDateTime measuredAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(stagedTimes[i]), ZoneId.systemDefault());
+                entityManager.persist(new TemperatureReading(stagedIds[i], measuredAt, stagedTemperatures[i]));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+}
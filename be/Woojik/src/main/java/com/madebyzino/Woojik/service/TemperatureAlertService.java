@@ -0,0 +1,148 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.config.TelemetryProperties;
+import com.madebyzino.Woojik.dto.healthy.HealthRequest;
+import com.madebyzino.Woojik.dto.pen.LivestockPenId;
+import com.madebyzino.Woojik.dto.telemetry.TemperatureAlertResponse;
+import com.madebyzino.Woojik.entity.TemperatureAlert;
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertStatus;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertType;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.TemperatureAlertRaisedEvent;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.TemperatureAlertRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TemperatureAlertService {
+
+    private static final int DEFAULT_DAYS = 7;
+    private static final int MAX_LIMIT = 500;
+
+    private final TemperatureAlertRepository temperatureAlertRepository;
+    private final LivestockRepository livestockRepository;
+    private final HealthService healthService;
+    private final TelemetryProperties telemetryProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 감지기에서 올라온 경보 저장 (수집 저장 스레드에서 호출). 저장한 건수를 반환
+    // 감지기 상태는 메모리에만 있어 재기동 후에는 진행 중인 이상을 다시 감지하므로,
+    // 같은 개체에 같은 종류의 처리 대기(OPEN) 경보가 이미 있으면 새로 만들지 않습니다. (저장 스레드 하나만 호출하므로 확인 후 저장해도 겹치지 않음)
+    @Transactional
+    public int saveDetected(List<DetectedAlert> detected) {
+        List<Long> livestockIds = detected.stream().map(DetectedAlert::livestockId).distinct().toList();
+        Set<String> open = new HashSet<>();
+        for (TemperatureAlert alert : temperatureAlertRepository.findByStatusAndLivestockIdIn(
+                TemperatureAlertStatus.OPEN, livestockIds)) {
+            open.add(alert.getLivestock().getId() + ":" + alert.getType());
+        }
+        List<DetectedAlert> fresh = detected.stream()
+                .filter(alert -> open.add(alert.livestockId() + ":" + alert.type()))
+                .toList();
+        if (fresh.isEmpty()) {
+            return 0;
+        }
+
+        boolean treatDraft = telemetryProperties.getAnomaly().isTreatDraft();
+        List<TemperatureAlert> alerts = fresh.stream()
+                .map(alert -> TemperatureAlert.builder()
+                        .livestock(livestockRepository.getReferenceById(alert.livestockId()))
+                        .type(alert.type())
+                        .measuredAt(alert.measuredAt())
+                        .temperature(alert.temperature())
+                        .baselineMean(alert.baselineMean())
+                        .baselineStd(alert.baselineStd())
+                        .draftDiseaseName(treatDraft ? draftDiseaseName(alert.type()) : null)
+                        .draftDescription(treatDraft ? draftDescription(alert) : null)
+                        .build())
+                .toList();
+        temperatureAlertRepository.saveAll(alerts);
+
+        // 실시간 스트림용: 축사별로 거를 수 있게 방 ID 를 한 번에 조회해서 함께 발행
+        Map<Long, Long> penIds = new HashMap<>();
+        for (LivestockPenId row : livestockRepository.findPenIdsByIdIn(
+                fresh.stream().map(DetectedAlert::livestockId).distinct().toList())) {
+            penIds.put(row.getLivestockId(), row.getPenId());
+        }
+        for (int i = 0; i < alerts.size(); i++) {
+            TemperatureAlert alert = alerts.get(i);
+            DetectedAlert source = fresh.get(i);
+            eventPublisher.publishEvent(new TemperatureAlertRaisedEvent(alert.getId(), source.livestockId(),
+                    penIds.get(source.livestockId()), alert.getType(), alert.getTemperature(), alert.getMeasuredAt()));
+        }
+        return alerts.size();
+    }
+
+    // 경보 목록 (기본: 최근 7일, 최대 500건)
+    public List<TemperatureAlertResponse> getAlerts(LocalDateTime from, TemperatureAlertStatus status, Long livestockId, Integer limit) {
+        LocalDateTime since = from == null ? LocalDateTime.now().minusDays(DEFAULT_DAYS) : from;
+        int size = limit == null || limit <= 0 ? MAX_LIMIT : Math.min(limit, MAX_LIMIT);
+        return temperatureAlertRepository.findRecent(since, status, livestockId, PageRequest.of(0, size)).stream()
+                .map(TemperatureAlertResponse::new)
+                .toList();
+    }
+
+    // 초안(또는 수정한 내용)으로 치료 기록 등록 -> 경보 처리 완료
+    @Transactional
+    public void treat(Long alertId, HealthRequest request) {
+        TemperatureAlert alert = findOpenAlert(alertId);
+
+        // 요청에 없는 항목은 초안 값 사용
+        HealthRequest edited = request == null ? new HealthRequest() : request;
+        HealthRequest health = new HealthRequest();
+        health.setType(HealthType.TREAT);
+        health.setDate(edited.getDate() != null ? edited.getDate() : alert.getMeasuredAt().toLocalDate());
+        health.setDiseaseName(edited.getDiseaseName() != null ? edited.getDiseaseName()
+                : alert.getDraftDiseaseName() != null ? alert.getDraftDiseaseName() : draftDiseaseName(alert.getType()));
+        health.setDescription(edited.getDescription() != null ? edited.getDescription() : alert.getDraftDescription());
+        health.setMedicine(edited.getMedicine());
+        health.setWithdrawalPeriod(edited.getWithdrawalPeriod());
+
+        healthService.registerHealth(alert.getLivestock().getId(), health);
+        alert.markTreated();
+    }
+
+    @Transactional
+    public void dismiss(Long alertId) {
+        findOpenAlert(alertId).dismiss();
+    }
+
+    private TemperatureAlert findOpenAlert(Long alertId) {
+        TemperatureAlert alert = temperatureAlertRepository.findById(alertId)
+                .orElseThrow(() -> new CustomException(ErrorCode.TEMPERATURE_ALERT_NOT_FOUND));
+        if (alert.getStatus() != TemperatureAlertStatus.OPEN) {
+            throw new CustomException(ErrorCode.TEMPERATURE_ALERT_CLOSED);
+        }
+        return alert;
+    }
+
+    private static String draftDiseaseName(TemperatureAlertType type) {
+        return type == TemperatureAlertType.FEVER ? "발열 의심" : "저체온 의심";
+    }
+
+    private static String draftDescription(DetectedAlert alert) {
+        if (alert.baselineMean() == null) {
+            return String.format("목걸이 체온 %.1f℃ 감지", alert.temperature());
+        }
+        return String.format("목걸이 체온 %.1f℃ 감지 (평소 %.1f℃)", alert.temperature(), alert.baselineMean());
+    }
+
+    public record DetectedAlert(Long livestockId, TemperatureAlertType type, LocalDateTime measuredAt,
+                                Float temperature, Float baselineMean, Float baselineStd) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.madebyzino.Woojik.service.export;
+
+import com.madebyzino.Woojik.entity.enums.ExportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 내보내기 파일 행 쓰기 (CSV / XLSX 공통).
+ * 받은 행은 바로 출력 스트림으로 내보내고 들고 있지 않으므로 행 수와 무관하게 메모리 사용량이 일정합니다.
+ * 값은 null, 문자열, 숫자, LocalDate, LocalDateTime, enum 을 받습니다. (그 외는 toString)
+ * close() 는 파일 끝맺음 + flush 만 하고 출력 스트림은 닫지 않습니다.
+ */
+public interface RowWriter extends Closeable {
+
+    void writeRow(Object... values) throws IOException;
+
+    static RowWriter open(ExportFormat format, OutputStream out, String sheetName) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowWriter(out);
+            case XLSX -> new XlsxRowWriter(out, sheetName);
+        };
+    }
+}
@@ -0,0 +1,256 @@
+package com.madebyzino.Woojik.service.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * XLSX 행 쓰기 (SpreadsheetML 을 ZIP 으로 바로 스트리밍).
+ * 문자열은 공유 문자열 표 대신 셀 안에 직접 쓰므로(inlineStr) 행 수와 무관하게 들고 있는 것이 없습니다.
+ * 날짜는 Excel 날짜 값 + 날짜 서식으로 써서 정렬/필터가 되도록 합니다.
+ * 시트 행 한도를 넘으면 다음 시트로 넘어가며, 첫 행(머리글)을 새 시트마다 다시 씁니다.
+ * 시트 수는 끝나야 알 수 있으므로 workbook.xml 등 목차 파일은 close() 에서 씁니다. (ZIP 안의 순서는 무관)
+ */
+public class XlsxRowWriter implements RowWriter {
+
+    // Excel 시트당 최대 행 수 (머리글 포함)
+    static final int MAX_SHEET_ROWS = 1_048_576;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    // 1970-01-01 의 Excel 날짜 값 (1900 날짜 체계)
+    private static final long EPOCH_SERIAL = 25_569;
+    private static final double SECONDS_PER_DAY = 86_400;
+
+    // styles.xml 의 cellXfs 순서
+    private static final int DATE_STYLE = 1;
+    private static final int DATE_TIME_STYLE = 2;
+
+    private static final String XML_HEADER = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String MAIN_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+    private static final String REL_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+    private final ZipOutputStream zip;
+    private final Writer writer;
+    private final String sheetName;
+    private final int maxSheetRows;
+
+    private Object[] header;
+    private int sheetCount;
+    private int sheetRows;
+    private boolean sheetOpen;
+
+    public XlsxRowWriter(OutputStream out, String sheetName) {
+        this(out, sheetName, MAX_SHEET_ROWS);
+    }
+
+    XlsxRowWriter(OutputStream out, String sheetName, int maxSheetRows) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.writer = new BufferedWriter(new OutputStreamWriter(zip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        this.sheetName = sheetName;
+        this.maxSheetRows = maxSheetRows;
+    }
+
+    @Override
+    public void writeRow(Object... values) throws IOException {
+        if (header == null) {
+            header = values.clone();
+        }
+        if (!sheetOpen) {
+            startSheet();
+        } else if (sheetRows >= maxSheetRows) {
+            endSheet();
+            startSheet();
+            writeCells(header);
+        }
+        writeCells(values);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!sheetOpen) {
+            startSheet();
+        }
+        endSheet();
+
+        writeEntry("[Content_Types].xml", contentTypes());
+        writeEntry("_rels/.rels", XML_HEADER
+                + "<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">"
+                + "<Relationship Id=\"rId1\" Type=\"" + REL_NS + "/officeDocument\" Target=\"xl/workbook.xml\"/>"
+                + "</Relationships>");
+        writeEntry("xl/workbook.xml", workbook());
+        writeEntry("xl/_rels/workbook.xml.rels", workbookRelationships());
+        writeEntry("xl/styles.xml", STYLES);
+
+        writer.flush();
+        zip.finish();
+        zip.flush();
+    }
+
+    private void startSheet() throws IOException {
+        sheetCount++;
+        sheetRows = 0;
+        sheetOpen = true;
+        zip.putNextEntry(new ZipEntry("xl/worksheets/sheet" + sheetCount + ".xml"));
+        writer.write(XML_HEADER);
+        writer.write("<worksheet xmlns=\"" + MAIN_NS + "\"><sheetData>");
+    }
+
+    private void endSheet() throws IOException {
+        writer.write("</sheetData></worksheet>");
+        writer.flush();
+        zip.closeEntry();
+        sheetOpen = false;
+    }
+
+    private void writeCells(Object[] values) throws IOException {
+        int row = ++sheetRows;
+        writer.write("<row r=\"");
+        writer.write(Integer.toString(row));
+        writer.write("\">");
+        for (int i = 0; i < values.length; i++) {
+            writeCell(columnName(i) + row, values[i]);
+        }
+        writer.write("</row>");
+    }
+
+    // null 셀은 쓰지 않음 (셀마다 위치를 적으므로 칸이 밀리지 않음)
+    private void writeCell(String ref, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number number) {
+            double numeric = number.doubleValue();
+            if (!Double.isFinite(numeric)) {
+                return;
+            }
+            writeValueCell(ref, -1, number instanceof Double || number instanceof Float
+                    ? Double.toString(numeric) : number.toString());
+            return;
+        }
+        if (value instanceof LocalDate date) {
+            writeValueCell(ref, DATE_STYLE, Long.toString(date.toEpochDay() + EPOCH_SERIAL));
+            return;
+        }
+        if (value instanceof LocalDateTime dateTime) {
+            double serial = dateTime.toLocalDate().toEpochDay() + EPOCH_SERIAL
+                    + dateTime.toLocalTime().toSecondOfDay() / SECONDS_PER_DAY;
+            writeValueCell(ref, DATE_TIME_STYLE, Double.toString(serial));
+            return;
+        }
+
+        writer.write("<c r=\"");
+        writer.write(ref);
+        writer.write("\" t=\"inlineStr\"><is><t xml:space=\"preserve\">");
+        writeEscaped(value.toString());
+        writer.write("</t></is></c>");
+    }
+
+    private void writeValueCell(String ref, int style, String value) throws IOException {
+        writer.write("<c r=\"");
+        writer.write(ref);
+        if (style >= 0) {
+            writer.write("\" s=\"");
+            writer.write(Integer.toString(style));
+        }
+        writer.write("\"><v>");
+        writer.write(value);
+        writer.write("</v></c>");
+    }
+
+    // XML 특수문자 이스케이프 + XML 에 쓸 수 없는 제어문자 제거
+    private void writeEscaped(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '&' -> writer.write("&amp;");
+                case '<' -> writer.write("&lt;");
+                case '>' -> writer.write("&gt;");
+                case '"' -> writer.write("&quot;");
+                default -> {
+                    if (c >= 0x20 || c == '\t' || c == '\n' || c == '\r') {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeEntry(String name, String content) throws IOException {
+        zip.putNextEntry(new ZipEntry(name));
+        writer.write(content);
+        writer.flush();
+        zip.closeEntry();
+    }
+
+    private String contentTypes() {
+        StringBuilder xml = new StringBuilder(XML_HEADER)
+                .append("<Types xmlns=\"http://schemas.openxmlformats.org/package/2006/content-types\">")
+                .append("<Default Extension=\"rels\" ContentType=\"application/vnd.openxmlformats-package.relationships+xml\"/>")
+                .append("<Default Extension=\"xml\" ContentType=\"application/xml\"/>")
+                .append("<Override PartName=\"/xl/workbook.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml\"/>")
+                .append("<Override PartName=\"/xl/styles.xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml\"/>");
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.append("<Override PartName=\"/xl/worksheets/sheet").append(i)
+                    .append(".xml\" ContentType=\"application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml\"/>");
+        }
+        return xml.append("</Types>").toString();
+    }
+
+    private String workbook() {
+        StringBuilder xml = new StringBuilder(XML_HEADER)
+                .append("<workbook xmlns=\"").append(MAIN_NS).append("\" xmlns:r=\"").append(REL_NS).append("\"><sheets>");
+        for (int i = 1; i <= sheetCount; i++) {
+            String name = i == 1 ? sheetName : sheetName + " (" + i + ")";
+            xml.append("<sheet name=\"").append(escapeAttribute(name))
+                    .append("\" sheetId=\"").append(i).append("\" r:id=\"rId").append(i).append("\"/>");
+        }
+        return xml.append("</sheets></workbook>").toString();
+    }
+
+    private String workbookRelationships() {
+        StringBuilder xml = new StringBuilder(XML_HEADER)
+                .append("<Relationships xmlns=\"http://schemas.openxmlformats.org/package/2006/relationships\">");
+        for (int i = 1; i <= sheetCount; i++) {
+            xml.append("<Relationship Id=\"rId").append(i).append("\" Type=\"").append(REL_NS)
+                    .append("/worksheet\" Target=\"worksheets/sheet").append(i).append(".xml\"/>");
+        }
+        xml.append("<Relationship Id=\"rId").append(sheetCount + 1).append("\" Type=\"").append(REL_NS)
+                .append("/styles\" Target=\"styles.xml\"/>");
+        return xml.append("</Relationships>").toString();
+    }
+
+    private static String escapeAttribute(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    // 0 -> A, 25 -> Z, 26 -> AA
+    static String columnName(int index) {
+        StringBuilder name = new StringBuilder();
+        for (int n = index + 1; n > 0; n = (n - 1) / 26) {
+            name.insert(0, (char) ('A' + (n - 1) % 26));
+        }
+        return name.toString();
+    }
+
+    // 기본 / 날짜(yyyy-mm-dd) / 날짜+시각 서식
+    private static final String STYLES = XML_HEADER
+            + "<styleSheet xmlns=\"" + MAIN_NS + "\">"
+            + "<numFmts count=\"2\"><numFmt numFmtId=\"164\" formatCode=\"yyyy-mm-dd\"/>"
+            + "<numFmt numFmtId=\"165\" formatCode=\"yyyy-mm-dd hh:mm:ss\"/></numFmts>"
+            + "<fonts count=\"1\"><font><sz val=\"11\"/><name val=\"Calibri\"/></font></fonts>"
+            + "<fills count=\"2\"><fill><patternFill patternType=\"none\"/></fill><fill><patternFill patternType=\"gray125\"/></fill></fills>"
+            + "<borders count=\"1\"><border><left/><right/><top/><bottom/><diagonal/></border></borders>"
+            + "<cellStyleXfs count=\"1\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\"/></cellStyleXfs>"
+            + "<cellXfs count=\"3\"><xf numFmtId=\"0\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\"/>"
+            + "<xf numFmtId=\"164\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/>"
+            + "<xf numFmtId=\"165\" fontId=\"0\" fillId=\"0\" borderId=\"0\" xfId=\"0\" applyNumberFormat=\"1\"/></cellXfs>"
+            + "<cellStyles count=\"1\"><cellStyle name=\"Normal\" xfId=\"0\" builtinId=\"0\"/></cellStyles>"
+            + "</styleSheet>";
+}
@@ -0,0 +1,15 @@
+package com.madebyzino.Woojik.service.journal;
+
+import com.madebyzino.Woojik.entity.LivestockEvent;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+
+import java.time.LocalDateTime;
+
+// 저장 대기 중인 변경 한 건 (커밋된 변경만 대기열에 들어감)
+public record JournalEntry(long livestockId, LivestockField field, String previousValue, String value,
+                           LocalDateTime occurredAt, String actor) {
+
+    public LivestockEvent toEntity() {
+        return new LivestockEvent(livestockId, field, previousValue, value, occurredAt, actor);
+    }
+}
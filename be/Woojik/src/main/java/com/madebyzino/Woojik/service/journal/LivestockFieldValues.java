@@ -0,0 +1,70 @@
+package com.madebyzino.Woojik.service.journal;
+
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+
+import java.time.LocalDate;
+
+/**
+ * 이력 값 변환: 필드 값 <-> 저널 문자열 (enum 은 이름, 날짜는 ISO, 방은 방 ID).
+ * 다시 구성(replay)은 요약 필드(LivestockField.summary)만 대상입니다.
+ * 상태/방은 방별 두수, 대시보드 카운터 등 다른 집계의 기준이라 이력으로 덮어쓰지 않고 차이만 보고합니다.
+ */
+public final class LivestockFieldValues {
+
+    private LivestockFieldValues() {
+    }
+
+    public static String encode(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Pen pen) {
+            // 프록시여도 ID 조회는 초기화하지 않음
+            return String.valueOf(pen.getId());
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+
+    public static String read(Livestock livestock, LivestockField field) {
+        return encode(switch (field) {
+            case EAR_TAG -> livestock.getEarTag();
+            case NAME -> livestock.getName();
+            case BIRTH_DATE -> livestock.getBirthDate();
+            case GENDER -> livestock.getGender();
+            case BREED -> livestock.getBreed();
+            case SIRE_CODE -> livestock.getSireCode();
+            case STATUS -> livestock.getStatus();
+            case PEN -> livestock.getPen();
+            case BREEDING_COUNT -> livestock.getBreedingCount();
+            case LAST_ESTRUS_DATE -> livestock.getLastEstrusDate();
+            case LAST_AI_DATE -> livestock.getLastAiDate();
+            case EXPECTED_DATE -> livestock.getExpectedDate();
+            case WITHDRAWAL_DATE -> livestock.getWithdrawalDate();
+            case LAST_DISEASE_NAME -> livestock.getLastDiseaseName();
+            case LAST_TREATMENT_DATE -> livestock.getLastTreatmentDate();
+        });
+    }
+
+    // 요약 필드에 이력 값 적용
+    public static void apply(Livestock livestock, LivestockField field, String value) {
+        switch (field) {
+            case BREEDING_COUNT -> livestock.setBreedingCount(value == null ? null : Integer.valueOf(value));
+            case LAST_ESTRUS_DATE -> livestock.setLastEstrusDate(date(value));
+            case LAST_AI_DATE -> livestock.setLastAiDate(date(value));
+            case EXPECTED_DATE -> livestock.setExpectedDate(date(value));
+            case WITHDRAWAL_DATE -> livestock.setWithdrawalDate(date(value));
+            case LAST_DISEASE_NAME -> livestock.updateHealthInfo(value, livestock.getLastTreatmentDate());
+            case LAST_TREATMENT_DATE -> livestock.updateHealthInfo(livestock.getLastDiseaseName(), date(value));
+            default -> throw new IllegalArgumentException("요약 필드가 아닙니다: " + field);
+        }
+    }
+
+    private static LocalDate date(String value) {
+        return value == null ? null : LocalDate.parse(value);
+    }
+}
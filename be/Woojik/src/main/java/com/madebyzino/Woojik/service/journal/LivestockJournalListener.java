@@ -0,0 +1,105 @@
+package com.madebyzino.Woojik.service.journal;
+
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import com.madebyzino.Woojik.service.LivestockJournalService;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Livestock INSERT/UPDATE 를 Hibernate flush 시점에 받아 바뀐 필드마다 이력을 남깁니다.
+ * changeStatus/movePen/setter 등 더티 체킹으로 반영되는 변경은 서비스마다 따로 기록하지 않아도 모두 잡힙니다.
+ * JPQL 집합 UPDATE 는 Hibernate 이벤트가 없으므로 호출하는 쪽(HealthService, LivestockScheduleService)에서 직접 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LivestockJournalListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final Map<String, LivestockField> FIELDS_BY_PROPERTY = Arrays.stream(LivestockField.values())
+            .collect(Collectors.toMap(LivestockField::getProperty, Function.identity()));
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final LivestockJournalService livestockJournalService;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    // 신규 등록: 값이 있는 필드 전부 (이전 값 null)
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (!(event.getEntity() instanceof Livestock)) {
+            return;
+        }
+        long livestockId = ((Number) event.getId()).longValue();
+        String[] properties = event.getPersister().getPropertyNames();
+        Object[] state = event.getState();
+
+        List<JournalEntry> entries = new ArrayList<>();
+        for (int i = 0; i < properties.length; i++) {
+            LivestockField field = FIELDS_BY_PROPERTY.get(properties[i]);
+            if (field != null && state[i] != null) {
+                entries.add(livestockJournalService.entry(livestockId, field, null, state[i]));
+            }
+        }
+        livestockJournalService.appendAll(entries);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Livestock)) {
+            return;
+        }
+        long livestockId = ((Number) event.getId()).longValue();
+        String[] properties = event.getPersister().getPropertyNames();
+        Object[] oldState = event.getOldState();
+        Object[] state = event.getState();
+        int[] dirty = event.getDirtyProperties();
+
+        List<JournalEntry> entries = new ArrayList<>();
+        for (int i = 0; i < properties.length; i++) {
+            LivestockField field = FIELDS_BY_PROPERTY.get(properties[i]);
+            if (field == null) {
+                continue;
+            }
+            int fieldIndex = i;
+            if (oldState == null) {
+                // 준영속 merge 등으로 이전 상태가 없으면 Hibernate 가 판단한 변경 필드만, 이전 값 미상(null)
+                if (dirty != null && Arrays.stream(dirty).anyMatch(index -> index == fieldIndex)) {
+                    entries.add(livestockJournalService.entry(livestockId, field, null, state[i]));
+                }
+            } else if (!Objects.equals(LivestockFieldValues.encode(oldState[i]), LivestockFieldValues.encode(state[i]))) {
+                entries.add(livestockJournalService.entry(livestockId, field, oldState[i], state[i]));
+            }
+        }
+        livestockJournalService.appendAll(entries);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+}
@@ -0,0 +1,109 @@
+package com.madebyzino.Woojik.service.kpi;
+
+import com.madebyzino.Woojik.dto.breeding.BreedingKpiRow;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * 개체 한 마리의 번식 KPI 누적값 (불변).
+ * 농장 전체 KPI 는 개체 누적값의 합이므로 개체 하나가 바뀌면 이전 값을 빼고 새 값을 더하면 됩니다.
+ * 수태 판정: 임신감정 양성 또는 분만이 오면 그 직전 수정을 수태 수정으로 봅니다. (자연교배 등 수정 기록이 없는 분만은 수태에서 제외)
+ * 공태일 = 분만일 -> 다음 수태 수정일, 수태당 수정 횟수 = 수태까지 걸린 수정 횟수 평균.
+ */
+public record CowBreedingKpi(
+        long livestockId,
+        boolean active,
+        int calvings,
+        long calvingIntervalSum,
+        int calvingIntervalCount,
+        long daysOpenSum,
+        int daysOpenCount,
+        int services,
+        int conceptions,
+        int servicesToConception,
+        int firstServiceConceptions,
+        LocalDate lastCalvingDate,
+        boolean open) {
+
+    // 한 개체의 이력 (날짜 순) -> KPI
+    public static CowBreedingKpi of(long livestockId, List<BreedingKpiRow> events) {
+        LivestockStatus status = events.isEmpty() ? null : events.get(0).getStatus();
+        Accumulator acc = new Accumulator();
+        for (BreedingKpiRow event : events) {
+            switch (event.getType()) {
+                case AI -> acc.service(event.getEventDate());
+                case PREG_CHECK -> {
+                    if (Boolean.TRUE.equals(event.getIsPregnant())) {
+                        acc.conceive();
+                    }
+                }
+                case CALVING -> acc.calve(event.getEventDate());
+                case ESTRUS -> {
+                }
+            }
+        }
+
+        return new CowBreedingKpi(livestockId, status != LivestockStatus.SOLD, acc.calvings,
+                acc.calvingIntervalSum, acc.calvingIntervalCount, acc.daysOpenSum, acc.daysOpenCount,
+                acc.services, acc.conceptions, acc.servicesToConception, acc.firstServiceConceptions,
+                acc.lastCalving, acc.lastCalving != null && !acc.conceived);
+    }
+
+    private static final class Accumulator {
+        private int calvings;
+        private long calvingIntervalSum;
+        private int calvingIntervalCount;
+        private long daysOpenSum;
+        private int daysOpenCount;
+        private int services;
+        private int conceptions;
+        private int servicesToConception;
+        private int firstServiceConceptions;
+
+        private LocalDate lastCalving;
+        private LocalDate lastService;
+        private int cycleServices;      // 마지막 분만/수태 이후 수정 횟수
+        private boolean conceived;      // 마지막 분만 이후 수태 확인됨
+
+        // 수태 확인 후 다시 수정했으면 앞선 임신이 유지되지 않은 것으로 보고 새로 셈
+        private void service(LocalDate date) {
+            services++;
+            cycleServices++;
+            lastService = date;
+            conceived = false;
+        }
+
+        private void conceive() {
+            if (conceived || lastService == null || cycleServices == 0) {
+                return;
+            }
+            conceptions++;
+            servicesToConception += cycleServices;
+            if (cycleServices == 1) {
+                firstServiceConceptions++;
+            }
+            if (lastCalving != null && !lastService.isBefore(lastCalving)) {
+                daysOpenSum += ChronoUnit.DAYS.between(lastCalving, lastService);
+                daysOpenCount++;
+            }
+            conceived = true;
+            cycleServices = 0;
+        }
+
+        private void calve(LocalDate date) {
+            conceive();
+            if (lastCalving != null) {
+                calvingIntervalSum += ChronoUnit.DAYS.between(lastCalving, date);
+                calvingIntervalCount++;
+            }
+            calvings++;
+            lastCalving = date;
+            lastService = null;
+            cycleServices = 0;
+            conceived = false;
+        }
+    }
+}
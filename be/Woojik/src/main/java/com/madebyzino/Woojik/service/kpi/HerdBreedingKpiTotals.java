@@ -0,0 +1,73 @@
+package com.madebyzino.Woojik.service.kpi;
+
+import com.madebyzino.Woojik.dto.breeding.HerdBreedingKpiResponse;
+
+import java.time.LocalDate;
+
+/**
+ * 농장 전체 번식 KPI 합계 (개체 KPI 를 더하고 빼서 유지, 동기화는 호출하는 쪽에서).
+ * 현재 공태일 평균은 오늘 날짜에 따라 바뀌므로 공태우의 마지막 분만일(epoch day) 합을 두고 조회 시 계산합니다.
+ */
+public final class HerdBreedingKpiTotals {
+
+    private int cowCount;
+    private long calvings;
+    private long calvingIntervalSum;
+    private long calvingIntervalCount;
+    private long daysOpenSum;
+    private long daysOpenCount;
+    private long services;
+    private long conceptions;
+    private long servicesToConception;
+    private long firstServiceConceptions;
+    private int openCowCount;
+    private long openCalvingDaySum;
+
+    public void add(CowBreedingKpi kpi) {
+        apply(kpi, 1);
+    }
+
+    public void subtract(CowBreedingKpi kpi) {
+        apply(kpi, -1);
+    }
+
+    public HerdBreedingKpiResponse toResponse(LocalDate today) {
+        return HerdBreedingKpiResponse.builder()
+                .baseDate(today)
+                .cowCount(cowCount)
+                .calvings(calvings)
+                .averageCalvingInterval(average(calvingIntervalSum, calvingIntervalCount))
+                .averageDaysOpen(average(daysOpenSum, daysOpenCount))
+                .services(services)
+                .conceptions(conceptions)
+                .servicesPerConception(average(servicesToConception, conceptions))
+                .conceptionRate(average(conceptions, services))
+                .firstServiceConceptionRate(average(firstServiceConceptions, conceptions))
+                .openCowCount(openCowCount)
+                .averageCurrentDaysOpen(openCowCount == 0
+                        ? null
+                        : today.toEpochDay() - (double) openCalvingDaySum / openCowCount)
+                .build();
+    }
+
+    public static Double average(long sum, long count) {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    private void apply(CowBreedingKpi kpi, int sign) {
+        cowCount += sign;
+        calvings += sign * kpi.calvings();
+        calvingIntervalSum += sign * kpi.calvingIntervalSum();
+        calvingIntervalCount += sign * kpi.calvingIntervalCount();
+        daysOpenSum += sign * kpi.daysOpenSum();
+        daysOpenCount += sign * kpi.daysOpenCount();
+        services += sign * kpi.services();
+        conceptions += sign * kpi.conceptions();
+        servicesToConception += sign * kpi.servicesToConception();
+        firstServiceConceptions += sign * kpi.firstServiceConceptions();
+        if (kpi.open() && kpi.active()) {
+            openCowCount += sign;
+            openCalvingDaySum += sign * kpi.lastCalvingDate().toEpochDay();
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.madebyzino.Woojik.service.live;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 실시간 변경 이벤트(SSE) 연결 관리 및 전송.
+ * 발행 쪽은 이벤트를 JSON 으로 한 번만 만들고 구독자별 큐에 넣기만 하므로 막히지 않습니다. (쓰기 트랜잭션 커밋 후 호출)
+ * 실제 전송은 전송 스레드 몇 개가 구독자 단위로 맡아서 하며, 한 구독자는 동시에 한 스레드만 처리합니다. (순서 보장)
+ * 느린 구독자의 큐가 가득 차면 밀린 이벤트를 버리고 "resync" 를 보내 화면이 REST 로 다시 읽게 합니다.
+ * 끊긴 뒤 재연결(Last-Event-ID)의 누락분 재전송은 하지 않습니다. 재연결 시 "connected" 를 받으면 화면을 다시 읽으면 됩니다.
+ */
+@Slf4j
+@Component
+public class LiveEventBroadcaster {
+
+    private static final int MAX_CLIENTS = 1_000;
+    private static final int CLIENT_BUFFER_SIZE = 256;
+    private static final int WRITER_THREADS = 4;
+    private static final long EMITTER_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+
+    private static final String RESYNC_EVENT = "resync";
+    private static final String CONNECTED_EVENT = "connected";
+
+    private final ObjectMapper objectMapper;
+    private final Set<LiveClient> clients = ConcurrentHashMap.newKeySet();
+    private final AtomicLong sequence = new AtomicLong();
+    private final ExecutorService writers;
+
+    public LiveEventBroadcaster(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.writers = Executors.newFixedThreadPool(WRITER_THREADS, runnable -> {
+            Thread thread = new Thread(runnable, "live-event-writer-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 구독 등록 (barnId = null 이면 농장 전체)
+    public SseEmitter subscribe(Long barnId) {
+        return subscribe(barnId, new SseEmitter(EMITTER_TIMEOUT_MILLIS));
+    }
+
+    // 테스트에서 전송 내용을 받아 볼 emitter 를 넘길 수 있도록 분리
+    SseEmitter subscribe(Long barnId, SseEmitter emitter) {
+        if (clients.size() >= MAX_CLIENTS) {
+            throw new CustomException(ErrorCode.LIVE_STREAM_LIMIT_EXCEEDED);
+        }
+
+        LiveClient client = new LiveClient(barnId, emitter);
+        emitter.onCompletion(() -> clients.remove(client));
+        emitter.onTimeout(() -> clients.remove(client));
+        emitter.onError(e -> clients.remove(client));
+        clients.add(client);
+
+        client.offer(new LiveEvent(sequence.incrementAndGet(), CONNECTED_EVENT, toJson(Collections.singletonMap("barnId", barnId))));
+        return emitter;
+    }
+
+    // 이벤트 전송 예약 (barnIds 중 하나라도 구독 축사와 같으면 전송, 농장 전체 구독자는 항상 수신)
+    public void publish(String name, Object payload, Long... barnIds) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        String data = toJson(payload);
+        if (data == null) {
+            return;
+        }
+
+        LiveEvent event = new LiveEvent(sequence.incrementAndGet(), name, data);
+        for (LiveClient client : clients) {
+            if (client.accepts(barnIds)) {
+                client.offer(event);
+            }
+        }
+    }
+
+    // 프록시/로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 한 줄 전송 (끊긴 연결도 이때 정리됨)
+    @Scheduled(fixedRate = 20_000)
+    public void heartbeat() {
+        for (LiveClient client : clients) {
+            client.offer(LiveEvent.HEARTBEAT);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        clients.forEach(client -> client.emitter.complete());
+        clients.clear();
+        writers.shutdownNow();
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("실시간 이벤트 직렬화 실패: {}", payload, e);
+            return null;
+        }
+    }
+
+    // name == null 이면 SSE 주석(heartbeat)
+    private record LiveEvent(long id, String name, String data) {
+        private static final LiveEvent HEARTBEAT = new LiveEvent(0, null, null);
+    }
+
+    private class LiveClient {
+
+        private final Long barnId;
+        private final SseEmitter emitter;
+        private final ArrayBlockingQueue<LiveEvent> queue = new ArrayBlockingQueue<>(CLIENT_BUFFER_SIZE);
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean overflowed;
+
+        private LiveClient(Long barnId, SseEmitter emitter) {
+            this.barnId = barnId;
+            this.emitter = emitter;
+        }
+
+        private boolean accepts(Long[] barnIds) {
+            if (barnId == null) {
+                return true;
+            }
+            for (Long id : barnIds) {
+                if (barnId.equals(id)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void offer(LiveEvent event) {
+            if (event == LiveEvent.HEARTBEAT && !queue.isEmpty()) {
+                return;
+            }
+            if (!queue.offer(event)) {
+                overflowed = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    writers.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // 종료 중 (전송 스레드 없음)
+                    scheduled.set(false);
+                }
+            }
+        }
+
+        // 전송 스레드: 큐가 빌 때까지 순서대로 전송
+        private void drain() {
+            try {
+                while (true) {
+                    if (overflowed) {
+                        overflowed = false;
+                        queue.clear();
+                        send(new LiveEvent(sequence.incrementAndGet(), RESYNC_EVENT, "{}"));
+                    }
+                    LiveEvent event = queue.poll();
+                    if (event == null) {
+                        break;
+                    }
+                    send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                // 클라이언트가 연결을 끊음 -> 정리
+                clients.remove(this);
+                queue.clear();
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                scheduled.set(false);
+            }
+
+            // 빠져나오는 사이에 들어온 이벤트가 있으면 다시 예약
+            if (!queue.isEmpty() || overflowed) {
+                schedule();
+            }
+        }
+
+        private void send(LiveEvent event) throws IOException {
+            if (event.name() == null) {
+                emitter.send(SseEmitter.event().comment("ping"));
+                return;
+            }
+            emitter.send(SseEmitter.event()
+                    .id(Long.toString(event.id()))
+                    .name(event.name())
+                    .data(event.data()));
+        }
+    }
+}
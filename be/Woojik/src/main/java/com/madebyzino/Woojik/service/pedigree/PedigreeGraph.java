@@ -0,0 +1,309 @@
+package com.madebyzino.Woojik.service.pedigree;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 농장 족보 그래프 (불변 스냅샷).
+ * 개체와 KPN 씨수소를 0..size-1 정수 번호로 두고 부/모를 int 배열로 가집니다. (부모가 항상 자식보다 작은 번호)
+ * 근교계수(Wright)는 Meuwissen & Luo (1992) 방식으로 만들 때 전체를 한 번 계산합니다.
+ * 한 개체의 근교계수 = 그 개체의 혈연 행렬 대각값 - 1 이며, 조상을 번호 큰 순으로 거슬러 올라가며 누적합니다.
+ * 두 개체의 혈연계수(kinship) = 둘 사이 가상 자손의 근교계수로 같은 계산을 재사용합니다.
+ * KPN 씨수소는 족보 정보가 없으므로 부모 미상 기초 개체로 둡니다.
+ */
+public final class PedigreeGraph {
+
+    public static final int UNKNOWN = -1;
+
+    private final int size;
+    private final int[] sire;
+    private final int[] dam;
+    private final long[] livestockIds;       // KPN 노드는 0
+    private final String[] labels;           // 귀표번호 또는 KPN 번호
+    private final int[] offspringCount;
+    private final double[] inbreeding;
+    private final double[] variance;         // 멘델 표본 분산 (Meuwissen & Luo 의 D)
+    private final Map<Long, Integer> indexByLivestockId;
+    private final Map<String, Integer> indexBySireCode;
+    private final int brokenLinks;
+
+    private PedigreeGraph(int size, int[] sire, int[] dam, long[] livestockIds, String[] labels,
+                          Map<Long, Integer> indexByLivestockId, Map<String, Integer> indexBySireCode, int brokenLinks) {
+        this.size = size;
+        this.sire = sire;
+        this.dam = dam;
+        this.livestockIds = livestockIds;
+        this.labels = labels;
+        this.indexByLivestockId = indexByLivestockId;
+        this.indexBySireCode = indexBySireCode;
+        this.brokenLinks = brokenLinks;
+        this.offspringCount = new int[size];
+        this.inbreeding = new double[size];
+        this.variance = new double[size];
+        computeInbreeding();
+    }
+
+    // 개체 족보 한 줄 (fatherId 가 있으면 sireCode 보다 우선)
+    public record Node(long livestockId, String earTag, Long motherId, Long fatherId, String sireCode) {
+    }
+
+    public static PedigreeGraph of(List<Node> nodes) {
+        // 1. KPN 씨수소 (기초 개체) 번호 먼저
+        Map<String, Integer> indexBySireCode = new LinkedHashMap<>();
+        Map<Long, Integer> position = new HashMap<>(nodes.size() * 2);
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            position.put(node.livestockId(), i);
+            if (node.fatherId() == null && node.sireCode() != null) {
+                indexBySireCode.putIfAbsent(node.sireCode(), indexBySireCode.size());
+            }
+        }
+
+        // 2. 부모 -> 자식 순서 (DFS 후위 순회, 순환 족보는 끊어서 부모 미상으로 처리)
+        int codes = indexBySireCode.size();
+        int size = codes + nodes.size();
+        int[] order = new int[nodes.size()];
+        int[] newIndex = new int[nodes.size()];
+        byte[] state = new byte[nodes.size()];    // 0 = 미방문, 1 = 방문 중, 2 = 완료
+        int[] parentOf = new int[nodes.size() * 2];
+        int brokenLinks = 0;
+        for (int i = 0; i < nodes.size(); i++) {
+            Node node = nodes.get(i);
+            parentOf[i * 2] = positionOf(position, node.fatherId());
+            parentOf[i * 2 + 1] = positionOf(position, node.motherId());
+        }
+
+        int ordered = 0;
+        int[] stack = new int[nodes.size()];
+        for (int root = 0; root < nodes.size(); root++) {
+            if (state[root] != 0) {
+                continue;
+            }
+            int top = 0;
+            stack[top++] = root;
+            state[root] = 1;
+            while (top > 0) {
+                int current = stack[top - 1];
+                int next = UNKNOWN;
+                for (int p = 0; p < 2 && next == UNKNOWN; p++) {
+                    int parent = parentOf[current * 2 + p];
+                    if (parent == UNKNOWN) {
+                        continue;
+                    }
+                    if (state[parent] == 1) {
+                        parentOf[current * 2 + p] = UNKNOWN;
+                        brokenLinks++;
+                    } else if (state[parent] == 0) {
+                        next = parent;
+                    }
+                }
+                if (next != UNKNOWN) {
+                    state[next] = 1;
+                    stack[top++] = next;
+                } else {
+                    state[current] = 2;
+                    newIndex[current] = codes + ordered;
+                    order[ordered++] = current;
+                    top--;
+                }
+            }
+        }
+
+        // 3. 배열 구성
+        int[] sire = new int[size];
+        int[] dam = new int[size];
+        long[] livestockIds = new long[size];
+        String[] labels = new String[size];
+        Map<Long, Integer> indexByLivestockId = new HashMap<>(nodes.size() * 2);
+        for (int i = 0; i < codes; i++) {
+            sire[i] = UNKNOWN;
+            dam[i] = UNKNOWN;
+        }
+        indexBySireCode.forEach((code, index) -> labels[index] = code);
+
+        for (int i = 0; i < nodes.size(); i++) {
+            int pos = order[i];
+            int index = codes + i;
+            Node node = nodes.get(pos);
+            int father = parentOf[pos * 2];
+            int mother = parentOf[pos * 2 + 1];
+            sire[index] = father != UNKNOWN ? newIndex[father]
+                    : node.fatherId() == null && node.sireCode() != null ? indexBySireCode.get(node.sireCode()) : UNKNOWN;
+            dam[index] = mother != UNKNOWN ? newIndex[mother] : UNKNOWN;
+            livestockIds[index] = node.livestockId();
+            labels[index] = node.earTag();
+            indexByLivestockId.put(node.livestockId(), index);
+        }
+
+        return new PedigreeGraph(size, sire, dam, livestockIds, labels, indexByLivestockId, indexBySireCode, brokenLinks);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int indexOf(long livestockId) {
+        return indexByLivestockId.getOrDefault(livestockId, UNKNOWN);
+    }
+
+    public int indexOfSire(String sireCode) {
+        return indexBySireCode.getOrDefault(sireCode, UNKNOWN);
+    }
+
+    public List<String> sireCodes() {
+        return new ArrayList<>(indexBySireCode.keySet());
+    }
+
+    // KPN 노드면 0
+    public long livestockId(int index) {
+        return livestockIds[index];
+    }
+
+    public String label(int index) {
+        return labels[index];
+    }
+
+    public double inbreeding(int index) {
+        return inbreeding[index];
+    }
+
+    public int offspringCount(int index) {
+        return offspringCount[index];
+    }
+
+    // 순환 족보라서 끊은 부모 연결 수 (데이터 오류)
+    public int brokenLinks() {
+        return brokenLinks;
+    }
+
+    // 두 개체의 혈연계수 (= 둘 사이 자손의 근교계수, 같은 개체면 (1 + F) / 2)
+    public double kinship(int a, int b) {
+        return new Tracer().offspringInbreeding(a, b);
+    }
+
+    // 한 암소에 여러 씨수소를 붙였을 때 자손 근교계수 (조상 추적용 작업 배열 재사용)
+    public double[] offspringInbreeding(int dam, int[] sires) {
+        Tracer tracer = new Tracer();
+        double[] result = new double[sires.length];
+        for (int i = 0; i < sires.length; i++) {
+            result[i] = tracer.offspringInbreeding(sires[i], dam);
+        }
+        return result;
+    }
+
+    // 번호 순서대로 (부모 먼저) 계산, 부모가 같은 자식(전형매)은 한 번만 추적
+    private void computeInbreeding() {
+        Tracer tracer = new Tracer();
+        Map<Long, Double> byParents = new HashMap<>();
+        for (int i = 0; i < size; i++) {
+            int s = sire[i];
+            int d = dam[i];
+            if (s != UNKNOWN) {
+                offspringCount[s]++;
+            }
+            if (d != UNKNOWN) {
+                offspringCount[d]++;
+            }
+
+            if (s != UNKNOWN && d != UNKNOWN) {
+                long key = (long) s * size + d;
+                Double cached = byParents.get(key);
+                if (cached == null) {
+                    cached = tracer.offspringInbreeding(s, d);
+                    byParents.put(key, cached);
+                }
+                inbreeding[i] = cached;
+                variance[i] = 0.5 - 0.25 * (inbreeding[s] + inbreeding[d]);
+            } else if (s != UNKNOWN || d != UNKNOWN) {
+                // 부모 한쪽 미상이면 공통 조상이 있을 수 없으므로 F = 0
+                variance[i] = 0.75 - 0.25 * inbreeding[s != UNKNOWN ? s : d];
+            } else {
+                variance[i] = 1.0;
+            }
+        }
+    }
+
+    private static int positionOf(Map<Long, Integer> position, Long livestockId) {
+        return livestockId == null ? UNKNOWN : position.getOrDefault(livestockId, UNKNOWN);
+    }
+
+    /**
+     * 조상 추적 작업 공간 (스레드마다 따로).
+     * 가상 자손에서 시작해 조상 번호가 큰 순(자식 -> 부모)으로 꺼내며 기여도(L)를 부모에게 절반씩 넘기고
+     * 혈연 행렬 대각값 = Σ L² x D 를 누적합니다. 꺼낸 조상은 다시 들어오지 않습니다. (자손은 모두 더 큰 번호)
+     */
+    private final class Tracer {
+
+        private final double[] weight = new double[size];
+        private final int[] heap = new int[size];
+        private int heapSize;
+
+        private double offspringInbreeding(int s, int d) {
+            if (s == UNKNOWN || d == UNKNOWN) {
+                return 0;
+            }
+            double diagonal = 0.5 - 0.25 * (inbreeding[s] + inbreeding[d]);
+            add(s, 0.5);
+            add(d, 0.5);
+            while (heapSize > 0) {
+                int j = pop();
+                double w = weight[j];
+                weight[j] = 0;
+                diagonal += w * w * variance[j];
+                if (sire[j] != UNKNOWN) {
+                    add(sire[j], 0.5 * w);
+                }
+                if (dam[j] != UNKNOWN) {
+                    add(dam[j], 0.5 * w);
+                }
+            }
+            return diagonal - 1;
+        }
+
+        private void add(int index, double w) {
+            if (weight[index] == 0) {
+                push(index);
+            }
+            weight[index] += w;
+        }
+
+        // 번호 최대 힙
+        private void push(int index) {
+            int i = heapSize++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (heap[parent] >= index) {
+                    break;
+                }
+                heap[i] = heap[parent];
+                i = parent;
+            }
+            heap[i] = index;
+        }
+
+        private int pop() {
+            int top = heap[0];
+            int last = heap[--heapSize];
+            int i = 0;
+            while (true) {
+                int child = i * 2 + 1;
+                if (child >= heapSize) {
+                    break;
+                }
+                if (child + 1 < heapSize && heap[child + 1] > heap[child]) {
+                    child++;
+                }
+                if (heap[child] <= last) {
+                    break;
+                }
+                heap[i] = heap[child];
+                i = child;
+            }
+            heap[i] = last;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.madebyzino.Woojik.service.residency;
+
+import com.madebyzino.Woojik.dto.pen.PenResidencyRow;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 방 하나의 거주 구간 인덱스 (구간 트리).
+ * 구간을 시작 시각 순 배열로 두고 가운데 원소를 루트로 보는 균형 이진 트리에 하위 트리의 최대 종료 시각을 붙여,
+ * [from, to) 와 겹치는 구간을 O(log n + k) 로 찾습니다. 열린 구간(현재 머무는 중)의 종료 시각은 OPEN 입니다.
+ * 불변 객체이며 구간이 바뀌면 with() 로 새 인덱스를 만듭니다. (방 하나 단위라 이동 한 번에 O(n) 복사)
+ */
+public final class ResidencyIntervals {
+
+    public static final long OPEN = Long.MAX_VALUE;
+    public static final ResidencyIntervals EMPTY = new ResidencyIntervals(List.of());
+
+    private static final Comparator<PenResidencyRow> BY_START = Comparator.comparing(PenResidencyRow::getStartedAt)
+            .thenComparing(PenResidencyRow::getLivestockId);
+
+    private final PenResidencyRow[] rows;
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] maxEnds;   // maxEnds[mid] = rows[lo..hi] 의 최대 종료 시각 (mid = (lo + hi) >>> 1)
+
+    private ResidencyIntervals(List<PenResidencyRow> sorted) {
+        int size = sorted.size();
+        this.rows = sorted.toArray(new PenResidencyRow[0]);
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.maxEnds = new long[size];
+        for (int i = 0; i < size; i++) {
+            starts[i] = key(rows[i].getStartedAt());
+            ends[i] = endKey(rows[i]);
+        }
+        fillMaxEnds(0, size - 1);
+    }
+
+    public static ResidencyIntervals of(List<PenResidencyRow> rows) {
+        List<PenResidencyRow> sorted = new ArrayList<>(rows);
+        sorted.sort(BY_START);
+        return new ResidencyIntervals(sorted);
+    }
+
+    // removed 를 빼고 (같은 인스턴스 기준) added 를 넣은 새 인덱스
+    public ResidencyIntervals with(Collection<PenResidencyRow> removed, Collection<PenResidencyRow> added) {
+        Set<PenResidencyRow> excluded = Collections.newSetFromMap(new IdentityHashMap<>());
+        excluded.addAll(removed);
+        List<PenResidencyRow> next = new ArrayList<>(rows.length + added.size());
+        for (PenResidencyRow row : rows) {
+            if (!excluded.contains(row)) {
+                next.add(row);
+            }
+        }
+        next.addAll(added);
+        return of(next);
+    }
+
+    public int size() {
+        return rows.length;
+    }
+
+    // [from, to) 와 겹치는 구간 (시작 시각 순). 특정 시점이면 to = from + 1ms
+    public List<PenResidencyRow> overlapping(long from, long to) {
+        List<PenResidencyRow> result = new ArrayList<>();
+        collect(0, rows.length - 1, from, to, result);
+        return result;
+    }
+
+    // 구간 비교용 시각 키 (밀리초, 시간대 변환 없이 LocalDateTime 순서만 보존)
+    public static long key(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static LocalDateTime time(long key) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(key), ZoneOffset.UTC);
+    }
+
+    // 구간 종료 키 (열린 구간이면 OPEN)
+    public static long endKey(PenResidencyRow row) {
+        return row.getEndedAt() == null ? OPEN : key(row.getEndedAt());
+    }
+
+    private long fillMaxEnds(int lo, int hi) {
+        if (lo > hi) {
+            return Long.MIN_VALUE;
+        }
+        int mid = (lo + hi) >>> 1;
+        long max = Math.max(ends[mid], Math.max(fillMaxEnds(lo, mid - 1), fillMaxEnds(mid + 1, hi)));
+        maxEnds[mid] = max;
+        return max;
+    }
+
+    private void collect(int lo, int hi, long from, long to, List<PenResidencyRow> result) {
+        if (lo > hi) {
+            return;
+        }
+        int mid = (lo + hi) >>> 1;
+        // 하위 트리의 모든 구간이 from 이전에 끝남
+        if (maxEnds[mid] <= from) {
+            return;
+        }
+        collect(lo, mid - 1, from, to, result);
+        // 오른쪽은 시작 시각이 더 늦으므로 mid 가 to 이후에 시작하면 오른쪽도 모두 제외
+        if (starts[mid] >= to) {
+            return;
+        }
+        if (ends[mid] > from) {
+            result.add(rows[mid]);
+        }
+        collect(mid + 1, hi, from, to, result);
+    }
+}
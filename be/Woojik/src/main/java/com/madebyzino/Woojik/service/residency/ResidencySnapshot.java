@@ -0,0 +1,22 @@
+package com.madebyzino.Woojik.service.residency;
+
+import com.madebyzino.Woojik.dto.pen.PenResidencyRow;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방 거주 이력의 한 시점 상태 (읽기 전용).
+ * 담긴 목록과 인덱스는 이후 변경에도 바뀌지 않으므로 잠금 없이 여러 스레드에서 읽을 수 있습니다.
+ */
+public record ResidencySnapshot(Map<Long, List<PenResidencyRow>> byLivestock, Map<Long, ResidencyIntervals> byPen) {
+
+    // 개체의 거주 구간 (시작 순)
+    public List<PenResidencyRow> residencies(Long livestockId) {
+        return byLivestock.getOrDefault(livestockId, List.of());
+    }
+
+    public ResidencyIntervals pen(Long penId) {
+        return byPen.getOrDefault(penId, ResidencyIntervals.EMPTY);
+    }
+}
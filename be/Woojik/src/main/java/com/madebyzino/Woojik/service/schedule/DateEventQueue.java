@@ -0,0 +1,93 @@
+package com.madebyzino.Woojik.service.schedule;
+
+import com.madebyzino.Woojik.entity.enums.LivestockDueType;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * 날짜별 예약 작업 대기열 (하루 단위 버킷).
+ * 개체/종류마다 예약은 하나뿐이며, 날짜가 바뀌면 기존 버킷에서 빼고 새 버킷에 넣습니다.
+ * 도래한 날짜의 버킷은 종류별 개체 ID 묶음으로 꺼내므로 그대로 묶음 UPDATE 에 쓸 수 있습니다.
+ * 스레드 안전하지 않음 (호출부에서 동기화).
+ */
+public class DateEventQueue {
+
+    private final TreeMap<LocalDate, EnumMap<LivestockDueType, Set<Long>>> buckets = new TreeMap<>();
+    private final EnumMap<LivestockDueType, Map<Long, LocalDate>> scheduled = new EnumMap<>(LivestockDueType.class);
+
+    public DateEventQueue() {
+        for (LivestockDueType type : LivestockDueType.values()) {
+            scheduled.put(type, new HashMap<>());
+        }
+    }
+
+    // 예약 (date = null 이면 취소)
+    public void schedule(LivestockDueType type, Long livestockId, LocalDate date) {
+        cancel(type, livestockId);
+        if (date == null) {
+            return;
+        }
+        buckets.computeIfAbsent(date, d -> new EnumMap<>(LivestockDueType.class))
+                .computeIfAbsent(type, t -> new HashSet<>())
+                .add(livestockId);
+        scheduled.get(type).put(livestockId, date);
+    }
+
+    public void cancel(LivestockDueType type, Long livestockId) {
+        LocalDate date = scheduled.get(type).remove(livestockId);
+        if (date == null) {
+            return;
+        }
+        EnumMap<LivestockDueType, Set<Long>> bucket = buckets.get(date);
+        Set<Long> ids = bucket.get(type);
+        ids.remove(livestockId);
+        if (ids.isEmpty()) {
+            bucket.remove(type);
+            if (bucket.isEmpty()) {
+                buckets.remove(date);
+            }
+        }
+    }
+
+    public LocalDate scheduledDate(LivestockDueType type, Long livestockId) {
+        return scheduled.get(type).get(livestockId);
+    }
+
+    // 가장 이른 예약 날짜 (없으면 null)
+    public LocalDate firstDate() {
+        return buckets.isEmpty() ? null : buckets.firstKey();
+    }
+
+    // today 까지 도래한 예약을 날짜순으로 꺼냄
+    public List<Due> pollUntil(LocalDate today) {
+        List<Due> due = new ArrayList<>();
+        while (!buckets.isEmpty() && !buckets.firstKey().isAfter(today)) {
+            Map.Entry<LocalDate, EnumMap<LivestockDueType, Set<Long>>> entry = buckets.pollFirstEntry();
+            entry.getValue().forEach((type, ids) -> {
+                ids.forEach(scheduled.get(type)::remove);
+                due.add(new Due(entry.getKey(), type, new ArrayList<>(ids)));
+            });
+        }
+        return due;
+    }
+
+    public int size() {
+        return scheduled.values().stream().mapToInt(Map::size).sum();
+    }
+
+    public void clear() {
+        buckets.clear();
+        scheduled.values().forEach(Map::clear);
+    }
+
+    public record Due(LocalDate date, LivestockDueType type, List<Long> livestockIds) {
+    }
+}
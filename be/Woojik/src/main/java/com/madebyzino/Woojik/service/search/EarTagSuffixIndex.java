@@ -0,0 +1,72 @@
+package com.madebyzino.Woojik.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * 귀표번호 뒷자리 검색용 인덱스.
+ * 귀표번호를 뒤집어서 정렬 맵에 보관하므로 "뒷자리 일치" 검색이 "앞자리 일치" 범위 조회(O(log n + k))가 됩니다.
+ * 예) 002300011234 -> 432110003200, 검색어 1234 -> 4321 로 시작하는 범위
+ */
+public class EarTagSuffixIndex {
+
+    // 뒤집은 귀표번호 -> 개체 ID
+    private final ConcurrentSkipListMap<String, Long> reversedTags = new ConcurrentSkipListMap<>();
+    // 개체 ID -> 원래 귀표번호 (갱신/삭제용)
+    private final Map<Long, String> tagsById = new ConcurrentHashMap<>();
+
+    public void put(Long id, String earTag) {
+        if (id == null || earTag == null || earTag.isBlank()) {
+            return;
+        }
+        String previous = tagsById.put(id, earTag);
+        if (previous != null && !previous.equals(earTag)) {
+            reversedTags.remove(reverse(previous), id);
+        }
+        reversedTags.put(reverse(earTag), id);
+    }
+
+    public void remove(Long id) {
+        String earTag = tagsById.remove(id);
+        if (earTag != null) {
+            reversedTags.remove(reverse(earTag), id);
+        }
+    }
+
+    // 귀표번호 뒷자리로 개체 ID 검색
+    public List<Long> findBySuffix(String suffix, int limit) {
+        List<Long> ids = new ArrayList<>();
+        if (suffix == null || suffix.isEmpty() || limit <= 0) {
+            return ids;
+        }
+        String prefix = reverse(suffix);
+        for (Long id : reversedTags.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            ids.add(id);
+            if (ids.size() >= limit) {
+                break;
+            }
+        }
+        return ids;
+    }
+
+    // 귀표번호 전체 일치 조회
+    public Long findExact(String earTag) {
+        return earTag == null ? null : reversedTags.get(reverse(earTag));
+    }
+
+    public int size() {
+        return tagsById.size();
+    }
+
+    public void clear() {
+        reversedTags.clear();
+        tagsById.clear();
+    }
+
+    private static String reverse(String value) {
+        return new StringBuilder(value.trim()).reverse().toString();
+    }
+}
@@ -0,0 +1,175 @@
+package com.madebyzino.Woojik.service.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 별명 검색용 n-gram 인덱스.
+ * 별명 원문과 초성 문자열(예: 대박이 -> ㄷㅂㅇ) 각각의 1-gram, 2-gram 을 역색인으로 보관합니다.
+ * 검색 시 검색어의 gram 중 가장 짧은 posting 목록만 순회하며 실제 포함 여부를 확인합니다.
+ */
+public class NicknameIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BEGIN = '가';
+    private static final char HANGUL_END = '힣';
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * 28;
+
+    // 원문 gram 과 초성 gram 이 섞이지 않도록 접두어로 구분
+    private static final String TEXT_PREFIX = "t:";
+    private static final String CHOSUNG_PREFIX = "c:";
+
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, String> namesById = new ConcurrentHashMap<>();
+    private final Map<Long, String> chosungById = new ConcurrentHashMap<>();
+
+    public void put(Long id, String name) {
+        remove(id);
+        String normalized = normalize(name);
+        if (id == null || normalized.isEmpty()) {
+            return;
+        }
+        String chosung = toChosung(normalized);
+
+        namesById.put(id, normalized);
+        chosungById.put(id, chosung);
+
+        for (String gram : indexGrams(normalized)) {
+            postings.computeIfAbsent(TEXT_PREFIX + gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+        for (String gram : indexGrams(chosung)) {
+            postings.computeIfAbsent(CHOSUNG_PREFIX + gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    public void remove(Long id) {
+        if (id == null) {
+            return;
+        }
+        String name = namesById.remove(id);
+        String chosung = chosungById.remove(id);
+        if (name != null) {
+            removePostings(TEXT_PREFIX, name, id);
+        }
+        if (chosung != null) {
+            removePostings(CHOSUNG_PREFIX, chosung, id);
+        }
+    }
+
+    // 별명 부분 일치 검색 (검색어가 초성으로만 이루어져 있으면 초성 검색)
+    public List<Long> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        boolean chosungQuery = isChosungOnly(normalized);
+        String prefix = chosungQuery ? CHOSUNG_PREFIX : TEXT_PREFIX;
+        Map<Long, String> targets = chosungQuery ? chosungById : namesById;
+
+        // 가장 작은 posting 목록을 후보로 사용
+        Set<Long> candidates = null;
+        for (String gram : queryGrams(normalized)) {
+            Set<Long> posting = postings.get(prefix + gram);
+            if (posting == null) {
+                return Collections.emptyList();
+            }
+            if (candidates == null || posting.size() < candidates.size()) {
+                candidates = posting;
+            }
+        }
+
+        List<Long> ids = new ArrayList<>();
+        for (Long id : candidates) {
+            String target = targets.get(id);
+            if (target != null && target.contains(normalized)) {
+                ids.add(id);
+                if (ids.size() >= limit) {
+                    break;
+                }
+            }
+        }
+        return ids;
+    }
+
+    public int size() {
+        return namesById.size();
+    }
+
+    public void clear() {
+        postings.clear();
+        namesById.clear();
+        chosungById.clear();
+    }
+
+    private void removePostings(String prefix, String value, Long id) {
+        for (String gram : indexGrams(value)) {
+            postings.computeIfPresent(prefix + gram, (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    // 색인: 1-gram(한 글자 검색용) + 2-gram(후보 축소용)
+    private static Set<String> indexGrams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i < value.length(); i++) {
+            grams.add(value.substring(i, i + 1));
+        }
+        for (int i = 0; i + 1 < value.length(); i++) {
+            grams.add(value.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    // 검색: 한 글자면 1-gram, 그 이상이면 2-gram
+    private static Set<String> queryGrams(String value) {
+        if (value.length() == 1) {
+            return Set.of(value);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 1 < value.length(); i++) {
+            grams.add(value.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    static String toChosung(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= HANGUL_BEGIN && c <= HANGUL_END) {
+                builder.append(CHOSUNG[(c - HANGUL_BEGIN) / JUNGSUNG_JONGSUNG_COUNT]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private static boolean isChosungOnly(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 'ㄱ' || c > 'ㅎ') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        return value.replaceAll("\\s+", "").toLowerCase();
+    }
+}
@@ -0,0 +1,73 @@
+package com.madebyzino.Woojik.service.sire;
+
+import com.madebyzino.Woojik.dto.sire.SireEventRow;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 암소 한 마리 이력에서 나온 씨수소별 수정 결과 (불변).
+ * 임신감정/분만 결과는 그 직전 인공수정의 씨수소에 붙입니다. 결과 없이 다시 수정하면 앞선 수정은 불수태로 봅니다.
+ * 수태 확인 뒤의 음성 감정(유산 등)은 수태를 되돌리지 않습니다.
+ * 농장 전체 성적은 암소별 결과의 합이므로 암소 하나가 바뀌면 이전 결과를 빼고 새 결과를 더하면 됩니다.
+ */
+public record SireOutcome(String sireCode, int services, int conceptions, int failures, int calvings) {
+
+    private static final int SERVICES = 0;
+    private static final int CONCEPTIONS = 1;
+    private static final int FAILURES = 2;
+    private static final int CALVINGS = 3;
+
+    // 한 암소의 이력 (날짜 순) -> 씨수소별 결과 (정액번호 없는 수정은 결과 판정에만 쓰고 집계하지 않음)
+    public static List<SireOutcome> of(List<SireEventRow> events) {
+        Map<String, int[]> bySire = new LinkedHashMap<>();
+        int[] unknownSire = new int[4];
+        int[] pending = null;           // 결과 판정 전인 마지막 수정의 씨수소 누적값
+        int[] conceived = null;         // 수태로 판정된 마지막 수정의 씨수소 누적값 (분만을 붙일 곳)
+
+        for (SireEventRow event : events) {
+            switch (event.getType()) {
+                case AI -> {
+                    if (pending != null) {
+                        pending[FAILURES]++;
+                    }
+                    String code = event.getSireCode() == null ? "" : event.getSireCode().trim();
+                    pending = code.isEmpty() ? unknownSire : bySire.computeIfAbsent(code, key -> new int[4]);
+                    pending[SERVICES]++;
+                    conceived = null;
+                }
+                case PREG_CHECK -> {
+                    if (pending != null && event.getIsPregnant() != null) {
+                        if (event.getIsPregnant()) {
+                            pending[CONCEPTIONS]++;
+                            conceived = pending;
+                        } else {
+                            pending[FAILURES]++;
+                        }
+                        pending = null;
+                    }
+                }
+                case CALVING -> {
+                    if (pending != null) {
+                        pending[CONCEPTIONS]++;
+                        conceived = pending;
+                        pending = null;
+                    }
+                    if (conceived != null) {
+                        conceived[CALVINGS]++;
+                        conceived = null;
+                    }
+                }
+                case ESTRUS -> {
+                }
+            }
+        }
+
+        List<SireOutcome> result = new ArrayList<>(bySire.size());
+        bySire.forEach((code, counts) -> result.add(
+                new SireOutcome(code, counts[SERVICES], counts[CONCEPTIONS], counts[FAILURES], counts[CALVINGS])));
+        return result;
+    }
+}
@@ -0,0 +1,96 @@
+package com.madebyzino.Woojik.service.sire;
+
+import com.madebyzino.Woojik.dto.sire.SireStatsResponse;
+import com.madebyzino.Woojik.entity.enums.Gender;
+
+/**
+ * 씨수소 한 마리의 농장 내 누적 성적 (동기화는 호출하는 쪽에서).
+ * 수정 결과는 암소별 SireOutcome 을 더하고 빼서, 자손 수/판매가는 송아지 등록과 판매 때 더해서 유지합니다.
+ */
+public final class SireTotals {
+
+    private long services;
+    private long conceptions;
+    private long failures;
+    private long calvings;
+    private long calves;
+    private long maleCalves;
+    private long femaleCalves;
+    private long soldCalves;
+    private long salePriceSum;
+    private long salePriceCount;
+    private double saleWeightSum;
+    private long saleWeightCount;
+
+    public void add(SireOutcome outcome) {
+        apply(outcome, 1);
+    }
+
+    public void subtract(SireOutcome outcome) {
+        apply(outcome, -1);
+    }
+
+    public void addCalf(Gender gender) {
+        calves++;
+        if (gender == Gender.FEMALE) {
+            femaleCalves++;
+        } else if (gender != null) {
+            maleCalves++;
+        }
+    }
+
+    public void addSale(Long price, Double weight) {
+        soldCalves++;
+        if (price != null) {
+            salePriceSum += price;
+            salePriceCount++;
+        }
+        if (weight != null) {
+            saleWeightSum += weight;
+            saleWeightCount++;
+        }
+    }
+
+    // 수정 기록도 자손도 남지 않았으면 목록에서 뺌
+    public boolean isEmpty() {
+        return services == 0 && calvings == 0 && calves == 0;
+    }
+
+    public long services() {
+        return services;
+    }
+
+    public Double conceptionRate() {
+        long decided = conceptions + failures;
+        return decided == 0 ? null : (double) conceptions / decided;
+    }
+
+    public Double averageCalfPrice() {
+        return salePriceCount == 0 ? null : (double) salePriceSum / salePriceCount;
+    }
+
+    public SireStatsResponse toResponse(String sireCode) {
+        return SireStatsResponse.builder()
+                .sireCode(sireCode)
+                .services(services)
+                .conceptions(conceptions)
+                .failures(failures)
+                .pending(services - conceptions - failures)
+                .conceptionRate(conceptionRate())
+                .calvings(calvings)
+                .calves(calves)
+                .maleCalves(maleCalves)
+                .femaleCalves(femaleCalves)
+                .soldCalves(soldCalves)
+                .averageCalfPrice(averageCalfPrice())
+                .averageCalfWeight(saleWeightCount == 0 ? null : saleWeightSum / saleWeightCount)
+                .build();
+    }
+
+    private void apply(SireOutcome outcome, int sign) {
+        services += sign * outcome.services();
+        conceptions += sign * outcome.conceptions();
+        failures += sign * outcome.failures();
+        calvings += sign * outcome.calvings();
+    }
+}
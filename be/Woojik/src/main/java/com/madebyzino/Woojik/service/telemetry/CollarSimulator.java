@@ -0,0 +1,119 @@
+package com.madebyzino.Woojik.service.telemetry;
+
+import com.madebyzino.Woojik.config.TelemetryProperties;
+import com.madebyzino.Woojik.dto.livestock.LivestockSearchResponse;
+import com.madebyzino.Woojik.dto.telemetry.TelemetryBatchRequest;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.service.TelemetryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 로컬 개발용 체온 목걸이 시뮬레이터 (telemetry.simulator.enabled=true 일 때만 동작).
+ * 판매되지 않은 개체마다 기준 체온을 정해 두고 주기마다 약간의 흔들림을 더해 수집 API 와 같은 경로로 보냅니다.
+ * 일부(feverRatio) 개체는 발열 상태(기준 +1.5℃)로 시작합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "telemetry.simulator", name = "enabled", havingValue = "true")
+public class CollarSimulator {
+
+    private static final int REFRESH_EVERY_TICKS = 60;  // 개체 목록 갱신 주기 (전송 횟수 기준)
+
+    private final LivestockRepository livestockRepository;
+    private final TelemetryService telemetryService;
+    private final TelemetryProperties properties;
+
+    private final Map<String, Float> baselines = new HashMap<>();
+    private int ticks;
+    private int backoffTicks;
+
+    @Scheduled(fixedRateString = "${telemetry.simulator.interval-ms:1000}")
+    public void tick() {
+        if (backoffTicks > 0) {
+            backoffTicks--;
+            return;
+        }
+        if (ticks++ % REFRESH_EVERY_TICKS == 0) {
+            refreshAnimals();
+        }
+        if (baselines.isEmpty()) {
+            return;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int maxBatch = properties.getMaxBatchReadings();
+        List<TelemetryBatchRequest.Reading> batch = new ArrayList<>(maxBatch);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (Map.Entry<String, Float> entry : baselines.entrySet()) {
+            for (int i = 0; i < properties.getSimulator().getReadingsPerAnimal(); i++) {
+                TelemetryBatchRequest.Reading reading = new TelemetryBatchRequest.Reading();
+                reading.setEarTag(entry.getKey());
+                reading.setMeasuredAt(now);
+                reading.setTemperature(entry.getValue() + (float) random.nextGaussian(0, 0.15));
+                batch.add(reading);
+
+                if (batch.size() == maxBatch && !send(batch)) {
+                    return;
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            send(batch);
+        }
+    }
+
+    private boolean send(List<TelemetryBatchRequest.Reading> batch) {
+        TelemetryBatchRequest request = new TelemetryBatchRequest();
+        request.setReadings(new ArrayList<>(batch));
+        batch.clear();
+        try {
+            telemetryService.ingest(request);
+            return true;
+        } catch (CustomException e) {
+            if (e.getErrorCode() != ErrorCode.TELEMETRY_BUFFER_FULL) {
+                throw e;
+            }
+            // 실제 게이트웨이처럼 잠시 쉬었다가 다시 전송
+            backoffTicks = 5;
+            log.warn("시뮬레이터: 수집 버퍼가 가득 차 {}회 전송을 건너뜁니다.", backoffTicks);
+            return false;
+        }
+    }
+
+    private void refreshAnimals() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        double feverRatio = properties.getSimulator().getFeverRatio();
+        Map<String, Float> refreshed = new HashMap<>();
+
+        for (LivestockSearchResponse entry : livestockRepository.findSearchEntriesByStatusNot(LivestockStatus.SOLD)) {
+            Float baseline = baselines.get(entry.getEarTag());
+            if (baseline == null) {
+                baseline = 38.3f + random.nextFloat() * 0.6f;  // 소 정상 체온 38.3~38.9℃
+                if (random.nextDouble() < feverRatio) {
+                    baseline += 1.5f;
+                }
+            }
+            refreshed.put(entry.getEarTag(), baseline);
+        }
+
+        baselines.clear();
+        baselines.putAll(refreshed);
+        log.info("시뮬레이터: 목걸이 {}개 전송 중", baselines.size());
+    }
+}
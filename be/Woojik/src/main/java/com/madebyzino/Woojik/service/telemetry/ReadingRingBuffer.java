@@ -0,0 +1,107 @@
+package com.madebyzino.Woojik.service.telemetry;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 체온 측정값 링 버퍼 (다중 생산자 / 단일 소비자, 고정 크기, 락 없음).
+ * 값은 칸별 기본형 배열(long/float)에 저장해 측정값마다 객체를 만들지 않습니다.
+ *
+ * 생산자: tail 을 CAS 로 n 칸 한 번에 예약 -> 값 기록 -> 칸마다 시퀀스 기록(publish).
+ *        남은 자리가 n 보다 적으면 예약 자체가 실패하므로 일부만 들어가는 일이 없습니다.
+ * 소비자: head 부터 publish 된 칸까지만 읽고(drain), 저장이 끝난 뒤 release 로 자리를 비웁니다.
+ *        저장에 실패하면 release 하지 않으므로 다음 drain 에서 같은 값을 다시 읽습니다.
+ */
+public class ReadingRingBuffer {
+
+    // 기본형 값을 그대로 넘겨받는 소비자 (박싱 없음)
+    @FunctionalInterface
+    public interface ReadingConsumer {
+        void accept(long livestockId, long measuredAt, float temperature);
+    }
+
+    private final int capacity;
+    private final int mask;
+
+    private final long[] livestockIds;
+    private final long[] measuredAts;      // epoch millis
+    private final float[] temperatures;
+
+    // 칸별로 마지막에 기록된 시퀀스 + 1 (0 = 아직 기록 전)
+    private final AtomicLongArray published;
+
+    private final AtomicLong tail = new AtomicLong();   // 다음에 예약할 시퀀스
+    private volatile long head;                          // 다음에 소비할 시퀀스 (소비자만 갱신)
+
+    public ReadingRingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity 는 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.livestockIds = new long[capacity];
+        this.measuredAts = new long[capacity];
+        this.temperatures = new float[capacity];
+        this.published = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * n 칸 예약. 성공하면 첫 시퀀스, 자리가 모자라면 -1.
+     */
+    public long tryClaim(int n) {
+        if (n <= 0 || n > capacity) {
+            return -1;
+        }
+        while (true) {
+            long current = tail.get();
+            if (current + n - head > capacity) {
+                return -1;
+            }
+            if (tail.compareAndSet(current, current + n)) {
+                return current;
+            }
+        }
+    }
+
+    // 예약한 칸에 값 기록 후 공개 (공개 전까지 소비자는 이 칸에서 멈춤)
+    public void publish(long sequence, long livestockId, long measuredAt, float temperature) {
+        int slot = (int) (sequence & mask);
+        livestockIds[slot] = livestockId;
+        measuredAts[slot] = measuredAt;
+        temperatures[slot] = temperature;
+        published.lazySet(slot, sequence + 1);
+    }
+
+    /**
+     * head 부터 공개된 값을 최대 max 개 읽습니다. head 는 옮기지 않습니다.
+     * (소비자 스레드 전용)
+     */
+    public int drain(ReadingConsumer consumer, int max) {
+        long sequence = head;
+        int count = 0;
+        while (count < max) {
+            int slot = (int) (sequence & mask);
+            if (published.get(slot) != sequence + 1) {
+                break;
+            }
+            consumer.accept(livestockIds[slot], measuredAts[slot], temperatures[slot]);
+            sequence++;
+            count++;
+        }
+        return count;
+    }
+
+    // drain 으로 읽은 값 처리가 끝났을 때 자리 반환 (소비자 스레드 전용)
+    public void release(int count) {
+        head = head + count;
+    }
+
+    // 예약됐지만 아직 반환되지 않은 칸 수 (기록 중인 칸 포함)
+    public long size() {
+        return tail.get() - head;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,167 @@
+package com.madebyzino.Woojik.service.telemetry;
+
+import java.util.Arrays;
+
+/**
+ * 개체별 체온 이상 감지 (단일 스레드 전용: 수집 저장 스레드에서만 호출).
+ *
+ * 개체 ID 를 그대로 배열 인덱스로 쓰고, 개체마다 다음 상태를 기본형 배열에 보관합니다. (측정값마다 객체 생성/박싱 없음)
+ * - EWMA: 측정 잡음을 눌러 한두 번 튀는 값에 반응하지 않도록 함
+ * - 최근 window 개 측정값의 이동 평균/분산: 개체 고유의 평소 체온(기준선)
+ * EWMA 가 기준선에서 max(sigmaThreshold * 표준편차, minDeviation) 이상 벗어나거나 절대 기준(발열/저체온)을 넘으면 경보.
+ * 기준선이 쌓이기 전(minBaseline 미만)에는 절대 기준만 사용하고, 이상 상태이거나 기준선에서 벗어난 값은 기준선에 넣지 않습니다.
+ * 경보는 정상 -> 이상으로 바뀔 때 한 번만 내고, 기준선 근처로 충분히 돌아와야 정상으로 되돌립니다.
+ */
+public class TemperatureAnomalyDetector {
+
+    public static final byte NORMAL = 0;
+    public static final byte FEVER = 1;
+    public static final byte HYPOTHERMIA = 2;
+
+    // 경보 수신 (이상으로 바뀔 때만 호출되므로 여기서의 객체 생성은 드묾)
+    @FunctionalInterface
+    public interface AlertListener {
+        void onAlert(long livestockId, byte type, long measuredAt, float temperature, float baselineMean, float baselineStd);
+    }
+
+    private static final float RECOVERY_MARGIN = 0.3f;
+
+    private final int window;
+    private final float alpha;
+    private final float sigmaThreshold;
+    private final float minDeviation;
+    private final int minBaseline;
+    private final float feverTemperature;
+    private final float hypothermiaTemperature;
+    private final AlertListener listener;
+
+    private int capacity;
+    private float[] ewma;        // NaN = 측정값 없음
+    private float[] samples;     // 개체마다 window 칸 (개체 i 는 [i * window, (i + 1) * window))
+    private double[] mean;
+    private double[] m2;         // 편차 제곱합 (이동 분산 = m2 / 표본 수)
+    private int[] counts;        // 기준선에 넣은 측정값 수 (누적)
+    private long[] lastMeasuredAt;
+    private byte[] states;
+
+    private long alertsRaised;
+
+    public TemperatureAnomalyDetector(int initialCapacity, int window, float alpha, float sigmaThreshold, float minDeviation,
+                                      int minBaseline, float feverTemperature, float hypothermiaTemperature,
+                                      AlertListener listener) {
+        this.window = window;
+        this.alpha = alpha;
+        this.sigmaThreshold = sigmaThreshold;
+        this.minDeviation = minDeviation;
+        this.minBaseline = Math.min(minBaseline, window);
+        this.feverTemperature = feverTemperature;
+        this.hypothermiaTemperature = hypothermiaTemperature;
+        this.listener = listener;
+        allocate(Math.max(initialCapacity, 16));
+    }
+
+    // ReadingRingBuffer.ReadingConsumer 와 같은 형태 (저장 스레드에서 그대로 넘김)
+    public void accept(long livestockId, long measuredAt, float temperature) {
+        if (livestockId < 0 || livestockId >= Integer.MAX_VALUE / window) {
+            return;
+        }
+        int i = (int) livestockId;
+        if (i >= capacity) {
+            grow(i + 1);
+        }
+        // 늦게 도착한 과거 측정값은 흐름을 어지럽히므로 무시
+        if (measuredAt < lastMeasuredAt[i]) {
+            return;
+        }
+        lastMeasuredAt[i] = measuredAt;
+
+        float previous = ewma[i];
+        float smoothed = Float.isNaN(previous) ? temperature : previous + alpha * (temperature - previous);
+        ewma[i] = smoothed;
+
+        int n = counts[i];
+        boolean ready = n >= minBaseline;
+        float baselineMean = (float) mean[i];
+        float baselineStd = n > 1 ? (float) Math.sqrt(m2[i] / Math.min(n, window)) : 0f;
+        float threshold = Math.max(sigmaThreshold * baselineStd, minDeviation);
+
+        byte state = NORMAL;
+        if (smoothed >= feverTemperature || (ready && smoothed - baselineMean > threshold)) {
+            state = FEVER;
+        } else if (smoothed <= hypothermiaTemperature || (ready && baselineMean - smoothed > threshold)) {
+            state = HYPOTHERMIA;
+        }
+
+        byte current = states[i];
+        if (current != NORMAL && state == NORMAL && !recovered(smoothed, ready, baselineMean, threshold)) {
+            state = current;
+        }
+        if (state != NORMAL && state != current) {
+            alertsRaised++;
+            listener.onAlert(livestockId, state, measuredAt, temperature, ready ? baselineMean : Float.NaN, baselineStd);
+        }
+        states[i] = state;
+
+        // 이상 상태이거나 이번 값 자체가 기준선에서 크게 벗어나면 기준선에 넣지 않음 (발열 초기 값이 평소 체온을 끌어올리지 않도록)
+        if (state == NORMAL && (!ready || Math.abs(temperature - baselineMean) <= threshold)) {
+            addToBaseline(i, temperature);
+        }
+    }
+
+    public byte state(long livestockId) {
+        return livestockId >= 0 && livestockId < capacity ? states[(int) livestockId] : NORMAL;
+    }
+
+    public long alertsRaised() {
+        return alertsRaised;
+    }
+
+    private boolean recovered(float smoothed, boolean ready, float baselineMean, float threshold) {
+        if (smoothed >= feverTemperature - RECOVERY_MARGIN || smoothed <= hypothermiaTemperature + RECOVERY_MARGIN) {
+            return false;
+        }
+        return !ready || Math.abs(smoothed - baselineMean) < threshold / 2;
+    }
+
+    // 이동 평균/분산 갱신 (Welford, window 가 찬 뒤에는 가장 오래된 값을 빼고 새 값을 넣음)
+    private void addToBaseline(int i, float value) {
+        int n = counts[i];
+        int slot = i * window + n % window;
+        if (n < window) {
+            double delta = value - mean[i];
+            mean[i] += delta / (n + 1);
+            m2[i] += delta * (value - mean[i]);
+        } else {
+            float oldest = samples[slot];
+            double oldMean = mean[i];
+            double newMean = oldMean + (value - oldest) / window;
+            m2[i] = Math.max(0, m2[i] + (value - oldest) * (value - newMean + oldest - oldMean));
+            mean[i] = newMean;
+        }
+        samples[slot] = value;
+        // 누적 수는 window 위치 계산에만 쓰므로 넘치기 전에 같은 위치로 되돌림
+        counts[i] = n == Integer.MAX_VALUE - 1 ? window + (n + 1) % window : n + 1;
+    }
+
+    private void grow(int required) {
+        int newCapacity = capacity;
+        while (newCapacity < required) {
+            newCapacity = (int) Math.min((long) newCapacity * 2, Integer.MAX_VALUE / window);
+        }
+        allocate(newCapacity);
+    }
+
+    private void allocate(int newCapacity) {
+        int oldCapacity = capacity;
+        ewma = ewma == null ? new float[newCapacity] : Arrays.copyOf(ewma, newCapacity);
+        Arrays.fill(ewma, oldCapacity, newCapacity, Float.NaN);
+        samples = samples == null ? new float[newCapacity * window] : Arrays.copyOf(samples, newCapacity * window);
+        mean = mean == null ? new double[newCapacity] : Arrays.copyOf(mean, newCapacity);
+        m2 = m2 == null ? new double[newCapacity] : Arrays.copyOf(m2, newCapacity);
+        counts = counts == null ? new int[newCapacity] : Arrays.copyOf(counts, newCapacity);
+        lastMeasuredAt = lastMeasuredAt == null ? new long[newCapacity] : Arrays.copyOf(lastMeasuredAt, newCapacity);
+        Arrays.fill(lastMeasuredAt, oldCapacity, newCapacity, Long.MIN_VALUE);
+        states = states == null ? new byte[newCapacity] : Arrays.copyOf(states, newCapacity);
+        capacity = newCapacity;
+    }
+}
@@ -0,0 +1,125 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Map;
+
+/**
+ * 축사 하나의 환경 데이터 (원본 + 10분/1시간/1일 집계).
+ * 원본을 쓸 때 각 집계 구간도 같이 계산해서, 구간이 끝나면 집계 값을 해당 저장 단위에 씁니다.
+ * 축사별 쓰기 빈도가 낮으므로 메서드 단위 잠금으로 충분합니다.
+ */
+final class BarnSeries {
+
+    private static final Resolution[] ROLLUPS = {Resolution.TEN_MINUTES, Resolution.HOURLY, Resolution.DAILY};
+
+    private final ZoneId zone;
+    private final TierWriter[] writers = new TierWriter[Resolution.values().length];
+    private final RollupAccumulator[] accumulators = new RollupAccumulator[Resolution.values().length];
+    private final float[] completed = new float[Resolution.TEN_MINUTES.columns()];
+
+    BarnSeries(Path dir, ZoneId zone) {
+        this.zone = zone;
+        for (Resolution resolution : Resolution.values()) {
+            writers[resolution.ordinal()] = new TierWriter(resolution, dir.resolve(resolution.dirName()), zone);
+        }
+        for (Resolution resolution : ROLLUPS) {
+            accumulators[resolution.ordinal()] = new RollupAccumulator(resolution, zone, Resolution.RAW.columns());
+        }
+        restoreRollups();
+    }
+
+    /**
+     * 시각 오름차순 원본 추가. 이미 저장된 마지막 시각 이전/같은 점은 건너뜁니다 (압축 형식이 순서 보장을 전제로 함).
+     * 반환: 저장한 점 수
+     */
+    synchronized int append(long[] times, float[] temperatures, float[] humidities, int count) {
+        TierWriter raw = writers[Resolution.RAW.ordinal()];
+        float[] point = new float[Resolution.RAW.columns()];
+        int accepted = 0;
+
+        for (int i = 0; i < count; i++) {
+            if (times[i] <= raw.lastTime()) {
+                continue;
+            }
+            point[0] = temperatures[i];
+            point[1] = humidities[i];
+            raw.add(times[i], point);
+            rollUp(times[i], point);
+            accepted++;
+        }
+
+        for (TierWriter writer : writers) {
+            writer.persist();
+        }
+        return accepted;
+    }
+
+    // 집계 단위 조회에는 진행 중인 구간(예: 오늘)도 마지막 점으로 포함
+    synchronized SeriesPoints query(Resolution resolution, long from, long to) {
+        SeriesPoints points = new SeriesPoints(resolution.columns());
+        writers[resolution.ordinal()].query(from, to, points);
+
+        RollupAccumulator accumulator = accumulators[resolution.ordinal()];
+        if (accumulator != null && accumulator.bucket() != RollupAccumulator.NONE
+                && accumulator.bucket() >= from && accumulator.bucket() <= to) {
+            float[] current = new float[resolution.columns()];
+            accumulator.snapshot(current);
+            points.accept(accumulator.bucket(), current);
+        }
+        return points;
+    }
+
+    synchronized int applyRetention(Map<Resolution, Integer> retentionDays, LocalDate today) {
+        int deleted = 0;
+        for (Resolution resolution : Resolution.values()) {
+            Integer days = retentionDays.get(resolution);
+            if (days != null && days > 0) {
+                deleted += writers[resolution.ordinal()].deleteBefore(today.minusDays(days));
+            }
+        }
+        return deleted;
+    }
+
+    synchronized long diskBytes() {
+        long total = 0;
+        for (TierWriter writer : writers) {
+            total += writer.diskBytes();
+        }
+        return total;
+    }
+
+    synchronized void close() {
+        for (TierWriter writer : writers) {
+            writer.close();
+        }
+    }
+
+    private void rollUp(long time, float[] point) {
+        for (Resolution resolution : ROLLUPS) {
+            TierWriter writer = writers[resolution.ordinal()];
+            // 이미 집계가 저장된 구간은 다시 계산하지 않음 (재시작 후 복원 시)
+            if (writer.lastTime() != Long.MIN_VALUE && resolution.bucketStart(time, zone) <= writer.lastTime()) {
+                continue;
+            }
+            long finished = accumulators[resolution.ordinal()].add(time, point, completed);
+            if (finished != RollupAccumulator.NONE) {
+                writer.add(finished, completed);
+            }
+        }
+    }
+
+    // 재시작 시 진행 중이던 집계 구간(가장 긴 1일 구간 기준)을 원본으로 다시 계산
+    private void restoreRollups() {
+        TierWriter raw = writers[Resolution.RAW.ordinal()];
+        long last = raw.lastTime();
+        if (last == Long.MIN_VALUE) {
+            return;
+        }
+        raw.query(Resolution.DAILY.bucketStart(last, zone), last, this::rollUp);
+        for (Resolution resolution : ROLLUPS) {
+            writers[resolution.ordinal()].persist();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import java.nio.ByteBuffer;
+
+// 비트 단위 읽기 (BitOutput 의 역). 매핑된 파일 버퍼를 복사하지 않고 절대 위치로 읽음
+final class BitInput {
+
+    private final ByteBuffer buffer;
+    private final int offset;
+    private long position;
+
+    BitInput(ByteBuffer buffer, int offset) {
+        this.buffer = buffer;
+        this.offset = offset;
+    }
+
+    long read(int n) {
+        long result = 0;
+        while (n > 0) {
+            int bitOffset = (int) (position & 7);
+            int available = 8 - bitOffset;
+            int take = Math.min(available, n);
+            int current = buffer.get(offset + (int) (position >>> 3)) & 0xFF;
+            result = (result << take) | ((current >>> (available - take)) & ((1 << take) - 1));
+            position += take;
+            n -= take;
+        }
+        return result;
+    }
+
+    boolean readBit() {
+        return read(1) == 1;
+    }
+
+    // n 비트 2의 보수 값 읽기
+    long readSigned(int n) {
+        long value = read(n);
+        return value >= (1L << (n - 1)) ? value - (1L << n) : value;
+    }
+}
@@ -0,0 +1,43 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import java.util.Arrays;
+
+// 비트 단위 쓰기 (상위 비트부터 채움)
+final class BitOutput {
+
+    private long[] words = new long[16];
+    private long bits;
+
+    // value 의 하위 n 비트 기록 (1 <= n <= 64)
+    void write(long value, int n) {
+        if (n < 64) {
+            value &= (1L << n) - 1;
+        }
+        int index = (int) (bits >>> 6);
+        int free = 64 - (int) (bits & 63);
+        if (index + 1 >= words.length) {
+            words = Arrays.copyOf(words, words.length * 2);
+        }
+
+        if (n <= free) {
+            words[index] |= value << (free - n);
+        } else {
+            int rest = n - free;
+            words[index] |= value >>> rest;
+            words[index + 1] |= value << (64 - rest);
+        }
+        bits += n;
+    }
+
+    void writeBit(boolean bit) {
+        write(bit ? 1 : 0, 1);
+    }
+
+    byte[] toByteArray() {
+        byte[] bytes = new byte[(int) ((bits + 7) >>> 3)];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (words[i >>> 3] >>> (56 - ((i & 7) << 3)));
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,193 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 열 단위 압축 블록 (Gorilla 방식).
+ * 시각(초)은 delta-of-delta, 값(float)은 직전 값과의 XOR 로 기록합니다.
+ * 센서가 일정 주기로 보내면 시각은 점당 1비트, 값은 변화량에 따라 점당 수~십수 비트가 됩니다.
+ *
+ * 형식: [길이 int][점 수 int][최소 시각 long][최대 시각 long][열 수 byte] + (시각, 값 열...) 각각 [바이트 수 int][비트열]
+ */
+final class BlockCodec {
+
+    static final int HEADER_SIZE = 25;
+
+    @FunctionalInterface
+    interface PointSink {
+        void accept(long time, float[] values);
+    }
+
+    private BlockCodec() {
+    }
+
+    static byte[] encode(long[] times, float[][] columns, int count) {
+        byte[][] streams = new byte[columns.length + 1][];
+        streams[0] = encodeTimes(times, count);
+        for (int c = 0; c < columns.length; c++) {
+            streams[c + 1] = encodeValues(columns[c], count);
+        }
+
+        int size = HEADER_SIZE;
+        for (byte[] stream : streams) {
+            size += 4 + stream.length;
+        }
+        ByteBuffer out = ByteBuffer.allocate(size);
+        out.putInt(size - 4)
+                .putInt(count)
+                .putLong(times[0])
+                .putLong(times[count - 1])
+                .put((byte) columns.length);
+        for (byte[] stream : streams) {
+            out.putInt(stream.length).put(stream);
+        }
+        return out.array();
+    }
+
+    static int length(ByteBuffer buffer, int offset) {
+        return 4 + buffer.getInt(offset);
+    }
+
+    /**
+     * offset 위치의 블록에서 [from, to] 범위의 점을 sink 로 전달하고 블록 전체 바이트 수를 반환합니다.
+     * 범위와 겹치지 않는 블록은 헤더만 보고 건너뜁니다.
+     */
+    static int decode(ByteBuffer buffer, int offset, long from, long to, PointSink sink) {
+        int length = length(buffer, offset);
+        int count = buffer.getInt(offset + 4);
+        long minTime = buffer.getLong(offset + 8);
+        long maxTime = buffer.getLong(offset + 16);
+        if (maxTime < from || minTime > to) {
+            return length;
+        }
+
+        int columnCount = buffer.get(offset + 24);
+        int position = offset + HEADER_SIZE;
+
+        long[] times = new long[count];
+        decodeTimes(new BitInput(buffer, position + 4), times, count);
+        position += 4 + buffer.getInt(position);
+
+        float[][] columns = new float[columnCount][count];
+        for (int c = 0; c < columnCount; c++) {
+            decodeValues(new BitInput(buffer, position + 4), columns[c], count);
+            position += 4 + buffer.getInt(position);
+        }
+
+        float[] point = new float[columnCount];
+        for (int i = 0; i < count; i++) {
+            if (times[i] < from || times[i] > to) {
+                continue;
+            }
+            for (int c = 0; c < columnCount; c++) {
+                point[c] = columns[c][i];
+            }
+            sink.accept(times[i], point);
+        }
+        return length;
+    }
+
+    // 시각: 첫 값 64비트, 이후 delta-of-delta 를 크기별 접두어(0, 10, 110, 1110, 1111)로 기록
+    private static byte[] encodeTimes(long[] times, int count) {
+        BitOutput out = new BitOutput();
+        out.write(times[0], 64);
+        long previousDelta = 0;
+        for (int i = 1; i < count; i++) {
+            long delta = times[i] - times[i - 1];
+            long dod = delta - previousDelta;
+            if (dod == 0) {
+                out.writeBit(false);
+            } else if (dod >= -64 && dod <= 63) {
+                out.write(0b10, 2);
+                out.write(dod, 7);
+            } else if (dod >= -256 && dod <= 255) {
+                out.write(0b110, 3);
+                out.write(dod, 9);
+            } else if (dod >= -2048 && dod <= 2047) {
+                out.write(0b1110, 4);
+                out.write(dod, 12);
+            } else {
+                out.write(0b1111, 4);
+                out.write(dod, 32);
+            }
+            previousDelta = delta;
+        }
+        return out.toByteArray();
+    }
+
+    private static void decodeTimes(BitInput in, long[] times, int count) {
+        times[0] = in.read(64);
+        long delta = 0;
+        for (int i = 1; i < count; i++) {
+            long dod;
+            if (!in.readBit()) {
+                dod = 0;
+            } else if (!in.readBit()) {
+                dod = in.readSigned(7);
+            } else if (!in.readBit()) {
+                dod = in.readSigned(9);
+            } else if (!in.readBit()) {
+                dod = in.readSigned(12);
+            } else {
+                dod = in.readSigned(32);
+            }
+            delta += dod;
+            times[i] = times[i - 1] + delta;
+        }
+    }
+
+    // 값: 첫 값 32비트, 이후 직전 값과 XOR. 같으면 0, 다르면 의미 있는 비트 구간만 기록 (직전 구간 안에 들어가면 구간 정보 생략)
+    private static byte[] encodeValues(float[] values, int count) {
+        BitOutput out = new BitOutput();
+        int previous = Float.floatToRawIntBits(values[0]);
+        out.write(previous, 32);
+        int previousLeading = -1;
+        int previousTrailing = 0;
+
+        for (int i = 1; i < count; i++) {
+            int current = Float.floatToRawIntBits(values[i]);
+            int xor = current ^ previous;
+            if (xor == 0) {
+                out.writeBit(false);
+            } else {
+                out.writeBit(true);
+                int leading = Integer.numberOfLeadingZeros(xor);
+                int trailing = Integer.numberOfTrailingZeros(xor);
+                if (previousLeading >= 0 && leading >= previousLeading && trailing >= previousTrailing) {
+                    out.writeBit(false);
+                    out.write(xor >>> previousTrailing, 32 - previousLeading - previousTrailing);
+                } else {
+                    int significant = 32 - leading - trailing;
+                    out.writeBit(true);
+                    out.write(leading, 5);
+                    out.write(significant - 1, 5);
+                    out.write(xor >>> trailing, significant);
+                    previousLeading = leading;
+                    previousTrailing = trailing;
+                }
+            }
+            previous = current;
+        }
+        return out.toByteArray();
+    }
+
+    private static void decodeValues(BitInput in, float[] values, int count) {
+        int previous = (int) in.read(32);
+        values[0] = Float.intBitsToFloat(previous);
+        int leading = 0;
+        int trailing = 0;
+
+        for (int i = 1; i < count; i++) {
+            if (in.readBit()) {
+                if (in.readBit()) {
+                    leading = (int) in.read(5);
+                    int significant = (int) in.read(5) + 1;
+                    trailing = 32 - leading - significant;
+                }
+                int significant = 32 - leading - trailing;
+                previous ^= (int) (in.read(significant) << trailing);
+            }
+            values[i] = Float.intBitsToFloat(previous);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * 환경 데이터 저장 단위.
+ * RAW 는 센서 원본(온도, 습도), 나머지는 쓰기 시점에 계산한 구간 집계(온도 평균/최저/최고, 습도 평균/최저/최고)입니다.
+ * 세그먼트 파일 하나가 담는 기간: 원본 하루, 10분 집계 한 달, 1시간/1일 집계 1년.
+ */
+public enum Resolution {
+
+    RAW("raw", 0, 360, 2),
+    TEN_MINUTES("10m", 600, 144, 6),
+    HOURLY("1h", 3_600, 168, 6),
+    DAILY("1d", 86_400, 62, 6);
+
+    private final String dirName;
+    private final int bucketSeconds;
+    private final int blockPoints;   // 블록 하나에 담는 점 수 (쓰는 중인 세그먼트 기준)
+    private final int columns;
+
+    Resolution(String dirName, int bucketSeconds, int blockPoints, int columns) {
+        this.dirName = dirName;
+        this.bucketSeconds = bucketSeconds;
+        this.blockPoints = blockPoints;
+        this.columns = columns;
+    }
+
+    String dirName() {
+        return dirName;
+    }
+
+    int blockPoints() {
+        return blockPoints;
+    }
+
+    public int columns() {
+        return columns;
+    }
+
+    // 집계 구간 시작 시각 (현지 시각 기준으로 자름, 초 단위)
+    long bucketStart(long epochSecond, ZoneId zone) {
+        if (this == RAW) {
+            return epochSecond;
+        }
+        long offset = zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)).getTotalSeconds();
+        long local = epochSecond + offset;
+        return local - Math.floorMod(local, bucketSeconds) - offset;
+    }
+
+    // 해당 날짜가 속한 세그먼트의 시작일
+    LocalDate windowStart(LocalDate date) {
+        return switch (this) {
+            case RAW -> date;
+            case TEN_MINUTES -> date.withDayOfMonth(1);
+            case HOURLY, DAILY -> date.withDayOfYear(1);
+        };
+    }
+
+    LocalDate nextWindow(LocalDate windowStart) {
+        return switch (this) {
+            case RAW -> windowStart.plusDays(1);
+            case TEN_MINUTES -> windowStart.plusMonths(1);
+            case HOURLY, DAILY -> windowStart.plusYears(1);
+        };
+    }
+}
@@ -0,0 +1,76 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import java.time.ZoneId;
+import java.util.Arrays;
+
+// 진행 중인 집계 구간 하나 (원본 열마다 개수/합/최저/최고, NaN 은 제외)
+final class RollupAccumulator {
+
+    static final long NONE = Long.MIN_VALUE;
+
+    private final Resolution resolution;
+    private final ZoneId zone;
+    private final int[] counts;
+    private final double[] sums;
+    private final float[] mins;
+    private final float[] maxs;
+    private long bucket = NONE;
+
+    RollupAccumulator(Resolution resolution, ZoneId zone, int rawColumns) {
+        this.resolution = resolution;
+        this.zone = zone;
+        this.counts = new int[rawColumns];
+        this.sums = new double[rawColumns];
+        this.mins = new float[rawColumns];
+        this.maxs = new float[rawColumns];
+    }
+
+    /**
+     * 원본 점 추가. 새 구간으로 넘어가면 끝난 구간의 결과를 completed 에 채우고 그 구간 시작 시각을 반환합니다.
+     * 끝난 구간이 없으면 NONE.
+     */
+    long add(long time, float[] raw, float[] completed) {
+        long start = resolution.bucketStart(time, zone);
+        long finished = NONE;
+        if (start != bucket) {
+            if (bucket != NONE) {
+                snapshot(completed);
+                finished = bucket;
+            }
+            bucket = start;
+            Arrays.fill(counts, 0);
+            Arrays.fill(sums, 0);
+        }
+
+        for (int c = 0; c < raw.length; c++) {
+            float value = raw[c];
+            if (Float.isNaN(value)) {
+                continue;
+            }
+            if (counts[c] == 0) {
+                mins[c] = value;
+                maxs[c] = value;
+            } else {
+                mins[c] = Math.min(mins[c], value);
+                maxs[c] = Math.max(maxs[c], value);
+            }
+            counts[c]++;
+            sums[c] += value;
+        }
+        return finished;
+    }
+
+    long bucket() {
+        return bucket;
+    }
+
+    // 열 c 마다 [평균, 최저, 최고]
+    void snapshot(float[] out) {
+        for (int c = 0; c < counts.length; c++) {
+            boolean empty = counts[c] == 0;
+            out[c * 3] = empty ? Float.NaN : (float) (sums[c] / counts[c]);
+            out[c * 3 + 1] = empty ? Float.NaN : mins[c];
+            out[c * 3 + 2] = empty ? Float.NaN : maxs[c];
+        }
+    }
+}
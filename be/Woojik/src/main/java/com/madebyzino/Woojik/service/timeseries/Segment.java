@@ -0,0 +1,216 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 세그먼트 파일 (메모리 매핑). 압축 블록을 뒤에 이어 붙이기만 합니다.
+ *
+ * 헤더(32바이트): [MAGIC int][버전 byte][열 수 byte][예약 2][확정 끝 위치 int][임시 블록 길이 int][마지막 시각 long][예약 8]
+ * 확정 블록 뒤에 아직 다 차지 않은 블록을 "임시 블록"으로 덮어써 두므로, 프로세스가 죽어도 매핑된 페이지에 남은 값은 재시작 시 복구됩니다.
+ * 쓰는 중에는 파일을 넉넉히 늘려 두고(끝 위치는 헤더 기준), 기간이 끝나면 compact 로 블록을 합치고 실제 크기로 줄입니다.
+ */
+final class Segment {
+
+    static final int HEADER_SIZE = 32;
+    private static final int MAGIC = 0x574A5453; // "WJTS"
+    private static final byte VERSION = 1;
+    private static final int INITIAL_SIZE = 64 * 1024;
+    private static final int COMPACTED_BLOCK_POINTS = 4_096;
+
+    private static final int END_OFFSET = 8;
+    private static final int PENDING_OFFSET = 12;
+    private static final int LAST_TIME_OFFSET = 16;
+
+    private final Path path;
+    private final FileChannel channel;   // 읽기 전용이면 null
+    private MappedByteBuffer buffer;
+
+    private Segment(Path path, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.channel = channel;
+        this.buffer = buffer;
+    }
+
+    static Segment openForAppend(Path path, int columns) {
+        try {
+            FileChannel channel = FileChannel.open(path,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = channel.size();
+            Segment segment = new Segment(path, channel,
+                    channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(size, INITIAL_SIZE)));
+            if (size == 0) {
+                segment.buffer.putInt(0, MAGIC)
+                        .put(4, VERSION)
+                        .put(5, (byte) columns)
+                        .putInt(PENDING_OFFSET, 0)
+                        .putLong(LAST_TIME_OFFSET, Long.MIN_VALUE)
+                        .putInt(END_OFFSET, HEADER_SIZE);
+            } else {
+                segment.verify();
+            }
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    static Segment openReadOnly(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            // 매핑은 채널을 닫아도 유지됨
+            Segment segment = new Segment(path, null, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+            segment.verify();
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트를 열 수 없습니다: " + path, e);
+        }
+    }
+
+    long lastTime() {
+        return buffer.getLong(LAST_TIME_OFFSET);
+    }
+
+    int pendingLength() {
+        return buffer.getInt(PENDING_OFFSET);
+    }
+
+    // 블록 확정 (임시 블록 자리에 덮어씀)
+    void commit(byte[] block, long lastTime) {
+        int end = end();
+        ensureCapacity(end + block.length);
+        buffer.put(end, block);
+        buffer.putInt(PENDING_OFFSET, 0);
+        buffer.putLong(LAST_TIME_OFFSET, lastTime);
+        buffer.putInt(END_OFFSET, end + block.length);
+    }
+
+    // 다 차지 않은 블록 기록 (null 이면 임시 블록 없음)
+    void writePending(byte[] block, long lastTime) {
+        if (block == null) {
+            buffer.putInt(PENDING_OFFSET, 0);
+        } else {
+            ensureCapacity(end() + block.length);
+            buffer.put(end(), block);
+            buffer.putInt(PENDING_OFFSET, block.length);
+        }
+        buffer.putLong(LAST_TIME_OFFSET, lastTime);
+    }
+
+    // 확정 블록 조회 (includePending 이면 임시 블록까지)
+    void scan(long from, long to, boolean includePending, BlockCodec.PointSink sink) {
+        int end = end();
+        int position = HEADER_SIZE;
+        while (position < end) {
+            position += BlockCodec.decode(buffer, position, from, to, sink);
+        }
+        if (includePending && pendingLength() > 0) {
+            BlockCodec.decode(buffer, end, from, to, sink);
+        }
+    }
+
+    void scanPending(BlockCodec.PointSink sink) {
+        if (pendingLength() > 0) {
+            BlockCodec.decode(buffer, end(), Long.MIN_VALUE, Long.MAX_VALUE, sink);
+        }
+    }
+
+    void close() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            buffer.force();
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트를 닫을 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 기간이 끝난 세그먼트 정리: 작은 블록들을 큰 블록으로 다시 압축하고 파일을 실제 크기로 줄입니다.
+     * 임시 파일에 쓴 뒤 원자적으로 교체하므로 도중에 실패해도 원본은 그대로 남습니다.
+     */
+    static void compact(Path path) {
+        Segment source = openReadOnly(path);
+        int columns = source.buffer.get(5);
+        SeriesPoints points = new SeriesPoints(columns);
+        source.scan(Long.MIN_VALUE, Long.MAX_VALUE, true, points);
+
+        long[] times = new long[COMPACTED_BLOCK_POINTS];
+        float[][] values = new float[columns][COMPACTED_BLOCK_POINTS];
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+
+        try (FileChannel out = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            int end = HEADER_SIZE;
+            out.position(HEADER_SIZE);
+            for (int start = 0; start < points.size(); start += COMPACTED_BLOCK_POINTS) {
+                int count = Math.min(COMPACTED_BLOCK_POINTS, points.size() - start);
+                for (int i = 0; i < count; i++) {
+                    times[i] = points.time(start + i);
+                    for (int c = 0; c < columns; c++) {
+                        values[c][i] = points.value(c, start + i);
+                    }
+                }
+                byte[] block = BlockCodec.encode(times, values, count);
+                out.write(ByteBuffer.wrap(block));
+                end += block.length;
+            }
+
+            header.putInt(MAGIC).put(VERSION).put((byte) columns).putShort((short) 0)
+                    .putInt(end).putInt(0).putLong(source.lastTime()).putLong(0).flip();
+            out.write(header, 0);
+            out.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 압축 실패: " + path, e);
+        }
+
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            replaceFile(temp, path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 교체 실패: " + path, e);
+        }
+    }
+
+    private static void replaceFile(Path temp, Path path) {
+        try {
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 교체 실패: " + path, e);
+        }
+    }
+
+    private int end() {
+        return buffer.getInt(END_OFFSET);
+    }
+
+    private void verify() {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.get(4) != VERSION) {
+            throw new IllegalStateException("세그먼트 형식이 올바르지 않습니다: " + path);
+        }
+    }
+
+    // 남은 공간이 모자라면 파일을 두 배로 늘려 다시 매핑
+    private void ensureCapacity(int required) {
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        try {
+            buffer.force();
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max((long) buffer.capacity() * 2, required));
+        } catch (IOException e) {
+            throw new UncheckedIOException("세그먼트 확장 실패: " + path, e);
+        }
+    }
+}
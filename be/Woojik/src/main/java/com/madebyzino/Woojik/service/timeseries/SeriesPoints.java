@@ -0,0 +1,47 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import java.util.Arrays;
+
+/**
+ * 조회 결과 (시각 오름차순). 열별 기본형 배열에 담습니다.
+ * 열 순서: RAW 는 [온도, 습도], 집계는 [온도 평균, 최저, 최고, 습도 평균, 최저, 최고]. 값이 없으면 NaN.
+ */
+public final class SeriesPoints implements BlockCodec.PointSink {
+
+    private long[] times;
+    private final float[][] columns;
+    private int size;
+
+    SeriesPoints(int columnCount) {
+        this.times = new long[64];
+        this.columns = new float[columnCount][64];
+    }
+
+    @Override
+    public void accept(long time, float[] values) {
+        if (size == times.length) {
+            times = Arrays.copyOf(times, size * 2);
+            for (int c = 0; c < columns.length; c++) {
+                columns[c] = Arrays.copyOf(columns[c], size * 2);
+            }
+        }
+        times[size] = time;
+        for (int c = 0; c < columns.length; c++) {
+            columns[c][size] = values[c];
+        }
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // epoch 초
+    public long time(int index) {
+        return times[index];
+    }
+
+    public float value(int column, int index) {
+        return columns[column][index];
+    }
+}
@@ -0,0 +1,224 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * 축사 하나의 저장 단위(Resolution) 하나를 담당합니다.
+ * 세그먼트 파일은 기간 시작일 이름(yyyyMMdd.seg)으로 두고, 가장 최근 파일만 쓰기용으로 엽니다.
+ * 점은 메모리의 현재 블록에 모았다가 blockPoints 개가 차면 확정하고, 그 전까지는 persist 때 임시 블록으로 기록합니다.
+ * (BarnSeries 의 잠금 안에서만 호출)
+ */
+@Slf4j
+final class TierWriter {
+
+    private static final String SUFFIX = ".seg";
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final Resolution resolution;
+    private final Path dir;
+    private final ZoneId zone;
+
+    // 기간 시작일 -> 파일
+    private final NavigableMap<LocalDate, Path> files = new TreeMap<>();
+    // 조회하면서 연 과거 세그먼트 (읽기 전용 매핑)
+    private final Map<LocalDate, Segment> sealed = new HashMap<>();
+
+    private Segment active;
+    private LocalDate activeWindow;
+
+    private final long[] times;
+    private final float[][] columns;
+    private int count;
+    private long lastTime = Long.MIN_VALUE;
+    private boolean dirty;
+
+    TierWriter(Resolution resolution, Path dir, ZoneId zone) {
+        this.resolution = resolution;
+        this.dir = dir;
+        this.zone = zone;
+        this.times = new long[resolution.blockPoints()];
+        this.columns = new float[resolution.columns()][resolution.blockPoints()];
+
+        try {
+            Files.createDirectories(dir);
+            try (Stream<Path> paths = Files.list(dir)) {
+                paths.forEach(path -> {
+                    String name = path.getFileName().toString();
+                    if (name.endsWith(SUFFIX)) {
+                        files.put(LocalDate.parse(name.substring(0, name.length() - SUFFIX.length()), FILE_DATE), path);
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("시계열 디렉터리를 읽을 수 없습니다: " + dir, e);
+        }
+
+        if (!files.isEmpty()) {
+            openActive(files.lastKey());
+        }
+    }
+
+    long lastTime() {
+        return lastTime;
+    }
+
+    void add(long time, float[] values) {
+        LocalDate window = resolution.windowStart(LocalDate.ofInstant(Instant.ofEpochSecond(time), zone));
+        if (active == null || !window.equals(activeWindow)) {
+            roll(window);
+        }
+
+        times[count] = time;
+        for (int c = 0; c < columns.length; c++) {
+            columns[c][count] = values[c];
+        }
+        count++;
+        lastTime = time;
+        dirty = true;
+
+        if (count == times.length) {
+            active.commit(BlockCodec.encode(times, columns, count), lastTime);
+            count = 0;
+            dirty = false;
+        }
+    }
+
+    // 현재 블록을 임시 블록으로 기록 (요청 단위로 한 번)
+    void persist() {
+        if (!dirty) {
+            return;
+        }
+        active.writePending(count == 0 ? null : BlockCodec.encode(times, columns, count), lastTime);
+        dirty = false;
+    }
+
+    // [from, to] 범위 조회 (초 단위, 시각 오름차순)
+    void query(long from, long to, BlockCodec.PointSink sink) {
+        if (files.isEmpty() || from > to) {
+            return;
+        }
+        LocalDate first = resolution.windowStart(toDate(from));
+        for (Map.Entry<LocalDate, Path> entry : files.subMap(first, true, toDate(to), true).entrySet()) {
+            if (entry.getKey().equals(activeWindow)) {
+                active.scan(from, to, false, sink);
+            } else {
+                sealed.computeIfAbsent(entry.getKey(), key -> Segment.openReadOnly(entry.getValue()))
+                        .scan(from, to, true, sink);
+            }
+        }
+
+        float[] point = new float[columns.length];
+        for (int i = 0; i < count; i++) {
+            if (times[i] < from || times[i] > to) {
+                continue;
+            }
+            for (int c = 0; c < columns.length; c++) {
+                point[c] = columns[c][i];
+            }
+            sink.accept(times[i], point);
+        }
+    }
+
+    // 기간이 cutoff 이전에 끝난 세그먼트 삭제 (쓰는 중인 세그먼트 제외)
+    int deleteBefore(LocalDate cutoff) {
+        int deleted = 0;
+        Iterator<Map.Entry<LocalDate, Path>> iterator = files.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<LocalDate, Path> entry = iterator.next();
+            if (entry.getKey().equals(activeWindow) || resolution.nextWindow(entry.getKey()).isAfter(cutoff)) {
+                continue;
+            }
+            try {
+                Files.deleteIfExists(entry.getValue());
+            } catch (IOException e) {
+                log.warn("보관 기간이 지난 세그먼트 삭제 실패: {}", entry.getValue(), e);
+                continue;
+            }
+            sealed.remove(entry.getKey());
+            iterator.remove();
+            deleted++;
+        }
+        return deleted;
+    }
+
+    long diskBytes() {
+        long total = 0;
+        for (Path path : files.values()) {
+            try {
+                total += Files.size(path);
+            } catch (IOException e) {
+                // 삭제 중인 파일 등은 무시
+            }
+        }
+        return total;
+    }
+
+    void close() {
+        persist();
+        if (active != null) {
+            active.close();
+        }
+        sealed.clear();
+    }
+
+    // 새 기간으로 넘어감: 현재 블록 확정 -> 이전 세그먼트 압축 -> 새 세그먼트 열기
+    private void roll(LocalDate window) {
+        if (active != null) {
+            if (count > 0) {
+                active.commit(BlockCodec.encode(times, columns, count), lastTime);
+                count = 0;
+                dirty = false;
+            }
+            active.close();
+            active = null;
+            Path previous = files.get(activeWindow);
+            try {
+                Segment.compact(previous);
+            } catch (RuntimeException e) {
+                // 압축하지 못해도 원본 세그먼트는 그대로 읽을 수 있음
+                log.warn("세그먼트 압축 실패, 원본을 유지합니다: {}", previous, e);
+            }
+        }
+        openActive(window);
+    }
+
+    private void openActive(LocalDate window) {
+        Path path = dir.resolve(window.format(FILE_DATE) + SUFFIX);
+        sealed.remove(window);
+        active = Segment.openForAppend(path, columns.length);
+        activeWindow = window;
+        files.put(window, path);
+
+        // 재시작 시 임시 블록을 현재 블록으로 복원
+        count = 0;
+        if (active.lastTime() != Long.MIN_VALUE) {
+            lastTime = active.lastTime();
+        }
+        active.scanPending((time, values) -> {
+            times[count] = time;
+            for (int c = 0; c < columns.length; c++) {
+                columns[c][count] = values[c];
+            }
+            count++;
+        });
+    }
+
+    private LocalDate toDate(long epochSecond) {
+        return LocalDate.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
+    }
+}
@@ -0,0 +1,109 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import com.madebyzino.Woojik.config.TimeSeriesProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 축사 환경(온도/습도) 내장 시계열 저장소.
+ * 축사마다 {dataDir}/barn-{id}/{raw|10m|1h|1d}/yyyyMMdd.seg 세그먼트 파일을 메모리 매핑해서 씁니다.
+ * 보관 기간이 지난 세그먼트는 매일 새벽 삭제합니다.
+ */
+@Slf4j
+@Component
+public class TimeSeriesStore {
+
+    private static final String BARN_DIR_PREFIX = "barn-";
+
+    private final Path root;
+    private final ZoneId zone = ZoneId.systemDefault();
+    private final Map<Resolution, Integer> retentionDays = new EnumMap<>(Resolution.class);
+    private final Map<Long, BarnSeries> series = new ConcurrentHashMap<>();
+
+    public TimeSeriesStore(TimeSeriesProperties properties) {
+        this.root = Paths.get(properties.getDataDir());
+        TimeSeriesProperties.Retention retention = properties.getRetention();
+        retentionDays.put(Resolution.RAW, retention.getRawDays());
+        retentionDays.put(Resolution.TEN_MINUTES, retention.getTenMinuteDays());
+        retentionDays.put(Resolution.HOURLY, retention.getHourlyDays());
+        retentionDays.put(Resolution.DAILY, retention.getDailyDays());
+    }
+
+    // 시각(epoch 초) 오름차순 원본 추가, 반환: 저장한 점 수
+    public int append(Long barnId, long[] times, float[] temperatures, float[] humidities, int count) {
+        return series(barnId).append(times, temperatures, humidities, count);
+    }
+
+    public SeriesPoints query(Long barnId, Resolution resolution, long from, long to) {
+        BarnSeries barn = series.get(barnId);
+        if (barn == null && !Files.isDirectory(barnDir(barnId))) {
+            return new SeriesPoints(resolution.columns());  // 조회만으로 디렉터리를 만들지 않음
+        }
+        return series(barnId).query(resolution, from, to);
+    }
+
+    public long diskBytes(Long barnId) {
+        BarnSeries barn = series.get(barnId);
+        return barn == null ? 0 : barn.diskBytes();
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void applyRetention() {
+        applyRetention(LocalDate.now(zone));
+    }
+
+    int applyRetention(LocalDate today) {
+        int deleted = 0;
+        for (Long barnId : storedBarnIds()) {
+            deleted += series(barnId).applyRetention(retentionDays, today);
+        }
+        if (deleted > 0) {
+            log.info("환경 데이터 보관 기간 정리: 세그먼트 {}개 삭제", deleted);
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    public void close() {
+        series.values().forEach(BarnSeries::close);
+        series.clear();
+    }
+
+    private BarnSeries series(Long barnId) {
+        return series.computeIfAbsent(barnId, id -> new BarnSeries(barnDir(id), zone));
+    }
+
+    // 재시작 후 아직 쓰기가 없던 축사도 정리 대상에 포함
+    private List<Long> storedBarnIds() {
+        if (!Files.isDirectory(root)) {
+            return List.of();
+        }
+        try (Stream<Path> dirs = Files.list(root)) {
+            return dirs.map(dir -> dir.getFileName().toString())
+                    .filter(name -> name.startsWith(BARN_DIR_PREFIX))
+                    .map(name -> Long.valueOf(name.substring(BARN_DIR_PREFIX.length())))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("시계열 디렉터리를 읽을 수 없습니다: " + root, e);
+        }
+    }
+
+    private Path barnDir(Long barnId) {
+        return root.resolve(BARN_DIR_PREFIX + barnId);
+    }
+}
@@ -0,0 +1,123 @@
+package com.madebyzino.Woojik.service.tracing;
+
+import com.madebyzino.Woojik.dto.pen.PenResidencyRow;
+import com.madebyzino.Woojik.service.residency.ResidencyIntervals;
+import com.madebyzino.Woojik.service.residency.ResidencySnapshot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 방 거주 구간 위의 접촉 추적 (시간 제한 그래프 확장).
+ * 감염원마다 전파 가능 시작 시각을 받아, 전파 가능한 개체와 같은 방에 겹쳐 머문 개체를 겹친 시점부터 전파 가능한 것으로 보고
+ * 단계마다 넓혀 갑니다. 개체마다 가장 이른 노출만 남기고, 더 이른 시각으로 바뀐 개체만 다음 단계에서 다시 넓힙니다.
+ * 시간은 until 까지만 보며, 단계별 확장과 마지막 노출 시간 합산은 개체 단위로 나눠 병렬로 계산합니다. (스냅샷은 읽기 전용)
+ */
+public final class ContactTracer {
+
+    private static final Comparator<Exposure> ORDER = Comparator.comparingInt(Exposure::depth)
+            .thenComparing(Exposure::exposedAt)
+            .thenComparing(Exposure::livestockId);
+
+    private final ResidencySnapshot snapshot;
+    private final long until;
+
+    public ContactTracer(ResidencySnapshot snapshot, LocalDateTime until) {
+        this.snapshot = snapshot;
+        this.until = ResidencyIntervals.key(until);
+    }
+
+    // seeds: 감염원 -> 전파 가능 시작 시각. 결과는 감염원 포함, 단계 -> 노출 시각 순
+    public List<Exposure> trace(Map<Long, LocalDateTime> seeds, int maxDepth) {
+        Map<Long, Arrival> arrivals = new LinkedHashMap<>();
+        seeds.forEach((id, since) -> arrivals.put(id, new Arrival(id, 0, ResidencyIntervals.key(since), null, null)));
+
+        List<Arrival> frontier = new ArrayList<>(arrivals.values());
+        for (int depth = 1; depth <= maxDepth && !frontier.isEmpty(); depth++) {
+            int level = depth;
+            List<Arrival> candidates = frontier.parallelStream()
+                    .flatMap(source -> contactsOf(source, level).stream())
+                    .toList();
+
+            Map<Long, Arrival> improved = new LinkedHashMap<>();
+            for (Arrival candidate : candidates) {
+                Arrival current = arrivals.get(candidate.livestockId());
+                if (current == null || (current.depth() > 0 && candidate.at() < current.at())) {
+                    arrivals.put(candidate.livestockId(), candidate);
+                    improved.put(candidate.livestockId(), candidate);
+                }
+            }
+            frontier = new ArrayList<>(improved.values());
+        }
+
+        long windowStart = arrivals.values().stream().mapToLong(Arrival::at).min().orElse(until);
+        return arrivals.values().parallelStream()
+                .map(arrival -> new Exposure(arrival.livestockId(), arrival.depth(), ResidencyIntervals.time(arrival.at()),
+                        arrival.source(), arrival.penId(),
+                        arrival.depth() == 0 ? 0 : exposureMillis(arrival, arrivals, windowStart)))
+                .sorted(ORDER)
+                .toList();
+    }
+
+    // source 가 전파 가능한 동안 같은 방에 겹쳐 머문 개체 (겹치기 시작한 시각)
+    private List<Arrival> contactsOf(Arrival source, int depth) {
+        List<Arrival> found = new ArrayList<>();
+        for (PenResidencyRow own : snapshot.residencies(source.livestockId())) {
+            long from = Math.max(ResidencyIntervals.key(own.getStartedAt()), source.at());
+            long to = Math.min(ResidencyIntervals.endKey(own), until);
+            if (from >= to) {
+                continue;
+            }
+            for (PenResidencyRow other : snapshot.pen(own.getPenId()).overlapping(from, to)) {
+                if (!other.getLivestockId().equals(source.livestockId())) {
+                    long at = Math.max(from, ResidencyIntervals.key(other.getStartedAt()));
+                    found.add(new Arrival(other.getLivestockId(), depth, at, source.livestockId(), own.getPenId()));
+                }
+            }
+        }
+        return found;
+    }
+
+    // 앞 단계(감염원 쪽)의 전파 가능한 개체 중 하나라도 같은 방에 있던 시간 (여러 개체가 겹친 시간은 한 번만)
+    private long exposureMillis(Arrival contact, Map<Long, Arrival> arrivals, long windowStart) {
+        List<long[]> overlaps = new ArrayList<>();
+        for (PenResidencyRow own : snapshot.residencies(contact.livestockId())) {
+            long from = Math.max(ResidencyIntervals.key(own.getStartedAt()), windowStart);
+            long to = Math.min(ResidencyIntervals.endKey(own), until);
+            if (from >= to) {
+                continue;
+            }
+            for (PenResidencyRow other : snapshot.pen(own.getPenId()).overlapping(from, to)) {
+                Arrival infectious = arrivals.get(other.getLivestockId());
+                if (infectious == null || infectious.depth() >= contact.depth()) {
+                    continue;
+                }
+                long start = Math.max(Math.max(from, ResidencyIntervals.key(other.getStartedAt())), infectious.at());
+                long end = Math.min(to, ResidencyIntervals.endKey(other));
+                if (start < end) {
+                    overlaps.add(new long[]{start, end});
+                }
+            }
+        }
+
+        overlaps.sort(Comparator.comparingLong(interval -> interval[0]));
+        long total = 0;
+        long coveredUntil = Long.MIN_VALUE;
+        for (long[] interval : overlaps) {
+            long start = Math.max(interval[0], coveredUntil);
+            if (interval[1] > start) {
+                total += interval[1] - start;
+                coveredUntil = interval[1];
+            }
+        }
+        return total;
+    }
+
+    // 개체에 가장 이르게 닿은 노출 (depth 0 = 감염원)
+    private record Arrival(Long livestockId, int depth, long at, Long source, Long penId) {
+    }
+}
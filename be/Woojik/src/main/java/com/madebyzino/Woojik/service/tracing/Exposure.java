@@ -0,0 +1,16 @@
+package com.madebyzino.Woojik.service.tracing;
+
+import java.time.LocalDateTime;
+
+/**
+ * 접촉 추적 결과 한 개체.
+ * depth 0 은 감염원(exposedAt = 전파 가능 시작 시각), 그 외는 가장 이른 노출 경로의 단계 수와
+ * 그때 같은 방에 있던 개체(sourceLivestockId)/방(penId), 앞 단계의 전파 가능 개체와 같은 방에 머문 시간의 합(exposureMillis, 겹침은 한 번만).
+ */
+public record Exposure(Long livestockId, int depth, LocalDateTime exposedAt, Long sourceLivestockId, Long penId,
+                       long exposureMillis) {
+
+    public boolean isSeed() {
+        return depth == 0;
+    }
+}
@@ -0,0 +1,73 @@
+package com.madebyzino.Woojik.benchmark;
+
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 10,000건 INSERT 처리량 비교.
+ * - 배치 없음: JDBC batch size 1 (IDENTITY 전략일 때와 같이 행마다 한 번씩 왕복)
+ * - 배치: 시퀀스 pooled 할당 + hibernate.jdbc.batch_size (application.yaml)
+ * 실행: ./gradlew benchmark (기본은 테스트용 H2, MySQL 로 측정하려면 datasource 설정을 바꿔서 실행)
+ */
+@Tag("benchmark")
+@SpringBootTest
+class BatchInsertBenchmarkTest {
+
+    private static final int ROWS = 10_000;
+    private static final int FLUSH_INTERVAL = 1_000;
+
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void insertThroughput() {
+        // 워밍업
+        insert("W", 2_000, 1);
+        insert("X", 2_000, 100);
+
+        long unbatched = insert("U", ROWS, 1);
+        long batched = insert("B", ROWS, 100);
+
+        System.out.printf("[benchmark] %d rows, batch size 1   : %6d ms (%8.0f rows/s)%n",
+                ROWS, unbatched, ROWS * 1000.0 / unbatched);
+        System.out.printf("[benchmark] %d rows, batch size 100 : %6d ms (%8.0f rows/s)%n",
+                ROWS, batched, ROWS * 1000.0 / batched);
+
+        assertThat(batched).isPositive();
+    }
+
+    private long insert(String prefix, int rows, int batchSize) {
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(Livestock.builder()
+                        .earTag(String.format("BM%s%08d", prefix, i))
+                        .birthDate(LocalDate.of(2024, 1, 1))
+                        .gender(Gender.FEMALE)
+                        .status(LivestockStatus.CALF)
+                        .breed("한우")
+                        .build());
+                if ((i + 1) % FLUSH_INTERVAL == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+        });
+        return Math.max(1, (System.nanoTime() - start) / 1_000_000);
+    }
+}
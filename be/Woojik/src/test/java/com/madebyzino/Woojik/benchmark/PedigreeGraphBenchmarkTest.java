@@ -0,0 +1,86 @@
+package com.madebyzino.Woojik.benchmark;
+
+import com.madebyzino.Woojik.service.pedigree.PedigreeGraph;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 족보 그래프 구성 + 전체 근교계수 계산 시간 (개체 100,000마리, 15세대).
+ * 세대마다 암소는 이전 세대에서, 씨수소는 KPN 40개 중에서 골라 공통 조상이 많이 생기도록 만듭니다.
+ * 일부는 농장 수소(이전 세대)를 부로 써서 깊은 족보 추적이 일어나게 합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class PedigreeGraphBenchmarkTest {
+
+    private static final int ANIMALS = 100_000;
+    private static final int GENERATIONS = 15;
+    private static final int SIRE_CODES = 40;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void buildWholeHerd() {
+        List<PedigreeGraph.Node> nodes = herd();
+
+        PedigreeGraph graph = null;
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            graph = PedigreeGraph.of(nodes);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double max = 0;
+        long inbred = 0;
+        for (int i = 0; i < graph.size(); i++) {
+            max = Math.max(max, graph.inbreeding(i));
+            inbred += graph.inbreeding(i) > 0 ? 1 : 0;
+        }
+
+        int dam = graph.indexOf(ANIMALS);
+        int[] sires = new int[SIRE_CODES];
+        for (int i = 0; i < SIRE_CODES; i++) {
+            sires[i] = graph.indexOfSire("KPN-" + i);
+        }
+        long start = System.nanoTime();
+        graph.offspringInbreeding(dam, sires);
+        long ranking = System.nanoTime() - start;
+
+        System.out.printf("[benchmark] %,d animals, %d generations: build + inbreeding %,d ms (best of %d), "
+                        + "%,d inbred (max F %.3f), rank %d sires %.2f ms%n",
+                ANIMALS, GENERATIONS, best / 1_000_000, ROUNDS, inbred, max, SIRE_CODES, ranking / 1e6);
+
+        assertThat(inbred).isPositive();
+    }
+
+    private static List<PedigreeGraph.Node> herd() {
+        List<PedigreeGraph.Node> nodes = new ArrayList<>(ANIMALS);
+        int perGeneration = ANIMALS / GENERATIONS;
+        int seed = 12345;
+        for (int id = 1; id <= ANIMALS; id++) {
+            int generation = (id - 1) / perGeneration;
+            Long motherId = null;
+            Long fatherId = null;
+            String sireCode = null;
+            if (generation > 0) {
+                int previousStart = (generation - 1) * perGeneration + 1;
+                seed ^= seed << 13;
+                seed ^= seed >>> 17;
+                seed ^= seed << 5;
+                motherId = (long) previousStart + Math.floorMod(seed, perGeneration);
+                if (id % 10 == 0) {
+                    fatherId = (long) previousStart + Math.floorMod(seed >>> 7, perGeneration);
+                } else {
+                    sireCode = "KPN-" + Math.floorMod(seed >>> 3, SIRE_CODES);
+                }
+            }
+            nodes.add(new PedigreeGraph.Node(id, "TAG-" + id, motherId, fatherId, sireCode));
+        }
+        return nodes;
+    }
+}
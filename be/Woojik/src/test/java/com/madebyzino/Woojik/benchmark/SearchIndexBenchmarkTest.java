@@ -0,0 +1,149 @@
+package com.madebyzino.Woojik.benchmark;
+
+import com.madebyzino.Woojik.service.search.EarTagSuffixIndex;
+import com.madebyzino.Woojik.service.search.NicknameIndex;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 빠른 검색 인덱스 조회 시간 (개체 100,000마리).
+ * 귀표번호 뒷자리 4자리 / 별명 두 글자 / 초성 검색을 인덱스와 전체 순회(LIKE '%...' 에 해당)로 각각 수행해
+ * 결과가 같은지 확인하고 검색어당 시간을 비교합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class SearchIndexBenchmarkTest {
+
+    private static final int ANIMALS = 100_000;
+    private static final int QUERIES = 2_000;
+    private static final int LIMIT = 50;
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하별복순돌금은";
+
+    @Test
+    void lookupCost() {
+        String[] earTags = new String[ANIMALS];
+        String[] names = new String[ANIMALS];
+        int seed = 12345;
+        for (int i = 0; i < ANIMALS; i++) {
+            earTags[i] = String.format("002%09d", (long) i * 7919 % 1_000_000_000L);
+            StringBuilder name = new StringBuilder();
+            for (int c = 0; c < 3; c++) {
+                seed ^= seed << 13;
+                seed ^= seed >>> 17;
+                seed ^= seed << 5;
+                name.append(SYLLABLES.charAt(Math.floorMod(seed, SYLLABLES.length())));
+            }
+            names[i] = name.toString();
+        }
+
+        long start = System.nanoTime();
+        EarTagSuffixIndex earTagIndex = new EarTagSuffixIndex();
+        NicknameIndex nicknameIndex = new NicknameIndex();
+        for (int i = 0; i < ANIMALS; i++) {
+            earTagIndex.put((long) i, earTags[i]);
+            nicknameIndex.put((long) i, names[i]);
+        }
+        long build = System.nanoTime() - start;
+
+        List<String> suffixes = new ArrayList<>(QUERIES);
+        List<String> nicknames = new ArrayList<>(QUERIES);
+        List<String> chosungs = new ArrayList<>(QUERIES);
+        for (int q = 0; q < QUERIES; q++) {
+            int i = (int) ((long) q * 48_271 % ANIMALS);
+            suffixes.add(earTags[i].substring(earTags[i].length() - 4));
+            nicknames.add(names[i].substring(1));
+            chosungs.add(toChosung(names[i].substring(0, 2)));
+        }
+
+        // 결과 확인 (한도 없이 전체 일치)
+        for (int q = 0; q < 50; q++) {
+            assertThat(new HashSet<>(earTagIndex.findBySuffix(suffixes.get(q), ANIMALS)))
+                    .isEqualTo(scanSuffix(earTags, suffixes.get(q), ANIMALS));
+            assertThat(new HashSet<>(nicknameIndex.search(nicknames.get(q), ANIMALS)))
+                    .isEqualTo(scanContains(names, nicknames.get(q), false, ANIMALS));
+            assertThat(new HashSet<>(nicknameIndex.search(chosungs.get(q), ANIMALS)))
+                    .isEqualTo(scanContains(names, chosungs.get(q), true, ANIMALS));
+        }
+
+        long sink = 0;
+        for (int round = 0; round < 2; round++) {   // 첫 회는 워밍업
+            start = System.nanoTime();
+            for (String suffix : suffixes) {
+                sink += earTagIndex.findBySuffix(suffix, LIMIT).size();
+            }
+            long suffixIndexed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (String nickname : nicknames) {
+                sink += nicknameIndex.search(nickname, LIMIT).size();
+            }
+            long nicknameIndexed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (String chosung : chosungs) {
+                sink += nicknameIndex.search(chosung, LIMIT).size();
+            }
+            long chosungIndexed = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (String suffix : suffixes.subList(0, QUERIES / 10)) {
+                sink += scanSuffix(earTags, suffix, LIMIT).size();
+            }
+            long suffixScanned = (System.nanoTime() - start) * 10;
+
+            start = System.nanoTime();
+            for (String nickname : nicknames.subList(0, QUERIES / 10)) {
+                sink += scanContains(names, nickname, false, LIMIT).size();
+            }
+            long nicknameScanned = (System.nanoTime() - start) * 10;
+
+            if (round == 1) {
+                System.out.printf("[benchmark] %,d animals: build %,d ms, per query (index vs scan) "
+                                + "suffix %.1f / %.1f us, nickname %.1f / %.1f us, chosung %.1f us (%d)%n",
+                        ANIMALS, build / 1_000_000,
+                        suffixIndexed / 1e3 / QUERIES, suffixScanned / 1e3 / QUERIES,
+                        nicknameIndexed / 1e3 / QUERIES, nicknameScanned / 1e3 / QUERIES,
+                        chosungIndexed / 1e3 / QUERIES, sink);
+
+                assertThat(suffixIndexed).isLessThan(suffixScanned);
+                assertThat(nicknameIndexed).isLessThan(nicknameScanned);
+            }
+        }
+    }
+
+    private static HashSet<Long> scanSuffix(String[] earTags, String suffix, int limit) {
+        HashSet<Long> ids = new HashSet<>();
+        for (int i = 0; i < earTags.length && ids.size() < limit; i++) {
+            if (earTags[i].endsWith(suffix)) {
+                ids.add((long) i);
+            }
+        }
+        return ids;
+    }
+
+    private static HashSet<Long> scanContains(String[] names, String query, boolean chosung, int limit) {
+        HashSet<Long> ids = new HashSet<>();
+        for (int i = 0; i < names.length && ids.size() < limit; i++) {
+            String target = chosung ? toChosung(names[i]) : names[i];
+            if (target.contains(query)) {
+                ids.add((long) i);
+            }
+        }
+        return ids;
+    }
+
+    private static String toChosung(String value) {
+        char[] chosung = {'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'};
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            builder.append(chosung[(value.charAt(i) - '가') / (21 * 28)]);
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.madebyzino.Woojik.benchmark;
+
+import com.madebyzino.Woojik.service.telemetry.TemperatureAnomalyDetector;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 체온 이상 감지 측정값당 비용 (개체 100,000마리).
+ * 개체를 돌아가며 한 번씩 측정하는 순서로 넣어 매번 다른 개체 상태(캐시 미스)를 건드리는 최악에 가까운 경우를 잽니다.
+ * 측정 구간의 스레드 할당량으로 측정값당 객체 생성이 없는지도 확인합니다.
+ * 실행: ./gradlew benchmark
+ */
+@Tag("benchmark")
+class TemperatureAnomalyDetectorBenchmarkTest {
+
+    private static final int ANIMALS = 100_000;
+    private static final int WARMUP_ROUNDS = 40;
+    private static final int MEASURED_ROUNDS = 100;
+
+    @Test
+    void perReadingCost() {
+        long[] alerts = {0};
+        TemperatureAnomalyDetector detector = new TemperatureAnomalyDetector(ANIMALS, 32, 0.3f, 3.0f, 0.8f, 12, 39.8f, 37.2f,
+                (id, type, at, temperature, mean, std) -> alerts[0]++);
+
+        // 개체별 평소 체온 (38.0~39.0), 1% 는 측정 후반에 발열
+        float[] baselines = new float[ANIMALS];
+        for (int i = 0; i < ANIMALS; i++) {
+            baselines[i] = 38.0f + (i * 7919 % 1000) / 1000f;
+        }
+
+        long time = feed(detector, baselines, 0, WARMUP_ROUNDS, 0L);
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        feed(detector, baselines, WARMUP_ROUNDS, MEASURED_ROUNDS, time);
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        long readings = (long) ANIMALS * MEASURED_ROUNDS;
+        System.out.printf("[benchmark] %,d animals, %,d readings: %,d ms, %.1f ns/reading, %.3f bytes/reading allocated, %,d alerts%n",
+                ANIMALS, readings, elapsed / 1_000_000, (double) elapsed / readings, (double) allocated / readings, alerts[0]);
+
+        assertThat(alerts[0]).isGreaterThanOrEqualTo(ANIMALS / 100);
+        assertThat((double) allocated / readings).isLessThan(1.0);
+    }
+
+    private static long feed(TemperatureAnomalyDetector detector, float[] baselines, int fromRound, int rounds, long time) {
+        int seed = 12345;
+        for (int round = fromRound; round < fromRound + rounds; round++) {
+            time += 60_000;
+            for (int id = 0; id < ANIMALS; id++) {
+                seed ^= seed << 13;
+                seed ^= seed >>> 17;
+                seed ^= seed << 5;
+                float noise = (seed & 0xFF) / 255f * 0.3f - 0.15f;
+                float fever = id % 100 == 0 && round > fromRound + rounds / 2 && fromRound > 0 ? 1.5f : 0f;
+                detector.accept(id, time, baselines[id] + noise + fever);
+            }
+        }
+        return time;
+    }
+}
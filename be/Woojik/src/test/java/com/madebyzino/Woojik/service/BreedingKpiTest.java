@@ -0,0 +1,63 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.breeding.BreedingKpiResponse;
+import com.madebyzino.Woojik.dto.breeding.HerdBreedingKpiResponse;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BreedingKpiTest {
+
+    @Autowired
+    private BreedingKpiService breedingKpiService;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    @Test
+    @DisplayName("번식 기록마다 갱신한 KPI 는 번식 이력 전체에서 다시 구성한 KPI 와 같다")
+    void incrementalKpiMatchesRebuild() {
+        breedingKpiService.rebuild();
+        HerdBreedingKpiResponse before = breedingKpiService.getHerdKpi();
+        LocalDate start = LocalDate.now().minusDays(800);
+
+        Long cow = fixtures.register("KPI-1");
+
+        // 분만 -> 수정 2회 (2회차 수태) -> 분만
+        fixtures.calve(cow, start, "KPI-CALF-1");
+        fixtures.ai(cow, start.plusDays(60), "KPN-1");
+        fixtures.ai(cow, start.plusDays(82), "KPN-1");
+        fixtures.pregnancyCheck(cow, start.plusDays(130), true);
+        fixtures.calve(cow, start.plusDays(367), "KPI-CALF-2");
+
+        BreedingKpiResponse kpi = breedingKpiService.getCowKpi(cow);
+        assertThat(kpi.getCalvings()).isEqualTo(2);
+        assertThat(kpi.getAverageCalvingInterval()).isEqualTo(367.0);
+        assertThat(kpi.getAverageDaysOpen()).isEqualTo(82.0);
+        assertThat(kpi.getServicesPerConception()).isEqualTo(2.0);
+        assertThat(kpi.getCurrentDaysOpen()).isEqualTo(800 - 367);
+
+        HerdBreedingKpiResponse incremental = breedingKpiService.getHerdKpi();
+        assertThat(incremental.getCowCount()).isEqualTo(before.getCowCount() + 1);
+        assertThat(incremental.getServices()).isEqualTo(before.getServices() + 2);
+
+        breedingKpiService.rebuild();
+        assertThat(breedingKpiService.getHerdKpi()).isEqualTo(incremental);
+
+        // 정리 후에는 테스트 전 KPI 로 돌아감 (송아지 포함 삭제)
+        fixtures.cleanup();
+        assertThat(breedingKpiService.getHerdKpi()).isEqualTo(before);
+    }
+}
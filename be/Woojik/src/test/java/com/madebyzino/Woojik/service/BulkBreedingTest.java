@@ -0,0 +1,194 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.breeding.BulkBreedingRequest;
+import com.madebyzino.Woojik.dto.breeding.BulkBreedingResponse;
+import com.madebyzino.Woojik.dto.breeding.EstrusRequest;
+import com.madebyzino.Woojik.entity.Breeding;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.enums.BreedingType;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.BreedingRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class BulkBreedingTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final String SIRE = "KPN-BULK";
+
+    @Autowired
+    private BreedingService breedingService;
+    @Autowired
+    private BreedingKpiService breedingKpiService;
+    @Autowired
+    private BreedingRepository breedingRepository;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    // 수태 / 공태 / 재수정 후 수태
+    private record Herd(Long conceived, Long open, Long repeat) {
+        List<Long> ids() {
+            return List.of(conceived, open, repeat);
+        }
+    }
+
+    private Herd createHerd(String prefix) {
+        return new Herd(fixtures.register(prefix + "-CONCEIVED"), fixtures.register(prefix + "-OPEN"),
+                fixtures.register(prefix + "-REPEAT"));
+    }
+
+    private BulkBreedingResponse bulk(BreedingType type, LocalDate date, List<BulkBreedingRequest.Item> items) {
+        BulkBreedingRequest request = new BulkBreedingRequest();
+        request.setType(type);
+        request.setDate(date);
+        request.setItems(items);
+        return breedingService.registerBulk(request);
+    }
+
+    private static BulkBreedingRequest.Item aiItem(Long id) {
+        BulkBreedingRequest.Item item = new BulkBreedingRequest.Item();
+        item.setLivestockId(id);
+        item.setSireCode(SIRE);
+        return item;
+    }
+
+    private static BulkBreedingRequest.Item checkItem(Long id, boolean pregnant) {
+        BulkBreedingRequest.Item item = new BulkBreedingRequest.Item();
+        item.setLivestockId(id);
+        item.setPregnant(pregnant);
+        return item;
+    }
+
+    @Test
+    @DisplayName("일괄 수정/임신감정 후 상태, 분만 예정일, 이력, KPI 가 개체별 등록과 같다")
+    void bulkAiAndPregnancyCheckMatchSingleRegistration() {
+        LocalDate firstAi = TODAY.minusDays(90);
+        LocalDate firstCheck = TODAY.minusDays(70);
+        LocalDate secondAi = TODAY.minusDays(60);
+        LocalDate secondCheck = TODAY.minusDays(20);
+
+        Herd single = createHerd("BB-SINGLE");
+        fixtures.ai(single.repeat(), firstAi, SIRE);
+        fixtures.pregnancyCheck(single.repeat(), firstCheck, false);
+        for (Long id : single.ids()) {
+            fixtures.ai(id, secondAi, SIRE);
+        }
+        fixtures.pregnancyCheck(single.conceived(), secondCheck, true);
+        fixtures.pregnancyCheck(single.open(), secondCheck, false);
+        fixtures.pregnancyCheck(single.repeat(), secondCheck, true);
+
+        Herd bulk = createHerd("BB-BULK");
+        bulk(BreedingType.AI, firstAi, List.of(aiItem(bulk.repeat())));
+        bulk(BreedingType.PREG_CHECK, firstCheck, List.of(checkItem(bulk.repeat(), false)));
+        BulkBreedingResponse ai = bulk(BreedingType.AI, secondAi,
+                bulk.ids().stream().map(BulkBreedingTest::aiItem).toList());
+        BulkBreedingResponse check = bulk(BreedingType.PREG_CHECK, secondCheck, List.of(
+                checkItem(bulk.conceived(), true), checkItem(bulk.open(), false), checkItem(bulk.repeat(), true)));
+        assertThat(ai.getSuccessCount()).isEqualTo(3);
+        assertThat(check.getSuccessCount()).isEqualTo(3);
+        assertThat(check.getFailedCount()).isZero();
+
+        // 기대 결과
+        assertCow(bulk.conceived(), LivestockStatus.PREGNANT, secondAi.plusDays(285));
+        assertCow(bulk.open(), LivestockStatus.FATTENING, null);
+        assertCow(bulk.repeat(), LivestockStatus.PREGNANT, secondAi.plusDays(285));
+
+        // 개체별 경로와 상태/날짜/이력/KPI 가 같음
+        List<Long> singleIds = single.ids();
+        List<Long> bulkIds = bulk.ids();
+        for (int i = 0; i < singleIds.size(); i++) {
+            Livestock expected = livestockRepository.findById(singleIds.get(i)).orElseThrow();
+            Livestock actual = livestockRepository.findById(bulkIds.get(i)).orElseThrow();
+            assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
+            assertThat(actual.getLastAiDate()).isEqualTo(expected.getLastAiDate()).isEqualTo(secondAi);
+            assertThat(actual.getExpectedDate()).isEqualTo(expected.getExpectedDate());
+
+            assertThat(history(bulkIds.get(i))).isEqualTo(history(singleIds.get(i)));
+            assertThat(breedingKpiService.getCowKpi(bulkIds.get(i)))
+                    .usingRecursiveComparison().ignoringFields("livestockId")
+                    .isEqualTo(breedingKpiService.getCowKpi(singleIds.get(i)));
+        }
+        assertThat(breedingKpiService.getCowKpi(bulk.repeat()).getServices()).isEqualTo(2);
+        assertThat(breedingKpiService.getCowKpi(bulk.repeat()).getConceptions()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 임신감정 음성은 임신우를 FATTENING 으로 돌리고 분만 예정일을 지운다")
+    void bulkNegativeCheckClearsPregnancy() {
+        Long cow = fixtures.register("BB-NEG");
+        fixtures.ai(cow, TODAY.minusDays(60), SIRE);
+        fixtures.pregnancyCheck(cow, TODAY.minusDays(30), true);
+        assertCow(cow, LivestockStatus.PREGNANT, TODAY.minusDays(60).plusDays(285));
+
+        bulk(BreedingType.PREG_CHECK, TODAY, List.of(checkItem(cow, false)));
+
+        assertCow(cow, LivestockStatus.FATTENING, null);
+    }
+
+    @Test
+    @DisplayName("판매된 개체는 개체별 등록과 일괄 등록 모두 번식 기록을 거절하고 이력도 남기지 않는다")
+    void rejectsSoldCowOnBothPaths() {
+        Long cow = fixtures.register("BB-SOLD");
+        fixtures.sell(cow, TODAY, 5_000_000L, 700.0, "1+", "번식정육점");
+
+        EstrusRequest estrus = new EstrusRequest();
+        estrus.setDate(TODAY);
+        assertThatThrownBy(() -> breedingService.registerEstrus(cow, estrus))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_SOLD_LIVESTOCK);
+        assertThatThrownBy(() -> fixtures.ai(cow, TODAY, SIRE))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_SOLD_LIVESTOCK);
+        assertThatThrownBy(() -> fixtures.pregnancyCheck(cow, TODAY, true))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.ALREADY_SOLD_LIVESTOCK);
+
+        for (BreedingType type : List.of(BreedingType.ESTRUS, BreedingType.AI, BreedingType.PREG_CHECK)) {
+            BulkBreedingResponse response = bulk(type, TODAY, List.of(checkItem(cow, true)));
+            assertThat(response.getResults()).extracting(BulkBreedingResponse.Result::getMessage)
+                    .containsExactly(ErrorCode.ALREADY_SOLD_LIVESTOCK.getMessage());
+        }
+
+        assertThat(history(cow)).isEmpty();
+        assertCow(cow, LivestockStatus.SOLD, null);
+    }
+
+    // 비교용 이력 (종류, 날짜, 정액번호, 예정일, 감정 결과)
+    private List<List<Object>> history(Long livestockId) {
+        List<List<Object>> rows = new ArrayList<>();
+        for (Breeding breeding : breedingRepository.findByLivestockIdOrderById(livestockId)) {
+            rows.add(tuple(breeding.getType(), breeding.getEventDate(), breeding.getSireCode(),
+                    breeding.getExpectedDate(), breeding.getIsPregnant()).toList());
+        }
+        return rows;
+    }
+
+    private void assertCow(Long id, LivestockStatus status, LocalDate expectedDate) {
+        Livestock livestock = livestockRepository.findById(id).orElseThrow();
+        assertThat(livestock.getStatus()).as("status of %s", livestock.getEarTag()).isEqualTo(status);
+        assertThat(livestock.getExpectedDate()).as("expected date of %s", livestock.getEarTag()).isEqualTo(expectedDate);
+    }
+}
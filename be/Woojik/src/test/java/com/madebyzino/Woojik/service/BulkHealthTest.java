@@ -0,0 +1,174 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.healthy.BulkHealthRequest;
+import com.madebyzino.Woojik.dto.healthy.BulkHealthResponse;
+import com.madebyzino.Woojik.dto.healthy.HealthRequest;
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RecordApplicationEvents
+class BulkHealthTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private HealthService healthService;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private PenRepository penRepository;
+    @Autowired
+    private LivestockFixtures fixtures;
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    // 일반 / 임신 / 휴약 중(더 긴 휴약) / 휴약 중(더 짧은 휴약) 개체 한 벌
+    private record Herd(Long active, Long pregnant, Long longWithdrawal, Long shortWithdrawal) {
+        List<Long> ids() {
+            return List.of(active, pregnant, longWithdrawal, shortWithdrawal);
+        }
+    }
+
+    private Herd createHerd(String prefix) {
+        Long active = fixtures.register(prefix + "-ACTIVE");
+
+        Long pregnant = fixtures.register(prefix + "-PREGNANT");
+        fixtures.ai(pregnant, TODAY.minusDays(60), "KPN-1");
+        fixtures.pregnancyCheck(pregnant, TODAY.minusDays(20), true);
+
+        Long longWithdrawal = fixtures.register(prefix + "-LONG");
+        fixtures.treat(longWithdrawal, TODAY.minusDays(1), 30);
+
+        Long shortWithdrawal = fixtures.register(prefix + "-SHORT");
+        healthService.registerHealth(shortWithdrawal, healthRequest(HealthType.VACCINE, TODAY.minusDays(1), "구제역", 3));
+
+        return new Herd(active, pregnant, longWithdrawal, shortWithdrawal);
+    }
+
+    private static HealthRequest healthRequest(HealthType type, LocalDate date, String diseaseName, Integer withdrawalPeriod) {
+        HealthRequest request = new HealthRequest();
+        request.setType(type);
+        request.setDate(date);
+        request.setDiseaseName(diseaseName);
+        request.setWithdrawalPeriod(withdrawalPeriod);
+        return request;
+    }
+
+    @Test
+    @DisplayName("일괄 치료는 개체별 치료와 같은 결과: 임신우는 SICK 전환 제외, 휴약 종료일은 늘리기만 한다")
+    void bulkTreatMatchesSingleRegistration() {
+        Herd single = createHerd("BH-SINGLE");
+        Herd bulk = createHerd("BH-BULK");
+
+        for (Long id : single.ids()) {
+            healthService.registerHealth(id, healthRequest(HealthType.TREAT, TODAY, "폐렴", 7));
+        }
+
+        BulkHealthRequest request = new BulkHealthRequest();
+        request.setLivestockIds(bulk.ids());
+        request.setType(HealthType.TREAT);
+        request.setDate(TODAY);
+        request.setDiseaseName("폐렴");
+        request.setWithdrawalPeriod(7);
+        BulkHealthResponse response = healthService.registerBulkHealth(request);
+
+        assertThat(response.getRecordedCount()).isEqualTo(4);
+        assertThat(response.getSickCount()).isEqualTo(2);   // 일반, 짧은 휴약 개체 (긴 휴약 개체는 이미 SICK)
+        assertThat(response.getSkippedIds()).isEmpty();
+
+        // 기대 결과
+        assertCow(bulk.active(), LivestockStatus.SICK, TODAY.plusDays(7));
+        assertCow(bulk.pregnant(), LivestockStatus.PREGNANT, TODAY.plusDays(7));
+        assertCow(bulk.longWithdrawal(), LivestockStatus.SICK, TODAY.minusDays(1).plusDays(30));
+        assertCow(bulk.shortWithdrawal(), LivestockStatus.SICK, TODAY.plusDays(7));
+
+        // 개체별 경로와 필드 단위로 동일
+        List<Long> singleIds = single.ids();
+        List<Long> bulkIds = bulk.ids();
+        for (int i = 0; i < singleIds.size(); i++) {
+            Livestock expected = livestockRepository.findById(singleIds.get(i)).orElseThrow();
+            Livestock actual = livestockRepository.findById(bulkIds.get(i)).orElseThrow();
+            assertThat(actual.getStatus()).isEqualTo(expected.getStatus());
+            assertThat(actual.getWithdrawalDate()).isEqualTo(expected.getWithdrawalDate());
+            assertThat(actual.getLastDiseaseName()).isEqualTo(expected.getLastDiseaseName()).isEqualTo("폐렴");
+            assertThat(actual.getLastTreatmentDate()).isEqualTo(expected.getLastTreatmentDate()).isEqualTo(TODAY);
+        }
+    }
+
+    @Test
+    @DisplayName("이미 휴약 중인 개체에 더 짧은 휴약의 일괄 기록을 넣어도 휴약 종료일이 당겨지지 않는다")
+    void bulkNeverShortensWithdrawal() {
+        Long cow = fixtures.register("BH-KEEP");
+        fixtures.treat(cow, TODAY, 30);
+
+        BulkHealthRequest request = new BulkHealthRequest();
+        request.setLivestockIds(List.of(cow));
+        request.setType(HealthType.VACCINE);
+        request.setDate(TODAY);
+        request.setDiseaseName("구제역");
+        request.setWithdrawalPeriod(1);
+        healthService.registerBulkHealth(request);
+
+        assertCow(cow, LivestockStatus.SICK, TODAY.plusDays(30));
+    }
+
+    @Test
+    @DisplayName("일괄 치료로 SICK 이 된 개체만 상태 변경 이벤트를 방 ID 와 함께 발행한다 (임신우, 이미 SICK 인 개체 제외)")
+    void bulkTreatPublishesStatusChanges() {
+        Herd herd = createHerd("BH-EVENT");
+        Pen pen = penRepository.save(new Pen("BH-이벤트방", 10, barnRepository.save(new Barn("BH-이벤트축사"))));
+        LivestockRequest penned = new LivestockRequest();
+        penned.setEarTag("BH-EVENT-PEN");
+        penned.setPenId(pen.getId());
+        Long pennedId = fixtures.register(penned);
+        events.clear();
+
+        BulkHealthRequest request = new BulkHealthRequest();
+        request.setLivestockIds(List.of(herd.active(), herd.pregnant(), herd.longWithdrawal(), herd.shortWithdrawal(), pennedId));
+        request.setType(HealthType.TREAT);
+        request.setDate(TODAY);
+        request.setDiseaseName("폐렴");
+        BulkHealthResponse response = healthService.registerBulkHealth(request);
+
+        assertThat(response.getSickCount()).isEqualTo(3);
+        assertThat(events.stream(LivestockStatusChangedEvent.class)).containsExactlyInAnyOrder(
+                new LivestockStatusChangedEvent(herd.active(), null, LivestockStatus.CALF, LivestockStatus.SICK),
+                new LivestockStatusChangedEvent(herd.shortWithdrawal(), null, LivestockStatus.CALF, LivestockStatus.SICK),
+                new LivestockStatusChangedEvent(pennedId, pen.getId(), LivestockStatus.CALF, LivestockStatus.SICK));
+    }
+
+    private void assertCow(Long id, LivestockStatus status, LocalDate withdrawalDate) {
+        Livestock livestock = livestockRepository.findById(id).orElseThrow();
+        assertThat(livestock.getStatus()).as("status of %s", livestock.getEarTag()).isEqualTo(status);
+        assertThat(livestock.getWithdrawalDate()).as("withdrawal of %s", livestock.getEarTag()).isEqualTo(withdrawalDate);
+    }
+}
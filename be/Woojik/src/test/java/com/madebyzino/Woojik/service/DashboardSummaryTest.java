@@ -0,0 +1,119 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.dashboard.DashboardSummaryResponse;
+import com.madebyzino.Woojik.dto.healthy.BulkHealthRequest;
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class DashboardSummaryTest {
+
+    @Autowired
+    private DashboardService dashboardService;
+    @Autowired
+    private HealthService healthService;
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    @Test
+    @DisplayName("쓰기 경로에서 갱신한 요약은 DB 에서 다시 구성한 요약과 같다")
+    void incrementalSummaryMatchesRebuild() {
+        dashboardService.rebuild();
+        DashboardSummaryResponse before = dashboardService.getSummary(30, 200);
+        LocalDate today = LocalDate.now();
+
+        Long treated = fixtures.register("DASH-1");
+        Long pregnant = fixtures.register("DASH-2");
+        Long sold = fixtures.register("DASH-3");
+        Long bulk = fixtures.register("DASH-4");
+
+        // 치료 + 휴약 10일 -> SICK, 휴약 목록
+        fixtures.treat(treated, today, 10);
+
+        // 인공수정 270일 전 -> 임신 확정 -> 15일 뒤 분만 예정
+        fixtures.ai(pregnant, today.minusDays(270), null);
+        fixtures.pregnancyCheck(pregnant, today.minusDays(200), true);
+
+        fixtures.sell(sold, today, null, null, null, null);
+
+        BulkHealthRequest bulkTreat = new BulkHealthRequest();
+        bulkTreat.setLivestockIds(List.of(bulk, pregnant));
+        bulkTreat.setType(HealthType.TREAT);
+        bulkTreat.setDate(today);
+        bulkTreat.setWithdrawalPeriod(3);
+        healthService.registerBulkHealth(bulkTreat);
+
+        DashboardSummaryResponse incremental = dashboardService.getSummary(30, 200);
+        assertThat(incremental.getTotalCount()).isEqualTo(before.getTotalCount() + 3);
+        assertThat(incremental.getStatusCounts().get(LivestockStatus.SOLD))
+                .isEqualTo(before.getStatusCounts().get(LivestockStatus.SOLD) + 1);
+        assertThat(incremental.getStatusCounts().get(LivestockStatus.SICK))
+                .isEqualTo(before.getStatusCounts().get(LivestockStatus.SICK) + 2);
+        assertThat(incremental.getWithdrawal()).extracting("id").contains(treated, bulk, pregnant);
+        assertThat(incremental.getCalvingDue()).extracting("id").contains(pregnant);
+
+        dashboardService.rebuild();
+        assertThat(dashboardService.getSummary(30, 200)).isEqualTo(incremental);
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 요약에 반영되지 않는다 (변경 이벤트는 커밋 후에만 처리)")
+    void ignoresRolledBackWrites() {
+        dashboardService.rebuild();
+        DashboardSummaryResponse before = dashboardService.getSummary(30, 200);
+        Long cow = fixtures.register("DASH-ROLLBACK");
+        DashboardSummaryResponse registered = dashboardService.getSummary(30, 200);
+        assertThat(registered.getTotalCount()).isEqualTo(before.getTotalCount() + 1);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            LivestockRequest request = new LivestockRequest();
+            request.setEarTag("DASH-ROLLBACK-NEW");
+            livestockService.register(request);
+
+            BulkHealthRequest bulkTreat = new BulkHealthRequest();
+            bulkTreat.setLivestockIds(List.of(cow));
+            bulkTreat.setType(HealthType.TREAT);
+            bulkTreat.setDate(LocalDate.now());
+            bulkTreat.setWithdrawalPeriod(3);
+            healthService.registerBulkHealth(bulkTreat);
+            status.setRollbackOnly();
+        });
+
+        assertThat(dashboardService.getSummary(30, 200)).isEqualTo(registered);
+    }
+
+    @Test
+    @DisplayName("정리 후 요약은 테스트 전과 같다")
+    void cleanupRestoresSummary() {
+        dashboardService.rebuild();
+        DashboardSummaryResponse before = dashboardService.getSummary(30, 200);
+
+        Long cow = fixtures.register("DASH-CLEANUP");
+        fixtures.treat(cow, LocalDate.now(), 10);
+        fixtures.cleanup();
+
+        assertThat(dashboardService.getSummary(30, 200)).isEqualTo(before);
+    }
+}
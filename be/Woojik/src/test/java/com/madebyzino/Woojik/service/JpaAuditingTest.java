@@ -0,0 +1,119 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.common.CacheValidator;
+import com.madebyzino.Woojik.dto.livestock.LivestockUpdateRequest;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 감사(createdAt/updatedAt 자동 기록) 전역 활성화가 기존 데이터의 시각을 건드리지 않는지 확인.
+ * 감사 도입 전에 저장된 행은 시각이 비어 있으므로 네이티브 UPDATE 로 같은 상태를 만들어 씁니다.
+ */
+@SpringBootTest
+class JpaAuditingTest {
+
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    // 감사 도입 전 행: 시각 없음
+    private void clearTimestamps(Long id) {
+        transactionTemplate.executeWithoutResult(status -> entityManager
+                .createNativeQuery("UPDATE livestocks SET created_at = NULL, updated_at = NULL WHERE id = :id")
+                .setParameter("id", id)
+                .executeUpdate());
+    }
+
+    private Livestock load(Long id) {
+        return livestockRepository.findById(id).orElseThrow();
+    }
+
+    private void rename(Long id, String name) {
+        LivestockUpdateRequest request = new LivestockUpdateRequest();
+        request.setName(name);
+        livestockService.update(id, request);
+    }
+
+    @Test
+    @DisplayName("새로 저장한 개체는 생성/수정 시각이 기록되고, 수정하면 수정 시각만 바뀐다")
+    void stampsNewAndUpdatedEntities() {
+        Long id = fixtures.register("AUDIT-NEW");
+        Livestock created = load(id);
+        assertThat(created.getCreatedAt()).isNotNull();
+        assertThat(created.getUpdatedAt()).isNotNull();
+
+        rename(id, "감사");
+
+        Livestock updated = load(id);
+        assertThat(updated.getCreatedAt()).isEqualTo(created.getCreatedAt());
+        assertThat(updated.getUpdatedAt()).isAfterOrEqualTo(created.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("감사 도입 전 개체는 조회만으로 시각이 채워지지 않고, 수정해도 생성 시각은 비어 있다")
+    void leavesExistingRowsUntouched() {
+        Long id = fixtures.register("AUDIT-OLD");
+        clearTimestamps(id);
+
+        // 조회 (상세 + 검증자) 로는 쓰기가 일어나지 않음
+        livestockService.getDetail(id);
+        CacheValidator validator = livestockService.getDetailValidator(id);
+        assertThat(load(id).getCreatedAt()).isNull();
+        assertThat(load(id).getUpdatedAt()).isNull();
+        // 시각이 없으면 Last-Modified 는 오늘 0시
+        assertThat(validator.getLastModified()).isEqualTo(
+                LocalDate.now().atStartOfDay(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        assertThat(livestockService.getDetailValidator(id).getEtag()).isEqualTo(validator.getEtag());
+
+        rename(id, "옛소");
+
+        Livestock updated = load(id);
+        assertThat(updated.getCreatedAt()).isNull();   // updatable = false: 생성 시각을 지어내지 않음
+        assertThat(updated.getUpdatedAt()).isNotNull();
+        assertThat(livestockService.getDetailValidator(id).getEtag()).isNotEqualTo(validator.getEtag());
+    }
+
+    @Test
+    @DisplayName("한 개체를 수정해도 다른 개체의 시각은 그대로다")
+    void updateDoesNotTouchOtherRows() {
+        Long target = fixtures.register("AUDIT-TARGET");
+        Long other = fixtures.register("AUDIT-OTHER");
+        Long old = fixtures.register("AUDIT-OTHER-OLD");
+        clearTimestamps(old);
+        LocalDateTime otherCreated = load(other).getCreatedAt();
+        LocalDateTime otherUpdated = load(other).getUpdatedAt();
+
+        rename(target, "수정대상");
+
+        assertThat(load(other).getCreatedAt()).isEqualTo(otherCreated);
+        assertThat(load(other).getUpdatedAt()).isEqualTo(otherUpdated);
+        assertThat(load(old).getCreatedAt()).isNull();
+        assertThat(load(old).getUpdatedAt()).isNull();
+    }
+}
@@ -0,0 +1,124 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.livestock.LivestockDetailResponse;
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.entity.Breeding;
+import com.madebyzino.Woojik.entity.Health;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.Sale;
+import com.madebyzino.Woojik.entity.enums.BreedingType;
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.BreedingRepository;
+import com.madebyzino.Woojik.repository.HealthRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.repository.SaleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LivestockDetailQueryCountTest {
+
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private PenRepository penRepository;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private HealthRepository healthRepository;
+    @Autowired
+    private BreedingRepository breedingRepository;
+    @Autowired
+    private SaleRepository saleRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private LivestockJournalService livestockJournalService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 개체/건강/번식/판매 4번의 쿼리로 끝난다")
+    void detailUsesFourStatements() {
+        Barn barn = barnRepository.save(new Barn("상세축사"));
+        Pen pen = penRepository.save(new Pen("상세-1", 10, barn));
+        Livestock mother = livestockRepository.save(cow("D-MOTHER", pen, null, null));
+        Livestock father = livestockRepository.save(cow("D-FATHER", pen, null, null));
+        Livestock calf = livestockRepository.save(cow("D-CALF", pen, mother, father));
+
+        for (int i = 0; i < 3; i++) {
+            healthRepository.save(Health.builder().livestock(calf).type(HealthType.VACCINE)
+                    .eventDate(LocalDate.of(2025, 1, 1 + i)).diseaseName("구제역").build());
+            breedingRepository.save(Breeding.builder().livestock(calf).type(BreedingType.ESTRUS)
+                    .eventDate(LocalDate.of(2025, 2, 1 + i)).build());
+        }
+        saleRepository.save(Sale.builder().livestock(calf).saleDate(LocalDate.of(2025, 3, 1)).price(1_000_000L).build());
+
+        // 변경 이력 저장 스레드의 INSERT 가 통계에 섞이지 않도록 먼저 비움
+        livestockJournalService.awaitDrained(Duration.ofSeconds(10));
+        statistics.clear();
+        LivestockDetailResponse detail = livestockService.getDetail(calf.getId());
+        long statements = statistics.getPrepareStatementCount();
+
+        assertThat(statements).isEqualTo(4);
+        assertThat(detail.getLocation()).isEqualTo("상세축사 상세-1");
+        assertThat(detail.getMotherEarTag()).isEqualTo("D-MOTHER");
+        assertThat(detail.getFatherEarTag()).isEqualTo("D-FATHER");
+        assertThat(detail.getHealthHistory()).hasSize(3);
+        assertThat(detail.getBreedingHistory()).hasSize(3);
+        assertThat(detail.getSaleInfo().getEarTag()).isEqualTo("D-CALF");
+        assertThat(detail.getBarnId()).isEqualTo(barn.getId());
+    }
+
+    @Test
+    @DisplayName("방이 없는 개체도 상세 조회가 된다")
+    void detailWithoutPen() {
+        Livestock cow = livestockRepository.save(cow("D-NOPEN", null, null, null));
+
+        // 변경 이력 저장 스레드의 INSERT 가 통계에 섞이지 않도록 먼저 비움
+        livestockJournalService.awaitDrained(Duration.ofSeconds(10));
+        statistics.clear();
+        LivestockDetailResponse detail = livestockService.getDetail(cow.getId());
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(detail.getLocation()).isEqualTo("미지정");
+        assertThat(detail.getPenId()).isNull();
+        assertThat(detail.getSaleInfo()).isNull();
+    }
+
+    private Livestock cow(String earTag, Pen pen, Livestock mother, Livestock father) {
+        return Livestock.builder()
+                .earTag(earTag)
+                .birthDate(LocalDate.of(2023, 5, 1))
+                .gender(Gender.FEMALE)
+                .status(LivestockStatus.FATTENING)
+                .breed("한우")
+                .pen(pen)
+                .mother(mother)
+                .father(father)
+                .build();
+    }
+}
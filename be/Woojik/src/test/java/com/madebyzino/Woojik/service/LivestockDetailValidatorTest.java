@@ -0,0 +1,145 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.common.CacheValidator;
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.dto.livestock.LivestockUpdateRequest;
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LivestockDetailValidatorTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private PenRepository penRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private Pen createPen(String name) {
+        Barn barn = barnRepository.save(new Barn(name + "-축사"));
+        return penRepository.save(new Pen(name, 10, barn));
+    }
+
+    private Long register(String earTag, Pen pen) {
+        LivestockRequest request = new LivestockRequest();
+        request.setEarTag(earTag);
+        request.setPenId(pen.getId());
+        return fixtures.register(request);
+    }
+
+    private String etag(Long id) {
+        return livestockService.getDetailValidator(id).getEtag();
+    }
+
+    // 영속 상태에서 바꿔 더티 체킹 + 감사(updatedAt) 를 그대로 탐
+    private <T> void modify(Class<T> type, Long id, Consumer<T> change) {
+        transactionTemplate.executeWithoutResult(status -> change.accept(entityManager.find(type, id)));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 ETag 가 같고, 같은 방의 다른 개체가 바뀌어도 같다")
+    void stableWithoutChanges() {
+        Pen pen = createPen("ETAG-고정방");
+        Long id = register("ETAG-STABLE", pen);
+        Long neighbor = register("ETAG-NEIGHBOR", pen);
+
+        String before = etag(id);
+        assertThat(etag(id)).isEqualTo(before);
+
+        fixtures.treat(neighbor, TODAY, 3);
+        assertThat(etag(id)).isEqualTo(before);
+    }
+
+    @Test
+    @DisplayName("개체 정보, 건강/번식 이력, 이동, 판매가 바뀌면 ETag 가 바뀐다")
+    void changesWithLivestockAndHistory() {
+        Pen pen = createPen("ETAG-이력방");
+        Pen other = createPen("ETAG-이동방");
+        Long id = register("ETAG-HISTORY", pen);
+
+        String etag = etag(id);
+        LivestockUpdateRequest update = new LivestockUpdateRequest();
+        update.setName("이태그");
+        livestockService.update(id, update);
+        etag = assertChanged(id, etag);
+
+        fixtures.treat(id, TODAY, 3);
+        etag = assertChanged(id, etag);
+
+        fixtures.ai(id, TODAY, "KPN-ETAG");
+        etag = assertChanged(id, etag);
+
+        livestockService.movePen(id, other.getId());
+        assertChanged(id, etag);
+
+        // 판매는 치료 중이 아닌 개체로
+        Long sold = register("ETAG-SOLD", pen);
+        String beforeSale = etag(sold);
+        fixtures.sell(sold, TODAY, 5_000_000L, 700.0, "1+", "ETAG정육점");
+        assertChanged(sold, beforeSale);
+    }
+
+    @Test
+    @DisplayName("상세에 보이는 방/축사 이름이 바뀌면 개체가 그대로여도 ETag 와 Last-Modified 가 바뀐다")
+    void changesWithPenAndBarn() {
+        Pen pen = createPen("ETAG-방");
+        Long id = register("ETAG-LOCATION", pen);
+        Long barnId = pen.getBarn().getId();
+
+        CacheValidator before = livestockService.getDetailValidator(id);
+
+        modify(Pen.class, pen.getId(), managed -> ReflectionTestUtils.setField(managed, "name", "ETAG-방-변경"));
+        CacheValidator afterPen = livestockService.getDetailValidator(id);
+        assertThat(afterPen.getEtag()).isNotEqualTo(before.getEtag());
+        assertThat(afterPen.getLastModified()).isGreaterThanOrEqualTo(before.getLastModified());
+
+        modify(Barn.class, barnId, managed -> ReflectionTestUtils.setField(managed, "name", "ETAG-축사-변경"));
+        assertThat(etag(id)).isNotEqualTo(afterPen.getEtag());
+        assertThat(livestockService.getDetail(id).getLocation()).isEqualTo("ETAG-축사-변경 ETAG-방-변경");
+    }
+
+    @Test
+    @DisplayName("방이 없는 개체도 검증자를 계산한다")
+    void worksWithoutPen() {
+        Long id = fixtures.register("ETAG-NOPEN");
+
+        String before = etag(id);
+        assertThat(etag(id)).isEqualTo(before);
+    }
+
+    private String assertChanged(Long id, String previous) {
+        String current = etag(id);
+        assertThat(current).isNotEqualTo(previous);
+        return current;
+    }
+}
@@ -0,0 +1,197 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.livestock.LivestockImportResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.event.LivestockStatusChangedEvent;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+@RecordApplicationEvents
+class LivestockImportTest {
+
+    private static final String HEADER = "earTag,name,birthDate,gender,breed,penId\n";
+
+    @Autowired
+    private LivestockImportService livestockImportService;
+    @Autowired
+    private PenOccupancyService penOccupancyService;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private PenRepository penRepository;
+    @Autowired
+    private LivestockFixtures fixtures;
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private LivestockImportResponse importCsv(String rows, String... earTags) {
+        LivestockImportResponse response = livestockImportService.importLivestock(
+                new ByteArrayInputStream((HEADER + rows).getBytes(StandardCharsets.UTF_8)),
+                LivestockImportService.Format.CSV);
+        // 등록된 개체는 정리 대상으로
+        for (String earTag : earTags) {
+            livestockRepository.findByEarTagEndingWith(earTag).stream()
+                    .filter(livestock -> livestock.getEarTag().equals(earTag))
+                    .forEach(livestock -> fixtures.track(livestock.getId()));
+        }
+        return response;
+    }
+
+    private Pen createPen(String name, Integer capacity) {
+        Barn barn = barnRepository.save(new Barn(name + "-축사"));
+        return penRepository.save(new Pen(name, capacity, barn));
+    }
+
+    @Test
+    @DisplayName("파일 안에서 겹치는 귀표번호와 이미 등록된 귀표번호는 그 행만 실패하고, 먼저 나온 행은 등록된다")
+    void rejectsDuplicateEarTagsInFileAndDb() {
+        fixtures.register("IMP-DUP-DB");
+
+        LivestockImportResponse response = importCsv("""
+                IMP-DUP-1,첫째,2024-01-01,FEMALE,한우,
+                IMP-DUP-1,둘째,2024-01-01,FEMALE,한우,
+                IMP-DUP-DB,셋째,2024-01-01,FEMALE,한우,
+                IMP-DUP-2,넷째,2024-01-01,FEMALE,한우,
+                """, "IMP-DUP-1", "IMP-DUP-2");
+
+        assertThat(response.getTotalRows()).isEqualTo(4);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(2);
+        assertThat(response.getErrors())
+                .extracting(LivestockImportResponse.RowError::getLine, LivestockImportResponse.RowError::getEarTag,
+                        LivestockImportResponse.RowError::getMessage)
+                .containsExactly(
+                        tuple(3L, "IMP-DUP-1", ErrorCode.DUPLICATE_EARTAG.getMessage()),
+                        tuple(4L, "IMP-DUP-DB", ErrorCode.DUPLICATE_EARTAG.getMessage()));
+
+        List<Livestock> first = livestockRepository.findByEarTagEndingWith("IMP-DUP-1");
+        assertThat(first).singleElement().extracting(Livestock::getName).isEqualTo("첫째");
+    }
+
+    @Test
+    @DisplayName("방이 중간에 차면 남은 자리만큼만 등록하고 나머지 행은 정원 초과로 실패한다 (다음 업로드도 정원을 지킨다)")
+    void stopsAtPenCapacity() {
+        Pen pen = createPen("IMP-정원방", 3);
+        LivestockRequest resident = new LivestockRequest();
+        resident.setEarTag("IMP-FULL-0");
+        resident.setPenId(pen.getId());
+        fixtures.register(resident);
+
+        LivestockImportResponse response = importCsv(
+                "IMP-FULL-1,,,,," + pen.getId() + "\n" +
+                "IMP-FULL-2,,,,," + pen.getId() + "\n" +
+                "IMP-FULL-3,,,,," + pen.getId() + "\n" +
+                "IMP-FULL-4,,,,," + pen.getId() + "\n" +
+                "IMP-FULL-5,,,,,\n",
+                "IMP-FULL-1", "IMP-FULL-2", "IMP-FULL-3", "IMP-FULL-4", "IMP-FULL-5");
+
+        assertThat(response.getImportedCount()).isEqualTo(3);
+        assertThat(response.getErrors())
+                .extracting(LivestockImportResponse.RowError::getLine, LivestockImportResponse.RowError::getMessage)
+                .containsExactly(
+                        tuple(4L, ErrorCode.PEN_CAPACITY_EXCEEDED.getMessage()),
+                        tuple(5L, ErrorCode.PEN_CAPACITY_EXCEEDED.getMessage()));
+        assertThat(livestockRepository.existsByEarTag("IMP-FULL-3")).isFalse();
+        assertThat(livestockRepository.existsByEarTag("IMP-FULL-5")).isTrue();
+        assertThat(penOccupancyService.getCounts(Set.of(pen.getId()))).isEqualTo(Map.of(pen.getId(), 3));
+
+        LivestockImportResponse next = importCsv("IMP-FULL-6,,,,," + pen.getId() + "\n", "IMP-FULL-6");
+        assertThat(next.getImportedCount()).isZero();
+        assertThat(next.getErrors()).extracting(LivestockImportResponse.RowError::getMessage)
+                .containsExactly(ErrorCode.PEN_CAPACITY_EXCEEDED.getMessage());
+        assertThat(penOccupancyService.getCounts(Set.of(pen.getId()))).isEqualTo(Map.of(pen.getId(), 3));
+    }
+
+    @Test
+    @DisplayName("등록된 개체마다 단건 등록과 같은 신규 개체 상태 이벤트를 방 ID 와 함께 발행한다")
+    void publishesStatusEventForImportedLivestock() {
+        Pen pen = createPen("IMP-이벤트방", 10);
+
+        importCsv("IMP-EV-1,,,,," + pen.getId() + "\n" +
+                "IMP-EV-1,,,,,\n" +
+                "IMP-EV-2,,,,,\n",
+                "IMP-EV-1", "IMP-EV-2");
+
+        Long first = livestockRepository.findByEarTagEndingWith("IMP-EV-1").get(0).getId();
+        Long second = livestockRepository.findByEarTagEndingWith("IMP-EV-2").get(0).getId();
+        assertThat(events.stream(LivestockStatusChangedEvent.class)).containsExactlyInAnyOrder(
+                new LivestockStatusChangedEvent(first, pen.getId(), null, LivestockStatus.CALF),
+                new LivestockStatusChangedEvent(second, null, null, LivestockStatus.CALF));
+    }
+
+    @Test
+    @DisplayName("형식 오류/없는 방/귀표번호 누락 행은 그 행만 실패하고 나머지는 등록된다")
+    void reportsInvalidRowsAndKeepsValidOnes() {
+        LivestockImportResponse response = importCsv("""
+                IMP-BAD-1,,2024-01-01,FEMALE,한우,
+                IMP-BAD-2,,2024-13-40,FEMALE,한우,
+                IMP-BAD-3,,2024-01-01,FEMALE,한우,999999
+                ,,2024-01-01,FEMALE,한우,
+                IMP-BAD-4,,2024-01-01,UNKNOWN,한우,
+                IMP-BAD-5,,2024-01-01,FEMALE,한우,
+                """, "IMP-BAD-1", "IMP-BAD-5");
+
+        assertThat(response.getTotalRows()).isEqualTo(6);
+        assertThat(response.getImportedCount()).isEqualTo(2);
+        assertThat(response.getFailedCount()).isEqualTo(4);
+        assertThat(response.getErrors()).extracting(LivestockImportResponse.RowError::getLine)
+                .containsExactlyInAnyOrder(3L, 4L, 5L, 6L);
+        assertThat(response.getErrors()).filteredOn(error -> error.getLine() == 4L)
+                .extracting(LivestockImportResponse.RowError::getMessage)
+                .containsExactly(ErrorCode.PEN_NOT_FOUND.getMessage());
+        assertThat(livestockRepository.existsByEarTag("IMP-BAD-1")).isTrue();
+        assertThat(livestockRepository.existsByEarTag("IMP-BAD-5")).isTrue();
+    }
+
+    @Test
+    @DisplayName("저장 중 DB 오류가 나면 그 청크 전체가 롤백되어 저장 대상 행이 모두 실패로 보고되고 방 두수도 그대로다")
+    void rollsBackChunkOnDatabaseError() {
+        Pen pen = createPen("IMP-롤백방", 10);
+        String tooLongName = "가".repeat(300);
+
+        LivestockImportResponse response = importCsv(
+                "IMP-RB-1,,,,," + pen.getId() + "\n" +
+                "IMP-RB-2," + tooLongName + ",,,," + pen.getId() + "\n" +
+                "IMP-RB-3,,,,,\n",
+                "IMP-RB-1", "IMP-RB-2", "IMP-RB-3");
+
+        assertThat(response.getImportedCount()).isZero();
+        assertThat(response.getFailedCount()).isEqualTo(3);
+        assertThat(response.getErrors()).extracting(LivestockImportResponse.RowError::getMessage)
+                .allMatch(message -> message.startsWith("저장 실패"));
+        assertThat(livestockRepository.existsByEarTag("IMP-RB-1")).isFalse();
+        assertThat(livestockRepository.existsByEarTag("IMP-RB-3")).isFalse();
+        assertThat(penOccupancyService.getCounts(Set.of(pen.getId()))).isEqualTo(Map.of(pen.getId(), 0));
+    }
+}
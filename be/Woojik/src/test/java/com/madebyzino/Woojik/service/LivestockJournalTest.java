@@ -0,0 +1,123 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.breeding.BreedingAiRequest;
+import com.madebyzino.Woojik.dto.healthy.BulkHealthRequest;
+import com.madebyzino.Woojik.dto.journal.JournalReplayResponse;
+import com.madebyzino.Woojik.dto.journal.LivestockEventResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.entity.LivestockEvent;
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.entity.enums.LivestockField;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.repository.LivestockEventRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class LivestockJournalTest {
+
+    @Autowired
+    private LivestockJournalService livestockJournalService;
+    @Autowired
+    private LivestockJournalReplayService livestockJournalReplayService;
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private BreedingService breedingService;
+    @Autowired
+    private HealthService healthService;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private LivestockEventRepository livestockEventRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("더티 체킹과 집합 UPDATE 변경이 모두 이력에 남고, 이력을 거치지 않은 변경은 다시 구성으로 되돌린다")
+    void journalsTransitionsAndReplaysSummaryFields() {
+        LocalDate today = LocalDate.now();
+        LivestockRequest request = new LivestockRequest();
+        request.setEarTag("JOURNAL-1");
+        Long id = livestockJournalService.runAs("vet-kim", () -> livestockService.register(request));
+
+        BreedingAiRequest ai = new BreedingAiRequest();
+        ai.setDate(today.minusDays(10));
+        breedingService.registerAi(id, ai);
+
+        BulkHealthRequest treat = new BulkHealthRequest();
+        treat.setLivestockIds(List.of(id));
+        treat.setType(HealthType.TREAT);
+        treat.setDate(today);
+        treat.setDiseaseName("설사");
+        treat.setWithdrawalPeriod(7);
+        healthService.registerBulkHealth(treat);
+
+        assertThat(livestockJournalService.awaitDrained(Duration.ofSeconds(10))).isTrue();
+        List<LivestockEventResponse> history = livestockJournalService.getHistory(id, null);
+        assertThat(history).extracting(LivestockEventResponse::getField, LivestockEventResponse::getValue)
+                .contains(
+                        tuple(LivestockField.EAR_TAG, "JOURNAL-1"),
+                        tuple(LivestockField.LAST_AI_DATE, today.minusDays(10).toString()),
+                        tuple(LivestockField.STATUS, LivestockStatus.SICK.name()),
+                        tuple(LivestockField.WITHDRAWAL_DATE, today.plusDays(7).toString()));
+        assertThat(history).filteredOn(event -> event.getField() == LivestockField.EAR_TAG)
+                .extracting(LivestockEventResponse::getActor).containsExactly("vet-kim");
+
+        // 이력을 거치지 않은 변경 (DB 직접 수정처럼 수정 시각은 그대로 두고 리포지토리 집합 UPDATE 직접 호출)
+        LocalDateTime updatedAt = livestockRepository.findById(id).orElseThrow().getUpdatedAt();
+        transactionTemplate.executeWithoutResult(status ->
+                livestockRepository.extendWithdrawalDate(List.of(id), today.plusDays(30), updatedAt));
+
+        JournalReplayResponse verify = livestockJournalReplayService.replay(false);
+        assertThat(verify.getMismatchesByField()).containsKey(LivestockField.WITHDRAWAL_DATE);
+        assertThat(livestockRepository.findById(id).orElseThrow().getWithdrawalDate()).isEqualTo(today.plusDays(30));
+
+        JournalReplayResponse applied = livestockJournalReplayService.replay(true);
+        assertThat(applied.getAppliedCount()).isPositive();
+        assertThat(livestockRepository.findById(id).orElseThrow().getWithdrawalDate()).isEqualTo(today.plusDays(7));
+    }
+
+    @Test
+    @DisplayName("마지막 이력이 유실된 필드는 다시 구성을 적용해도 현재 값을 유지한다")
+    void replayKeepsLiveValueWhenLastEventIsMissing() {
+        LocalDate today = LocalDate.now();
+        LivestockRequest request = new LivestockRequest();
+        request.setEarTag("JOURNAL-2");
+        Long id = livestockService.register(request);
+
+        BreedingAiRequest first = new BreedingAiRequest();
+        first.setDate(today.minusDays(30));
+        breedingService.registerAi(id, first);
+        BreedingAiRequest second = new BreedingAiRequest();
+        second.setDate(today.minusDays(5));
+        breedingService.registerAi(id, second);
+        assertThat(livestockJournalService.awaitDrained(Duration.ofSeconds(10))).isTrue();
+
+        // 두 번째 수정일 이력이 저장 전에 유실된 상황 (대기열에서 버려졌거나 비정상 종료)
+        LivestockEvent lastAi = livestockEventRepository.findAll().stream()
+                .filter(event -> event.getLivestockId().equals(id) && event.getField() == LivestockField.LAST_AI_DATE)
+                .max(Comparator.comparing(LivestockEvent::getId))
+                .orElseThrow();
+        assertThat(lastAi.getNewValue()).isEqualTo(today.minusDays(5).toString());
+        livestockEventRepository.delete(lastAi);
+
+        JournalReplayResponse applied = livestockJournalReplayService.replay(true);
+        assertThat(applied.getMismatchesByField()).containsKey(LivestockField.LAST_AI_DATE);
+        assertThat(applied.getStaleCount()).isPositive();
+        assertThat(livestockRepository.findById(id).orElseThrow().getLastAiDate()).isEqualTo(today.minusDays(5));
+    }
+}
@@ -0,0 +1,207 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.livestock.LivestockPageResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockSearchCondition;
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LivestockPageQueryCountTest {
+
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private PenRepository penRepository;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private LivestockJournalService livestockJournalService;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    private Statistics statistics;
+
+    // 축사 A(방 A1, A2) 와 필터로 빠져야 하는 축사 B(방 B1)
+    private Barn barn;
+    private Pen first;
+    private Pen second;
+    private final List<Long> active = new ArrayList<>();   // 축사 A 의 판매 제외 개체 (ID 순)
+    private Long sold;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        barn = barnRepository.save(new Barn("목록축사A"));
+        first = penRepository.save(new Pen("목록-A1", 50, barn));
+        second = penRepository.save(new Pen("목록-A2", 50, barn));
+        Pen other = penRepository.save(new Pen("목록-B1", 50, barnRepository.save(new Barn("목록축사B"))));
+
+        for (int i = 0; i < 5; i++) {
+            active.add(save("PG-FAT-" + i, first, Gender.FEMALE, LivestockStatus.FATTENING));
+        }
+        for (int i = 0; i < 2; i++) {
+            active.add(save("PG-CALF-" + i, first, Gender.MALE, LivestockStatus.CALF));
+        }
+        active.add(save("PG-PREG", first, Gender.FEMALE, LivestockStatus.PREGNANT));
+        for (int i = 0; i < 2; i++) {
+            active.add(save("PG-SICK-" + i, second, Gender.FEMALE, LivestockStatus.SICK));
+        }
+        sold = save("PG-SOLD", first, Gender.FEMALE, LivestockStatus.SOLD);
+        save("PG-OTHER-1", other, Gender.FEMALE, LivestockStatus.FATTENING);
+        save("PG-OTHER-2", other, Gender.MALE, LivestockStatus.CALF);
+
+        // 변경 이력 저장 스레드의 INSERT 가 통계에 섞이지 않도록 먼저 비움
+        livestockJournalService.awaitDrained(Duration.ofSeconds(10));
+    }
+
+    @AfterEach
+    void cleanup() {
+        active.clear();
+        fixtures.cleanup();
+    }
+
+    private Long save(String earTag, Pen pen, Gender gender, LivestockStatus status) {
+        return fixtures.track(livestockRepository.save(Livestock.builder()
+                .earTag(earTag)
+                .birthDate(LocalDate.of(2024, 3, 1))
+                .gender(gender)
+                .status(status)
+                .breed("한우")
+                .pen(pen)
+                .build()).getId());
+    }
+
+    private LivestockPageResponse page(Long cursor, int size, Consumer<LivestockSearchCondition> filter) {
+        LivestockSearchCondition condition = new LivestockSearchCondition();
+        condition.setBarnId(barn.getId());
+        condition.setCursor(cursor);
+        condition.setSize(size);
+        filter.accept(condition);
+        return livestockService.getLivestockPage(condition);
+    }
+
+    private static List<Long> ids(LivestockPageResponse page) {
+        return page.getContent().stream().map(LivestockResponse::getId).toList();
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 넘기면 판매 제외 개체를 ID 순으로 한 번씩만 보고, 첫 페이지 2번 / 이후 페이지 1번의 쿼리로 끝난다")
+    void walksEveryRowOnceWithConstantStatements() {
+        List<Long> visited = new ArrayList<>();
+        List<Long> statements = new ArrayList<>();
+        Long cursor = null;
+        LivestockPageResponse page;
+        do {
+            statistics.clear();
+            page = page(cursor, 3, condition -> { });
+            statements.add(statistics.getPrepareStatementCount());
+
+            visited.addAll(ids(page));
+            if (page.isHasNext()) {
+                assertThat(page.getContent()).hasSize(3);
+                assertThat(page.getNextCursor()).isEqualTo(visited.get(visited.size() - 1));
+            } else {
+                assertThat(page.getNextCursor()).isNull();
+            }
+            assertThat(page.getStatusCounts() == null).isEqualTo(cursor != null);
+            cursor = page.getNextCursor();
+        } while (page.isHasNext());
+
+        assertThat(visited).containsExactlyElementsOf(active).doesNotContain(sold);
+        // 10두 / 3 -> 3, 3, 3, 1: 목록은 한 번의 프로젝션 쿼리, 상태별 두수는 첫 페이지에서만
+        assertThat(statements).containsExactly(2L, 1L, 1L, 1L);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("남은 개체 수가 페이지 크기와 같으면 다음 페이지가 없고, 하나 적은 크기면 다음 페이지가 있다")
+    void detectsLastPageAtSizeBoundary() {
+        LivestockPageResponse exact = page(null, active.size(), condition -> { });
+        assertThat(ids(exact)).containsExactlyElementsOf(active);
+        assertThat(exact.isHasNext()).isFalse();
+        assertThat(exact.getNextCursor()).isNull();
+
+        LivestockPageResponse oneShort = page(null, active.size() - 1, condition -> { });
+        assertThat(ids(oneShort)).containsExactlyElementsOf(active.subList(0, active.size() - 1));
+        assertThat(oneShort.isHasNext()).isTrue();
+        assertThat(oneShort.getNextCursor()).isEqualTo(active.get(active.size() - 2));
+
+        LivestockPageResponse last = page(oneShort.getNextCursor(), active.size() - 1, condition -> { });
+        assertThat(ids(last)).containsExactly(active.get(active.size() - 1));
+        assertThat(last.isHasNext()).isFalse();
+        assertThat(last.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("상태/성별/방/축사 필터가 목록에 적용되고, 목록은 축사/방 이름까지 한 번에 채운다")
+    void appliesFilters() {
+        assertThat(ids(page(null, 20, condition -> condition.setStatus(LivestockStatus.SICK))))
+                .containsExactlyElementsOf(active.subList(8, 10));
+        assertThat(ids(page(null, 20, condition -> condition.setStatus(LivestockStatus.SOLD))))
+                .containsExactly(sold);
+        assertThat(ids(page(null, 20, condition -> condition.setGender(Gender.MALE))))
+                .containsExactlyElementsOf(active.subList(5, 7));
+        assertThat(ids(page(null, 20, condition -> condition.setPenId(second.getId()))))
+                .containsExactlyElementsOf(active.subList(8, 10));
+        assertThat(ids(page(null, 20, condition -> {
+            condition.setPenId(first.getId());
+            condition.setGender(Gender.FEMALE);
+            condition.setStatus(LivestockStatus.PREGNANT);
+        }))).containsExactly(active.get(7));
+
+        LivestockPageResponse page = page(null, 20, condition -> condition.setPenId(second.getId()));
+        assertThat(page.getContent()).extracting(LivestockResponse::getLocation)
+                .containsOnly("목록축사A 목록-A2");
+    }
+
+    @Test
+    @DisplayName("상태별 두수는 상태 필터를 무시하고 나머지 필터로 집계하며, 합계는 판매 제외 두수다")
+    void statusCountsIgnoreStatusFilter() {
+        LivestockPageResponse sick = page(null, 1, condition -> condition.setStatus(LivestockStatus.SICK));
+
+        assertThat(sick.getContent()).hasSize(1);
+        assertThat(sick.getStatusCounts()).isEqualTo(Map.of(
+                "CALF", 2L, "FATTENING", 5L, "PREGNANT", 1L, "SICK", 2L, "SOLD", 1L));
+        assertThat(sick.getTotalCount()).isEqualTo(10L);
+
+        LivestockPageResponse male = page(null, 1, condition -> condition.setGender(Gender.MALE));
+        assertThat(male.getStatusCounts()).containsEntry("CALF", 2L).containsEntry("FATTENING", 0L);
+        assertThat(male.getTotalCount()).isEqualTo(2L);
+
+        // 다음 페이지에서는 다시 집계하지 않음
+        LivestockPageResponse next = page(sick.getNextCursor(), 1, condition -> condition.setStatus(LivestockStatus.SICK));
+        assertThat(next.getStatusCounts()).isNull();
+        assertThat(next.getTotalCount()).isNull();
+    }
+}
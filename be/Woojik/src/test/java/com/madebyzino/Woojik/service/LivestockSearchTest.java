@@ -0,0 +1,110 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.dto.livestock.LivestockSearchResponse;
+import com.madebyzino.Woojik.dto.livestock.LivestockUpdateRequest;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LivestockSearchTest {
+
+    @Autowired
+    private LivestockSearchService livestockSearchService;
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private List<Long> find(String query) {
+        return livestockSearchService.quickFind(query, 50).stream().map(LivestockSearchResponse::getId).toList();
+    }
+
+    private Long register(String earTag, String name) {
+        LivestockRequest request = new LivestockRequest();
+        request.setEarTag(earTag);
+        request.setName(name);
+        return fixtures.register(request);
+    }
+
+    private void rename(Long id, String name) {
+        LivestockUpdateRequest request = new LivestockUpdateRequest();
+        request.setName(name);
+        livestockService.update(id, request);
+    }
+
+    @Test
+    @DisplayName("등록한 개체는 커밋 후 귀표번호 뒷자리, 별명, 초성으로 찾는다")
+    void findsRegisteredLivestock() {
+        Long first = register("900097531864", "검색왕소");
+        Long second = register("900197531864", "검색여왕");
+
+        assertThat(find("97531864")).contains(first, second);
+        assertThat(find("097531864")).contains(first).doesNotContain(second);
+        assertThat(find("검색왕")).containsExactly(first);
+        assertThat(find("ㄱㅅㅇㅅ")).contains(first);
+        assertThat(livestockSearchService.findIdByEarTag("900097531864")).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("별명을 바꾸면 커밋 후 새 별명으로만 찾고, 롤백된 변경은 반영되지 않는다")
+    void renameIsVisibleOnlyAfterCommit() {
+        Long id = register("900297531864", "검색이전");
+
+        transactionTemplate.executeWithoutResult(status -> {
+            rename(id, "검색롤백");
+            status.setRollbackOnly();
+        });
+        assertThat(find("검색롤백")).isEmpty();
+        assertThat(find("검색이전")).containsExactly(id);
+
+        rename(id, "검색이후");
+        assertThat(find("검색이전")).isEmpty();
+        assertThat(find("검색이후")).containsExactly(id);
+        // 귀표번호 검색은 그대로
+        assertThat(find("297531864")).containsExactly(id);
+    }
+
+    @Test
+    @DisplayName("판매한 개체는 커밋 후 귀표번호/별명 검색에서 빠진다")
+    void soldLivestockIsRemoved() {
+        Long sold = register("900397531864", "검색판매");
+        Long kept = register("900497531864", "검색유지");
+
+        fixtures.sell(sold, LocalDate.now(), 5_000_000L, 700.0, "1+", "검색정육점");
+
+        assertThat(find("97531864")).contains(kept).doesNotContain(sold);
+        assertThat(find("검색판매")).isEmpty();
+        assertThat(find("검색유지")).containsExactly(kept);
+        assertThat(livestockSearchService.findIdByEarTag("900397531864")).isNull();
+    }
+
+    @Test
+    @DisplayName("삭제 후 인덱스를 다시 구성하면 삭제된 개체는 찾지 않는다")
+    void rebuildDropsDeletedLivestock() {
+        Long id = register("900597531864", "검색삭제");
+        assertThat(find("검색삭제")).containsExactly(id);
+
+        fixtures.cleanup();   // DB 삭제 + 인덱스 재구성
+
+        assertThat(find("검색삭제")).isEmpty();
+        assertThat(livestockSearchService.findIdByEarTag("900597531864")).isNull();
+    }
+}
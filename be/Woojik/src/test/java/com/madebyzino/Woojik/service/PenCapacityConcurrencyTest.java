@@ -0,0 +1,228 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenOccupancyRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class PenCapacityConcurrencyTest {
+
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private PenOccupancyService penOccupancyService;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private PenRepository penRepository;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private PenOccupancyRepository penOccupancyRepository;
+
+    @Test
+    @DisplayName("동시에 같은 방으로 이동해도 정원을 넘지 않는다")
+    void concurrentMovesIntoSamePenNeverExceedCapacity() throws Exception {
+        Barn barn = barnRepository.save(new Barn("동시성축사A"));
+        Pen source = penRepository.save(new Pen("A-대기방", 100, barn));
+        Pen target = penRepository.save(new Pen("A-목표방", 5, barn));
+        List<Long> ids = createCows("A", 40, source);
+        penOccupancyService.reconcile();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger moved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            Long id = ids.get(i);
+            boolean usePatch = i % 2 == 0;
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    // 두 이동 API 모두 같은 예약 경로를 사용해야 함
+                    if (usePatch) {
+                        livestockService.movePen(id, target.getId());
+                    } else {
+                        livestockService.moveLivestock(id, target.getId());
+                    }
+                    moved.incrementAndGet();
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PEN_CAPACITY_EXCEEDED);
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(moved.get()).isEqualTo(5);
+        assertThat(rejected.get()).isEqualTo(35);
+        assertThat(actualCount(target)).isEqualTo(5);
+        assertThat(storedCount(target)).isEqualTo(5);
+        assertThat(actualCount(source)).isEqualTo(35);
+        assertThat(storedCount(source)).isEqualTo(35);
+    }
+
+    @Test
+    @DisplayName("카운터가 없는 방으로 동시에 처음 이동해도 카운터가 한 번만 생기고 정원을 넘지 않는다")
+    void concurrentFirstMovesCreateCounterOnceWithinCapacity() throws Exception {
+        Barn barn = barnRepository.save(new Barn("동시성축사C"));
+        Pen source = penRepository.save(new Pen("C-대기방", 100, barn));
+        Pen target = penRepository.save(new Pen("C-목표방", 5, barn));
+        List<Long> ids = createCows("C", 40, source);
+        // reconcile() 없이 시작: 두 방 모두 첫 이동에서 카운터를 만듦
+        assertThat(penOccupancyRepository.existsById(source.getId())).isFalse();
+        assertThat(penOccupancyRepository.existsById(target.getId())).isFalse();
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger moved = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long id : ids) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                try {
+                    livestockService.movePen(id, target.getId());
+                    moved.incrementAndGet();
+                } catch (CustomException e) {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PEN_CAPACITY_EXCEEDED);
+                    rejected.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(moved.get()).isEqualTo(5);
+        assertThat(rejected.get()).isEqualTo(35);
+        assertThat(actualCount(target)).isEqualTo(5);
+        assertThat(storedCount(target)).isEqualTo(5);
+        assertThat(actualCount(source)).isEqualTo(35);
+        assertThat(storedCount(source)).isEqualTo(35);
+    }
+
+    @Test
+    @DisplayName("여러 방 사이를 무작위로 오가도 정원과 카운터가 유지된다")
+    void randomMovesKeepCapacityAndCounters() throws Exception {
+        Barn barn = barnRepository.save(new Barn("동시성축사B"));
+        List<Pen> pens = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            pens.add(penRepository.save(new Pen("B-" + i, 6, barn)));
+        }
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < pens.size(); i++) {
+            ids.addAll(createCows("B" + i, 4, pens.get(i)));
+        }
+        penOccupancyService.reconcile();
+
+        int handlers = 12;
+        int movesPerHandler = 60;
+        ExecutorService executor = Executors.newFixedThreadPool(handlers + 1);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger maxObserved = new AtomicInteger();
+
+        // 이동 중에도 커밋된 상태에서 정원 초과가 관측되지 않아야 함
+        Future<?> observer = executor.submit(() -> {
+            start.await();
+            while (running.get()) {
+                for (Pen pen : pens) {
+                    maxObserved.accumulateAndGet((int) actualCount(pen), Math::max);
+                }
+            }
+            return null;
+        });
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int h = 0; h < handlers; h++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < movesPerHandler; i++) {
+                    Long id = ids.get(random.nextInt(ids.size()));
+                    Long penId = pens.get(random.nextInt(pens.size())).getId();
+                    try {
+                        livestockService.movePen(id, penId);
+                    } catch (CustomException e) {
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.PEN_CAPACITY_EXCEEDED);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(120, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        observer.get(30, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(6);
+        long total = 0;
+        for (Pen pen : pens) {
+            long actual = actualCount(pen);
+            assertThat(actual).isLessThanOrEqualTo(pen.getCapacity());
+            assertThat(storedCount(pen)).isEqualTo(actual);
+            total += actual;
+        }
+        assertThat(total).isEqualTo(ids.size());
+    }
+
+    private List<Long> createCows(String prefix, int count, Pen pen) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Livestock cow = livestockRepository.save(Livestock.builder()
+                    .earTag(String.format("T%s%05d", prefix, i))
+                    .birthDate(LocalDate.of(2024, 1, 1))
+                    .gender(Gender.CASTRATED)
+                    .status(LivestockStatus.FATTENING)
+                    .breed("한우")
+                    .pen(pen)
+                    .build());
+            ids.add(cow.getId());
+        }
+        return ids;
+    }
+
+    private long actualCount(Pen pen) {
+        return livestockRepository.countByPenId(pen.getId());
+    }
+
+    private long storedCount(Pen pen) {
+        return penOccupancyRepository.findById(pen.getId()).orElseThrow().getLivestockCount();
+    }
+}
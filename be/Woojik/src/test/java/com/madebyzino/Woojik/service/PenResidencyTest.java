@@ -0,0 +1,133 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.dto.pen.PenResidencyResponse;
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class PenResidencyTest {
+
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Autowired
+    private PenResidencyService penResidencyService;
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private LivestockImportService livestockImportService;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private PenRepository penRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private Pen createPen(String name) {
+        Barn barn = barnRepository.save(new Barn(name + "-축사"));
+        return penRepository.save(new Pen(name, 10, barn));
+    }
+
+    private Long register(String earTag, Pen pen) {
+        LivestockRequest request = new LivestockRequest();
+        request.setEarTag(earTag);
+        request.setPenId(pen == null ? null : pen.getId());
+        return fixtures.register(request);
+    }
+
+    private List<PenResidencyResponse> history(Long livestockId) {
+        return penResidencyService.getLivestockHistory(livestockId, null, null);
+    }
+
+    @Test
+    @DisplayName("입식/이동/분만/판매 이벤트로 구간을 열고 닫으며, DB 에서 다시 구성해도 같다")
+    void tracksResidencyThroughWritePaths() {
+        Pen first = createPen("RES-첫방");
+        Pen second = createPen("RES-둘째방");
+        Long cow = register("RES-COW", first);
+        Long unassigned = register("RES-NOPEN", null);
+
+        livestockService.movePen(cow, second.getId());
+        fixtures.ai(cow, TODAY.minusDays(290), "KPN-RES");
+        fixtures.pregnancyCheck(cow, TODAY.minusDays(230), true);
+        fixtures.calve(cow, TODAY, "RES-CALF");
+        Long calf = livestockRepository.findByEarTagEndingWith("RES-CALF").get(0).getId();
+        fixtures.sell(cow, TODAY, 5_000_000L, 700.0, "1+", "RES정육점");
+
+        List<PenResidencyResponse> cowHistory = history(cow);
+        assertThat(cowHistory)
+                .extracting(PenResidencyResponse::getPenId, row -> row.getEndedAt() != null)
+                .containsExactly(tuple(first.getId(), true), tuple(second.getId(), true));
+        assertThat(cowHistory.get(0).getEndedAt()).isEqualTo(cowHistory.get(1).getStartedAt());
+        assertThat(history(calf))
+                .extracting(PenResidencyResponse::getPenId, PenResidencyResponse::getEndedAt)
+                .containsExactly(tuple(second.getId(), null));
+        assertThat(history(unassigned)).isEmpty();
+        assertThat(penResidencyService.getPenResidents(second.getId(), null, null))
+                .extracting(PenResidencyResponse::getLivestockId)
+                .containsExactly(calf);
+
+        penResidencyService.rebuild();
+        assertThat(history(cow)).isEqualTo(cowHistory);
+    }
+
+    @Test
+    @DisplayName("일괄 등록된 개체도 방이 있으면 구간이 열린다")
+    void opensResidencyForImportedLivestock() {
+        Pen pen = createPen("RES-일괄방");
+
+        livestockImportService.importLivestock(new ByteArrayInputStream(
+                ("earTag,penId\nRES-IMP-1," + pen.getId() + "\nRES-IMP-2,\n").getBytes(StandardCharsets.UTF_8)),
+                LivestockImportService.Format.CSV);
+        Long penned = fixtures.track(livestockRepository.findByEarTagEndingWith("RES-IMP-1").get(0).getId());
+        Long unassigned = fixtures.track(livestockRepository.findByEarTagEndingWith("RES-IMP-2").get(0).getId());
+
+        assertThat(history(penned)).extracting(PenResidencyResponse::getPenId).containsExactly(pen.getId());
+        assertThat(history(unassigned)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("롤백된 이동은 DB 와 메모리 어디에도 구간을 남기지 않는다")
+    void ignoresRolledBackMove() {
+        Pen first = createPen("RES-롤백방");
+        Pen second = createPen("RES-롤백대상방");
+        Long cow = register("RES-ROLLBACK", first);
+        List<PenResidencyResponse> before = history(cow);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            livestockService.movePen(cow, second.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(history(cow)).isEqualTo(before);
+        penResidencyService.rebuild();
+        assertThat(history(cow)).isEqualTo(before);
+    }
+}
@@ -0,0 +1,118 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.layout.BarnLayoutResponse;
+import com.madebyzino.Woojik.dto.layout.LayoutSaveRequest;
+import com.madebyzino.Woojik.dto.layout.PenLayoutDto;
+import com.madebyzino.Woojik.dto.pen.PenResponse;
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ReferenceDataCacheTest {
+
+    @Autowired
+    private MapLayoutService mapLayoutService;
+    @Autowired
+    private BarnService barnService;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    @DisplayName("같은 축사 지도를 다시 조회하면 방/배치는 캐시에서 읽는다")
+    void repeatedLayoutReadsHitCache() {
+        Barn barn = barnRepository.save(new Barn("캐시축사A"));
+        mapLayoutService.saveLayoutData(barn.getId(), request(barn, List.of(
+                newPen(-1, "캐시A-1", 1, 1), newPen(-2, "캐시A-2", 1, 2))));
+
+        mapLayoutService.getLayoutData(barn.getId());
+
+        statistics.clear();
+        BarnLayoutResponse cached = mapLayoutService.getLayoutData(barn.getId());
+
+        assertThat(cached.getLayouts()).hasSize(2);
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(2);          // 방 목록 + 배치 목록
+        assertThat(statistics.getSecondLevelCacheMissCount()).isZero();
+        // 남는 쿼리는 두수 카운터 조회뿐
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 저장으로 방이 생기거나 옮겨지거나 빠지면 캐시가 무효화된다")
+    void saveLayoutInvalidatesCache() {
+        Barn barn = barnRepository.save(new Barn("캐시축사B"));
+        mapLayoutService.saveLayoutData(barn.getId(), request(barn, List.of(
+                newPen(-1, "캐시B-1", 1, 1), newPen(-2, "캐시B-2", 1, 2))));
+        BarnLayoutResponse before = mapLayoutService.getLayoutData(barn.getId());
+        assertThat(barnService.getPensByBarn(barn.getId())).hasSize(2);
+
+        Long movedPenId = penId(before, "캐시B-1");
+        Long removedPenId = penId(before, "캐시B-2");
+
+        // 방 1개 위치 변경, 1개 미배치(삭제), 1개 신규 생성
+        List<PenLayoutDto> layouts = new ArrayList<>();
+        layouts.add(existingPen(movedPenId, "캐시B-1", 3, 4));
+        layouts.add(newPen(-3, "캐시B-3", 2, 2));
+        mapLayoutService.saveLayoutData(barn.getId(), request(barn, layouts));
+
+        BarnLayoutResponse after = mapLayoutService.getLayoutData(barn.getId());
+
+        assertThat(after.getLayouts()).extracting(PenLayoutDto::getPenName)
+                .containsExactlyInAnyOrder("캐시B-1", "캐시B-3");
+        PenLayoutDto moved = after.getLayouts().stream()
+                .filter(layout -> layout.getPenId().equals(movedPenId))
+                .findFirst().orElseThrow();
+        assertThat(moved.getGridRow()).isEqualTo(3);
+        assertThat(moved.getGridCol()).isEqualTo(4);
+        assertThat(after.getUnplacedPens()).extracting(PenLayoutDto::getPenId).containsExactly(removedPenId);
+
+        assertThat(barnService.getPensByBarn(barn.getId())).extracting(PenResponse::getName)
+                .containsExactlyInAnyOrder("캐시B-1", "캐시B-2", "캐시B-3");
+    }
+
+    private LayoutSaveRequest request(Barn barn, List<PenLayoutDto> layouts) {
+        LayoutSaveRequest request = new LayoutSaveRequest();
+        request.setBarnId(barn.getId());
+        request.setLayouts(layouts);
+        return request;
+    }
+
+    private PenLayoutDto newPen(long tempId, String name, int row, int col) {
+        return existingPen(tempId, name, row, col);
+    }
+
+    private PenLayoutDto existingPen(long penId, String name, int row, int col) {
+        return PenLayoutDto.builder()
+                .penId(penId).penName(name).capacity(10)
+                .gridRow(row).gridCol(col).rowSpan(1).colSpan(1)
+                .build();
+    }
+
+    private Long penId(BarnLayoutResponse layout, String penName) {
+        return layout.getLayouts().stream()
+                .filter(dto -> dto.getPenName().equals(penName))
+                .map(PenLayoutDto::getPenId)
+                .findFirst().orElseThrow();
+    }
+}
@@ -0,0 +1,109 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.sale.SaleStatsResponse;
+import com.madebyzino.Woojik.entity.enums.SalePeriod;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class SaleAnalyticsTest {
+
+    // 석 달 전 1일 (판매 데이터는 테스트마다 정리하므로 기간으로 다른 테스트와 구분하지 않음)
+    private static final LocalDate BASE = LocalDate.now().withDayOfMonth(1).minusMonths(3);
+
+    @Autowired
+    private SaleAnalyticsService saleAnalyticsService;
+    @Autowired
+    private SaleService saleService;
+    @Autowired
+    private LivestockFixtures fixtures;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    @Test
+    @DisplayName("판매 등록 시 누적한 집계는 판매 원본에서 다시 구성한 집계와 같다")
+    void incrementalRollupMatchesRebuild() {
+        sell("ROLLUP-1", BASE.plusDays(2), 9_000_000L, 700.0, "1++", "우직축산");
+        sell("ROLLUP-2", BASE.plusDays(2), 7_000_000L, 700.0, "1+", "우직축산");
+        sell("ROLLUP-3", BASE.plusDays(40), 6_000_000L, null, "1+", null);
+        sell("ROLLUP-4", BASE.plusDays(41), null, 500.0, null, "한우마을");
+
+        List<SaleStatsResponse> monthly = saleAnalyticsService.getPeriodStats(BASE, BASE.plusMonths(3).minusDays(1), SalePeriod.MONTH);
+        assertThat(monthly).extracting("periodStart")
+                .containsExactly(BASE, BASE.plusMonths(1), BASE.plusMonths(2));
+        assertThat(monthly).extracting("saleCount").containsExactly(2L, 2L, 0L);
+        assertThat(monthly).extracting("totalPrice").containsExactly(16_000_000L, 6_000_000L, 0L);
+        assertThat(monthly.get(0).getAveragePricePerKg()).isEqualTo(Math.round(16_000_000 / 1_400.0));
+        // 가격이 없는 판매는 평균 가격에서, 중량이 없는 판매는 kg 단가에서 제외
+        assertThat(monthly.get(1).getAveragePrice()).isEqualTo(6_000_000L);
+        assertThat(monthly.get(1).getAveragePricePerKg()).isNull();
+
+        List<SaleStatsResponse> grades = saleAnalyticsService.getGradeStats(BASE, BASE.plusMonths(3));
+        assertThat(grades).extracting("group").containsExactly("1+", "1++", null);
+        assertThat(grades).extracting("totalPrice").containsExactly(13_000_000L, 9_000_000L, 0L);
+
+        List<SaleStatsResponse> customers = saleAnalyticsService.getCustomerStats(BASE, BASE.plusMonths(3), 1);
+        assertThat(customers).extracting("group").containsExactly("우직축산");
+
+        saleAnalyticsService.rebuild();
+        assertThat(saleAnalyticsService.getPeriodStats(BASE, BASE.plusMonths(3).minusDays(1), SalePeriod.MONTH))
+                .isEqualTo(monthly);
+        assertThat(saleAnalyticsService.getGradeStats(BASE, BASE.plusMonths(3))).isEqualTo(grades);
+    }
+
+    @Test
+    @DisplayName("같은 일/등급/거래처로 처음 판매가 동시에 들어와도 둘 다 등록되고 집계된다")
+    void concurrentFirstSalesOfSameKeyAreBothRecorded() throws Exception {
+        int rounds = 20;
+        LocalDate saleDate = LocalDate.now();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        for (int round = 0; round < rounds; round++) {
+            String customerName = "동시판매거래처" + round;
+            List<Long> livestockIds = List.of(fixtures.register("CONCUR-" + round + "-A"),
+                    fixtures.register("CONCUR-" + round + "-B"));
+            CountDownLatch start = new CountDownLatch(1);
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (Long livestockId : livestockIds) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    saleService.registerSale(livestockId,
+                            LivestockFixtures.saleRequest(saleDate, 5_000_000L, 600.0, "1+", customerName));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        }
+        executor.shutdown();
+
+        List<SaleStatsResponse> customers = saleAnalyticsService.getCustomerStats(saleDate, saleDate, rounds);
+        assertThat(customers).hasSize(rounds);
+        assertThat(customers).extracting("saleCount").containsOnly(2L);
+        assertThat(customers).extracting("totalPrice").containsOnly(10_000_000L);
+    }
+
+    private void sell(String earTag, LocalDate saleDate, Long price, Double weight, String grade, String customerName) {
+        fixtures.sell(fixtures.register(earTag), saleDate, price, weight, grade, customerName);
+    }
+}
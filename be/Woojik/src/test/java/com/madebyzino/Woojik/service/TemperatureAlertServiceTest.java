@@ -0,0 +1,99 @@
+package com.madebyzino.Woojik.service;
+
+import com.madebyzino.Woojik.dto.telemetry.TemperatureAlertResponse;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertStatus;
+import com.madebyzino.Woojik.entity.enums.TemperatureAlertType;
+import com.madebyzino.Woojik.event.TemperatureAlertRaisedEvent;
+import com.madebyzino.Woojik.support.LivestockFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RecordApplicationEvents
+class TemperatureAlertServiceTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.now().withNano(0);
+
+    @Autowired
+    private TemperatureAlertService temperatureAlertService;
+    @Autowired
+    private LivestockFixtures fixtures;
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void cleanup() {
+        fixtures.cleanup();
+    }
+
+    private static TemperatureAlertService.DetectedAlert detected(Long livestockId, TemperatureAlertType type, int minutes) {
+        float temperature = type == TemperatureAlertType.FEVER ? 40.2f : 36.8f;
+        return new TemperatureAlertService.DetectedAlert(livestockId, type, NOW.plusMinutes(minutes), temperature, 38.5f, 0.2f);
+    }
+
+    private List<TemperatureAlertResponse> alerts(Long livestockId, TemperatureAlertStatus status) {
+        return temperatureAlertService.getAlerts(NOW.minusDays(1), status, livestockId, null);
+    }
+
+    private long raisedEvents() {
+        return events.stream(TemperatureAlertRaisedEvent.class).count();
+    }
+
+    @Test
+    @DisplayName("재기동 후 진행 중인 이상을 다시 감지해도 같은 개체/종류의 처리 대기 경보가 있으면 새로 만들지 않는다")
+    void skipsAlertWhenSameOpenAlertExists() {
+        Long cow = fixtures.register("ALERT-DUP");
+
+        assertThat(temperatureAlertService.saveDetected(List.of(detected(cow, TemperatureAlertType.FEVER, 0)))).isEqualTo(1);
+        // 감지기 상태가 초기화된 뒤 같은 발열을 다시 감지한 경우
+        assertThat(temperatureAlertService.saveDetected(List.of(detected(cow, TemperatureAlertType.FEVER, 30)))).isZero();
+
+        assertThat(alerts(cow, TemperatureAlertStatus.OPEN)).hasSize(1)
+                .first().extracting(TemperatureAlertResponse::getMeasuredAt).isEqualTo(NOW);
+        assertThat(raisedEvents()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 배치 안의 중복은 하나만, 다른 종류나 다른 개체 경보는 그대로 저장한다")
+    void keepsOtherTypesAndLivestock() {
+        Long cow = fixtures.register("ALERT-MIX-1");
+        Long other = fixtures.register("ALERT-MIX-2");
+        temperatureAlertService.saveDetected(List.of(detected(cow, TemperatureAlertType.FEVER, 0)));
+
+        int saved = temperatureAlertService.saveDetected(List.of(
+                detected(cow, TemperatureAlertType.FEVER, 10),
+                detected(cow, TemperatureAlertType.HYPOTHERMIA, 20),
+                detected(other, TemperatureAlertType.FEVER, 20),
+                detected(other, TemperatureAlertType.FEVER, 25)));
+
+        assertThat(saved).isEqualTo(2);
+        assertThat(alerts(cow, TemperatureAlertStatus.OPEN)).extracting(TemperatureAlertResponse::getType)
+                .containsExactlyInAnyOrder(TemperatureAlertType.FEVER, TemperatureAlertType.HYPOTHERMIA);
+        assertThat(alerts(other, TemperatureAlertStatus.OPEN)).hasSize(1);
+        assertThat(raisedEvents()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("처리(무시)된 경보 뒤에 다시 이상이 나면 새 경보를 만든다")
+    void raisesAgainAfterAlertIsClosed() {
+        Long cow = fixtures.register("ALERT-CLOSED");
+        temperatureAlertService.saveDetected(List.of(detected(cow, TemperatureAlertType.FEVER, 0)));
+        Long alertId = alerts(cow, TemperatureAlertStatus.OPEN).get(0).getId();
+
+        temperatureAlertService.dismiss(alertId);
+
+        assertThat(temperatureAlertService.saveDetected(List.of(detected(cow, TemperatureAlertType.FEVER, 60)))).isEqualTo(1);
+        assertThat(alerts(cow, TemperatureAlertStatus.OPEN)).hasSize(1);
+        assertThat(alerts(cow, TemperatureAlertStatus.DISMISSED)).hasSize(1);
+    }
+}
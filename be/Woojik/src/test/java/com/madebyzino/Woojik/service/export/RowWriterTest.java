@@ -0,0 +1,81 @@
+package com.madebyzino.Woojik.service.export;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RowWriterTest {
+
+    @Test
+    @DisplayName("CSV: BOM + 쉼표/따옴표/줄바꿈 값은 따옴표로 감싸고, 수식 시작 문자는 ' 로 막는다")
+    void csvEscapesValues() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RowWriter writer = new CsvRowWriter(out)) {
+            writer.writeRow("귀표번호", "비고", "중량");
+            writer.writeRow("002-1234", "그냥, \"메모\"\n둘째 줄", 10_000_000.0);
+            writer.writeRow("=SUM(A1)", null, 1L);
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("﻿"
+                + "귀표번호,비고,중량\r\n"
+                + "002-1234,\"그냥, \"\"메모\"\"\n둘째 줄\",10000000\r\n"
+                + "'=SUM(A1),,1\r\n");
+    }
+
+    @Test
+    @DisplayName("XLSX: 시트 행 한도를 넘으면 다음 시트에 머리글부터 다시 쓴다")
+    void xlsxRollsOverToNextSheet() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (RowWriter writer = new XlsxRowWriter(out, "판매", 3)) {
+            writer.writeRow("귀표번호", "판매일", "판매가");
+            for (int i = 1; i <= 3; i++) {
+                writer.writeRow("A&B<" + i + ">", LocalDate.of(1970, 1, i), i == 2 ? null : 100L * i);
+            }
+        }
+
+        Map<String, String> entries = unzip(out.toByteArray());
+        assertThat(entries).containsKeys("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/styles.xml", "xl/worksheets/sheet1.xml", "xl/worksheets/sheet2.xml");
+        assertThat(entries.get("xl/workbook.xml")).contains("name=\"판매\"", "name=\"판매 (2)\"");
+
+        String first = entries.get("xl/worksheets/sheet1.xml");
+        assertThat(first).contains("<c r=\"A2\" t=\"inlineStr\"><is><t xml:space=\"preserve\">A&amp;B&lt;1&gt;</t></is></c>");
+        assertThat(first).contains("<c r=\"B2\" s=\"1\"><v>25569</v></c>", "<c r=\"C2\"><v>100</v></c>");
+        assertThat(first).doesNotContain("r=\"C3\"", "r=\"A4\"");
+
+        String second = entries.get("xl/worksheets/sheet2.xml");
+        assertThat(second).contains("<row r=\"1\"><c r=\"A1\" t=\"inlineStr\"><is><t xml:space=\"preserve\">귀표번호");
+        assertThat(second).contains("<c r=\"C2\"><v>300</v></c>");
+    }
+
+    @Test
+    @DisplayName("XLSX 열 이름: 0 -> A, 25 -> Z, 26 -> AA")
+    void columnNames() {
+        assertThat(XlsxRowWriter.columnName(0)).isEqualTo("A");
+        assertThat(XlsxRowWriter.columnName(25)).isEqualTo("Z");
+        assertThat(XlsxRowWriter.columnName(26)).isEqualTo("AA");
+        assertThat(XlsxRowWriter.columnName(701)).isEqualTo("ZZ");
+        assertThat(XlsxRowWriter.columnName(702)).isEqualTo("AAA");
+    }
+
+    private static Map<String, String> unzip(byte[] bytes) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(bytes), StandardCharsets.UTF_8)) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+}
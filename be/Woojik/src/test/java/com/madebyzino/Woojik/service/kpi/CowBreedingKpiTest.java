@@ -0,0 +1,71 @@
+package com.madebyzino.Woojik.service.kpi;
+
+import com.madebyzino.Woojik.dto.breeding.BreedingKpiRow;
+import com.madebyzino.Woojik.entity.enums.BreedingType;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CowBreedingKpiTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("분만 간격, 공태일, 수태당 수정 횟수: 분만 -> 수정 2회(2회차 수태) -> 분만 -> 수정 1회 미확인")
+    void cycleMetrics() {
+        CowBreedingKpi kpi = CowBreedingKpi.of(1L, List.of(
+                row(BreedingType.CALVING, 0, null),
+                row(BreedingType.ESTRUS, 50, null),
+                row(BreedingType.AI, 60, null),
+                row(BreedingType.PREG_CHECK, 75, false),
+                row(BreedingType.AI, 81, null),
+                row(BreedingType.PREG_CHECK, 120, true),
+                row(BreedingType.CALVING, 366, null),
+                row(BreedingType.AI, 420, null)));
+
+        assertThat(kpi.calvings()).isEqualTo(2);
+        assertThat(kpi.calvingIntervalSum()).isEqualTo(366);
+        assertThat(kpi.calvingIntervalCount()).isEqualTo(1);
+        // 수태 수정일 81일 - 분만일
+        assertThat(kpi.daysOpenSum()).isEqualTo(81);
+        assertThat(kpi.daysOpenCount()).isEqualTo(1);
+        assertThat(kpi.services()).isEqualTo(3);
+        assertThat(kpi.conceptions()).isEqualTo(1);
+        assertThat(kpi.servicesToConception()).isEqualTo(2);
+        assertThat(kpi.firstServiceConceptions()).isZero();
+        assertThat(kpi.lastCalvingDate()).isEqualTo(START.plusDays(366));
+        assertThat(kpi.open()).isTrue();
+    }
+
+    @Test
+    @DisplayName("임신감정 없이 분만하면 직전 수정을 수태로 보고, 판매 개체는 공태우에서 제외")
+    void calvingWithoutCheckAndSold() {
+        HerdBreedingKpiTotals totals = new HerdBreedingKpiTotals();
+        CowBreedingKpi kpi = CowBreedingKpi.of(2L, List.of(
+                row(BreedingType.AI, 0, null),
+                row(BreedingType.CALVING, 285, null)));
+        CowBreedingKpi sold = CowBreedingKpi.of(3L, List.of(
+                new BreedingKpiRow(3L, LivestockStatus.SOLD, BreedingType.CALVING, START, null)));
+        totals.add(kpi);
+        totals.add(sold);
+
+        assertThat(kpi.conceptions()).isEqualTo(1);
+        assertThat(kpi.firstServiceConceptions()).isEqualTo(1);
+        assertThat(kpi.daysOpenCount()).isZero();
+        assertThat(totals.toResponse(START.plusDays(300)).getOpenCowCount()).isEqualTo(1);
+        assertThat(totals.toResponse(START.plusDays(300)).getAverageCurrentDaysOpen()).isEqualTo(15.0);
+
+        totals.subtract(kpi);
+        assertThat(totals.toResponse(START).getCowCount()).isEqualTo(1);
+        assertThat(totals.toResponse(START).getOpenCowCount()).isZero();
+    }
+
+    private static BreedingKpiRow row(BreedingType type, int day, Boolean pregnant) {
+        return new BreedingKpiRow(1L, LivestockStatus.FATTENING, type, START.plusDays(day), pregnant);
+    }
+}
@@ -0,0 +1,117 @@
+package com.madebyzino.Woojik.service.live;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.madebyzino.Woojik.error.CustomException;
+import com.madebyzino.Woojik.error.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LiveEventBroadcasterTest {
+
+    private LiveEventBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new LiveEventBroadcaster(new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    @DisplayName("느린 구독자의 큐가 넘치면 밀린 이벤트를 버리고 resync 를 보내며, 발행과 다른 구독자는 기다리지 않는다")
+    void overflowSendsResyncWithoutBlocking() throws Exception {
+        RecordingEmitter slow = new RecordingEmitter();
+        slow.block();
+        broadcaster.subscribe(1L, slow);
+        assertThat(slow.awaitSending()).isTrue();   // 전송 스레드 하나가 connected 전송 중 멈춤
+
+        long started = System.nanoTime();
+        for (int i = 0; i < 1_000; i++) {
+            broadcaster.publish("occupancy", Map.of("n", i), 1L);
+        }
+        assertThat((System.nanoTime() - started) / 1_000_000).isLessThan(1_000);
+
+        // 다른 축사 구독자는 남은 전송 스레드로 계속 받음
+        RecordingEmitter other = new RecordingEmitter();
+        broadcaster.subscribe(2L, other);
+        for (int i = 0; i < 10; i++) {
+            broadcaster.publish("occupancy", Map.of("n", i), 2L);
+        }
+        assertThat(other.await(sent -> sent.size() == 11)).isTrue();
+        assertThat(other.names()).doesNotContain("resync");
+
+        slow.release();
+        assertThat(slow.await(sent -> sent.size() >= 2)).isTrue();
+        List<String> names = slow.names();
+        assertThat(names.get(0)).isEqualTo("connected");
+        assertThat(names.get(1)).isEqualTo("resync");
+        assertThat(names).filteredOn("occupancy"::equals).hasSizeLessThan(1_000);
+    }
+
+    @Test
+    @DisplayName("축사 구독자는 그 축사가 걸린 이벤트만, 농장 전체 구독자는 모든 이벤트를 받는다")
+    void deliversOnlyMatchingBarnEvents() throws Exception {
+        RecordingEmitter barn1 = new RecordingEmitter();
+        RecordingEmitter barn2 = new RecordingEmitter();
+        RecordingEmitter farm = new RecordingEmitter();
+        broadcaster.subscribe(1L, barn1);
+        broadcaster.subscribe(2L, barn2);
+        broadcaster.subscribe(null, farm);
+
+        broadcaster.publish("status", Map.of("n", 1), 1L);
+        broadcaster.publish("move", Map.of("n", 2), 2L, 3L);        // 2번 축사 -> 3번 축사 이동
+        broadcaster.publish("status", Map.of("n", 3), (Long) null); // 방 미배정 개체
+        broadcaster.publish("move", Map.of("n", 4), 1L, 2L);
+
+        assertThat(farm.await(sent -> sent.size() == 5)).isTrue();
+        assertThat(barn1.await(sent -> sent.size() == 3)).isTrue();
+        assertThat(barn2.await(sent -> sent.size() == 3)).isTrue();
+        assertThat(farm.sent()).extracting(RecordingEmitter.Sent::data).containsExactly(
+                "{\"barnId\":null}", "{\"n\":1}", "{\"n\":2}", "{\"n\":3}", "{\"n\":4}");
+        assertThat(barn1.sent()).extracting(RecordingEmitter.Sent::data).containsExactly(
+                "{\"barnId\":1}", "{\"n\":1}", "{\"n\":4}");
+        assertThat(barn2.sent()).extracting(RecordingEmitter.Sent::data).containsExactly(
+                "{\"barnId\":2}", "{\"n\":2}", "{\"n\":4}");
+    }
+
+    @Test
+    @DisplayName("동시 연결 한도(1000)를 넘는 구독은 거절하고, 끊긴 연결이 정리되면 다시 받는다")
+    void rejectsClientsOverLimit() throws Exception {
+        List<RecordingEmitter> emitters = IntStream.range(0, 1_000).mapToObj(i -> new RecordingEmitter()).toList();
+        emitters.forEach(emitter -> broadcaster.subscribe(null, emitter));
+
+        assertThatThrownBy(() -> broadcaster.subscribe(null))
+                .isInstanceOf(CustomException.class)
+                .extracting("errorCode").isEqualTo(ErrorCode.LIVE_STREAM_LIMIT_EXCEEDED);
+
+        // 끊긴 연결은 다음 전송에서 정리됨
+        RecordingEmitter closed = emitters.get(0);
+        assertThat(closed.await(sent -> sent.size() == 1)).isTrue();
+        closed.close();
+        broadcaster.heartbeat();
+        RecordingEmitter reconnected = new RecordingEmitter();
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (true) {
+            try {
+                broadcaster.subscribe(null, reconnected);
+                break;
+            } catch (CustomException e) {
+                assertThat(System.nanoTime()).isLessThan(deadline);
+                Thread.sleep(10);
+            }
+        }
+        assertThat(reconnected.await(sent -> sent.size() == 1)).isTrue();
+    }
+}
@@ -0,0 +1,78 @@
+package com.madebyzino.Woojik.service.live;
+
+import com.madebyzino.Woojik.entity.Barn;
+import com.madebyzino.Woojik.entity.Livestock;
+import com.madebyzino.Woojik.entity.Pen;
+import com.madebyzino.Woojik.entity.enums.Gender;
+import com.madebyzino.Woojik.entity.enums.LivestockStatus;
+import com.madebyzino.Woojik.repository.BarnRepository;
+import com.madebyzino.Woojik.repository.LivestockRepository;
+import com.madebyzino.Woojik.repository.PenRepository;
+import com.madebyzino.Woojik.service.LivestockService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class LiveEventStreamTest {
+
+    @Autowired
+    private LiveEventBroadcaster broadcaster;
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private BarnRepository barnRepository;
+    @Autowired
+    private PenRepository penRepository;
+    @Autowired
+    private LivestockRepository livestockRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("롤백된 이동은 스트림에 나가지 않고, 커밋된 이동만 나간다")
+    void rolledBackMoveIsNeverStreamed() throws Exception {
+        Barn barn = barnRepository.save(new Barn("실시간축사"));
+        Pen from = penRepository.save(new Pen("실시간-출발", 10, barn));
+        Pen to = penRepository.save(new Pen("실시간-도착", 10, barn));
+        Long rolledBack = createCow("LIVE-ROLLBACK", from);
+        Long committed = createCow("LIVE-COMMIT", from);
+
+        RecordingEmitter emitter = new RecordingEmitter();
+        broadcaster.subscribe(barn.getId(), emitter);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                livestockService.movePen(rolledBack, to.getId());
+                status.setRollbackOnly();
+            });
+            livestockService.movePen(committed, to.getId());
+
+            // 한 구독자에게는 발행 순서대로 전송되므로, 커밋된 이동이 도착했다면 그 전 이벤트도 모두 도착한 상태
+            assertThat(emitter.await(sent -> sent.stream().anyMatch(event ->
+                    "move".equals(event.name()) && event.data().contains("\"livestockId\":" + committed)))).isTrue();
+            assertThat(emitter.sent()).noneMatch(event ->
+                    event.data() != null && event.data().contains("\"livestockId\":" + rolledBack));
+            // 두수 증감도 커밋된 이동 한 번(출발 -1, 도착 +1)만
+            assertThat(emitter.names()).filteredOn("occupancy"::equals).hasSize(2);
+        } finally {
+            emitter.close();
+        }
+    }
+
+    private Long createCow(String earTag, Pen pen) {
+        return livestockRepository.save(Livestock.builder()
+                .earTag(earTag)
+                .birthDate(LocalDate.of(2024, 1, 1))
+                .gender(Gender.CASTRATED)
+                .status(LivestockStatus.FATTENING)
+                .breed("한우")
+                .pen(pen)
+                .build()).getId();
+    }
+}
@@ -0,0 +1,97 @@
+package com.madebyzino.Woojik.service.live;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * 전송된 SSE 이벤트를 기록하는 테스트용 emitter.
+ * block() 이후의 전송은 release() 까지 멈춰 느린 구독자를 흉내 내고, close() 이후의 전송은 끊긴 연결처럼 IOException 을 던집니다.
+ */
+class RecordingEmitter extends SseEmitter {
+
+    record Sent(String name, String data) {
+    }
+
+    private final List<Sent> sent = new ArrayList<>();
+    private final CountDownLatch sending = new CountDownLatch(1);
+    private volatile CountDownLatch gate;
+    private volatile boolean closed;
+
+    @Override
+    public void send(SseEventBuilder builder) throws IOException {
+        if (closed) {
+            throw new IOException("closed");
+        }
+        sending.countDown();
+        CountDownLatch current = gate;
+        if (current != null) {
+            try {
+                current.await(30, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        StringBuilder text = new StringBuilder();
+        builder.build().forEach(part -> text.append(part.getData()));
+        String name = null;
+        String data = null;
+        for (String line : text.toString().split("\n")) {
+            if (line.startsWith("event:")) {
+                name = line.substring("event:".length());
+            } else if (line.startsWith("data:")) {
+                data = line.substring("data:".length());
+            }
+        }
+        synchronized (sent) {
+            sent.add(new Sent(name, data));
+        }
+    }
+
+    void block() {
+        gate = new CountDownLatch(1);
+    }
+
+    void release() {
+        gate.countDown();
+        gate = null;
+    }
+
+    void close() {
+        closed = true;
+    }
+
+    // 전송 스레드가 send() 에 들어올 때까지 대기 (block() 상태면 그 안에서 멈춰 있음)
+    boolean awaitSending() throws InterruptedException {
+        return sending.await(10, TimeUnit.SECONDS);
+    }
+
+    List<Sent> sent() {
+        synchronized (sent) {
+            return List.copyOf(sent);
+        }
+    }
+
+    List<String> names() {
+        return sent().stream().map(Sent::name).toList();
+    }
+
+    // 조건에 맞는 이벤트가 올 때까지 대기
+    boolean await(Predicate<List<Sent>> condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < deadline) {
+            if (condition.test(sent())) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        return condition.test(sent());
+    }
+}
@@ -0,0 +1,77 @@
+package com.madebyzino.Woojik.service.pedigree;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class PedigreeGraphTest {
+
+    private static final double EPSILON = 1e-12;
+
+    // 1, 2 기초 암소 / 3(암), 4, 5 = KPN-A 자손 (3-5 전형매, 3-4 반형매)
+    // 6 = 반형매 교배, 7 = 전형매 교배, 8 = 부(5) x 딸(7)
+    private static final List<PedigreeGraph.Node> HERD = List.of(
+            node(1, null, null, null),
+            node(2, null, null, null),
+            node(3, 1L, null, "KPN-A"),
+            node(4, 2L, null, "KPN-A"),
+            node(5, 1L, null, "KPN-A"),
+            node(6, 3L, 4L, null),
+            node(7, 3L, 5L, null),
+            node(8, 7L, 5L, null));
+
+    @Test
+    @DisplayName("근교계수: 반형매 1/8, 전형매 1/4, 근친 부모 x 딸 3/8 (입력 순서와 무관)")
+    void inbreedingCoefficients() {
+        List<PedigreeGraph.Node> reversed = new ArrayList<>(HERD);
+        Collections.reverse(reversed);
+        PedigreeGraph graph = PedigreeGraph.of(reversed);
+
+        assertThat(graph.inbreeding(graph.indexOf(3))).isZero();
+        assertThat(graph.inbreeding(graph.indexOf(6))).isCloseTo(0.125, within(EPSILON));
+        assertThat(graph.inbreeding(graph.indexOf(7))).isCloseTo(0.25, within(EPSILON));
+        assertThat(graph.inbreeding(graph.indexOf(8))).isCloseTo(0.375, within(EPSILON));
+        assertThat(graph.offspringCount(graph.indexOfSire("KPN-A"))).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("혈연계수: 자기 자신은 (1 + F) / 2, 전형매 1/4, 무관한 개체 0")
+    void kinship() {
+        PedigreeGraph graph = PedigreeGraph.of(HERD);
+
+        assertThat(graph.kinship(graph.indexOf(7), graph.indexOf(7))).isCloseTo(0.625, within(EPSILON));
+        assertThat(graph.kinship(graph.indexOf(3), graph.indexOf(5))).isCloseTo(0.25, within(EPSILON));
+        assertThat(graph.kinship(graph.indexOf(1), graph.indexOf(2))).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 KPN 을 다시 붙이면 송아지 근교계수 1/4, 처음 쓰는 KPN 은 0")
+    void sireCandidates() {
+        PedigreeGraph graph = PedigreeGraph.of(HERD);
+
+        double[] calves = graph.offspringInbreeding(graph.indexOf(3),
+                new int[]{graph.indexOfSire("KPN-A"), graph.indexOfSire("KPN-B")});
+        assertThat(calves[0]).isCloseTo(0.25, within(EPSILON));
+        assertThat(calves[1]).isZero();
+    }
+
+    @Test
+    @DisplayName("순환 족보는 끊어서 부모 미상으로 처리한다")
+    void breaksCycles() {
+        PedigreeGraph graph = PedigreeGraph.of(List.of(node(100, 101L, null, null), node(101, 100L, null, null)));
+
+        assertThat(graph.brokenLinks()).isEqualTo(1);
+        assertThat(graph.inbreeding(graph.indexOf(100))).isZero();
+        assertThat(graph.inbreeding(graph.indexOf(101))).isZero();
+    }
+
+    private static PedigreeGraph.Node node(long id, Long motherId, Long fatherId, String sireCode) {
+        return new PedigreeGraph.Node(id, "TAG-" + id, motherId, fatherId, sireCode);
+    }
+}
@@ -0,0 +1,55 @@
+package com.madebyzino.Woojik.service.residency;
+
+import com.madebyzino.Woojik.dto.pen.PenResidencyRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResidencyIntervalsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Test
+    @DisplayName("시점/기간 조회는 전체 구간을 하나씩 비교한 결과와 같다 (열린 구간 포함)")
+    void overlappingMatchesLinearScan() {
+        Random random = new Random(7);
+        List<PenResidencyRow> rows = new ArrayList<>();
+        for (long id = 1; id <= 500; id++) {
+            LocalDateTime startedAt = START.plusHours(random.nextInt(24 * 365));
+            LocalDateTime endedAt = random.nextInt(10) == 0 ? null : startedAt.plusHours(1 + random.nextInt(24 * 60));
+            rows.add(new PenResidencyRow(id, 1L, startedAt, endedAt));
+        }
+        ResidencyIntervals intervals = ResidencyIntervals.of(rows);
+
+        for (int i = 0; i < 200; i++) {
+            LocalDateTime from = START.plusHours(random.nextInt(24 * 400));
+            LocalDateTime to = i % 2 == 0 ? from.plusNanos(1_000_000) : from.plusHours(1 + random.nextInt(24 * 30));
+            List<PenResidencyRow> expected = rows.stream()
+                    .filter(row -> row.getStartedAt().isBefore(to)
+                            && (row.getEndedAt() == null || row.getEndedAt().isAfter(from)))
+                    .toList();
+
+            assertThat(intervals.overlapping(ResidencyIntervals.key(from), ResidencyIntervals.key(to)))
+                    .containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+    @Test
+    @DisplayName("구간을 닫으면 닫은 시각부터는 조회되지 않는다")
+    void closedIntervalEndsExclusive() {
+        PenResidencyRow open = new PenResidencyRow(1L, 1L, START);
+        PenResidencyRow closed = new PenResidencyRow(1L, 1L, START, START.plusDays(3));
+        ResidencyIntervals intervals = ResidencyIntervals.of(List.of(open)).with(List.of(open), List.of(closed));
+
+        long lastMoment = ResidencyIntervals.key(START.plusDays(3)) - 1;
+        assertThat(intervals.overlapping(lastMoment, lastMoment + 1)).containsExactly(closed);
+        assertThat(intervals.overlapping(lastMoment + 1, lastMoment + 2)).isEmpty();
+        assertThat(intervals.size()).isEqualTo(1);
+    }
+}
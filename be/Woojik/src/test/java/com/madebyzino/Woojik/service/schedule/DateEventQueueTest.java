@@ -0,0 +1,55 @@
+package com.madebyzino.Woojik.service.schedule;
+
+import com.madebyzino.Woojik.entity.enums.LivestockDueType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DateEventQueueTest {
+
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 1);
+
+    @Test
+    @DisplayName("도래한 예약만 날짜순으로 종류별 묶음으로 꺼낸다")
+    void pollsDueBucketsInDateOrder() {
+        DateEventQueue queue = new DateEventQueue();
+        queue.schedule(LivestockDueType.WEANING, 1L, DAY.plusDays(2));
+        queue.schedule(LivestockDueType.WEANING, 2L, DAY);
+        queue.schedule(LivestockDueType.WEANING, 3L, DAY);
+        queue.schedule(LivestockDueType.WITHDRAWAL_END, 2L, DAY);
+        queue.schedule(LivestockDueType.CALVING_DUE, 4L, DAY.plusDays(10));
+
+        assertThat(queue.firstDate()).isEqualTo(DAY);
+
+        List<DateEventQueue.Due> due = queue.pollUntil(DAY.plusDays(2));
+        assertThat(due).extracting(DateEventQueue.Due::date).containsExactly(DAY, DAY, DAY.plusDays(2));
+        assertThat(due.get(0).type()).isEqualTo(LivestockDueType.WITHDRAWAL_END);
+        assertThat(due.get(1).livestockIds()).containsExactlyInAnyOrder(2L, 3L);
+
+        assertThat(queue.size()).isEqualTo(1);
+        assertThat(queue.firstDate()).isEqualTo(DAY.plusDays(10));
+        assertThat(queue.pollUntil(DAY.plusDays(9))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다시 예약하면 이전 날짜 버킷에서 빠지고, null 이면 취소된다")
+    void rescheduleMovesAndNullCancels() {
+        DateEventQueue queue = new DateEventQueue();
+        queue.schedule(LivestockDueType.WITHDRAWAL_END, 1L, DAY);
+        queue.schedule(LivestockDueType.WITHDRAWAL_END, 1L, DAY.plusDays(5));
+        queue.schedule(LivestockDueType.CALVING_DUE, 2L, DAY);
+        queue.schedule(LivestockDueType.CALVING_DUE, 2L, null);
+
+        assertThat(queue.firstDate()).isEqualTo(DAY.plusDays(5));
+        assertThat(queue.scheduledDate(LivestockDueType.WITHDRAWAL_END, 1L)).isEqualTo(DAY.plusDays(5));
+        assertThat(queue.scheduledDate(LivestockDueType.CALVING_DUE, 2L)).isNull();
+        assertThat(queue.pollUntil(DAY.plusDays(4))).isEmpty();
+        assertThat(queue.pollUntil(DAY.plusDays(5))).singleElement()
+                .satisfies(due -> assertThat(due.livestockIds()).containsExactly(1L));
+        assertThat(queue.size()).isZero();
+    }
+}
@@ -0,0 +1,72 @@
+package com.madebyzino.Woojik.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EarTagSuffixIndexTest {
+
+    private final EarTagSuffixIndex index = new EarTagSuffixIndex();
+
+    @Test
+    @DisplayName("뒷자리가 일치하는 귀표번호만 찾고, 앞이나 중간에 들어간 번호는 찾지 않는다")
+    void findsOnlySuffixMatches() {
+        index.put(1L, "002300011234");
+        index.put(2L, "002300021234");
+        index.put(3L, "002312340001");   // 중간에 1234
+        index.put(4L, "123400000009");   // 앞에 1234
+
+        assertThat(index.findBySuffix("1234", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.findBySuffix("11234", 10)).containsExactly(1L);
+        assertThat(index.findBySuffix("0009", 10)).containsExactly(4L);
+        assertThat(index.findBySuffix("9999", 10)).isEmpty();
+        assertThat(index.findBySuffix("1234", 1)).hasSize(1);
+        assertThat(index.findBySuffix("", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("전체 일치 조회는 귀표번호가 정확히 같을 때만 찾는다")
+    void findsExactEarTag() {
+        index.put(1L, "002300011234");
+
+        assertThat(index.findExact("002300011234")).isEqualTo(1L);
+        assertThat(index.findExact("1234")).isNull();
+        assertThat(index.findExact(null)).isNull();
+    }
+
+    @Test
+    @DisplayName("귀표번호가 바뀌면 예전 번호로는 더 이상 찾지 않는다")
+    void renameReplacesPreviousEarTag() {
+        index.put(1L, "002300011234");
+        index.put(1L, "002300015678");
+
+        assertThat(index.findBySuffix("1234", 10)).isEmpty();
+        assertThat(index.findExact("002300011234")).isNull();
+        assertThat(index.findBySuffix("5678", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+
+        // 같은 번호로 다시 넣어도 중복되지 않음
+        index.put(1L, "002300015678");
+        assertThat(index.findBySuffix("5678", 10)).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("삭제한 개체는 찾지 않고, 그 번호를 다른 개체가 받으면 새 개체로 찾는다")
+    void removeDropsEntry() {
+        index.put(1L, "002300011234");
+        index.put(2L, "002300021234");
+        index.remove(1L);
+
+        assertThat(index.findBySuffix("1234", 10)).containsExactly(2L);
+        assertThat(index.findExact("002300011234")).isNull();
+        assertThat(index.size()).isEqualTo(1);
+
+        index.put(3L, "002300011234");
+        assertThat(index.findExact("002300011234")).isEqualTo(3L);
+
+        // 없는 개체 삭제는 무시
+        index.remove(99L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+}
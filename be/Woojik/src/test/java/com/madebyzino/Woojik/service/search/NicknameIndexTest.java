@@ -0,0 +1,86 @@
+package com.madebyzino.Woojik.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NicknameIndexTest {
+
+    private final NicknameIndex index = new NicknameIndex();
+
+    @Test
+    @DisplayName("별명 부분 일치: 한 글자, 여러 글자, 공백/대소문자 무시")
+    void findsSubstring() {
+        index.put(1L, "대박이");
+        index.put(2L, "대장");
+        index.put(3L, "복덩 이");
+        index.put(4L, "Lucky");
+
+        assertThat(index.search("대", 10)).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("박이", 10)).containsExactly(1L);
+        assertThat(index.search("덩이", 10)).containsExactly(3L);
+        assertThat(index.search("LUC", 10)).containsExactly(4L);
+        assertThat(index.search("대박이다", 10)).isEmpty();
+        assertThat(index.search("대", 1)).hasSize(1);
+        assertThat(index.search(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("두 글자 gram 이 모두 있어도 실제로 이어져 있지 않으면 찾지 않는다")
+    void verifiesCandidates() {
+        index.put(1L, "대박 박이");   // 대박, 박박, 박이 gram 은 있지만 "대박이" 는 아님
+        index.put(2L, "대박이");
+
+        assertThat(index.search("대박이", 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("초성만 입력하면 초성으로 찾고, 원문 검색과 섞이지 않는다")
+    void findsByChosung() {
+        index.put(1L, "대박이");
+        index.put(2L, "달빛");
+        index.put(3L, "ㄷㅂ");   // 별명 자체가 자모
+
+        assertThat(index.search("ㄷㅂ", 10)).containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(index.search("ㄷㅂㅇ", 10)).containsExactly(1L);
+        assertThat(index.search("ㅂㅇ", 10)).containsExactly(1L);
+        assertThat(index.search("ㅎ", 10)).isEmpty();
+        assertThat(NicknameIndex.toChosung("대박이7")).isEqualTo("ㄷㅂㅇ7");
+    }
+
+    @Test
+    @DisplayName("별명을 바꾸면 예전 별명/초성으로는 찾지 않고, 비우면 색인에서 빠진다")
+    void renameReplacesPreviousName() {
+        index.put(1L, "대박이");
+        index.put(1L, "복순이");
+
+        assertThat(index.search("대박", 10)).isEmpty();
+        assertThat(index.search("ㄷㅂ", 10)).isEmpty();
+        assertThat(index.search("복순", 10)).containsExactly(1L);
+        assertThat(index.search("ㅂㅅㅇ", 10)).containsExactly(1L);
+        assertThat(index.search("이", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(1);
+
+        index.put(1L, null);
+        assertThat(index.search("복순", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("삭제한 개체는 찾지 않고, 같은 글자를 쓰는 다른 개체는 그대로 찾는다")
+    void removeKeepsOtherPostings() {
+        index.put(1L, "대박이");
+        index.put(2L, "대박");
+        index.remove(1L);
+
+        assertThat(index.search("대박", 10)).containsExactly(2L);
+        assertThat(index.search("박이", 10)).isEmpty();
+        assertThat(index.search("ㄷㅂㅇ", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+
+        index.remove(99L);
+        index.remove(null);
+        assertThat(index.size()).isEqualTo(1);
+    }
+}
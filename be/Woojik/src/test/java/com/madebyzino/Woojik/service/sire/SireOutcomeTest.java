@@ -0,0 +1,60 @@
+package com.madebyzino.Woojik.service.sire;
+
+import com.madebyzino.Woojik.dto.sire.SireEventRow;
+import com.madebyzino.Woojik.entity.enums.BreedingType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SireOutcomeTest {
+
+    private static final LocalDate START = LocalDate.of(2024, 1, 1);
+
+    @Test
+    @DisplayName("임신감정/분만 결과는 직전 수정의 씨수소에, 결과 없이 재수정하면 앞선 수정은 불수태")
+    void attributesOutcomeToPrecedingService() {
+        List<SireOutcome> outcomes = SireOutcome.of(List.of(
+                ai(0, "KPN-A"),
+                ai(21, "KPN-B"),
+                check(60, false),
+                ai(80, "KPN-A"),
+                check(120, true),
+                check(150, false),
+                calving(365),
+                ai(420, null),
+                check(460, true),
+                calving(700),
+                ai(760, "KPN-B")));
+
+        assertThat(outcomes).containsExactly(
+                new SireOutcome("KPN-A", 2, 1, 1, 1),
+                new SireOutcome("KPN-B", 2, 0, 1, 0));
+    }
+
+    @Test
+    @DisplayName("임신감정 없이 분만하면 직전 수정을 수태로 본다")
+    void calvingWithoutCheck() {
+        List<SireOutcome> outcomes = SireOutcome.of(List.of(
+                ai(0, "KPN-A"),
+                calving(285),
+                calving(650)));
+
+        assertThat(outcomes).containsExactly(new SireOutcome("KPN-A", 1, 1, 0, 1));
+    }
+
+    private static SireEventRow ai(int day, String sireCode) {
+        return new SireEventRow(1L, BreedingType.AI, START.plusDays(day), sireCode, null);
+    }
+
+    private static SireEventRow check(int day, boolean pregnant) {
+        return new SireEventRow(1L, BreedingType.PREG_CHECK, START.plusDays(day), null, pregnant);
+    }
+
+    private static SireEventRow calving(int day) {
+        return new SireEventRow(1L, BreedingType.CALVING, START.plusDays(day), null, null);
+    }
+}
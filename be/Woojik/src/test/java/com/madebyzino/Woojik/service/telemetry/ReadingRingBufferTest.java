@@ -0,0 +1,107 @@
+package com.madebyzino.Woojik.service.telemetry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadingRingBufferTest {
+
+    @Test
+    @DisplayName("여러 생산자가 동시에 넣어도 값이 빠지거나 중복되지 않는다")
+    void concurrentProducersLoseNothing() throws Exception {
+        ReadingRingBuffer buffer = new ReadingRingBuffer(1024);
+        int producers = 8;
+        int perProducer = 20_000;
+        int batch = 10;
+
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long base = (long) p * perProducer;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perProducer; i += batch) {
+                    long sequence;
+                    while ((sequence = buffer.tryClaim(batch)) < 0) {
+                        Thread.onSpinWait();  // 가득 차면 소비자가 비울 때까지 대기
+                    }
+                    for (int j = 0; j < batch; j++) {
+                        buffer.publish(sequence + j, base + i + j, 0L, 38.5f);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        BitSet seen = new BitSet(producers * perProducer);
+        int[] duplicates = {0};
+        int total = producers * perProducer;
+        int consumed = 0;
+        start.countDown();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (consumed < total && System.nanoTime() < deadline) {
+            int n = buffer.drain((id, at, temperature) -> {
+                if (seen.get((int) id)) {
+                    duplicates[0]++;
+                }
+                seen.set((int) id);
+            }, 256);
+            buffer.release(n);
+            consumed += n;
+        }
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(consumed).isEqualTo(total);
+        assertThat(duplicates[0]).isZero();
+        assertThat(seen.cardinality()).isEqualTo(total);
+        assertThat(buffer.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("자리가 모자라면 예약이 통째로 실패하고, 비운 뒤에는 다시 받는다")
+    void claimFailsWhenFull() {
+        ReadingRingBuffer buffer = new ReadingRingBuffer(8);
+
+        long sequence = buffer.tryClaim(6);
+        for (int i = 0; i < 6; i++) {
+            buffer.publish(sequence + i, i, 0L, 38.5f);
+        }
+
+        assertThat(buffer.tryClaim(3)).isEqualTo(-1);
+        assertThat(buffer.size()).isEqualTo(6);
+
+        buffer.release(buffer.drain((id, at, temperature) -> { }, 4));
+        assertThat(buffer.tryClaim(3)).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("release 하지 않으면 다음 drain 에서 같은 값을 다시 읽는다")
+    void drainWithoutReleaseRereads() {
+        ReadingRingBuffer buffer = new ReadingRingBuffer(4);
+        long sequence = buffer.tryClaim(2);
+        buffer.publish(sequence, 11L, 1_000L, 38.1f);
+        buffer.publish(sequence + 1, 12L, 2_000L, 39.9f);
+
+        List<Long> first = new ArrayList<>();
+        List<Long> second = new ArrayList<>();
+        assertThat(buffer.drain((id, at, temperature) -> first.add(id), 10)).isEqualTo(2);
+        assertThat(buffer.drain((id, at, temperature) -> second.add(id), 10)).isEqualTo(2);
+
+        assertThat(first).containsExactly(11L, 12L);
+        assertThat(second).isEqualTo(first);
+    }
+}
@@ -0,0 +1,84 @@
+package com.madebyzino.Woojik.service.telemetry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemperatureAnomalyDetectorTest {
+
+    private final List<long[]> alerts = new ArrayList<>();   // [livestockId, type, measuredAt]
+    private final TemperatureAnomalyDetector detector = new TemperatureAnomalyDetector(
+            16, 32, 0.3f, 3.0f, 0.8f, 12, 39.8f, 37.2f,
+            (id, type, at, temperature, mean, std) -> alerts.add(new long[]{id, type, at}));
+
+    @Test
+    @DisplayName("평소 체온에서 벗어나면 절대 기준 전이라도 개체 기준선으로 발열 경보를 한 번만 낸다")
+    void feverAgainstIndividualBaseline() {
+        long t = feedNormal(7L, 38.2f, 40, 0);
+
+        // 39.4℃: 절대 발열 기준(39.8) 아래지만 이 개체 평소보다 1.2℃ 높음
+        for (int i = 0; i < 10; i++) {
+            detector.accept(7L, t += 60_000, 39.4f);
+        }
+
+        assertThat(alerts).hasSize(1);
+        assertThat(alerts.get(0)[0]).isEqualTo(7L);
+        assertThat(alerts.get(0)[1]).isEqualTo(TemperatureAnomalyDetector.FEVER);
+        assertThat(detector.state(7L)).isEqualTo(TemperatureAnomalyDetector.FEVER);
+    }
+
+    @Test
+    @DisplayName("평소 체온이 높은 개체는 같은 값이어도 경보가 나지 않는다")
+    void highBaselineIsNormal() {
+        feedNormal(3L, 39.3f, 60, 0);
+
+        assertThat(alerts).isEmpty();
+        assertThat(detector.state(3L)).isEqualTo(TemperatureAnomalyDetector.NORMAL);
+    }
+
+    @Test
+    @DisplayName("한 번 튀는 값에는 반응하지 않고, 회복되면 정상으로 돌아와 다음 이상에 다시 경보한다")
+    void ignoresSpikeAndRearmsAfterRecovery() {
+        long t = feedNormal(5L, 38.5f, 40, 0);
+        detector.accept(5L, t += 60_000, 40.5f);
+        assertThat(alerts).isEmpty();
+
+        t = feedNormal(5L, 38.5f, 10, t);
+        for (int i = 0; i < 10; i++) {
+            detector.accept(5L, t += 60_000, 36.5f);
+        }
+        assertThat(alerts).hasSize(1);
+        assertThat(alerts.get(0)[1]).isEqualTo(TemperatureAnomalyDetector.HYPOTHERMIA);
+
+        t = feedNormal(5L, 38.5f, 20, t);
+        assertThat(detector.state(5L)).isEqualTo(TemperatureAnomalyDetector.NORMAL);
+        for (int i = 0; i < 10; i++) {
+            detector.accept(5L, t += 60_000, 40.2f);
+        }
+        assertThat(alerts).hasSize(2);
+        assertThat(alerts.get(1)[1]).isEqualTo(TemperatureAnomalyDetector.FEVER);
+    }
+
+    @Test
+    @DisplayName("처음 보는 큰 ID 도 배열을 늘려 처리한다")
+    void growsForLargeIds() {
+        for (int i = 0; i < 5; i++) {
+            detector.accept(1_000_000L, i * 60_000L, 41.0f);
+        }
+        assertThat(alerts).hasSize(1);
+        assertThat(alerts.get(0)[0]).isEqualTo(1_000_000L);
+    }
+
+    // 평균 base 근처(±0.1℃)로 n 회 측정
+    private long feedNormal(long id, float base, int n, long start) {
+        long t = start;
+        for (int i = 0; i < n; i++) {
+            detector.accept(id, t += 60_000, base + ((i % 3) - 1) * 0.1f);
+        }
+        return t;
+    }
+}
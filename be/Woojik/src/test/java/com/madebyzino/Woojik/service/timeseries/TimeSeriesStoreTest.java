@@ -0,0 +1,142 @@
+package com.madebyzino.Woojik.service.timeseries;
+
+import com.madebyzino.Woojik.config.TimeSeriesProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimeSeriesStoreTest {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+    private static final long MINUTE = 60;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    @DisplayName("압축 블록은 시각과 값을 비트 단위까지 그대로 복원한다")
+    void blockRoundTrip() {
+        long[] times = {1_700_000_000L, 1_700_000_060L, 1_700_000_120L, 1_700_000_185L, 1_700_090_000L, 1_700_090_001L};
+        float[] temperatures = {21.5f, 21.5f, -3.25f, Float.NaN, 59.99f, 0f};
+        float[] humidities = {65f, 65.1f, 65.2f, 100f, Float.NaN, 0.5f};
+
+        byte[] block = BlockCodec.encode(times, new float[][]{temperatures, humidities}, times.length);
+        List<long[]> decoded = new ArrayList<>();
+        BlockCodec.decode(ByteBuffer.wrap(block), 0, Long.MIN_VALUE, Long.MAX_VALUE, (time, values) ->
+                decoded.add(new long[]{time, Float.floatToRawIntBits(values[0]), Float.floatToRawIntBits(values[1])}));
+
+        assertThat(decoded).hasSize(times.length);
+        for (int i = 0; i < times.length; i++) {
+            assertThat(decoded.get(i)).containsExactly(times[i],
+                    Float.floatToRawIntBits(temperatures[i]), Float.floatToRawIntBits(humidities[i]));
+        }
+    }
+
+    @Test
+    @DisplayName("쓰기 시점에 10분 집계를 계산하고, 진행 중인 구간도 조회된다")
+    void rollsUpOnWrite() {
+        TimeSeriesStore store = store();
+        long start = LocalDate.of(2026, 3, 2).atStartOfDay(ZONE).toEpochSecond();
+        // 25분간 1분 간격: 온도 = 분, 습도 = 50
+        append(store, start, 25, minute -> minute, minute -> 50f);
+
+        SeriesPoints tenMinutes = store.query(1L, Resolution.TEN_MINUTES, start, start + 3_600);
+        assertThat(tenMinutes.size()).isEqualTo(3);
+        assertThat(tenMinutes.time(1)).isEqualTo(start + 600);
+        assertThat(tenMinutes.value(0, 1)).isEqualTo(14.5f);   // 10~19분 평균
+        assertThat(tenMinutes.value(1, 1)).isEqualTo(10f);
+        assertThat(tenMinutes.value(2, 1)).isEqualTo(19f);
+        assertThat(tenMinutes.value(3, 1)).isEqualTo(50f);
+        assertThat(tenMinutes.value(0, 2)).isEqualTo(22f);     // 진행 중인 20~24분
+
+        SeriesPoints raw = store.query(1L, Resolution.RAW, start + 5 * MINUTE, start + 7 * MINUTE);
+        assertThat(raw.size()).isEqualTo(3);
+        assertThat(raw.value(0, 0)).isEqualTo(5f);
+        store.close();
+    }
+
+    @Test
+    @DisplayName("재시작해도 다 차지 않은 블록과 진행 중인 집계 구간이 이어진다")
+    void survivesRestart() {
+        long start = LocalDate.of(2026, 3, 2).atStartOfDay(ZONE).toEpochSecond();
+        TimeSeriesStore first = store();
+        append(first, start, 15, minute -> minute, minute -> 40f);
+        first.close();
+
+        TimeSeriesStore second = store();
+        assertThat(second.query(1L, Resolution.RAW, start, start + 3_600).size()).isEqualTo(15);
+        // 이미 저장된 시각은 다시 받지 않음
+        assertThat(second.append(1L, new long[]{start + 14 * MINUTE}, new float[]{99f}, new float[]{99f}, 1)).isZero();
+
+        appendFrom(second, start, 15, 25, minute -> minute, minute -> 40f);
+        SeriesPoints tenMinutes = second.query(1L, Resolution.TEN_MINUTES, start, start + 3_600);
+        assertThat(tenMinutes.value(0, 1)).isEqualTo(14.5f);   // 재시작 전후에 걸친 10~19분 구간
+        second.close();
+    }
+
+    @Test
+    @DisplayName("1분 간격 1년치를 넣어도 보관 정리 후 축사당 수 MB 이내다")
+    void yearOfDataStaysSmall() {
+        TimeSeriesStore store = store();
+        LocalDate firstDay = LocalDate.of(2025, 1, 1);
+        for (int day = 0; day < 365; day++) {
+            long dayStart = firstDay.plusDays(day).atStartOfDay(ZONE).toEpochSecond();
+            int dayOfYear = day;
+            append(store, dayStart, 1_440,
+                    minute -> 15f + 10f * (float) Math.sin(dayOfYear / 58.0) + 4f * (float) Math.sin(minute / 229.0) + (minute % 7) * 0.1f,
+                    minute -> 60f + 20f * (float) Math.cos(minute / 229.0) + (minute % 5) * 0.5f);
+        }
+        store.applyRetention(firstDay.plusDays(365));
+
+        long bytes = store.diskBytes(1L);
+        assertThat(bytes).isLessThan(4L * 1024 * 1024);
+
+        long weekStart = firstDay.plusDays(300).atStartOfDay(ZONE).toEpochSecond();
+        SeriesPoints hourly = store.query(1L, Resolution.HOURLY, weekStart, weekStart + 7 * 86_400 - 1);
+        SeriesPoints daily = store.query(1L, Resolution.DAILY, firstDay.atStartOfDay(ZONE).toEpochSecond(), weekStart);
+
+        assertThat(hourly.size()).isEqualTo(168);
+        assertThat(daily.size()).isEqualTo(301);
+        // 원본은 35일만 보관
+        assertThat(store.query(1L, Resolution.RAW, weekStart, weekStart + 86_400).size()).isZero();
+        store.close();
+    }
+
+    private TimeSeriesStore store() {
+        TimeSeriesProperties properties = new TimeSeriesProperties();
+        properties.setDataDir(dataDir.toString());
+        return new TimeSeriesStore(properties);
+    }
+
+    private interface MinuteValue {
+        float at(int minute);
+    }
+
+    private static void append(TimeSeriesStore store, long start, int minutes, MinuteValue temperature, MinuteValue humidity) {
+        appendFrom(store, start, 0, minutes, temperature, humidity);
+    }
+
+    private static void appendFrom(TimeSeriesStore store, long start, int fromMinute, int toMinute,
+                                   MinuteValue temperature, MinuteValue humidity) {
+        int count = toMinute - fromMinute;
+        long[] times = new long[count];
+        float[] temperatures = new float[count];
+        float[] humidities = new float[count];
+        for (int i = 0; i < count; i++) {
+            int minute = fromMinute + i;
+            times[i] = start + minute * MINUTE;
+            temperatures[i] = temperature.at(minute);
+            humidities[i] = humidity.at(minute);
+        }
+        store.append(1L, times, temperatures, humidities, count);
+    }
+}
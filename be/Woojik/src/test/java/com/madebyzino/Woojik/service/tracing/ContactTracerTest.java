@@ -0,0 +1,87 @@
+package com.madebyzino.Woojik.service.tracing;
+
+import com.madebyzino.Woojik.dto.pen.PenResidencyRow;
+import com.madebyzino.Woojik.service.residency.ResidencyIntervals;
+import com.madebyzino.Woojik.service.residency.ResidencySnapshot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ContactTracerTest {
+
+    private static final LocalDateTime DAY0 = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    @Test
+    @DisplayName("전파 가능한 개체와 겹친 개체를 단계별로 넓히고, 전파 가능해지기 전에 떠난 개체는 제외한다")
+    void expandsTransitivelyWithinTime() {
+        ResidencySnapshot snapshot = snapshot(
+                stay(1, 10, 0, null),       // 감염원: 10번 방
+                stay(2, 10, 0, 2),          // 감염원과 0~2일 동거 -> 1단계
+                stay(2, 20, 2, null),       // 20번 방으로 이동
+                stay(3, 20, 1, 3),          // 2번이 온 뒤 2~3일 동거 -> 2단계
+                stay(4, 20, 0, 2),          // 2번이 오기 전에 떠남 -> 제외
+                stay(5, 30, 0, null));      // 다른 방 -> 제외
+
+        List<Exposure> exposures = new ContactTracer(snapshot, DAY0.plusDays(10))
+                .trace(Map.of(1L, DAY0), 3);
+
+        assertThat(exposures)
+                .extracting(Exposure::livestockId, Exposure::depth, Exposure::exposedAt, Exposure::sourceLivestockId, Exposure::penId)
+                .containsExactly(
+                        tuple(1L, 0, DAY0, null, null),
+                        tuple(2L, 1, DAY0, 1L, 10L),
+                        tuple(3L, 2, DAY0.plusDays(2), 2L, 20L));
+        assertThat(exposures.get(1).exposureMillis()).isEqualTo(days(2));
+        assertThat(exposures.get(2).exposureMillis()).isEqualTo(days(1));
+
+        assertThat(new ContactTracer(snapshot, DAY0.plusDays(10)).trace(Map.of(1L, DAY0), 1))
+                .extracting(Exposure::livestockId)
+                .containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("여러 경로로 닿으면 가장 이른 노출을 남기고, 같은 시간대의 여러 감염원 노출은 한 번만 센다")
+    void keepsEarliestArrivalAndUnionsExposure() {
+        ResidencySnapshot snapshot = snapshot(
+                stay(1, 10, 0, null),
+                stay(2, 10, 0, null),
+                stay(3, 10, 1, 4));
+
+        List<Exposure> exposures = new ContactTracer(snapshot, DAY0.plusDays(10))
+                .trace(Map.of(1L, DAY0.plusDays(3), 2L, DAY0.plusDays(2)), 3);
+
+        Exposure contact = exposures.stream().filter(exposure -> exposure.livestockId() == 3L).findFirst().orElseThrow();
+        assertThat(contact.depth()).isEqualTo(1);
+        assertThat(contact.sourceLivestockId()).isEqualTo(2L);
+        assertThat(contact.exposedAt()).isEqualTo(DAY0.plusDays(2));
+        assertThat(contact.exposureMillis()).isEqualTo(days(2));
+    }
+
+    private static PenResidencyRow stay(long livestockId, long penId, int fromDay, Integer toDay) {
+        return new PenResidencyRow(livestockId, penId, DAY0.plusDays(fromDay), toDay == null ? null : DAY0.plusDays(toDay));
+    }
+
+    private static ResidencySnapshot snapshot(PenResidencyRow... rows) {
+        Map<Long, List<PenResidencyRow>> byLivestock = new HashMap<>();
+        Map<Long, List<PenResidencyRow>> rowsByPen = new HashMap<>();
+        for (PenResidencyRow row : rows) {
+            byLivestock.computeIfAbsent(row.getLivestockId(), id -> new ArrayList<>()).add(row);
+            rowsByPen.computeIfAbsent(row.getPenId(), id -> new ArrayList<>()).add(row);
+        }
+        Map<Long, ResidencyIntervals> byPen = new HashMap<>();
+        rowsByPen.forEach((penId, penRows) -> byPen.put(penId, ResidencyIntervals.of(penRows)));
+        return new ResidencySnapshot(byLivestock, byPen);
+    }
+
+    private static long days(int days) {
+        return days * 24L * 60 * 60 * 1000;
+    }
+}
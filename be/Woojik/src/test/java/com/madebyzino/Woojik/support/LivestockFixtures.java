@@ -0,0 +1,187 @@
+package com.madebyzino.Woojik.support;
+
+import com.madebyzino.Woojik.dto.breeding.BreedingAiRequest;
+import com.madebyzino.Woojik.dto.breeding.CalvingRequest;
+import com.madebyzino.Woojik.dto.breeding.PregnancyCheckRequest;
+import com.madebyzino.Woojik.dto.healthy.HealthRequest;
+import com.madebyzino.Woojik.dto.livestock.LivestockRequest;
+import com.madebyzino.Woojik.dto.sale.SaleRequest;
+import com.madebyzino.Woojik.entity.enums.HealthType;
+import com.madebyzino.Woojik.service.BreedingKpiService;
+import com.madebyzino.Woojik.service.BreedingService;
+import com.madebyzino.Woojik.service.DashboardService;
+import com.madebyzino.Woojik.service.HealthService;
+import com.madebyzino.Woojik.service.LivestockJournalService;
+import com.madebyzino.Woojik.service.LivestockScheduleService;
+import com.madebyzino.Woojik.service.LivestockSearchService;
+import com.madebyzino.Woojik.service.LivestockService;
+import com.madebyzino.Woojik.service.PedigreeService;
+import com.madebyzino.Woojik.service.PenOccupancyService;
+import com.madebyzino.Woojik.service.PenResidencyService;
+import com.madebyzino.Woojik.service.SaleAnalyticsService;
+import com.madebyzino.Woojik.service.SaleService;
+import com.madebyzino.Woojik.service.SireAnalyticsService;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서비스 테스트 공용 개체/번식/판매 기록 생성.
+ * 서비스 쓰기 경로를 그대로 타서 (커밋 후 메모리 집계 반영 포함) 만든 개체를 기억해 두고,
+ * cleanup() 에서 그 개체와 송아지, 딸린 기록을 지운 뒤 메모리 집계/인덱스를 다시 구성합니다.
+ * 메모리 상태는 커밋 후에만 바뀌므로 @Transactional 롤백 대신 정리 방식을 씁니다.
+ */
+@Component
+public class LivestockFixtures {
+
+    @Autowired
+    private LivestockService livestockService;
+    @Autowired
+    private BreedingService breedingService;
+    @Autowired
+    private HealthService healthService;
+    @Autowired
+    private SaleService saleService;
+    @Autowired
+    private LivestockJournalService livestockJournalService;
+    @Autowired
+    private DashboardService dashboardService;
+    @Autowired
+    private BreedingKpiService breedingKpiService;
+    @Autowired
+    private SireAnalyticsService sireAnalyticsService;
+    @Autowired
+    private SaleAnalyticsService saleAnalyticsService;
+    @Autowired
+    private LivestockSearchService livestockSearchService;
+    @Autowired
+    private LivestockScheduleService livestockScheduleService;
+    @Autowired
+    private PenResidencyService penResidencyService;
+    @Autowired
+    private PenOccupancyService penOccupancyService;
+    @Autowired
+    private PedigreeService pedigreeService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private EntityManager entityManager;
+
+    private final Set<Long> created = ConcurrentHashMap.newKeySet();
+
+    public Long register(String earTag) {
+        LivestockRequest request = new LivestockRequest();
+        request.setEarTag(earTag);
+        return register(request);
+    }
+
+    public Long register(LivestockRequest request) {
+        return track(livestockService.register(request));
+    }
+
+    // 테스트가 직접 만든 개체도 정리 대상으로 등록
+    public Long track(Long livestockId) {
+        created.add(livestockId);
+        return livestockId;
+    }
+
+    public Long sell(Long livestockId, LocalDate saleDate, Long price, Double weight, String grade, String customerName) {
+        return saleService.registerSale(livestockId, saleRequest(saleDate, price, weight, grade, customerName));
+    }
+
+    public static SaleRequest saleRequest(LocalDate saleDate, Long price, Double weight, String grade, String customerName) {
+        SaleRequest sale = new SaleRequest();
+        ReflectionTestUtils.setField(sale, "saleDate", saleDate);
+        ReflectionTestUtils.setField(sale, "price", price);
+        ReflectionTestUtils.setField(sale, "weight", weight);
+        ReflectionTestUtils.setField(sale, "grade", grade);
+        ReflectionTestUtils.setField(sale, "customerName", customerName);
+        return sale;
+    }
+
+    public void treat(Long livestockId, LocalDate date, Integer withdrawalPeriod) {
+        HealthRequest request = new HealthRequest();
+        request.setType(HealthType.TREAT);
+        request.setDate(date);
+        request.setWithdrawalPeriod(withdrawalPeriod);
+        healthService.registerHealth(livestockId, request);
+    }
+
+    public void ai(Long cow, LocalDate date, String sireCode) {
+        BreedingAiRequest request = new BreedingAiRequest();
+        request.setDate(date);
+        request.setSireCode(sireCode);
+        breedingService.registerAi(cow, request);
+    }
+
+    public void pregnancyCheck(Long cow, LocalDate date, boolean pregnant) {
+        PregnancyCheckRequest request = new PregnancyCheckRequest();
+        request.setDate(date);
+        request.setPregnant(pregnant);
+        breedingService.registerPregnancyCheck(cow, request);
+    }
+
+    public void calve(Long cow, LocalDate date, String calfEarTag) {
+        CalvingRequest request = new CalvingRequest();
+        request.setDate(date);
+        request.setCalfEarTag(calfEarTag);
+        breedingService.registerCalving(cow, request);
+    }
+
+    // 만든 개체(+ 송아지)와 기록 삭제 후 메모리 상태 재구성
+    public void cleanup() {
+        if (created.isEmpty()) {
+            return;
+        }
+        livestockJournalService.awaitDrained(Duration.ofSeconds(10));
+        transactionTemplate.executeWithoutResult(status -> {
+            Set<Long> ids = withDescendants(created);
+            for (String entity : List.of("Sale", "Health", "Breeding", "TemperatureAlert")) {
+                entityManager.createQuery("DELETE FROM " + entity + " x WHERE x.livestock.id IN :ids")
+                        .setParameter("ids", ids).executeUpdate();
+            }
+            for (String entity : List.of("TemperatureReading", "PenResidency", "LivestockEvent")) {
+                entityManager.createQuery("DELETE FROM " + entity + " x WHERE x.livestockId IN :ids")
+                        .setParameter("ids", ids).executeUpdate();
+            }
+            entityManager.createQuery("UPDATE Livestock l SET l.mother = null, l.father = null " +
+                    "WHERE l.mother.id IN :ids OR l.father.id IN :ids").setParameter("ids", ids).executeUpdate();
+            entityManager.createQuery("DELETE FROM Livestock l WHERE l.id IN :ids")
+                    .setParameter("ids", ids).executeUpdate();
+        });
+        created.clear();
+
+        penOccupancyService.reconcile();
+        penResidencyService.rebuild();
+        dashboardService.rebuild();
+        breedingKpiService.rebuild();
+        sireAnalyticsService.rebuild();
+        saleAnalyticsService.rebuild();
+        livestockSearchService.rebuild();
+        livestockScheduleService.rebuild();
+        pedigreeService.invalidate();
+    }
+
+    private Set<Long> withDescendants(Set<Long> roots) {
+        Set<Long> ids = new HashSet<>(roots);
+        Set<Long> frontier = new HashSet<>(roots);
+        while (!frontier.isEmpty()) {
+            List<Long> children = entityManager.createQuery(
+                            "SELECT l.id FROM Livestock l WHERE l.mother.id IN :ids", Long.class)
+                    .setParameter("ids", frontier).getResultList();
+            frontier = new HashSet<>(children);
+            frontier.removeAll(ids);
+            ids.addAll(frontier);
+        }
+        return ids;
+    }
+}
@@ -1,3 +1,5 @@
+import type { SaleResponse } from './sale';
+
 type GenderType = 'MALE' | 'FEMALE' | 'CASTRATED';
 
 export interface LivestockResponse {
@@ -52,6 +54,7 @@ export interface LivestockDetailResponse extends LivestockResponse {
     // 이력 리스트
     healthHistory: HealthHistory[];
     breedingHistory: BreedingHistory[];
+    saleInfo: SaleResponse | null;      // 판매 정보 (판매된 개체만)
 
     penId: number; // 현재 펜 ID
     barnId: number; // 현재 축사 ID